@@ -0,0 +1,78 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.spongepowered.api.eventgencore.classwrapper.reflection.ReflectionUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the implementations of all events created by the
+ * {@link SpongeEventFactory} ahead of time, so that they are included in
+ * the jar instead of being generated when the game starts.
+ *
+ * <p>The classes are generated exactly like
+ * {@link SpongeEventFactoryUtils#createEventImpl(Class, Map)} would at
+ * runtime, which keeps generating the implementations of events that are
+ * not included, such as the events of plugins.</p>
+ */
+public final class EventImplPrecompiler {
+
+    public static void main(String[] args) throws IOException {
+        checkArgument(args.length == 1, "Usage: EventImplPrecompiler <output directory>");
+        final Path output = Paths.get(args[0]);
+
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        for (Method method : SpongeEventFactory.class.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) && Event.class.isAssignableFrom(method.getReturnType())) {
+                types.add(method.getReturnType());
+            }
+        }
+
+        for (Class<?> type : types) {
+            final Map<String, byte[]> classes = SpongeEventFactoryUtils.factoryProvider.generate(type,
+                    ReflectionUtils.getBaseClass(type).getActualClass(), SpongeEventFactoryUtils.plugins);
+            for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+                final Path file = output.resolve(entry.getKey().replace('.', '/') + ".class");
+                Files.createDirectories(file.getParent());
+                Files.write(file, entry.getValue());
+            }
+        }
+    }
+
+    private EventImplPrecompiler() {
+    }
+
+}
@@ -0,0 +1,408 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.block;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.data.Transaction;
+import org.spongepowered.api.world.schematic.BlockPalette;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * A compact, position indexed batch of block {@link Transaction}s.
+ *
+ * <p>Each transaction is stored as a packed position and the
+ * {@link BlockPalette} identifiers of its original, default and custom
+ * {@link BlockState}s, so that large batches of block changes can be
+ * inspected and filtered without creating a {@link BlockSnapshot} for
+ * every block. The bulk operations of this batch run in time linear to its
+ * size.</p>
+ *
+ * <p>Positions are packed into a <code>long</code> the same way for every
+ * batch, with 26 bits for the x and z coordinates and 12 bits for the y
+ * coordinate, see {@link #pack(int, int, int)}.</p>
+ *
+ * <p>A batch is not thread safe.</p>
+ */
+public final class BlockTransactionBatch {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int NO_STATE = -1;
+
+    private static final int XZ_BITS = 26;
+    private static final int Y_BITS = 12;
+    private static final int X_SHIFT = Y_BITS + XZ_BITS;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1;
+    private static final long Y_MASK = (1L << Y_BITS) - 1;
+
+    private final BlockPalette palette;
+    private BlockState[] states = new BlockState[0];
+
+    private long[] positions;
+    private int[] originals;
+    private int[] defaults;
+    private int[] customs;
+    private final BitSet invalid = new BitSet();
+    private int size;
+
+    /**
+     * Creates a new batch that identifies its states by the given palette.
+     *
+     * @param palette The palette
+     */
+    public BlockTransactionBatch(BlockPalette palette) {
+        this(palette, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new batch that identifies its states by the given palette,
+     * with room for the given number of transactions.
+     *
+     * @param palette The palette
+     * @param expectedSize The expected number of transactions
+     */
+    public BlockTransactionBatch(BlockPalette palette, int expectedSize) {
+        checkArgument(expectedSize >= 0, "The expected size cannot be negative");
+        this.palette = checkNotNull(palette, "palette");
+        this.positions = new long[expectedSize];
+        this.originals = new int[expectedSize];
+        this.defaults = new int[expectedSize];
+        this.customs = new int[expectedSize];
+    }
+
+    /**
+     * Packs the given block coordinates into a <code>long</code>.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return The packed position
+     */
+    public static long pack(int x, int y, int z) {
+        return (x & XZ_MASK) << X_SHIFT | (y & Y_MASK) << XZ_BITS | z & XZ_MASK;
+    }
+
+    /**
+     * Gets the x coordinate of a packed position.
+     *
+     * @param packed The packed position
+     * @return The x coordinate
+     */
+    public static int unpackX(long packed) {
+        return (int) (packed >> X_SHIFT);
+    }
+
+    /**
+     * Gets the y coordinate of a packed position.
+     *
+     * @param packed The packed position
+     * @return The y coordinate
+     */
+    public static int unpackY(long packed) {
+        return (int) (packed << XZ_BITS >> XZ_BITS + XZ_BITS);
+    }
+
+    /**
+     * Gets the z coordinate of a packed position.
+     *
+     * @param packed The packed position
+     * @return The z coordinate
+     */
+    public static int unpackZ(long packed) {
+        return (int) (packed << X_SHIFT >> X_SHIFT);
+    }
+
+    /**
+     * Gets the palette identifying the states of this batch.
+     *
+     * @return The palette
+     */
+    public BlockPalette getPalette() {
+        return this.palette;
+    }
+
+    /**
+     * Gets the number of transactions in this batch.
+     *
+     * @return The number of transactions
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds a transaction to this batch.
+     *
+     * @param x The x coordinate of the block
+     * @param y The y coordinate of the block
+     * @param z The z coordinate of the block
+     * @param original The original state
+     * @param replacement The default replacement state
+     * @return The index of the new transaction
+     */
+    public int add(int x, int y, int z, BlockState original, BlockState replacement) {
+        final int originalId = this.idOf(checkNotNull(original, "original"));
+        final int defaultId = this.idOf(checkNotNull(replacement, "replacement"));
+        if (this.size == this.positions.length) {
+            final int capacity = Math.max(DEFAULT_CAPACITY, this.size + (this.size >> 1));
+            this.positions = Arrays.copyOf(this.positions, capacity);
+            this.originals = Arrays.copyOf(this.originals, capacity);
+            this.defaults = Arrays.copyOf(this.defaults, capacity);
+            this.customs = Arrays.copyOf(this.customs, capacity);
+        }
+        final int index = this.size++;
+        this.positions[index] = pack(x, y, z);
+        this.originals[index] = originalId;
+        this.defaults[index] = defaultId;
+        this.customs[index] = NO_STATE;
+        return index;
+    }
+
+    /**
+     * Gets the packed position of the transaction at the given index.
+     *
+     * @param index The index of the transaction
+     * @return The packed position
+     */
+    public long getPackedPosition(int index) {
+        return this.positions[checkElementIndex(index, this.size)];
+    }
+
+    /**
+     * Gets the position of the transaction at the given index.
+     *
+     * @param index The index of the transaction
+     * @return The position
+     */
+    public Vector3i getPosition(int index) {
+        final long packed = this.getPackedPosition(index);
+        return new Vector3i(unpackX(packed), unpackY(packed), unpackZ(packed));
+    }
+
+    /**
+     * Gets the original state of the transaction at the given index.
+     *
+     * @param index The index of the transaction
+     * @return The original state
+     */
+    public BlockState getOriginal(int index) {
+        return this.stateOf(this.originals[checkElementIndex(index, this.size)]);
+    }
+
+    /**
+     * Gets the default replacement state of the transaction at the given
+     * index.
+     *
+     * @param index The index of the transaction
+     * @return The default replacement state
+     */
+    public BlockState getDefault(int index) {
+        return this.stateOf(this.defaults[checkElementIndex(index, this.size)]);
+    }
+
+    /**
+     * Gets the custom replacement state of the transaction at the given
+     * index, if one was set.
+     *
+     * @param index The index of the transaction
+     * @return The custom replacement state, if available
+     */
+    public Optional<BlockState> getCustom(int index) {
+        final int id = this.customs[checkElementIndex(index, this.size)];
+        return id == NO_STATE ? Optional.empty() : Optional.of(this.stateOf(id));
+    }
+
+    /**
+     * Sets the custom replacement state of the transaction at the given
+     * index. If setting <code>null</code>, the transaction will use its
+     * default replacement state.
+     *
+     * @param index The index of the transaction
+     * @param custom The custom replacement state
+     */
+    public void setCustom(int index, @Nullable BlockState custom) {
+        this.customs[checkElementIndex(index, this.size)] = custom == null ? NO_STATE : this.idOf(custom);
+    }
+
+    /**
+     * Gets the proposed final state of the transaction at the given index,
+     * which is the custom replacement state if one was set, or the default
+     * replacement state otherwise.
+     *
+     * @param index The index of the transaction
+     * @return The proposed final state
+     */
+    public BlockState getFinal(int index) {
+        final int custom = this.customs[checkElementIndex(index, this.size)];
+        return this.stateOf(custom == NO_STATE ? this.defaults[index] : custom);
+    }
+
+    /**
+     * Gets whether the transaction at the given index is marked as valid.
+     *
+     * @param index The index of the transaction
+     * @return The valid state of the transaction
+     */
+    public boolean isValid(int index) {
+        return !this.invalid.get(checkElementIndex(index, this.size));
+    }
+
+    /**
+     * Sets whether the transaction at the given index is valid or not.
+     *
+     * @param index The index of the transaction
+     * @param valid The valid state of the transaction
+     */
+    public void setValid(int index, boolean valid) {
+        this.invalid.set(checkElementIndex(index, this.size), !valid);
+    }
+
+    /**
+     * Gets the number of transactions that are marked as valid.
+     *
+     * @return The number of valid transactions
+     */
+    public int getValidCount() {
+        return this.size - this.invalid.cardinality();
+    }
+
+    /**
+     * Marks every transaction of this batch as "invalid".
+     *
+     * @return The number of transactions that were newly invalidated
+     */
+    public int invalidateAll() {
+        final int validCount = this.getValidCount();
+        this.invalid.set(0, this.size);
+        return validCount;
+    }
+
+    /**
+     * Marks every transaction within the given region as "invalid".
+     *
+     * @param min The minimum corner of the region, inclusive
+     * @param max The maximum corner of the region, inclusive
+     * @return The number of transactions that were newly invalidated
+     */
+    public int invalidateAll(Vector3i min, Vector3i max) {
+        checkNotNull(min, "min");
+        checkNotNull(max, "max");
+        final int minX = min.getX();
+        final int minY = min.getY();
+        final int minZ = min.getZ();
+        final int maxX = max.getX();
+        final int maxY = max.getY();
+        final int maxZ = max.getZ();
+        return this.filterAll((x, y, z) -> x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ);
+    }
+
+    /**
+     * Applies the provided {@link PositionFilter} to the position of every
+     * valid transaction, such that any time it returns <code>false</code>
+     * the transaction is marked as "invalid".
+     *
+     * @param filter The filter to use
+     * @return The number of transactions that were newly invalidated
+     */
+    public int filterAll(PositionFilter filter) {
+        checkNotNull(filter, "filter");
+        int count = 0;
+        for (int i = this.invalid.nextClearBit(0); i < this.size; i = this.invalid.nextClearBit(i + 1)) {
+            final long packed = this.positions[i];
+            if (!filter.test(unpackX(packed), unpackY(packed), unpackZ(packed))) {
+                this.invalid.set(i);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Applies the provided {@link Predicate} to the original state of every
+     * valid transaction, such that any time it returns <code>false</code>
+     * the transaction is marked as "invalid". The predicate is tested only
+     * once per distinct state.
+     *
+     * @param predicate The predicate to use
+     * @return The number of transactions that were newly invalidated
+     */
+    public int filterOriginals(Predicate<BlockState> predicate) {
+        checkNotNull(predicate, "predicate");
+        // 0 for untested states, 1 for accepted states and 2 for rejected ones
+        final byte[] results = new byte[this.states.length];
+        int count = 0;
+        for (int i = this.invalid.nextClearBit(0); i < this.size; i = this.invalid.nextClearBit(i + 1)) {
+            final int id = this.originals[i];
+            if (results[id] == 0) {
+                results[id] = (byte) (predicate.test(this.stateOf(id)) ? 1 : 2);
+            }
+            if (results[id] == 2) {
+                this.invalid.set(i);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int idOf(BlockState state) {
+        final int id = this.palette.getOrAssign(state);
+        if (id >= this.states.length) {
+            this.states = Arrays.copyOf(this.states, Math.max(id + 1, this.states.length << 1));
+        }
+        this.states[id] = state;
+        return id;
+    }
+
+    private BlockState stateOf(int id) {
+        return this.states[id];
+    }
+
+    /**
+     * Represents a filter on block positions that does not require a
+     * {@link Vector3i} to be created for every position.
+     */
+    @FunctionalInterface
+    public interface PositionFilter {
+
+        /**
+         * Tests the given block position.
+         *
+         * @param x The x coordinate of the block
+         * @param y The y coordinate of the block
+         * @param z The z coordinate of the block
+         * @return Whether the position is accepted
+         */
+        boolean test(int x, int y, int z);
+    }
+}
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.manipulator.mutable.tileentity.FurnaceData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 
 /**
@@ -57,7 +58,7 @@ default FurnaceData getFurnaceData() {
      * @return The value for the already passed burn time
      * @see FurnaceData#passedBurnTime
      */
-    default MutableBoundedValue<Integer> passedBurnTime() {
+    default MutableBoundedIntValue passedBurnTime() {
         return getValue(Keys.PASSED_BURN_TIME).get();
     }
 
@@ -69,7 +70,7 @@ default MutableBoundedValue<Integer> passedBurnTime() {
      *         with the used fuel item
      * @see FurnaceData#maxBurnTime
      */
-    default MutableBoundedValue<Integer> maxBurnTime() {
+    default MutableBoundedIntValue maxBurnTime() {
         return getValue(Keys.MAX_BURN_TIME).get();
     }
 
@@ -80,7 +81,7 @@ default MutableBoundedValue<Integer> maxBurnTime() {
      * @return The value for the already passed cook time
      * @see FurnaceData#passedCookTime
      */
-    default MutableBoundedValue<Integer> passedCookTime() {
+    default MutableBoundedIntValue passedCookTime() {
         return getValue(Keys.PASSED_COOK_TIME).get();
     }
 
@@ -91,7 +92,7 @@ default MutableBoundedValue<Integer> passedCookTime() {
      * @return The value for the time the item has to cook
      * @see FurnaceData#maxCookTime
      */
-    default MutableBoundedValue<Integer> maxCookTime() {
+    default MutableBoundedIntValue maxCookTime() {
         return getValue(Keys.MAX_COOK_TIME).get();
     }
 
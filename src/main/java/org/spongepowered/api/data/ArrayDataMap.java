@@ -0,0 +1,368 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A compact {@link Map} used as the backing storage of compact
+ * {@link MemoryDataView}s.
+ *
+ * <p>Entries are kept in parallel arrays in insertion order, so keys, values
+ * and serialized output are ordered just like with the default
+ * {@link java.util.LinkedHashMap}. A separate index array keeps the entries
+ * sorted by the hash code and then the natural order of their keys, so
+ * lookups are a binary search without any map nodes. {@link Integer},
+ * {@link Long} and {@link Double} values are stored unboxed in a primitive
+ * slot, and are only boxed again by the accessors returning them as an
+ * {@link Object}. Arrays such as {@code byte[]} are stored as they are.</p>
+ *
+ * <p>This is optimized for the small views that make up most serialized
+ * snapshots, where a handful of keys is the common case. Null keys and
+ * values are not supported.</p>
+ */
+final class ArrayDataMap extends AbstractMap<String, Object> implements MemoryDataView.OwnedMap {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private static final byte OBJECT = 0;
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+
+    /**
+     * The keys in insertion order.
+     */
+    private String[] keys;
+
+    /**
+     * The values that are not stored in a primitive slot, at the same index
+     * as their key.
+     */
+    private Object[] values;
+
+    /**
+     * The types of the values, only created once a primitive value is
+     * stored.
+     */
+    @Nullable private byte[] types; //lazy loaded
+
+    /**
+     * The bits of the values stored in a primitive slot.
+     */
+    @Nullable private long[] primitives; //lazy loaded
+
+    /**
+     * The indexes of the entries, sorted by the hash code and then the
+     * natural order of their keys.
+     */
+    private int[] sorted;
+    private int size;
+
+    @Nullable private Set<Entry<String, Object>> entrySet; //lazy loaded
+    @Nullable private Object owner;
+    private boolean hasLists;
+
+    ArrayDataMap() {
+        this.keys = new String[INITIAL_CAPACITY];
+        this.values = new Object[INITIAL_CAPACITY];
+        this.sorted = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Finds the position of the given key in the sorted index, or
+     * {@code -(insertion point) - 1} if the key is not present.
+     *
+     * @param key The key
+     * @return The position in the sorted index
+     */
+    private int search(String key) {
+        final int hash = key.hashCode();
+        int low = 0;
+        int high = this.size - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final String midKey = this.keys[this.sorted[mid]];
+            final int midHash = midKey.hashCode();
+            int compare = midHash < hash ? -1 : midHash > hash ? 1 : 0;
+            if (compare == 0) {
+                compare = midKey.compareTo(key);
+                if (compare == 0) {
+                    return mid;
+                }
+            }
+            if (compare < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private Object valueAt(int index) {
+        if (this.types != null) {
+            switch (this.types[index]) {
+                case INT:
+                    return (int) this.primitives[index];
+                case LONG:
+                    return this.primitives[index];
+                case DOUBLE:
+                    return Double.longBitsToDouble(this.primitives[index]);
+                default:
+                    break;
+            }
+        }
+        return this.values[index];
+    }
+
+    private void setValueAt(int index, Object value) {
+        final byte type;
+        final long bits;
+        if (value instanceof Integer) {
+            type = INT;
+            bits = (Integer) value;
+        } else if (value instanceof Long) {
+            type = LONG;
+            bits = (Long) value;
+        } else if (value instanceof Double) {
+            type = DOUBLE;
+            bits = Double.doubleToRawLongBits((Double) value);
+        } else {
+            this.values[index] = value;
+            if (this.types != null) {
+                this.types[index] = OBJECT;
+            }
+            return;
+        }
+        if (this.types == null) {
+            this.types = new byte[this.keys.length];
+            this.primitives = new long[this.keys.length];
+        }
+        this.values[index] = null;
+        this.types[index] = type;
+        this.primitives[index] = bits;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > this.keys.length) {
+            final int newLength = Math.max(capacity, this.keys.length + (this.keys.length >> 1) + 1);
+            this.keys = Arrays.copyOf(this.keys, newLength);
+            this.values = Arrays.copyOf(this.values, newLength);
+            this.sorted = Arrays.copyOf(this.sorted, newLength);
+            if (this.types != null) {
+                this.types = Arrays.copyOf(this.types, newLength);
+                this.primitives = Arrays.copyOf(this.primitives, newLength);
+            }
+        }
+    }
+
+    /**
+     * Removes the entry at the given position of the sorted index.
+     *
+     * @param position The position in the sorted index
+     */
+    private void removeSorted(int position) {
+        final int index = this.sorted[position];
+        System.arraycopy(this.sorted, position + 1, this.sorted, position, this.size - position - 1);
+        System.arraycopy(this.keys, index + 1, this.keys, index, this.size - index - 1);
+        System.arraycopy(this.values, index + 1, this.values, index, this.size - index - 1);
+        if (this.types != null) {
+            System.arraycopy(this.types, index + 1, this.types, index, this.size - index - 1);
+            System.arraycopy(this.primitives, index + 1, this.primitives, index, this.size - index - 1);
+        }
+        this.size--;
+        this.keys[this.size] = null;
+        this.values[this.size] = null;
+        if (this.types != null) {
+            this.types[this.size] = OBJECT;
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (this.sorted[i] > index) {
+                this.sorted[i]--;
+            }
+        }
+    }
+
+    @Override
+    @Nullable
+    public Object getOwner() {
+        return this.owner;
+    }
+
+    @Override
+    public void setOwner(@Nullable Object owner) {
+        this.owner = owner;
+    }
+
+    @Override
+    public boolean hasLists() {
+        return this.hasLists;
+    }
+
+    @Override
+    public void setHasLists() {
+        this.hasLists = true;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && search((String) key) >= 0;
+    }
+
+    @Override
+    @Nullable
+    public Object get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        final int position = search((String) key);
+        return position < 0 ? null : valueAt(this.sorted[position]);
+    }
+
+    @Override
+    @Nullable
+    public Object put(String key, Object value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+        int position = search(key);
+        if (position >= 0) {
+            final int index = this.sorted[position];
+            final Object old = valueAt(index);
+            setValueAt(index, value);
+            return old;
+        }
+        position = -(position + 1);
+        ensureCapacity(this.size + 1);
+        System.arraycopy(this.sorted, position, this.sorted, position + 1, this.size - position);
+        this.sorted[position] = this.size;
+        this.keys[this.size] = key;
+        setValueAt(this.size, value);
+        this.size++;
+        return null;
+    }
+
+    @Override
+    @Nullable
+    public Object remove(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        final int position = search((String) key);
+        if (position < 0) {
+            return null;
+        }
+        final Object old = valueAt(this.sorted[position]);
+        removeSorted(position);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.keys, 0, this.size, null);
+        Arrays.fill(this.values, 0, this.size, null);
+        if (this.types != null) {
+            Arrays.fill(this.types, 0, this.size, OBJECT);
+        }
+        this.size = 0;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+        return this.entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ArrayDataMap.this.size;
+        }
+
+        @Override
+        public void clear() {
+            ArrayDataMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int next;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return this.next < ArrayDataMap.this.size;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.last = this.next++;
+            return new SimpleImmutableEntry<>(ArrayDataMap.this.keys[this.last], valueAt(this.last));
+        }
+
+        @Override
+        public void remove() {
+            if (this.last < 0) {
+                throw new IllegalStateException();
+            }
+            ArrayDataMap.this.remove(ArrayDataMap.this.keys[this.last]);
+            this.next = this.last;
+            this.last = -1;
+        }
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.persistence.DataStreams;
+import org.spongepowered.api.data.persistence.DataWriter;
+import org.spongepowered.api.data.persistence.InvalidDataFormatException;
+import org.spongepowered.api.network.ChannelBuf;
+
+import java.io.IOException;
+
+/**
+ * Encodes {@link DataView}s directly into {@link ChannelBuf}s, and decodes
+ * them lazily, without going through an intermediate byte array or
+ * {@link DataContainer}.
+ *
+ * <p>A view is encoded as the length of the rest of the view in bytes, the
+ * number of entries, and the entries themselves, each being a name, as
+ * written by {@link ChannelBuf#writeString(String)}, followed by a value.
+ * A value is a type byte followed by its data. Lists are encoded like views,
+ * without the names, so that both can be skipped without decoding
+ * them.</p>
+ */
+public final class ChannelBufDataCodec {
+
+    static final byte BOOLEAN = 1;
+    static final byte BYTE = 2;
+    static final byte SHORT = 3;
+    static final byte INT = 4;
+    static final byte LONG = 5;
+    static final byte FLOAT = 6;
+    static final byte DOUBLE = 7;
+    static final byte STRING = 8;
+    static final byte BYTE_ARRAY = 9;
+    static final byte INT_ARRAY = 10;
+    static final byte LONG_ARRAY = 11;
+    static final byte LIST = 12;
+    static final byte VIEW = 13;
+
+    /**
+     * Creates a {@link DataWriter} that encodes a single view straight into
+     * the given {@link ChannelBuf}, at its writer index.
+     *
+     * @param buf The buffer to write to
+     * @return The writer
+     */
+    public static DataWriter writer(ChannelBuf buf) {
+        return new ChannelBufDataWriter(buf);
+    }
+
+    /**
+     * Encodes the given {@link DataView} into the given {@link ChannelBuf},
+     * at its writer index.
+     *
+     * @param buf The buffer to write to
+     * @param view The view to write
+     */
+    public static void write(ChannelBuf buf, DataView view) {
+        try {
+            DataStreams.write(new ChannelBufDataWriter(buf), view);
+        } catch (IOException e) {
+            // Writing into a buffer never fails with an IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads a view encoded by {@link #write(ChannelBuf, DataView)} from the
+     * given {@link ChannelBuf}, at its reader index, and moves the reader
+     * index past it.
+     *
+     * <p>The returned {@link DataContainer} decodes its values from the
+     * buffer as they are accessed, and only copies them into memory once it
+     * is modified. The buffer must therefore not be modified as long as the
+     * container is in use.</p>
+     *
+     * @param buf The buffer to read from
+     * @return The lazily decoded container
+     * @throws InvalidDataFormatException If the buffer does not contain a
+     *     valid view
+     */
+    public static DataContainer read(ChannelBuf buf) throws InvalidDataFormatException {
+        return read(buf, DataView.SafetyMode.ALL_DATA_CLONED);
+    }
+
+    /**
+     * Reads a view encoded by {@link #write(ChannelBuf, DataView)} from the
+     * given {@link ChannelBuf}, at its reader index, and moves the reader
+     * index past it.
+     *
+     * <p>The returned {@link DataContainer} decodes its values from the
+     * buffer as they are accessed, and only copies them into memory once it
+     * is modified. The buffer must therefore not be modified as long as the
+     * container is in use.</p>
+     *
+     * @param buf The buffer to read from
+     * @param safety The safety mode of the container
+     * @return The lazily decoded container
+     * @throws InvalidDataFormatException If the buffer does not contain a
+     *     valid view
+     */
+    public static DataContainer read(ChannelBuf buf, DataView.SafetyMode safety) throws InvalidDataFormatException {
+        checkNotNull(buf, "buf");
+        checkNotNull(safety, "safety");
+        final int start = buf.readerIndex();
+        if (buf.available() < 8) {
+            throw new InvalidDataFormatException("Not enough data for a view at index " + start);
+        }
+        final int length = 4 + buf.getInteger(start);
+        if (length < 8 || length > buf.available()) {
+            throw new InvalidDataFormatException("Invalid view length at index " + start);
+        }
+        // Detach the view from the indexes of the buffer
+        final ChannelBuf slice = buf.slice(start, length);
+        buf.setReadIndex(start + length);
+        return container(new ChannelBufDataMap(slice, 0, safety), safety);
+    }
+
+    /**
+     * Creates a container backed by the given lazily decoded map.
+     *
+     * @param map The map
+     * @param safety The safety mode
+     * @return The container
+     */
+    static DataContainer container(ChannelBufDataMap map, DataView.SafetyMode safety) {
+        final MemoryDataContainer container = new MemoryDataContainer(safety, map);
+        // The map is read only, so it has to be copied before modifications
+        container.shareMaps();
+        return container;
+    }
+
+    private ChannelBufDataCodec() {
+    }
+
+}
@@ -0,0 +1,438 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.data.persistence.InvalidDataFormatException;
+import org.spongepowered.api.network.ChannelBuf;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read only backing map of a {@link MemoryDataView} that decodes its
+ * values from a {@link ChannelBuf} as they are accessed, in the format
+ * described by {@link ChannelBufDataCodec}.
+ *
+ * <p>Only the names of the entries are decoded up front, along with checks
+ * that every value fits into the view. Nested views and lists are decoded
+ * and checked lazily as well, so that corrupt data in them is only reported
+ * once they are accessed. Iterating over the keys or entries does not
+ * decode any values. The views using this map have to treat it as
+ * shared, so that it is replaced by a regular map before being
+ * modified.</p>
+ */
+final class ChannelBufDataMap extends AbstractMap<String, Object> {
+
+    /**
+     * Views with more entries than this get a hash index of their names.
+     */
+    private static final int INDEX_THRESHOLD = 8;
+
+    private final ChannelBuf buf;
+    private final DataView.SafetyMode safety;
+    private final String[] names;
+    private final int[] offsets;
+    private final Object[] values;
+    @Nullable private final Map<String, Integer> index;
+    @Nullable private Set<String> keySet;
+    @Nullable private Set<Entry<String, Object>> entrySet;
+
+    /**
+     * Creates a map of the view starting at the given index.
+     *
+     * @param buf The buffer
+     * @param start The index of the length field of the view
+     * @param safety The safety mode of views decoded from lists
+     * @throws InvalidDataFormatException If the view is malformed
+     */
+    ChannelBufDataMap(ChannelBuf buf, int start, DataView.SafetyMode safety) throws InvalidDataFormatException {
+        this.buf = buf;
+        this.safety = safety;
+        try {
+            final int length = buf.getInteger(start);
+            final int count = buf.getInteger(start + 4);
+            // Every entry takes at least two bytes, which also bounds the
+            // arrays allocated for a corrupt number of entries
+            if (length < 4 || length > buf.getCapacity() - start - 4 || count < 0 || count > (length - 4) / 2) {
+                throw new InvalidDataFormatException("Invalid view at index " + start);
+            }
+            final int end = start + 4 + length;
+            this.names = new String[count];
+            this.offsets = new int[count];
+            this.values = new Object[count];
+            this.index = count > INDEX_THRESHOLD ? Maps.newHashMapWithExpectedSize(count) : null;
+            int offset = start + 8;
+            for (int i = 0; i < count; i++) {
+                final int nameLength = buf.getVarInt(offset);
+                final long value = offset + (long) varIntSize(nameLength) + nameLength;
+                if (nameLength < 0 || value >= end) {
+                    throw new InvalidDataFormatException("Invalid name at index " + offset);
+                }
+                final String name = buf.getString(offset);
+                if (this.index != null ? this.index.put(name, i) != null : indexOf(this.names, i, name) >= 0) {
+                    throw new InvalidDataFormatException("Duplicate name " + name + " at index " + offset);
+                }
+                this.names[i] = name;
+                this.offsets[i] = (int) value;
+                offset = skip(buf, (int) value, end);
+            }
+            if (offset != end) {
+                throw new InvalidDataFormatException("Invalid view at index " + start);
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new InvalidDataFormatException("Truncated view at index " + start, e);
+        }
+    }
+
+    /**
+     * Creates a map of the same view as the given map, which decodes its
+     * values again instead of sharing the decoded values of that map.
+     *
+     * @param map The map
+     */
+    private ChannelBufDataMap(ChannelBufDataMap map) {
+        this.buf = map.buf;
+        this.safety = map.safety;
+        this.names = map.names;
+        this.offsets = map.offsets;
+        this.values = new Object[map.names.length];
+        this.index = map.index;
+    }
+
+    /**
+     * Creates a map of the same view that does not share the views decoded
+     * from lists with this map, as those are handed out as they are and may
+     * be modified.
+     *
+     * @return The copy
+     */
+    ChannelBufDataMap copy() {
+        return new ChannelBufDataMap(this);
+    }
+
+    private static int indexOf(String[] names, int count, Object name) {
+        for (int i = 0; i < count; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int varIntSize(int value) {
+        return value < 0 ? 5 : (38 - Integer.numberOfLeadingZeros(value | 1)) / 7;
+    }
+
+    /**
+     * Gets the index right after the typed value at the given index,
+     * checking that the value ends before the end of its view or list.
+     *
+     * @param buf The buffer
+     * @param offset The index of the type of the value
+     * @param end The index of the end of the enclosing view or list
+     * @return The index after the value
+     * @throws InvalidDataFormatException If the value is malformed
+     */
+    private static int skip(ChannelBuf buf, int offset, int end) throws InvalidDataFormatException {
+        if (offset >= end) {
+            throw new InvalidDataFormatException("Missing value at index " + offset);
+        }
+        final byte type = buf.getByte(offset++);
+        final long next;
+        switch (type) {
+            case ChannelBufDataCodec.BOOLEAN:
+            case ChannelBufDataCodec.BYTE:
+                next = offset + 1L;
+                break;
+            case ChannelBufDataCodec.SHORT:
+                next = offset + 2L;
+                break;
+            case ChannelBufDataCodec.INT:
+            case ChannelBufDataCodec.FLOAT:
+                next = offset + 4L;
+                break;
+            case ChannelBufDataCodec.LONG:
+            case ChannelBufDataCodec.DOUBLE:
+                next = offset + 8L;
+                break;
+            case ChannelBufDataCodec.STRING: {
+                final int length = length(buf.getVarInt(offset), offset);
+                next = offset + (long) varIntSize(length) + length;
+                break;
+            }
+            case ChannelBufDataCodec.BYTE_ARRAY:
+            case ChannelBufDataCodec.LIST:
+            case ChannelBufDataCodec.VIEW:
+                next = offset + 4L + length(buf.getInteger(offset), offset);
+                break;
+            case ChannelBufDataCodec.INT_ARRAY:
+                next = offset + 4L + 4L * length(buf.getInteger(offset), offset);
+                break;
+            case ChannelBufDataCodec.LONG_ARRAY:
+                next = offset + 4L + 8L * length(buf.getInteger(offset), offset);
+                break;
+            default:
+                throw new InvalidDataFormatException("Unknown type " + type + " at index " + (offset - 1));
+        }
+        if (next > end) {
+            throw new InvalidDataFormatException("Truncated value at index " + (offset - 1));
+        }
+        return (int) next;
+    }
+
+    private static int length(int length, int offset) throws InvalidDataFormatException {
+        if (length < 0) {
+            throw new InvalidDataFormatException("Negative length at index " + offset);
+        }
+        return length;
+    }
+
+    /**
+     * Decodes the typed value at the given index. The bounds of the value
+     * have already been checked by {@link #skip(ChannelBuf, int, int)}.
+     *
+     * @param offset The index of the type of the value
+     * @param inList Whether the value is an element of a list
+     * @return The value
+     * @throws InvalidDataFormatException If a nested view or list is
+     *     malformed
+     */
+    private Object decode(int offset, boolean inList) throws InvalidDataFormatException {
+        final byte type = this.buf.getByte(offset++);
+        switch (type) {
+            case ChannelBufDataCodec.BOOLEAN:
+                return this.buf.getBoolean(offset);
+            case ChannelBufDataCodec.BYTE:
+                return this.buf.getByte(offset);
+            case ChannelBufDataCodec.SHORT:
+                return this.buf.getShort(offset);
+            case ChannelBufDataCodec.INT:
+                return this.buf.getInteger(offset);
+            case ChannelBufDataCodec.LONG:
+                return this.buf.getLong(offset);
+            case ChannelBufDataCodec.FLOAT:
+                return this.buf.getFloat(offset);
+            case ChannelBufDataCodec.DOUBLE:
+                return this.buf.getDouble(offset);
+            case ChannelBufDataCodec.STRING:
+                return this.buf.getString(offset);
+            case ChannelBufDataCodec.BYTE_ARRAY:
+                return this.buf.readBytes(offset + 4, this.buf.getInteger(offset));
+            case ChannelBufDataCodec.INT_ARRAY: {
+                final int[] array = new int[this.buf.getInteger(offset)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = this.buf.getInteger(offset + 4 + 4 * i);
+                }
+                return array;
+            }
+            case ChannelBufDataCodec.LONG_ARRAY: {
+                final long[] array = new long[this.buf.getInteger(offset)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = this.buf.getLong(offset + 4 + 8 * i);
+                }
+                return array;
+            }
+            case ChannelBufDataCodec.LIST: {
+                final int length = this.buf.getInteger(offset);
+                final int end = offset + 4 + length;
+                final int count = length < 4 ? -1 : this.buf.getInteger(offset + 4);
+                if (count < 0 || count > (length - 4) / 2) {
+                    throw new InvalidDataFormatException("Invalid list at index " + (offset - 1));
+                }
+                final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+                int element = offset + 8;
+                for (int i = 0; i < count; i++) {
+                    final int next = skip(this.buf, element, end);
+                    builder.add(decode(element, true));
+                    element = next;
+                }
+                if (element != end) {
+                    throw new InvalidDataFormatException("Invalid list at index " + (offset - 1));
+                }
+                return builder.build();
+            }
+            case ChannelBufDataCodec.VIEW: {
+                final ChannelBufDataMap map = new ChannelBufDataMap(this.buf, offset, this.safety);
+                // Views in lists are stored as views, elsewhere as their map
+                return inList ? ChannelBufDataCodec.container(map, this.safety) : map;
+            }
+            default:
+                throw new InvalidDataFormatException("Unknown type " + type + " at index " + (offset - 1));
+        }
+    }
+
+    private int indexOf(@Nullable Object key) {
+        if (this.index != null) {
+            final Integer i = this.index.get(key);
+            return i == null ? -1 : i;
+        }
+        return indexOf(this.names, this.names.length, key);
+    }
+
+    private Object valueAt(int i) {
+        Object value = this.values[i];
+        if (value == null) {
+            value = decode(this.offsets[i], false);
+            this.values[i] = value;
+        }
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return this.names.length;
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    @Nullable
+    public Object get(@Nullable Object key) {
+        final int i = indexOf(key);
+        return i < 0 ? null : valueAt(i);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        if (this.keySet == null) {
+            this.keySet = new KeySet();
+        }
+        return this.keySet;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (this.entrySet == null) {
+            this.entrySet = new EntrySet();
+        }
+        return this.entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new Iterator<Entry<String, Object>>() {
+
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < ChannelBufDataMap.this.names.length;
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return new LazyEntry(this.next++);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ChannelBufDataMap.this.names.length;
+        }
+    }
+
+    private final class KeySet extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            return Iterators.forArray(ChannelBufDataMap.this.names);
+        }
+
+        @Override
+        public boolean contains(@Nullable Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return ChannelBufDataMap.this.names.length;
+        }
+    }
+
+    /**
+     * An entry only decoding its value once it is requested.
+     */
+    private final class LazyEntry implements Entry<String, Object> {
+
+        private final int i;
+
+        LazyEntry(int i) {
+            this.i = i;
+        }
+
+        @Override
+        public String getKey() {
+            return ChannelBufDataMap.this.names[this.i];
+        }
+
+        @Override
+        public Object getValue() {
+            return valueAt(this.i);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            final Entry<?, ?> other = (Entry<?, ?>) obj;
+            return getKey().equals(other.getKey()) && getValue().equals(other.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+}
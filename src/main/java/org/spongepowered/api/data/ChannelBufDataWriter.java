@@ -0,0 +1,242 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.data.persistence.DataWriter;
+import org.spongepowered.api.network.ChannelBuf;
+
+import java.util.Arrays;
+
+/**
+ * A {@link DataWriter} encoding data straight into a {@link ChannelBuf}, in
+ * the format described by {@link ChannelBufDataCodec}.
+ */
+final class ChannelBufDataWriter implements DataWriter {
+
+    private final ChannelBuf buf;
+
+    /**
+     * The indexes of the length fields of the open views and lists, to be
+     * filled in once they are ended.
+     */
+    private int[] starts = new int[8];
+
+    /**
+     * The number of elements written to each of the open views and lists.
+     */
+    private int[] counts = new int[8];
+
+    /**
+     * Whether each of the open containers is a view rather than a list.
+     */
+    private boolean[] views = new boolean[8];
+
+    private int depth;
+    private boolean named;
+    private boolean done;
+
+    ChannelBufDataWriter(ChannelBuf buf) {
+        this.buf = checkNotNull(buf, "buf");
+    }
+
+    /**
+     * Writes the type of the value about to be written, unless it is the
+     * root view.
+     *
+     * @param type The type of the value
+     */
+    private void type(byte type) {
+        checkState(!this.done, "The root view has already been written");
+        if (this.depth == 0) {
+            checkState(type == ChannelBufDataCodec.VIEW, "The root value has to be a view");
+            return;
+        }
+        final int top = this.depth - 1;
+        if (this.views[top]) {
+            checkState(this.named, "Values inside of a view have to be named");
+            this.named = false;
+        }
+        this.counts[top]++;
+        this.buf.writeByte(type);
+    }
+
+    private void begin(byte type) {
+        type(type);
+        if (this.depth == this.starts.length) {
+            this.starts = Arrays.copyOf(this.starts, this.depth * 2);
+            this.counts = Arrays.copyOf(this.counts, this.depth * 2);
+            this.views = Arrays.copyOf(this.views, this.depth * 2);
+        }
+        this.starts[this.depth] = this.buf.writerIndex();
+        this.counts[this.depth] = 0;
+        this.views[this.depth] = type == ChannelBufDataCodec.VIEW;
+        this.depth++;
+        // The length and the number of elements, filled in once ended
+        this.buf.writeInteger(0);
+        this.buf.writeInteger(0);
+    }
+
+    private void end(boolean view) {
+        checkState(this.depth > 0 && this.views[this.depth - 1] == view, view ? "Not inside of a view" : "Not inside of a list");
+        checkState(!this.named, "A name has to be followed by a value");
+        this.depth--;
+        final int start = this.starts[this.depth];
+        this.buf.setInteger(start, this.buf.writerIndex() - start - 4);
+        this.buf.setInteger(start + 4, this.counts[this.depth]);
+        this.done = this.depth == 0;
+    }
+
+    @Override
+    public DataWriter beginView() {
+        begin(ChannelBufDataCodec.VIEW);
+        return this;
+    }
+
+    @Override
+    public DataWriter endView() {
+        end(true);
+        return this;
+    }
+
+    @Override
+    public DataWriter beginList() {
+        begin(ChannelBufDataCodec.LIST);
+        return this;
+    }
+
+    @Override
+    public DataWriter endList() {
+        end(false);
+        return this;
+    }
+
+    @Override
+    public DataWriter name(String name) {
+        checkNotNull(name, "name");
+        checkState(this.depth > 0 && this.views[this.depth - 1], "Names are only allowed inside of a view");
+        checkState(!this.named, "A name has to be followed by a value");
+        this.buf.writeString(name);
+        this.named = true;
+        return this;
+    }
+
+    @Override
+    public DataWriter value(boolean value) {
+        type(ChannelBufDataCodec.BOOLEAN);
+        this.buf.writeBoolean(value);
+        return this;
+    }
+
+    @Override
+    public DataWriter value(byte value) {
+        type(ChannelBufDataCodec.BYTE);
+        this.buf.writeByte(value);
+        return this;
+    }
+
+    @Override
+    public DataWriter value(short value) {
+        type(ChannelBufDataCodec.SHORT);
+        this.buf.writeShort(value);
+        return this;
+    }
+
+    @Override
+    public DataWriter value(int value) {
+        type(ChannelBufDataCodec.INT);
+        this.buf.writeInteger(value);
+        return this;
+    }
+
+    @Override
+    public DataWriter value(long value) {
+        type(ChannelBufDataCodec.LONG);
+        this.buf.writeLong(value);
+        return this;
+    }
+
+    @Override
+    public DataWriter value(float value) {
+        type(ChannelBufDataCodec.FLOAT);
+        this.buf.writeFloat(value);
+        return this;
+    }
+
+    @Override
+    public DataWriter value(double value) {
+        type(ChannelBufDataCodec.DOUBLE);
+        this.buf.writeDouble(value);
+        return this;
+    }
+
+    @Override
+    public DataWriter value(String value) {
+        checkNotNull(value, "value");
+        type(ChannelBufDataCodec.STRING);
+        this.buf.writeString(value);
+        return this;
+    }
+
+    @Override
+    public DataWriter value(byte[] value) {
+        type(ChannelBufDataCodec.BYTE_ARRAY);
+        this.buf.writeInteger(value.length);
+        this.buf.writeBytes(value);
+        return this;
+    }
+
+    @Override
+    public DataWriter value(int[] value) {
+        type(ChannelBufDataCodec.INT_ARRAY);
+        this.buf.writeInteger(value.length);
+        for (int element : value) {
+            this.buf.writeInteger(element);
+        }
+        return this;
+    }
+
+    @Override
+    public DataWriter value(long[] value) {
+        type(ChannelBufDataCodec.LONG_ARRAY);
+        this.buf.writeInteger(value.length);
+        for (long element : value) {
+            this.buf.writeLong(element);
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+        checkState(this.depth == 0, "Not all views and lists have been ended");
+    }
+
+}
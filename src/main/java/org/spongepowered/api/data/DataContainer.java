@@ -33,6 +33,59 @@
  */
 public interface DataContainer extends DataView {
 
+    /**
+     * Creates a new {@link DataContainer} with a default
+     * {@link DataView.SafetyMode} of
+     * {@link DataView.SafetyMode#ALL_DATA_CLONED}.
+     *
+     * @return A new data container
+     */
+    static DataContainer createNew() {
+        return new MemoryDataContainer();
+    }
+
+    /**
+     * Creates a new {@link DataContainer} with the provided
+     * {@link DataView.SafetyMode}.
+     *
+     * @param safety The safety mode to use
+     * @return A new data container
+     */
+    static DataContainer createNew(DataView.SafetyMode safety) {
+        return new MemoryDataContainer(safety);
+    }
+
+    /**
+     * Creates a new compact {@link DataContainer} with a default
+     * {@link DataView.SafetyMode} of
+     * {@link DataView.SafetyMode#ALL_DATA_CLONED}.
+     *
+     * @return A new compact data container
+     * @see #createCompact(DataView.SafetyMode)
+     */
+    static DataContainer createCompact() {
+        return createCompact(DataView.SafetyMode.ALL_DATA_CLONED);
+    }
+
+    /**
+     * Creates a new compact {@link DataContainer} with the provided
+     * {@link DataView.SafetyMode}.
+     *
+     * <p>A compact container behaves like one created with
+     * {@link #createNew(DataView.SafetyMode)}, including the insertion order
+     * of its keys, but each level is stored in arrays instead of a hash map.
+     * This trades slower inserts and removals on large views for a much
+     * smaller memory footprint, which suits the small containers produced
+     * when serializing snapshots. Views created within a compact container,
+     * as well as copies of it, are compact as well.</p>
+     *
+     * @param safety The safety mode to use
+     * @return A new compact data container
+     */
+    static DataContainer createCompact(DataView.SafetyMode safety) {
+        return new MemoryDataContainer(safety, new ArrayDataMap());
+    }
+
     @Override
     DataContainer set(DataQuery path, Object value);
 
@@ -32,6 +32,8 @@
 import org.spongepowered.api.data.persistence.DataContentUpdater;
 import org.spongepowered.api.data.persistence.DataTranslator;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -66,6 +68,10 @@ public interface DataManager {
      * {@link DataSerializable} such that any versioned data may be updated to
      * newer versions for the most up to date {@link DataBuilder}.
      *
+     * <p>Registering an updater discards any updaters previously resolved by
+     * {@link #getWrappedContentUpdater(Class, int, int)} for the same
+     * class.</p>
+     *
      * @param clazz The data serializable class
      * @param updater The updater
      * @param <T> The type of DataSerializable
@@ -79,6 +85,12 @@ public interface DataManager {
      * great or a {@link DataContentUpdater} has not been registered to cover
      * the complete jump, {@link Optional#empty()} may be returned.
      *
+     * <p>The updaters making up the jump are resolved once per version pair
+     * and the resulting updater, as created by
+     * {@link DataContentUpdater#chain(java.util.List)}, is cached, so that
+     * repeated calls for the same versions do not have to resolve the chain
+     * again.</p>
+     *
      * @param clazz The data serializable class
      * @param fromVersion The version converting from
      * @param toVersion The version converting to
@@ -95,6 +107,10 @@ public interface DataManager {
      * nor is it guaranteed that a provided builder will function with all
      * {@link DataContainer}s.</p>
      *
+     * <p>The builder is resolved when it is registered, so the returned
+     * builder may be retained and reused to deserialize many views without
+     * looking it up again.</p>
+     *
      * @param clazz The class of the data serializable
      * @param <T> The type of data serializable
      * @return The builder, if available
@@ -114,6 +130,29 @@ public interface DataManager {
      */
     <T extends DataSerializable> Optional<T> deserialize(Class<T> clazz, DataView dataView);
 
+    /**
+     * Attempts to translate instances of the {@link DataSerializable} from
+     * each of the provided {@link DataView}s, looking up the
+     * {@link DataBuilder} only once for all of them. Views that the builder
+     * is unable to build are skipped. If there is no {@link DataBuilder}
+     * registered for the provided {@link DataSerializable}, then
+     * {@link Optional#empty()} may be returned.
+     *
+     * @param clazz The class of the data serializable
+     * @param dataViews The data views containing raw data
+     * @param <T> The type of data serializable
+     * @return The data serializables, if available
+     */
+    default <T extends DataSerializable> Optional<List<T>> deserializeAll(Class<T> clazz, Iterable<? extends DataView> dataViews) {
+        return getBuilder(clazz).map(builder -> {
+            final List<T> list = new ArrayList<>();
+            for (DataView dataView : dataViews) {
+                builder.build(dataView).ifPresent(list::add);
+            }
+            return list;
+        });
+    }
+
     /**
      * Registers the given {@link ImmutableDataHolder} class with it's
      * associated {@link ImmutableDataBuilder}. The builder can be used to
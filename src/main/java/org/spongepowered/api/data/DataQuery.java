@@ -24,58 +24,87 @@
  */
 package org.spongepowered.api.data;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.google.common.base.Joiner;
-import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
 
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
 
 /**
  * Represents a query that can be done on views. Queries do not depend on
  * their separator, it is just a way to construct them.
+ *
+ * <p>Queries are interned: every query is a node in a shared trie of path
+ * segments, so two queries made up of the same parts are always the same
+ * instance. This makes equality checks identity checks, and makes
+ * {@link #then(String)}, {@link #pop()} and friends simple trie walks that
+ * do not allocate once the path has been seen before.</p>
  */
 public final class DataQuery {
 
     private static final DataQuery EMPTY = new DataQuery();
 
     /**
-     * The parts that make up this query.
+     * The query this query is a child of, or {@code null} if this is the
+     * empty query.
      */
-    private final ImmutableList<String> parts;
+    @Nullable private final DataQuery parent;
 
-    private ImmutableList<DataQuery> queryParts; //lazy loaded
+    /**
+     * The last part of this query, or {@code null} if this is the empty
+     * query.
+     */
+    @Nullable private final String segment;
 
     /**
-     * Constructs a query using the given separator character and path.
-     *
-     * <p>As an example, {@code new DataQuery('/', "a/b/c")} and
-     * {@code new DataQuery('.', "a.b.c")} represent the same path but are
-     * constructed using different separators.</p>
-     *
-     * @param separator The separator
-     * @param path The path
+     * The amount of parts that make up this query.
      */
-    private DataQuery(char separator, String path) {
-        this(path.split(Pattern.quote(String.valueOf(separator))));
-    }
+    private final int size;
 
     /**
-     * Constructs a query using the given parts.
-     *
-     * @param parts The parts
+     * The precomputed hash, matching the hash of {@link #getParts()}.
+     */
+    private final int hash;
+
+    /**
+     * The interned children of this query, keyed by their last part. The
+     * children are only weakly referenced so that one-off paths can be
+     * collected, whereas a child always keeps its parent alive.
      */
-    private DataQuery(String... parts) {
-        this.parts = ImmutableList.copyOf(parts);
+    @Nullable private volatile ConcurrentMap<String, DataQuery> children; //lazy loaded
+
+    @Nullable private ImmutableList<String> parts; //lazy loaded
+
+    @Nullable private ImmutableList<DataQuery> queryParts; //lazy loaded
+
+    /**
+     * Constructs the empty query, the root of the query trie.
+     */
+    private DataQuery() {
+        this.parent = null;
+        this.segment = null;
+        this.size = 0;
+        this.hash = 1;
+        this.parts = ImmutableList.of();
     }
 
     /**
-     * Constructs a query using the given parts.
+     * Constructs a query that is made up of the given parent query's parts
+     * followed by the given segment.
      *
-     * @param parts The parts
+     * @param parent The parent query
+     * @param segment The segment
      */
-    private DataQuery(List<String> parts) {
-        this.parts = ImmutableList.copyOf(parts);
+    private DataQuery(DataQuery parent, String segment) {
+        this.parent = parent;
+        this.segment = segment;
+        this.size = parent.size + 1;
+        this.hash = 31 * parent.hash + segment.hashCode();
     }
 
     /**
@@ -92,42 +121,92 @@ public static DataQuery of() {
     /**
      * Constructs a query using the given separator character and path.
      *
-     * <p>As an example, {@code new DataQuery('/', "a/b/c")} and
-     * {@code new DataQuery('.', "a.b.c")} represent the same path but are
+     * <p>As an example, {@code DataQuery.of('/', "a/b/c")} and
+     * {@code DataQuery.of('.', "a.b.c")} represent the same path but are
      * constructed using different separators.</p>
      *
      * @param separator The separator
      * @param path The path
-     * @return The newly constructed {@link DataQuery}
+     * @return The interned {@link DataQuery}
      */
     public static DataQuery of(char separator, String path) {
-        return new DataQuery(separator, path);
+        checkNotNull(path, "path");
+        if (path.indexOf(separator) == -1) {
+            return DataQuery.EMPTY.child(path);
+        }
+        // Mirror String#split, which drops trailing empty parts
+        int length = path.length();
+        while (length > 0 && path.charAt(length - 1) == separator) {
+            length--;
+        }
+        DataQuery query = DataQuery.EMPTY;
+        int start = 0;
+        while (start < length) {
+            int end = path.indexOf(separator, start);
+            if (end == -1 || end > length) {
+                end = length;
+            }
+            query = query.child(path.substring(start, end));
+            start = end + 1;
+        }
+        return query;
     }
 
     /**
      * Constructs a query using the given parts.
      *
      * @param parts The parts
-     * @return The newly constructed {@link DataQuery}
+     * @return The interned {@link DataQuery}
      */
     public static DataQuery of(String... parts) {
-        if (parts.length == 0) {
-            return DataQuery.EMPTY;
+        DataQuery query = DataQuery.EMPTY;
+        for (String part : parts) {
+            query = query.child(part);
         }
-        return new DataQuery(parts);
+        return query;
     }
 
     /**
      * Constructs a query using the given parts.
      *
      * @param parts The parts
-     * @return The newly constructed {@link DataQuery}
+     * @return The interned {@link DataQuery}
      */
     public static DataQuery of(List<String> parts) {
-        if (parts.isEmpty()) {
-            return DataQuery.EMPTY;
+        DataQuery query = DataQuery.EMPTY;
+        for (String part : parts) {
+            query = query.child(part);
+        }
+        return query;
+    }
+
+    /**
+     * Gets the interned child of this query for the given segment, creating
+     * it if it does not exist yet.
+     *
+     * @param segment The segment
+     * @return The child query
+     */
+    private DataQuery child(String segment) {
+        checkNotNull(segment, "segment");
+        ConcurrentMap<String, DataQuery> children = this.children;
+        if (children == null) {
+            synchronized (this) {
+                children = this.children;
+                if (children == null) {
+                    this.children = children = new MapMaker().weakValues().makeMap();
+                }
+            }
         }
-        return new DataQuery(parts);
+        DataQuery child = children.get(segment);
+        if (child == null) {
+            final DataQuery created = new DataQuery(this, segment);
+            child = children.putIfAbsent(segment, created);
+            if (child == null) {
+                child = created;
+            }
+        }
+        return child;
     }
 
     /**
@@ -136,41 +215,43 @@ public static DataQuery of(List<String> parts) {
      * @return The parts of this query
      */
     public List<String> getParts() {
-        return this.parts;
+        ImmutableList<String> parts = this.parts;
+        if (parts == null) {
+            final String[] array = new String[this.size];
+            DataQuery query = this;
+            for (int i = this.size - 1; i >= 0; i--) {
+                array[i] = query.segment;
+                query = query.parent;
+            }
+            this.parts = parts = ImmutableList.copyOf(array);
+        }
+        return parts;
     }
 
     /**
-     * Returns a new query that is made up of this query's parts followed by the
+     * Returns a query that is made up of this query's parts followed by the
      * given query's parts.
      *
      * @param that The given query to follow this one
      * @return The constructed query
      */
     public DataQuery then(DataQuery that) {
-        ImmutableList.Builder<String> builder =
-            new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.addAll(that.parts);
-
-        return new DataQuery(builder.build());
+        checkNotNull(that, "that");
+        if (that == DataQuery.EMPTY) {
+            return this;
+        }
+        return then(that.parent).child(that.segment);
     }
 
     /**
-     * Returns a new query that is made up of this query's parts followed by the
+     * Returns a query that is made up of this query's parts followed by the
      * given query.
      *
      * @param that The given query to follow this one
      * @return The constructed query
      */
     public DataQuery then(String that) {
-        ImmutableList.Builder<String> builder =
-            new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.add(that);
-
-        return new DataQuery(builder.build());
+        return child(that);
     }
 
     /**
@@ -180,14 +261,15 @@ public DataQuery then(String that) {
      * @return The constructed queries
      */
     public List<DataQuery> getQueryParts() {
-        if (this.queryParts == null) {
+        ImmutableList<DataQuery> queryParts = this.queryParts;
+        if (queryParts == null) {
             ImmutableList.Builder<DataQuery> builder = ImmutableList.builder();
             for (String part : getParts()) {
-                builder.add(new DataQuery(part));
+                builder.add(DataQuery.EMPTY.child(part));
             }
-            this.queryParts = builder.build();
+            this.queryParts = queryParts = builder.build();
         }
-        return this.queryParts;
+        return queryParts;
     }
 
     /**
@@ -198,14 +280,7 @@ public List<DataQuery> getQueryParts() {
      * @return The next level query
      */
     public DataQuery pop() {
-        if (this.parts.size() <= 1) {
-            return of();
-        }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 0; i < this.parts.size() - 1; i++) {
-            builder.add(this.parts.get(i));
-        }
-        return new DataQuery(builder.build());
+        return this.parent == null ? this : this.parent;
     }
 
     /**
@@ -216,14 +291,10 @@ public DataQuery pop() {
      * @return The next level query
      */
     public DataQuery popFirst() {
-        if (this.parts.size() <= 1) {
-            return of();
-        }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 1; i < this.parts.size(); i++) {
-            builder.add(this.parts.get(i));
+        if (this.size <= 1) {
+            return DataQuery.EMPTY;
         }
-        return new DataQuery(builder.build());
+        return this.parent.popFirst().child(this.segment);
     }
 
     /**
@@ -233,10 +304,10 @@ public DataQuery popFirst() {
      * @return The last entry as a data query, if not already last
      */
     public DataQuery last() {
-        if (this.parts.size() <= 1) {
+        if (this.size <= 1) {
             return this;
         }
-        return new DataQuery(this.parts.get(this.parts.size() - 1));
+        return DataQuery.EMPTY.child(this.segment);
     }
 
     /**
@@ -246,7 +317,7 @@ public DataQuery last() {
      * @return This query as a string
      */
     public String asString(String separator) {
-        return Joiner.on(separator).join(this.parts);
+        return Joiner.on(separator).join(getParts());
     }
 
     /**
@@ -266,18 +337,12 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.parts);
+        return this.hash;
     }
 
     @Override
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (obj == null || getClass() != obj.getClass()) {
-            return false;
-        }
-        final DataQuery other = (DataQuery) obj;
-        return Objects.equal(this.parts, other.parts);
+    public boolean equals(@Nullable Object obj) {
+        // Queries are interned, any two equal queries are the same instance
+        return this == obj;
     }
 }
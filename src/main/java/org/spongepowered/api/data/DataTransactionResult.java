@@ -30,6 +30,8 @@
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.value.BaseValue;
@@ -40,8 +42,13 @@
 import org.spongepowered.api.util.ResettableBuilder;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
 
 /**
  * Represents a transaction taking place where a {@link DataHolder} is
@@ -341,6 +348,8 @@ public static final class Builder implements ResettableBuilder<DataTransactionRe
         List<ImmutableValue<?>> replaced;
         List<ImmutableValue<?>> successful;
         Type resultType;
+        // The keys of all the values above, built by the first absorbResult
+        @Nullable private Set<Key<?>> keys;
 
         Builder() {
         }
@@ -374,6 +383,7 @@ public Builder replace(final ImmutableValue<?> value) {
                 this.replaced = Lists.newArrayList();
             }
             this.replaced.add(checkNotNull(value));
+            index(value);
             return this;
         }
 
@@ -411,6 +421,7 @@ public Builder reject(final ImmutableValue<?> value) {
                 this.rejected = Lists.newArrayList();
             }
             this.rejected.add(checkNotNull(value));
+            index(value);
             return this;
         }
 
@@ -448,6 +459,7 @@ public Builder success(final ImmutableValue<?> value) {
                 this.successful = Lists.newArrayList();
             }
             this.successful.add(checkNotNull(value));
+            index(value);
             return this;
         }
 
@@ -489,143 +501,104 @@ public Builder absorbResult(final DataTransactionResult result) {
                     this.resultType = result.getType();
                 }
             }
-            final List<ImmutableValue<?>> newSuccessful = Lists.newArrayList();
-            final List<ImmutableValue<?>> newReplaced = Lists.newArrayList();
-            final List<ImmutableValue<?>> newRejected = Lists.newArrayList();
-            // Now let's handle the successful data
-            if (this.successful != null) {
-                dance:
-                for (final ImmutableValue<?> value : this.successful) {
-                    for (final ImmutableValue<?> rejected : result.getRejectedData()) {
-                        if (value.getKey().equals(rejected.getKey())) {
-                            newRejected.add(rejected);
-                            continue dance;
-                        }
-                    }
-                    for (final ImmutableValue<?> replaced : result.getReplacedData()) {
-                        if (value.getKey().equals(replaced.getKey())) {
-                            newReplaced.add(value);
-                            continue dance;
-                        }
-                    }
-                    for (final ImmutableValue<?> successful : result.getSuccessfulData()) {
-                        if (value.getKey().equals(successful.getKey())) {
-                            newSuccessful.add(successful);
-                            continue dance;
-                        }
-                    }
-                    newSuccessful.add(value);
-                }
+            // A result without data can't change any of the values, so
+            // there is nothing to merge
+            if (result.success.isEmpty() && result.replaced.isEmpty() && result.rejected.isEmpty()) {
+                return this;
             }
-            if (this.replaced != null) {
-                dance:
-                for (final ImmutableValue<?> value : this.replaced) {
-                    for (final ImmutableValue<?> rejected : result.getRejectedData()) {
-                        if (value.getKey().equals(rejected.getKey())) {
-                            newRejected.add(rejected);
-                            continue dance;
-                        }
-                    }
-                    for (final ImmutableValue<?> replaced : result.getReplacedData()) {
-                        if (value.getKey().equals(replaced.getKey())) {
-                            newReplaced.add(value);
-                            continue dance;
-                        }
-                    }
-                    for (final ImmutableValue<?> successful : result.getSuccessfulData()) {
-                        if (value.getKey().equals(successful.getKey())) {
-                            newSuccessful.add(successful);
-                            continue dance;
-                        }
-                    }
-                    newReplaced.add(value);
-                }
+            final Set<Key<?>> keys = indexKeys();
+            if (overlaps(result.success, keys) || overlaps(result.replaced, keys) || overlaps(result.rejected, keys)) {
+                // Values already present move to where the result puts their
+                // key, which keeps the set of keys the same
+                final Map<Key<?>, ImmutableValue<?>> rejectedByKey = firstByKey(result.rejected);
+                final Map<Key<?>, ImmutableValue<?>> replacedByKey = firstByKey(result.replaced);
+                final Map<Key<?>, ImmutableValue<?>> successfulByKey = firstByKey(result.success);
+                final List<ImmutableValue<?>> oldSuccessful = this.successful;
+                final List<ImmutableValue<?>> oldReplaced = this.replaced;
+                final List<ImmutableValue<?>> oldRejected = this.rejected;
+                this.successful = Lists.newArrayList();
+                this.replaced = Lists.newArrayList();
+                this.rejected = Lists.newArrayList();
+                remap(oldSuccessful, this.successful, rejectedByKey, replacedByKey, successfulByKey);
+                remap(oldReplaced, this.replaced, rejectedByKey, replacedByKey, successfulByKey);
+                remap(oldRejected, this.rejected, rejectedByKey, replacedByKey, successfulByKey);
             }
-            if (this.rejected != null) {
-                dance:
-                for (final ImmutableValue<?> value : this.rejected) {
-                    for (final ImmutableValue<?> rejected : result.getRejectedData()) {
-                        if (value.getKey().equals(rejected.getKey())) {
-                            newRejected.add(rejected);
-                            continue dance;
-                        }
-                    }
-                    for (final ImmutableValue<?> replaced : result.getReplacedData()) {
-                        if (value.getKey().equals(replaced.getKey())) {
-                            newReplaced.add(value);
-                            continue dance;
-                        }
-                    }
-                    for (final ImmutableValue<?> successful : result.getSuccessfulData()) {
-                        if (value.getKey().equals(successful.getKey())) {
-                            newSuccessful.add(successful);
-                            continue dance;
+            // Values of keys that weren't present yet are simply appended
+            this.successful = appendAbsent(result.success, this.successful, keys);
+            this.rejected = appendAbsent(result.rejected, this.rejected, keys);
+            this.replaced = appendAbsent(result.replaced, this.replaced, keys);
+            return this;
+        }
+
+        private Set<Key<?>> indexKeys() {
+            if (this.keys == null) {
+                this.keys = Sets.newHashSet();
+                for (List<ImmutableValue<?>> values : Arrays.asList(this.successful, this.replaced, this.rejected)) {
+                    if (values != null) {
+                        for (ImmutableValue<?> value : values) {
+                            this.keys.add(value.getKey());
                         }
                     }
-                    newRejected.add(value);
                 }
             }
-            dance:
-            for (final ImmutableValue<?> value : result.getSuccessfulData()) {
-                for (final ImmutableValue<?> rejected : newRejected) {
-                    if (value.getKey().equals(rejected.getKey())) {
-                        continue dance;
-                    }
-                }
-                for (final ImmutableValue<?> replaced : newReplaced) {
-                    if (value.getKey().equals(replaced.getKey())) {
-                        continue dance;
-                    }
-                }
-                for (final ImmutableValue<?> successful : newSuccessful) {
-                    if (value.getKey().equals(successful.getKey())) {
-                        continue dance;
-                    }
-                }
-                newSuccessful.add(value);
+            return this.keys;
+        }
+
+        private void index(ImmutableValue<?> value) {
+            if (this.keys != null) {
+                this.keys.add(value.getKey());
             }
-            dance:
-            for (final ImmutableValue<?> value : result.getRejectedData()) {
-                for (final ImmutableValue<?> rejected : newRejected) {
-                    if (value.getKey().equals(rejected.getKey())) {
-                        continue dance;
-                    }
-                }
-                for (final ImmutableValue<?> replaced : newReplaced) {
-                    if (value.getKey().equals(replaced.getKey())) {
-                        continue dance;
-                    }
-                }
-                for (final ImmutableValue<?> successful : newSuccessful) {
-                    if (value.getKey().equals(successful.getKey())) {
-                        continue dance;
-                    }
+        }
+
+        private static boolean overlaps(List<ImmutableValue<?>> values, Set<Key<?>> keys) {
+            for (ImmutableValue<?> value : values) {
+                if (keys.contains(value.getKey())) {
+                    return true;
                 }
-                newRejected.add(value);
             }
-            dance:
-            for (final ImmutableValue<?> value : result.getReplacedData()) {
-                for (final ImmutableValue<?> rejected : newRejected) {
-                    if (value.getKey().equals(rejected.getKey())) {
-                        continue dance;
-                    }
-                }
-                for (final ImmutableValue<?> replaced : newReplaced) {
-                    if (value.getKey().equals(replaced.getKey())) {
-                        continue dance;
-                    }
+            return false;
+        }
+
+        private static Map<Key<?>, ImmutableValue<?>> firstByKey(List<ImmutableValue<?>> values) {
+            final Map<Key<?>, ImmutableValue<?>> map = Maps.newHashMap();
+            for (ImmutableValue<?> value : values) {
+                map.putIfAbsent(value.getKey(), value);
+            }
+            return map;
+        }
+
+        private void remap(@Nullable List<ImmutableValue<?>> values, List<ImmutableValue<?>> unchanged,
+                Map<Key<?>, ImmutableValue<?>> rejectedByKey, Map<Key<?>, ImmutableValue<?>> replacedByKey,
+                Map<Key<?>, ImmutableValue<?>> successfulByKey) {
+            if (values == null) {
+                return;
+            }
+            for (ImmutableValue<?> value : values) {
+                final Key<?> key = value.getKey();
+                final ImmutableValue<?> rejected = rejectedByKey.get(key);
+                if (rejected != null) {
+                    this.rejected.add(rejected);
+                } else if (replacedByKey.containsKey(key)) {
+                    this.replaced.add(value);
+                } else if (successfulByKey.containsKey(key)) {
+                    this.successful.add(successfulByKey.get(key));
+                } else {
+                    unchanged.add(value);
                 }
-                for (final ImmutableValue<?> successful : newSuccessful) {
-                    if (value.getKey().equals(successful.getKey())) {
-                        continue dance;
+            }
+        }
+
+        private static List<ImmutableValue<?>> appendAbsent(List<ImmutableValue<?>> values, @Nullable List<ImmutableValue<?>> target,
+                Set<Key<?>> keys) {
+            for (ImmutableValue<?> value : values) {
+                if (keys.add(value.getKey())) {
+                    if (target == null) {
+                        target = Lists.newArrayList();
                     }
+                    target.add(value);
                 }
-                newReplaced.add(value);
             }
-            this.replaced = newReplaced;
-            this.rejected = newRejected;
-            this.successful = newSuccessful;
-            return this;
+            return target;
         }
 
         /**
@@ -647,14 +620,34 @@ public Builder from(DataTransactionResult value) {
             this.rejected = new ArrayList<>(value.getRejectedData());
             this.replaced = new ArrayList<>(value.getReplacedData());
             this.successful = new ArrayList<>(value.getSuccessfulData());
+            this.keys = null;
             return this;
         }
 
+        /**
+         * Resets this builder to a state without a result type or any
+         * values.
+         *
+         * <p>The lists of values are cleared rather than discarded, as
+         * {@link #build()} always copies them, so a builder that is reset
+         * and reused for many transactions keeps reusing the same lists.</p>
+         *
+         * @return This builder, for chaining
+         */
         @Override
         public Builder reset() {
-            this.rejected = null;
-            this.replaced = null;
-            this.successful = null;
+            if (this.rejected != null) {
+                this.rejected.clear();
+            }
+            if (this.replaced != null) {
+                this.replaced.clear();
+            }
+            if (this.successful != null) {
+                this.successful.clear();
+            }
+            if (this.keys != null) {
+                this.keys.clear();
+            }
             this.resultType = null;
             return this;
         }
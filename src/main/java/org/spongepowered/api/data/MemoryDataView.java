@@ -34,7 +34,6 @@
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
 import org.apache.commons.lang3.ArrayUtils;
 import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.Sponge;
@@ -43,9 +42,13 @@
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.util.Coerce;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -58,29 +61,340 @@
 
 /**
  * Default implementation of a {@link DataView} being used in memory.
+ *
+ * <p>Each level of data is kept in a backing map, where nested views are
+ * stored as the backing map of that view. Views themselves are only handles
+ * onto those maps. This allows {@link #copy()} to share the backing maps
+ * between the original and the copy instead of copying them: a shared map is
+ * never modified, instead it is cloned together with the maps on the path to
+ * it the first time either side modifies it.</p>
+ *
+ * <p>Lists of views can't be shared that way, as their views are handed out
+ * as they are. A copy therefore gets copies of those views right away. To
+ * keep copying cheap, the backing maps a list of views is stored in are
+ * marked, together with the maps on the path to them, and only marked maps
+ * are searched for such lists.</p>
  */
 public class MemoryDataView implements DataView {
 
-    protected final Map<String, Object> map = Maps.newLinkedHashMap();
+    /**
+     * The entries of this view, with nested views exposed as views. Changes
+     * to this map are applied to the backing map of this view.
+     */
+    protected final Map<String, Object> map = new ViewMap();
     private final DataContainer container;
     private final DataView parent;
     private final DataQuery path;
     private final DataView.SafetyMode safety;
 
+    /**
+     * The root view of the tree this view belongs to, which keeps track of
+     * the backing maps that may be modified in place. May be {@code null} if
+     * the container of this view is not a {@link MemoryDataView}.
+     */
+    @Nullable private final MemoryDataView root;
+
+    /**
+     * The query of this view relative to its parent.
+     */
+    private final DataQuery key;
+
+    /**
+     * The backing map of this view as of the last time it was modified
+     * through this handle, see {@link #backingMap()}.
+     */
+    private Map<String, Object> backingMap;
+
+    /**
+     * The token of the current generation of this tree, or {@code null} if
+     * this tree has never shared any of its backing maps, in which case all
+     * of them may be modified. Only the backing maps marked with this token
+     * may be modified in place, a new token is created whenever the maps are
+     * shared. Only used on the root view.
+     */
+    @Nullable private volatile Object generation;
+
+    /**
+     * The version of the tree structure, incremented whenever a shared
+     * backing map is replaced by a clone. Handles with an older version have
+     * to look their backing map up again. Used on the root view.
+     */
+    private int version;
+
+    /**
+     * The version of the tree structure this handle last looked its backing
+     * map up at.
+     */
+    private int mapVersion;
+
     protected MemoryDataView(DataView.SafetyMode safety) {
+        this(safety, new LinkedDataMap());
+    }
+
+    MemoryDataView(DataView.SafetyMode safety, Map<String, Object> map) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
         this.path = of();
+        this.key = of();
         this.parent = this;
         this.container = (DataContainer) this;
+        this.root = this;
         this.safety = checkNotNull(safety, "Safety mode");
+        this.backingMap = map;
     }
 
     protected MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safety) {
+        this(parent, path, safety, new LinkedDataMap());
+    }
+
+    MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safety, Map<String, Object> map) {
         checkArgument(path.getParts().size() >= 1, "Path must have at least one part");
         this.parent = parent;
         this.container = parent.getContainer();
+        this.root = this.container instanceof MemoryDataView ? (MemoryDataView) this.container : null;
         this.path = parent.getCurrentPath().then(path);
+        this.key = path;
         this.safety = checkNotNull(safety, "Safety mode");
+        this.backingMap = map;
+        this.mapVersion = this.root == null ? 0 : this.root.version;
+    }
+
+    /**
+     * Creates a new, empty backing map of the same kind as the one backing
+     * this view, so that compact views only ever create compact views.
+     *
+     * @return The new backing map
+     */
+    private Map<String, Object> newMap() {
+        return this.backingMap instanceof ArrayDataMap ? new ArrayDataMap() : new LinkedDataMap();
+    }
+
+    /**
+     * Creates a new, empty backing map that belongs to the tree of this view
+     * and may therefore be modified in place.
+     *
+     * @return The new backing map
+     */
+    private Map<String, Object> newOwnedMap() {
+        final Map<String, Object> newMap = newMap();
+        if (this.root != null) {
+            ((OwnedMap) newMap).setOwner(this.root.generation);
+        }
+        return newMap;
+    }
+
+    /**
+     * Creates a clone of the given backing map that belongs to the tree of
+     * this view and may therefore be modified in place.
+     *
+     * @param map The backing map
+     * @return The clone
+     */
+    private Map<String, Object> cloneMap(Map<String, Object> map) {
+        final Map<String, Object> clone = newOwnedMap();
+        clone.putAll(map);
+        // Lazily decoded maps are not marked, but may hold lists of views
+        if (!(map instanceof OwnedMap) || ((OwnedMap) map).hasLists()) {
+            ((OwnedMap) clone).setHasLists();
+        }
+        return clone;
+    }
+
+    /**
+     * Gets whether the given backing map belongs to the tree of this view and
+     * may therefore be modified in place.
+     *
+     * @param map The backing map
+     * @return Whether the map may be modified in place
+     */
+    private boolean isOwned(Map<String, Object> map) {
+        final Object generation = this.root == null ? null : this.root.generation;
+        return generation == null || map instanceof OwnedMap && ((OwnedMap) map).getOwner() == generation;
+    }
+
+    /**
+     * Gets the current backing map of this view for reading, looking it up
+     * again from the parent if a shared map on the path to this view has been
+     * replaced since it was last modified through this handle. Reading never
+     * modifies this handle or the tree.
+     *
+     * @return The backing map
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> backingMap() {
+        if (this.root != null && this.root != this && this.mapVersion != this.root.version
+                && this.parent instanceof MemoryDataView) {
+            Object current = ((MemoryDataView) this.parent).backingMap();
+            for (String part : this.key.getParts()) {
+                current = current instanceof Map ? ((Map<String, Object>) current).get(part) : null;
+            }
+            if (current instanceof Map) {
+                return (Map<String, Object>) current;
+            }
+        }
+        return this.backingMap;
+    }
+
+    /**
+     * Gets the backing map of this view for writing. If the map is shared
+     * with another tree, it is replaced by a clone first, and so are the maps
+     * on the path from the root to this view.
+     *
+     * @return The backing map, safe to modify in place
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> mutableMap() {
+        final Map<String, Object> current = backingMap();
+        if (isOwned(current)) {
+            this.backingMap = current;
+            if (this.root != null) {
+                this.mapVersion = this.root.version;
+            }
+            return current;
+        }
+        final Map<String, Object> clone = cloneMap(current);
+        if (this.root != this && this.parent instanceof MemoryDataView) {
+            Map<String, Object> parentMap = ((MemoryDataView) this.parent).mutableMap();
+            final List<String> parts = this.key.getParts();
+            for (int i = 0; i < parts.size() - 1; i++) {
+                parentMap = (Map<String, Object>) parentMap.get(parts.get(i));
+            }
+            if (parentMap.get(parts.get(parts.size() - 1)) == current) {
+                parentMap.put(parts.get(parts.size() - 1), clone);
+            }
+        }
+        this.root.version++;
+        this.backingMap = clone;
+        this.mapVersion = this.root.version;
+        return clone;
+    }
+
+    /**
+     * Gets the nested backing map stored under the given key of the given
+     * backing map, cloning it if it is shared with another tree, or creating
+     * it if it does not exist yet.
+     *
+     * @param map The backing map, safe to modify in place
+     * @param key The key
+     * @return The nested backing map, safe to modify in place
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> mutableChildMap(Map<String, Object> map, String key) {
+        final Object child = map.get(key);
+        if (!(child instanceof Map)) {
+            final Map<String, Object> newMap = newOwnedMap();
+            map.put(key, newMap);
+            return newMap;
+        }
+        final Map<String, Object> childMap = (Map<String, Object>) child;
+        if (isOwned(childMap)) {
+            return childMap;
+        }
+        final Map<String, Object> clone = cloneMap(childMap);
+        this.root.version++;
+        map.put(key, clone);
+        return clone;
+    }
+
+    /**
+     * Marks every backing map of the tree of this view as shared, so that
+     * both this tree and any copy sharing its maps clone them before they
+     * are modified.
+     */
+    void shareMaps() {
+        if (this.root != null) {
+            this.root.generation = new Object();
+        }
+    }
+
+    /**
+     * Marks the backing map of this view and the maps on the path to it as
+     * holding a list of views, after one was stored in the backing map of
+     * this view.
+     */
+    private void markLists() {
+        MemoryDataView view = this;
+        while (true) {
+            final Map<String, Object> map = view.backingMap();
+            // The maps on the path to a marked map are marked as well
+            if (!(map instanceof OwnedMap) || ((OwnedMap) map).hasLists()) {
+                return;
+            }
+            ((OwnedMap) map).setHasLists();
+            if (view.root == view || !(view.parent instanceof MemoryDataView)) {
+                return;
+            }
+            view = (MemoryDataView) view.parent;
+        }
+    }
+
+    /**
+     * Replaces the lists of views of this view and its nested views by lists
+     * of copies of those views, so that a copy of a tree does not share them
+     * with the original. Only the marked backing maps are searched.
+     */
+    @SuppressWarnings("unchecked")
+    private void copyLists() {
+        final Map<String, Object> current = backingMap();
+        if (!(current instanceof OwnedMap) || !((OwnedMap) current).hasLists()) {
+            return;
+        }
+        for (Map.Entry<String, Object> entry : current.entrySet()) {
+            final Object value = entry.getValue();
+            if (value instanceof ChannelBufDataMap) {
+                mutableMap().put(entry.getKey(), ((ChannelBufDataMap) value).copy());
+            } else if (value instanceof Map) {
+                childView(entry.getKey(), (Map<String, Object>) value).copyLists();
+            } else {
+                final Object copy = copyListedViews(value);
+                if (copy != value) {
+                    mutableMap().put(entry.getKey(), copy);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the views in the given value if it is a list holding any.
+     *
+     * @param value The value
+     * @return The value with copied views, or the value itself if it holds no
+     *     views
+     */
+    private static Object copyListedViews(Object value) {
+        if (!(value instanceof List)) {
+            return value;
+        }
+        final List<?> list = (List<?>) value;
+        @Nullable ImmutableList.Builder<Object> builder = null;
+        for (int i = 0; i < list.size(); i++) {
+            final Object element = list.get(i);
+            final Object copy = element instanceof DataView ? ((DataView) element).copy() : copyListedViews(element);
+            if (builder == null && copy != element) {
+                builder = ImmutableList.builder();
+                builder.addAll(list.subList(0, i));
+            }
+            if (builder != null) {
+                builder.add(copy);
+            }
+        }
+        return builder == null ? value : builder.build();
+    }
+
+    /**
+     * Gets whether the given value is a list holding any views.
+     *
+     * @param value The value
+     * @return Whether the value holds views
+     */
+    private static boolean holdsViews(Object value) {
+        if (value instanceof List) {
+            for (Object element : (List<?>) value) {
+                if (element instanceof DataView || holdsViews(element)) {
+                    return true;
+                }
+            }
+        }
+        return false;
     }
 
     @Override
@@ -107,20 +421,22 @@ public Optional<DataView> getParent() {
     @Override
     public Set<DataQuery> getKeys(boolean deep) {
         ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        addKeys(builder, of(), backingMap(), deep);
+        return builder.build();
+    }
 
-        for (Map.Entry<String, Object> entry : this.map.entrySet()) {
-            builder.add(of(entry.getKey()));
+    @SuppressWarnings("unchecked")
+    private static void addKeys(ImmutableSet.Builder<DataQuery> builder, DataQuery prefix, Map<String, Object> map, boolean deep) {
+        for (String key : map.keySet()) {
+            builder.add(prefix.then(key));
         }
         if (deep) {
-            for (Map.Entry<String, Object> entry : this.map.entrySet()) {
-                if (entry.getValue() instanceof DataView) {
-                    for (DataQuery query : ((DataView) entry.getValue()).getKeys(true)) {
-                        builder.add(of(entry.getKey()).then(query));
-                    }
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                if (entry.getValue() instanceof Map) {
+                    addKeys(builder, prefix.then(entry.getKey()), (Map<String, Object>) entry.getValue(), true);
                 }
             }
         }
-        return builder.build();
     }
 
     @Override
@@ -138,19 +454,20 @@ public Map<DataQuery, Object> getValues(boolean deep) {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public final boolean contains(DataQuery path) {
         checkNotNull(path, "path");
         List<String> queryParts = path.getParts();
 
-        String key = queryParts.get(0);
-        if (queryParts.size() == 1) {
-            return this.map.containsKey(key);
-        }
-        Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        if (!subViewOptional.isPresent()) {
-            return false;
+        Map<String, Object> current = backingMap();
+        for (int i = 0; i < queryParts.size() - 1; i++) {
+            final Object child = current.get(queryParts.get(i));
+            if (!(child instanceof Map)) {
+                return false;
+            }
+            current = (Map<String, Object>) child;
         }
-        return subViewOptional.get().contains(path.popFirst());
+        return current.containsKey(queryParts.get(queryParts.size() - 1));
     }
 
     @Override
@@ -174,6 +491,7 @@ public boolean contains(DataQuery path, DataQuery... paths) {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Optional<Object> get(DataQuery path) {
         checkNotNull(path, "path");
         List<String> queryParts = path.getParts();
@@ -184,42 +502,50 @@ public Optional<Object> get(DataQuery path) {
             return Optional.<Object>of(this);
         }
 
-        String key = queryParts.get(0);
-        if (sz == 1) {
-            final Object object = this.map.get(key);
-            if (object == null) {
+        Map<String, Object> current = backingMap();
+        for (int i = 0; i < sz - 1; i++) {
+            final Object child = current.get(queryParts.get(i));
+            if (!(child instanceof Map)) {
                 return Optional.empty();
             }
-            if(this.safety == SafetyMode.ALL_DATA_CLONED) {
-                if (object.getClass().isArray()) {
-                    if (object instanceof byte[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
-                    } else if (object instanceof short[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((short[]) object));
-                    } else if (object instanceof int[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((int[]) object));
-                    } else if (object instanceof long[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((long[]) object));
-                    } else if (object instanceof float[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((float[]) object));
-                    } else if (object instanceof double[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((double[]) object));
-                    } else if (object instanceof boolean[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
-                    } else {
-                        return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
-                    }
-                }
-            }
-            return Optional.of(object);
+            current = (Map<String, Object>) child;
         }
-        Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        if (!subViewOptional.isPresent()) {
+        Object object = current.get(queryParts.get(sz - 1));
+        if (object == null) {
             return Optional.empty();
         }
-        DataView subView = subViewOptional.get();
-        return subView.get(path.popFirst());
-
+        if (object instanceof Map) {
+            // Nested views are stored as their backing map, hand out a view on it
+            MemoryDataView view = this;
+            Map<String, Object> viewMap = backingMap();
+            for (String part : queryParts) {
+                viewMap = (Map<String, Object>) viewMap.get(part);
+                view = view.childView(part, viewMap);
+            }
+            return Optional.<Object>of(view);
+        }
+        if(this.safety == SafetyMode.ALL_DATA_CLONED) {
+            if (object.getClass().isArray()) {
+                if (object instanceof byte[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
+                } else if (object instanceof short[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((short[]) object));
+                } else if (object instanceof int[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((int[]) object));
+                } else if (object instanceof long[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((long[]) object));
+                } else if (object instanceof float[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((float[]) object));
+                } else if (object instanceof double[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((double[]) object));
+                } else if (object instanceof boolean[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
+                } else {
+                    return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
+                }
+            }
+        }
+        return Optional.of(object);
     }
 
     @Override
@@ -241,16 +567,7 @@ public DataView set(DataQuery path, Object value) {
         List<String> parts = path.getParts();
         String key = parts.get(0);
         if (parts.size() > 1) {
-            DataQuery subQuery = of(key);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            DataView subView;
-            if (!subViewOptional.isPresent()) {
-                this.createView(subQuery);
-                subView = (DataView) this.map.get(key);
-            } else {
-                subView = subViewOptional.get();
-            }
-            subView.set(path.popFirst(), value);
+            childView(key, mutableChildMap(mutableMap(), key)).set(path.popFirst(), value);
             return this;
         }
         if (value instanceof DataView) {
@@ -278,27 +595,27 @@ public DataView set(DataQuery path, Object value) {
         } else if (value.getClass().isArray()) {
             if (this.safety == SafetyMode.ALL_DATA_CLONED || this.safety == SafetyMode.CLONED_ON_SET) {
                 if (value instanceof byte[]) {
-                    this.map.put(key, ArrayUtils.clone((byte[]) value));
+                    mutableMap().put(key, ArrayUtils.clone((byte[]) value));
                 } else if (value instanceof short[]) {
-                    this.map.put(key, ArrayUtils.clone((short[]) value));
+                    mutableMap().put(key, ArrayUtils.clone((short[]) value));
                 } else if (value instanceof int[]) {
-                    this.map.put(key, ArrayUtils.clone((int[]) value));
+                    mutableMap().put(key, ArrayUtils.clone((int[]) value));
                 } else if (value instanceof long[]) {
-                    this.map.put(key, ArrayUtils.clone((long[]) value));
+                    mutableMap().put(key, ArrayUtils.clone((long[]) value));
                 } else if (value instanceof float[]) {
-                    this.map.put(key, ArrayUtils.clone((float[]) value));
+                    mutableMap().put(key, ArrayUtils.clone((float[]) value));
                 } else if (value instanceof double[]) {
-                    this.map.put(key, ArrayUtils.clone((double[]) value));
+                    mutableMap().put(key, ArrayUtils.clone((double[]) value));
                 } else if (value instanceof boolean[]) {
-                    this.map.put(key, ArrayUtils.clone((boolean[]) value));
+                    mutableMap().put(key, ArrayUtils.clone((boolean[]) value));
                 } else {
-                    this.map.put(key, ArrayUtils.clone((Object[]) value));
+                    mutableMap().put(key, ArrayUtils.clone((Object[]) value));
                 }
             } else {
-                this.map.put(key, value);
+                mutableMap().put(key, value);
             }
         } else {
-            this.map.put(key, value);
+            mutableMap().put(key, value);
         }
         return this;
     }
@@ -324,7 +641,7 @@ private void setCollection(String key, Collection<?> value) {
                 builder.add(((DataSerializable) object).toContainer());
             } else if (object instanceof DataView) {
                 if (this.safety == SafetyMode.ALL_DATA_CLONED || this.safety == SafetyMode.CLONED_ON_SET) {
-                    MemoryDataView view = new MemoryDataContainer(this.safety);
+                    MemoryDataView view = new MemoryDataContainer(this.safety, newMap());
                     DataView internalView = (DataView) object;
                     for (Map.Entry<DataQuery, Object> entry : internalView.getValues(false).entrySet()) {
                         view.set(entry.getKey(), entry.getValue());
@@ -356,7 +673,11 @@ private void setCollection(String key, Collection<?> value) {
 
             }
         }
-        this.map.put(key, builder.build());
+        final ImmutableList<Object> list = builder.build();
+        mutableMap().put(key, list);
+        if (holdsViews(list)) {
+            markLists();
+        }
     }
 
     @SuppressWarnings("rawtypes")
@@ -409,18 +730,16 @@ private void copyDataView(DataQuery path, DataView value) {
     @Override
     public DataView remove(DataQuery path) {
         checkNotNull(path, "path");
+        if (!contains(path)) {
+            // Avoid cloning shared maps for nothing
+            return this;
+        }
         List<String> parts = path.getParts();
         if (parts.size() > 1) {
             String subKey = parts.get(0);
-            DataQuery subQuery = of(subKey);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            if (!subViewOptional.isPresent()) {
-                return this;
-            }
-            DataView subView = subViewOptional.get();
-            subView.remove(path.popFirst());
+            childView(subKey, mutableChildMap(mutableMap(), subKey)).remove(path.popFirst());
         } else {
-            this.map.remove(parts.get(0));
+            mutableMap().remove(parts.get(0));
         }
         return this;
     }
@@ -435,20 +754,17 @@ public DataView createView(DataQuery path) {
         checkArgument(sz != 0, "The size of the query must be at least 1");
 
         String key = queryParts.get(0);
-        DataQuery keyQuery = of(key);
-        
+
         if (sz == 1) {
-            DataView result = new MemoryDataView(this, keyQuery, this.safety);
-            this.map.put(key, result);
-            return result;
-        }
-        DataQuery subQuery = path.popFirst();
-        DataView subView = (DataView) this.map.get(key);
-        if (subView == null) {
-            subView = new MemoryDataView(this.parent, keyQuery, this.safety);
-            this.map.put(key, subView);
+            final Map<String, Object> newMap = newOwnedMap();
+            mutableMap().put(key, newMap);
+            return childView(key, newMap);
         }
-        return subView.createView(subQuery);
+        return childView(key, mutableChildMap(mutableMap(), key)).createView(path.popFirst());
+    }
+
+    private MemoryDataView childView(String key, Map<String, Object> map) {
+        return new MemoryDataView(this, of(key), this.safety, map);
     }
 
     @Override
@@ -517,14 +833,6 @@ private Optional<DataView> getUnsafeView(DataQuery path) {
         return get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
     }
 
-    private Optional<DataView> getUnsafeView(String path) {
-        final Object object = this.map.get(path);
-        if(!(object instanceof DataView)) {
-            return Optional.empty();
-        }
-        return Optional.of((DataView) object);
-    }
-
 
     @Override
     public Optional<Boolean> getBoolean(DataQuery path) {
@@ -798,19 +1106,26 @@ public <T> Optional<List<T>> getObjectList(DataQuery path, Class<T> objectClass)
 
     @Override
     public DataContainer copy() {
-        final DataContainer container = new MemoryDataContainer(this.safety);
-        getKeys(false).stream()
-                .forEach(query ->
-                        get(query).ifPresent(obj ->
-                                container.set(query, obj)
-                        )
-                );
-        return container;
+        return copy(this.safety);
     }
 
     @Override
     public DataContainer copy(SafetyMode safety) {
-        final DataContainer container = new MemoryDataContainer(safety);
+        checkNotNull(safety, "safety");
+        // Arrays returned by views that are only cloned on set may be
+        // modified by the caller, so those copies can't share any data
+        if (this.root != null && safety == this.safety && safety != SafetyMode.CLONED_ON_SET) {
+            final Map<String, Object> current = backingMap();
+            // A lazily decoded map caches the views of its lists, so the copy
+            // needs a map of its own
+            final MemoryDataView container = new MemoryDataContainer(safety,
+                    current instanceof ChannelBufDataMap ? ((ChannelBufDataMap) current).copy() : current);
+            shareMaps();
+            container.shareMaps();
+            container.copyLists();
+            return (DataContainer) container;
+        }
+        final DataContainer container = new MemoryDataContainer(safety, newMap());
         getKeys(false).stream()
                 .forEach(query ->
                         get(query).ifPresent(obj ->
@@ -822,7 +1137,7 @@ public DataContainer copy(SafetyMode safety) {
 
     @Override
     public boolean isEmpty() {
-        return this.map.isEmpty();
+        return backingMap().isEmpty();
     }
 
     @Override
@@ -832,7 +1147,7 @@ public SafetyMode getSafetyMode() {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.map, this.path);
+        return Objects.hashCode(backingMap(), this.path);
     }
 
     @Override
@@ -845,7 +1160,7 @@ public boolean equals(@Nullable Object obj) {
         }
         final MemoryDataView other = (MemoryDataView) obj;
 
-        return Objects.equal(this.map.entrySet(), other.map.entrySet())
+        return Objects.equal(backingMap().entrySet(), other.backingMap().entrySet())
                && Objects.equal(this.path, other.path);
     }
 
@@ -856,6 +1171,197 @@ public String toString() {
             helper.add("path", this.path);
         }
         helper.add("safety", this.safety.name());
-        return helper.add("map", this.map).toString();
+        return helper.add("map", backingMap()).toString();
     }
+
+    /**
+     * The entries of a view as seen by subclasses, looking the backing map of
+     * the view up on every access and exposing nested backing maps as views.
+     */
+    private final class ViewMap extends AbstractMap<String, Object> {
+
+        @Nullable private Set<Entry<String, Object>> entrySet; //lazy loaded
+
+        @SuppressWarnings("unchecked")
+        private Object expose(String key, Object value) {
+            return value instanceof Map ? childView(key, (Map<String, Object>) value) : value;
+        }
+
+        @Override
+        public int size() {
+            return backingMap().size();
+        }
+
+        @Override
+        public boolean containsKey(@Nullable Object key) {
+            return backingMap().containsKey(key);
+        }
+
+        @Override
+        @Nullable
+        public Object get(@Nullable Object key) {
+            final Object value = backingMap().get(key);
+            return value == null ? null : expose((String) key, value);
+        }
+
+        @Override
+        @Nullable
+        public Object put(String key, Object value) {
+            checkNotNull(key, "key");
+            checkNotNull(value, "value");
+            final Object old = get(key);
+            if (value instanceof DataView) {
+                // Views are stored as a backing map of their own
+                checkArgument(value != MemoryDataView.this, "Cannot set a DataView to itself.");
+                createView(of(key));
+                copyDataView(of(key), (DataView) value);
+            } else {
+                mutableMap().put(key, value);
+                if (holdsViews(value)) {
+                    markLists();
+                }
+            }
+            return old;
+        }
+
+        @Override
+        @Nullable
+        public Object remove(@Nullable Object key) {
+            if (!backingMap().containsKey(key)) {
+                // Avoid cloning shared maps for nothing
+                return null;
+            }
+            final Object old = get(key);
+            mutableMap().remove(key);
+            return old;
+        }
+
+        @Override
+        public void clear() {
+            if (!backingMap().isEmpty()) {
+                mutableMap().clear();
+            }
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            if (this.entrySet == null) {
+                this.entrySet = new AbstractSet<Entry<String, Object>>() {
+
+                    @Override
+                    public Iterator<Entry<String, Object>> iterator() {
+                        return new ViewMapIterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return ViewMap.this.size();
+                    }
+                };
+            }
+            return this.entrySet;
+        }
+
+    }
+
+    private final class ViewMapIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private final Map<String, Object> iterated = backingMap();
+        private final Iterator<Map.Entry<String, Object>> iterator = this.iterated.entrySet().iterator();
+        @Nullable private String last;
+
+        @Override
+        public boolean hasNext() {
+            return this.iterator.hasNext();
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            final Map.Entry<String, Object> entry = this.iterator.next();
+            this.last = entry.getKey();
+            return new AbstractMap.SimpleImmutableEntry<>(this.last, MemoryDataView.this.map.get(this.last));
+        }
+
+        @Override
+        public void remove() {
+            checkState(this.last != null);
+            if (this.iterated == backingMap() && isOwned(this.iterated)) {
+                this.iterator.remove();
+            } else {
+                // The iterated map is shared and is replaced by a clone
+                MemoryDataView.this.map.remove(this.last);
+            }
+            this.last = null;
+        }
+
+    }
+
+    /**
+     * A backing map that is marked with the generation of the tree that may
+     * modify it in place.
+     */
+    interface OwnedMap {
+
+        /**
+         * Gets the generation token of the tree that may modify this map.
+         *
+         * @return The generation token
+         */
+        @Nullable Object getOwner();
+
+        /**
+         * Sets the generation token of the tree that may modify this map.
+         *
+         * @param owner The generation token
+         */
+        void setOwner(@Nullable Object owner);
+
+        /**
+         * Gets whether a list of views may have been stored in this map or
+         * one of its nested maps. Once set, this is never cleared.
+         *
+         * @return Whether this map may hold lists of views
+         */
+        boolean hasLists();
+
+        /**
+         * Marks this map as possibly holding lists of views.
+         */
+        void setHasLists();
+
+    }
+
+    /**
+     * The default backing map, keeping entries in insertion order.
+     */
+    static final class LinkedDataMap extends LinkedHashMap<String, Object> implements OwnedMap {
+
+        private static final long serialVersionUID = 1L;
+
+        @Nullable private transient Object owner;
+        private transient boolean hasLists;
+
+        @Override
+        @Nullable
+        public Object getOwner() {
+            return this.owner;
+        }
+
+        @Override
+        public void setOwner(@Nullable Object owner) {
+            this.owner = owner;
+        }
+
+        @Override
+        public boolean hasLists() {
+            return this.hasLists;
+        }
+
+        @Override
+        public void setHasLists() {
+            this.hasLists = true;
+        }
+
+    }
+
 }
@@ -66,4 +66,22 @@
      */
     DataQuery getQuery();
 
+    /**
+     * Gets the ordinal of this {@link Key}.
+     *
+     * <p>Every {@link Key} created by the {@link KeyFactory} is given a
+     * distinct ordinal, counting up from {@code 0} in creation order, which
+     * allows values to be stored in arrays indexed by their key, such as a
+     * {@link KeyTable}. Ordinals are only valid for the current runtime and
+     * should never be persisted.</p>
+     *
+     * <p>Keys that were not created by the {@link KeyFactory} have no
+     * ordinal and return {@code -1}.</p>
+     *
+     * @return The ordinal, or {@code -1} if this key has none
+     */
+    default int getOrdinal() {
+        return -1;
+    }
+
 }
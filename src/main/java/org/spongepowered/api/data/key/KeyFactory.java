@@ -41,6 +41,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
 
@@ -52,8 +53,20 @@
 @SuppressWarnings({"unchecked", "rawtypes"})
 public final class KeyFactory {
 
+    private static final AtomicInteger nextOrdinal = new AtomicInteger();
+
     private KeyFactory() {}
 
+    /**
+     * Gets the number of {@link Key}s created so far, which is one greater
+     * than the highest {@link Key#getOrdinal() ordinal} handed out.
+     *
+     * @return The number of keys
+     */
+    public static int getKeyCount() {
+        return nextOrdinal.get();
+    }
+
     /**
      * Creates a new {@link Key} with the provided <code>E</code> element
      * class and <code>V</code> {@link Value} class along with the provided
@@ -89,6 +102,7 @@ public String getName() {
             }
 
             private final int hash = Objects.hashCode(elementToken, valueToken, query);
+            private final int ordinal = nextOrdinal.getAndIncrement();
 
             @SuppressWarnings("rawtypes")
             @Override
@@ -106,6 +120,11 @@ public DataQuery getQuery() {
                 return query;
             }
 
+            @Override
+            public int getOrdinal() {
+                return this.ordinal;
+            }
+
             @Override
             public int hashCode() {
                 return this.hash;
@@ -150,6 +169,7 @@ public String getName() {
             }
 
             private final int hash = Objects.hashCode(ListValue.class, elementToken, query);
+            private final int ordinal = nextOrdinal.getAndIncrement();
 
             @SuppressWarnings("rawtypes")
             @Override
@@ -167,6 +187,11 @@ public DataQuery getQuery() {
                 return query;
             }
 
+            @Override
+            public int getOrdinal() {
+                return this.ordinal;
+            }
+
             @Override
             public int hashCode() {
                 return this.hash;
@@ -209,6 +234,7 @@ public String getName() {
             }
 
             private final int hash = Objects.hashCode(ListValue.class, elementToken, query);
+            private final int ordinal = nextOrdinal.getAndIncrement();
 
             @SuppressWarnings("rawtypes")
             @Override
@@ -226,6 +252,11 @@ public DataQuery getQuery() {
                 return query;
             }
 
+            @Override
+            public int getOrdinal() {
+                return this.ordinal;
+            }
+
             @Override
             public int hashCode() {
                 return this.hash;
@@ -270,6 +301,7 @@ public String getName() {
             }
 
             private final int hash = Objects.hashCode(elementToken, valueToken, query);
+            private final int ordinal = nextOrdinal.getAndIncrement();
 
             @SuppressWarnings("rawtypes")
             @Override
@@ -288,6 +320,11 @@ public DataQuery getQuery() {
                 return query;
             }
 
+            @Override
+            public int getOrdinal() {
+                return this.ordinal;
+            }
+
             @Override
             public int hashCode() {
                 return this.hash;
@@ -333,6 +370,7 @@ public String getName() {
             }
 
             private final int hash = Objects.hashCode(Optional.class, elementToken, query);
+            private final int ordinal = nextOrdinal.getAndIncrement();
 
             @Override
             public TypeToken<OptionalValue<E>> getValueToken() {
@@ -349,6 +387,11 @@ public DataQuery getQuery() {
                 return query;
             }
 
+            @Override
+            public int getOrdinal() {
+                return this.ordinal;
+            }
+
             @Override
             public int hashCode() {
                 return this.hash;
@@ -395,6 +438,11 @@ public TypeToken<?> getElementToken() {
             public DataQuery getQuery() {
                 throw new UnsupportedOperationException("Key " + keyName + " is not implemented");
             }
+
+            @Override
+            public int getOrdinal() {
+                throw new UnsupportedOperationException("Key " + keyName + " is not implemented");
+            }
         };
     }
 
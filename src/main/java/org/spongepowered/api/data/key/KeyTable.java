@@ -0,0 +1,256 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.key;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.data.value.BaseValue;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A table of values indexed by the {@link Key#getOrdinal() ordinal} of their
+ * {@link Key}, allowing values of a data holder to be looked up with a single
+ * array read instead of a map lookup or a scan over its manipulators.
+ *
+ * <p>The arrays of a table only grow to the highest ordinal stored in it,
+ * so its memory cost is proportional to that ordinal rather than to the
+ * number of values. Tables holding only a few keys with high ordinals still
+ * pay for every lower ordinal. Keys without an ordinal are kept in a map
+ * instead.</p>
+ *
+ * <p>This table is not thread safe.</p>
+ */
+public final class KeyTable {
+
+    private static final Key<?>[] EMPTY_KEYS = new Key<?>[0];
+    private static final Object[] EMPTY_VALUES = new Object[0];
+
+    private Key<?>[] keys = EMPTY_KEYS;
+    private Object[] values = EMPTY_VALUES;
+    @Nullable private Map<Key<?>, Object> unordered; //lazy loaded
+    private int size;
+
+    /**
+     * Gets the value stored for the given {@link Key}.
+     *
+     * @param key The key
+     * @param <E> The type of value
+     * @return The value, or null if not present
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <E> E get(Key<? extends BaseValue<E>> key) {
+        final int ordinal = key.getOrdinal();
+        if (ordinal < 0) {
+            return this.unordered == null ? null : (E) this.unordered.get(key);
+        }
+        return ordinal < this.values.length ? (E) this.values[ordinal] : null;
+    }
+
+    /**
+     * Gets the value stored for the given {@link Key}, if present.
+     *
+     * @param key The key
+     * @param <E> The type of value
+     * @return The value, if present
+     */
+    public <E> Optional<E> getOptional(Key<? extends BaseValue<E>> key) {
+        return Optional.ofNullable(get(key));
+    }
+
+    /**
+     * Checks whether a value is stored for the given {@link Key}.
+     *
+     * @param key The key
+     * @return True if a value is present
+     */
+    public boolean contains(Key<?> key) {
+        final int ordinal = key.getOrdinal();
+        if (ordinal < 0) {
+            return this.unordered != null && this.unordered.containsKey(key);
+        }
+        return ordinal < this.values.length && this.values[ordinal] != null;
+    }
+
+    /**
+     * Stores the value for the given {@link Key}, replacing any previous
+     * value.
+     *
+     * @param key The key
+     * @param value The value
+     * @param <E> The type of value
+     * @return The previous value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <E> E put(Key<? extends BaseValue<E>> key, E value) {
+        checkNotNull(value, "value");
+        final int ordinal = key.getOrdinal();
+        if (ordinal < 0) {
+            if (this.unordered == null) {
+                this.unordered = Maps.newLinkedHashMap();
+            }
+            final Object previous = this.unordered.put(key, value);
+            if (previous == null) {
+                this.size++;
+            }
+            return (E) previous;
+        }
+        if (ordinal >= this.values.length) {
+            // Grow geometrically, but never beyond the keys that exist
+            final int length = Math.max(ordinal + 1, Math.min(this.values.length * 2, KeyFactory.getKeyCount()));
+            this.keys = Arrays.copyOf(this.keys, length);
+            this.values = Arrays.copyOf(this.values, length);
+        }
+        final Object previous = this.values[ordinal];
+        if (previous == null) {
+            this.keys[ordinal] = key;
+            this.size++;
+        }
+        this.values[ordinal] = value;
+        return (E) previous;
+    }
+
+    /**
+     * Removes the value stored for the given {@link Key}.
+     *
+     * @param key The key
+     * @param <E> The type of value
+     * @return The removed value, or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <E> E remove(Key<? extends BaseValue<E>> key) {
+        final int ordinal = key.getOrdinal();
+        if (ordinal < 0) {
+            final Object previous = this.unordered == null ? null : this.unordered.remove(key);
+            if (previous != null) {
+                this.size--;
+            }
+            return (E) previous;
+        }
+        if (ordinal >= this.values.length) {
+            return null;
+        }
+        final Object previous = this.values[ordinal];
+        if (previous != null) {
+            this.keys[ordinal] = null;
+            this.values[ordinal] = null;
+            this.size--;
+        }
+        return (E) previous;
+    }
+
+    /**
+     * Removes all values from this table.
+     */
+    public void clear() {
+        Arrays.fill(this.keys, null);
+        Arrays.fill(this.values, null);
+        this.unordered = null;
+        this.size = 0;
+    }
+
+    /**
+     * Gets the number of values stored in this table.
+     *
+     * @return The number of values
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets whether this table is empty.
+     *
+     * @return True if no values are stored
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets the {@link Key}s that currently have a value, ordered by their
+     * ordinal, followed by the keys without an ordinal.
+     *
+     * @return The keys
+     */
+    public Set<Key<?>> getKeys() {
+        final ImmutableSet.Builder<Key<?>> builder = ImmutableSet.builder();
+        for (Key<?> key : this.keys) {
+            if (key != null) {
+                builder.add(key);
+            }
+        }
+        if (this.unordered != null) {
+            builder.addAll(this.unordered.keySet());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates a copy of this table. The values themselves are not copied.
+     *
+     * @return The copy
+     */
+    public KeyTable copy() {
+        final KeyTable copy = new KeyTable();
+        if (this.values.length > 0) {
+            copy.keys = this.keys.clone();
+            copy.values = this.values.clone();
+        }
+        if (this.unordered != null) {
+            copy.unordered = Maps.newLinkedHashMap(this.unordered);
+        }
+        copy.size = this.size;
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        final Objects.ToStringHelper helper = Objects.toStringHelper(this);
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                helper.add(this.keys[i].getId(), this.values[i]);
+            }
+        }
+        if (this.unordered != null) {
+            for (Map.Entry<Key<?>, Object> entry : this.unordered.entrySet()) {
+                helper.add(entry.getKey().getId(), entry.getValue());
+            }
+        }
+        return helper.toString();
+    }
+
+}
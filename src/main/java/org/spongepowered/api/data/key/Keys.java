@@ -40,7 +40,7 @@
 import org.spongepowered.api.data.manipulator.mutable.tileentity.StructureData;
 import org.spongepowered.api.data.meta.ItemEnchantment;
 import org.spongepowered.api.data.type.*;
-import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.*;
 import org.spongepowered.api.effect.potion.PotionEffect;
 import org.spongepowered.api.effect.potion.PotionEffectType;
@@ -98,11 +98,11 @@ public final class Keys {
      */
     public static final Key<Value<Boolean>> AFFECTS_SPAWNING = KeyFactory.fake("AFFECTS_SPAWNING");
 
-    public static final Key<MutableBoundedValue<Integer>> AGE = KeyFactory.fake("AGE");
+    public static final Key<MutableBoundedIntValue> AGE = KeyFactory.fake("AGE");
 
     public static final Key<Value<Boolean>> AI_ENABLED = KeyFactory.fake("AI_ENABLED");
 
-    public static final Key<MutableBoundedValue<Integer>> ANGER = KeyFactory.fake("ANGER");
+    public static final Key<MutableBoundedIntValue> ANGER = KeyFactory.fake("ANGER");
 
     public static final Key<Value<Boolean>> ANGRY = KeyFactory.fake("ANGRY");
 
@@ -124,7 +124,7 @@ public final class Keys {
      */
     public static final Key<Value<Boolean>> ATTACHED = KeyFactory.fake("ATTACHED");
 
-    public static final Key<MutableBoundedValue<Double>> ATTACK_DAMAGE = KeyFactory.fake("ATTACK_DAMAGE");
+    public static final Key<MutableBoundedDoubleValue> ATTACK_DAMAGE = KeyFactory.fake("ATTACK_DAMAGE");
 
     /**
      * Represents the {@link Key} for representing the {@link Axis} direction
@@ -244,11 +244,11 @@ public final class Keys {
      */
     public static final Key<Value<Boolean>> CONNECTED_WEST = KeyFactory.fake("CONNECTED_WEST");
 
-    public static final Key<MutableBoundedValue<Integer>> CONTAINED_EXPERIENCE = KeyFactory.fake("CONTAINED_EXPERIENCE");
+    public static final Key<MutableBoundedIntValue> CONTAINED_EXPERIENCE = KeyFactory.fake("CONTAINED_EXPERIENCE");
 
     public static final Key<Value<CookedFish>> COOKED_FISH = KeyFactory.fake("COOKED_FISH");
 
-    public static final Key<MutableBoundedValue<Integer>> COOLDOWN = KeyFactory.fake("COOLDOWN");
+    public static final Key<MutableBoundedIntValue> COOLDOWN = KeyFactory.fake("COOLDOWN");
 
     public static final Key<Value<Boolean>> CREEPER_CHARGED = KeyFactory.fake("CREEPER_CHARGED");
 
@@ -272,7 +272,7 @@ public final class Keys {
      */
     public static final Key<Value<Boolean>> DECAYABLE = KeyFactory.fake("DECAYABLE");
 
-    public static final Key<MutableBoundedValue<Integer>> DELAY = KeyFactory.fake("DELAY");
+    public static final Key<MutableBoundedIntValue> DELAY = KeyFactory.fake("DELAY");
 
     /**
      * Represents the {@link Key} for representing the despawn delay
@@ -280,7 +280,7 @@ public final class Keys {
      *
      * @see DespawnDelayData#delay()
      */
-    public static final Key<MutableBoundedValue<Integer>> DESPAWN_DELAY = KeyFactory.fake("DESPAWN_DELAY");
+    public static final Key<MutableBoundedIntValue> DESPAWN_DELAY = KeyFactory.fake("DESPAWN_DELAY");
 
     /**
      * Represents the {@link Key} for representing the {@link Direction}
@@ -360,7 +360,7 @@ public final class Keys {
      */
     public static final Key<Value<Boolean>> EXACT_TELEPORT = KeyFactory.fake("EXACT_TELEPORT");
 
-    public static final Key<MutableBoundedValue<Double>> EXHAUSTION = KeyFactory.fake("EXHAUSTION");
+    public static final Key<MutableBoundedDoubleValue> EXHAUSTION = KeyFactory.fake("EXHAUSTION");
 
     /**
      * Represents the {@link Key} for representing the exit
@@ -370,13 +370,13 @@ public final class Keys {
      */
     public static final Key<Value<Vector3i>> EXIT_POSITION = KeyFactory.fake("EXIT_PORTAL");
 
-    public static final Key<ImmutableBoundedValue<Integer>> EXPERIENCE_FROM_START_OF_LEVEL = KeyFactory.fake("EXPERIENCE_FROM_START_OF_LEVEL");
+    public static final Key<ImmutableBoundedIntValue> EXPERIENCE_FROM_START_OF_LEVEL = KeyFactory.fake("EXPERIENCE_FROM_START_OF_LEVEL");
 
-    public static final Key<MutableBoundedValue<Integer>> EXPERIENCE_LEVEL = KeyFactory.fake("EXPERIENCE_LEVEL");
+    public static final Key<MutableBoundedIntValue> EXPERIENCE_LEVEL = KeyFactory.fake("EXPERIENCE_LEVEL");
 
-    public static final Key<MutableBoundedValue<Integer>> EXPERIENCE_SINCE_LEVEL = KeyFactory.fake("EXPERIENCE_SINCE_LEVEL");
+    public static final Key<MutableBoundedIntValue> EXPERIENCE_SINCE_LEVEL = KeyFactory.fake("EXPERIENCE_SINCE_LEVEL");
 
-    public static final Key<MutableBoundedValue<Integer>> EXPIRATION_TICKS = KeyFactory.fake("EXPIRATION_TICKS");
+    public static final Key<MutableBoundedIntValue> EXPIRATION_TICKS = KeyFactory.fake("EXPIRATION_TICKS");
 
     public static final Key<OptionalValue<Integer>> EXPLOSION_RADIUS = KeyFactory.fake("EXPLOSION_RADIUS");
 
@@ -392,7 +392,7 @@ public final class Keys {
 
     public static final Key<Value<BlockState>> FALLING_BLOCK_STATE = KeyFactory.fake("FALLING_BLOCK_STATE");
 
-    public static final Key<MutableBoundedValue<Double>> FALL_DAMAGE_PER_BLOCK = KeyFactory.fake("FALL_DAMAGE_PER_BLOCK");
+    public static final Key<MutableBoundedDoubleValue> FALL_DAMAGE_PER_BLOCK = KeyFactory.fake("FALL_DAMAGE_PER_BLOCK");
 
     /**
      * Represents the {@link Key} for representing the distance an entity has
@@ -414,11 +414,11 @@ public final class Keys {
 
     public static final Key<ListValue<FireworkEffect>> FIREWORK_EFFECTS = KeyFactory.fake("FIREWORK_EFFECTS");
 
-    public static final Key<MutableBoundedValue<Integer>> FIREWORK_FLIGHT_MODIFIER = KeyFactory.fake("FIREWORK_FLIGHT_MODIFIER");
+    public static final Key<MutableBoundedIntValue> FIREWORK_FLIGHT_MODIFIER = KeyFactory.fake("FIREWORK_FLIGHT_MODIFIER");
 
-    public static final Key<MutableBoundedValue<Integer>> FIRE_DAMAGE_DELAY = KeyFactory.fake("FIRE_DAMAGE_DELAY");
+    public static final Key<MutableBoundedIntValue> FIRE_DAMAGE_DELAY = KeyFactory.fake("FIRE_DAMAGE_DELAY");
 
-    public static final Key<MutableBoundedValue<Integer>> FIRE_TICKS = KeyFactory.fake("FIRE_TICKS");
+    public static final Key<MutableBoundedIntValue> FIRE_TICKS = KeyFactory.fake("FIRE_TICKS");
 
     public static final Key<Value<Instant>> FIRST_DATE_PLAYED = KeyFactory.fake("FIRST_DATE_PLAYED");
 
@@ -437,7 +437,7 @@ public final class Keys {
      *
      * @see FluidLevelData#level()
      */
-    public static final Key<MutableBoundedValue<Integer>> FLUID_LEVEL = KeyFactory.fake("FLUID_LEVEL");
+    public static final Key<MutableBoundedIntValue> FLUID_LEVEL = KeyFactory.fake("FLUID_LEVEL");
 
     /**
      * Represents the {@link Key} for representing the directional tank
@@ -447,13 +447,13 @@ public final class Keys {
 
     public static final Key<Value<Double>> FLYING_SPEED = KeyFactory.fake("FLYING_SPEED");
 
-    public static final Key<MutableBoundedValue<Integer>> FOOD_LEVEL = KeyFactory.fake("FOOD_LEVEL");
+    public static final Key<MutableBoundedIntValue> FOOD_LEVEL = KeyFactory.fake("FOOD_LEVEL");
 
     public static final Key<Value<Integer>> FUSE_DURATION = KeyFactory.fake("FUSE_DURATION");
 
     public static final Key<Value<GameMode>> GAME_MODE = KeyFactory.fake("GAME_MODE");
 
-    public static final Key<MutableBoundedValue<Integer>> GENERATION = KeyFactory.fake("GENERATION");
+    public static final Key<MutableBoundedIntValue> GENERATION = KeyFactory.fake("GENERATION");
 
     /**
      * Represents the {@link Key} for representing whether an entity has a
@@ -471,19 +471,19 @@ public final class Keys {
      *
      * @see GrowthData#growthStage()
      */
-    public static final Key<MutableBoundedValue<Integer>> GROWTH_STAGE = KeyFactory.fake("GROWTH_STAGE");
+    public static final Key<MutableBoundedIntValue> GROWTH_STAGE = KeyFactory.fake("GROWTH_STAGE");
 
     public static final Key<Value<Boolean>> HAS_GRAVITY = KeyFactory.fake("HAS_GRAVITY");
 
     public static final Key<Value<Vector3d>> HEAD_ROTATION = KeyFactory.fake("HEAD_ROTATION");
 
-    public static final Key<MutableBoundedValue<Double>> HEALTH = KeyFactory.fake("HEALTH");
+    public static final Key<MutableBoundedDoubleValue> HEALTH = KeyFactory.fake("HEALTH");
 
-    public static final Key<MutableBoundedValue<Double>> HEALTH_SCALE = KeyFactory.fake("HEALTH_SCALE");
+    public static final Key<MutableBoundedDoubleValue> HEALTH_SCALE = KeyFactory.fake("HEALTH_SCALE");
 
     public static final Key<MutableBoundedValue<Float>> HEIGHT = KeyFactory.fake("HEIGHT");
 
-    public static final Key<MutableBoundedValue<Integer>> HELD_EXPERIENCE = KeyFactory.fake("HELD_EXPERIENCE");
+    public static final Key<MutableBoundedIntValue> HELD_EXPERIENCE = KeyFactory.fake("HELD_EXPERIENCE");
 
     /**
      * Represents the {@link Key} for representing the "attributes hidden"
@@ -578,7 +578,7 @@ public final class Keys {
      */
     public static final Key<Value<Boolean>> INVISIBLE = KeyFactory.fake("INVISIBLE");
 
-    public static final Key<MutableBoundedValue<Integer>> INVULNERABILITY_TICKS = KeyFactory.fake("INVULNERABILITY_TICKS");
+    public static final Key<MutableBoundedIntValue> INVULNERABILITY_TICKS = KeyFactory.fake("INVULNERABILITY_TICKS");
 
     /**
      * Represents the {@link Key} for representing the "in-wall" state of
@@ -612,7 +612,7 @@ public final class Keys {
 
     public static final Key<Value<BlockState>> ITEM_BLOCKSTATE = KeyFactory.fake("ITEM_BLOCKSTATE");
 
-    public static final Key<MutableBoundedValue<Integer>> ITEM_DURABILITY = KeyFactory.fake("ITEM_DURABILITY");
+    public static final Key<MutableBoundedIntValue> ITEM_DURABILITY = KeyFactory.fake("ITEM_DURABILITY");
 
     public static final Key<ListValue<ItemEnchantment>> ITEM_ENCHANTMENTS = KeyFactory.fake("ITEM_ENCHANTMENTS");
 
@@ -620,7 +620,7 @@ public final class Keys {
 
     public static final Key<Value<Boolean>> JOHNNY_VINDICATOR = KeyFactory.fake("JOHNNY_VINDICATOR");
 
-    public static final Key<MutableBoundedValue<Integer>> KNOCKBACK_STRENGTH = KeyFactory.fake("KNOCKBACK_STRENGTH");
+    public static final Key<MutableBoundedIntValue> KNOCKBACK_STRENGTH = KeyFactory.fake("KNOCKBACK_STRENGTH");
 
     public static final Key<OptionalValue<Living>> LAST_ATTACKER = KeyFactory.fake("LAST_ATTACKER");
 
@@ -636,7 +636,7 @@ public final class Keys {
      *
      * @see LayeredData#layer()
      */
-    public static final Key<MutableBoundedValue<Integer>> LAYER = KeyFactory.fake("LAYER");
+    public static final Key<MutableBoundedIntValue> LAYER = KeyFactory.fake("LAYER");
 
     public static final Key<Value<EntitySnapshot>> LEASH_HOLDER = KeyFactory.fake("LEASH_HOLDER");
 
@@ -648,7 +648,7 @@ public final class Keys {
      * Represents the {@link Key} for a {@link Llama}s carrying strength. The higher the strength,
      * the more items it can carry (effectively the size of inventory).
      */
-    public static final Key<MutableBoundedValue<Integer>> LLAMA_STRENGTH = KeyFactory.fake("LLAMA_STRENGTH");
+    public static final Key<MutableBoundedIntValue> LLAMA_STRENGTH = KeyFactory.fake("LLAMA_STRENGTH");
 
     /**
      * Represents the {@link Key} for a {@link Llama}'s {@link LlamaVariant}.
@@ -659,15 +659,15 @@ public final class Keys {
 
     public static final Key<Value<LogAxis>> LOG_AXIS = KeyFactory.fake("LOG_AXIS");
 
-    public static final Key<MutableBoundedValue<Integer>> MAX_AIR = KeyFactory.fake("MAX_AIR");
+    public static final Key<MutableBoundedIntValue> MAX_AIR = KeyFactory.fake("MAX_AIR");
 
-    public static final Key<MutableBoundedValue<Integer>> MAX_BURN_TIME = KeyFactory.fake("MAX_BURN_TIME");
+    public static final Key<MutableBoundedIntValue> MAX_BURN_TIME = KeyFactory.fake("MAX_BURN_TIME");
 
-    public static final Key<MutableBoundedValue<Integer>> MAX_COOK_TIME = KeyFactory.fake("MAX_COOK_TIME");
+    public static final Key<MutableBoundedIntValue> MAX_COOK_TIME = KeyFactory.fake("MAX_COOK_TIME");
 
-    public static final Key<MutableBoundedValue<Double>> MAX_FALL_DAMAGE = KeyFactory.fake("MAX_FALL_DAMAGE");
+    public static final Key<MutableBoundedDoubleValue> MAX_FALL_DAMAGE = KeyFactory.fake("MAX_FALL_DAMAGE");
 
-    public static final Key<MutableBoundedValue<Double>> MAX_HEALTH = KeyFactory.fake("MAX_HEALTH");
+    public static final Key<MutableBoundedDoubleValue> MAX_HEALTH = KeyFactory.fake("MAX_HEALTH");
 
     /**
      * Represents the {@link Key} for representing the "moisture" state of
@@ -675,7 +675,7 @@ public final class Keys {
      *
      * @see MoistureData#moisture()
      */
-    public static final Key<MutableBoundedValue<Integer>> MOISTURE = KeyFactory.fake("MOISTURE");
+    public static final Key<MutableBoundedIntValue> MOISTURE = KeyFactory.fake("MOISTURE");
 
     public static final Key<Value<NotePitch>> NOTE_PITCH = KeyFactory.fake("NOTE_PITCH");
 
@@ -705,9 +705,9 @@ public final class Keys {
      */
     public static final Key<Value<Boolean>> OPEN = KeyFactory.fake("OPEN");
 
-    public static final Key<MutableBoundedValue<Integer>> PASSED_BURN_TIME = KeyFactory.fake("PASSED_BURN_TIME");
+    public static final Key<MutableBoundedIntValue> PASSED_BURN_TIME = KeyFactory.fake("PASSED_BURN_TIME");
 
-    public static final Key<MutableBoundedValue<Integer>> PASSED_COOK_TIME = KeyFactory.fake("PASSED_COOK_TIME");
+    public static final Key<MutableBoundedIntValue> PASSED_COOK_TIME = KeyFactory.fake("PASSED_COOK_TIME");
 
     public static final Key<ListValue<UUID>> PASSENGERS = KeyFactory.fake("PASSENGERS");
 
@@ -719,7 +719,7 @@ public final class Keys {
      *
      * @see PickupDelayData#delay()
      */
-    public static final Key<MutableBoundedValue<Integer>> PICKUP_DELAY = KeyFactory.fake("PICKUP_DELAY");
+    public static final Key<MutableBoundedIntValue> PICKUP_DELAY = KeyFactory.fake("PICKUP_DELAY");
 
     /**
      * Represents the {@link Key} for the "pickup rule" of an {@link Arrow}.
@@ -766,7 +766,7 @@ public final class Keys {
      *
      * @see RedstonePoweredData#power()
      */
-    public static final Key<MutableBoundedValue<Integer>> POWER = KeyFactory.fake("POWER");
+    public static final Key<MutableBoundedIntValue> POWER = KeyFactory.fake("POWER");
 
     /**
      * Represents the {@link Key} for representing the "powered" state
@@ -802,9 +802,9 @@ public final class Keys {
      */
     public static final Key<Value<RailDirection>> RAIL_DIRECTION = KeyFactory.fake("RAIL_DIRECTION");
 
-    public static final Key<MutableBoundedValue<Integer>> REMAINING_AIR = KeyFactory.fake("REMAINING_AIR");
+    public static final Key<MutableBoundedIntValue> REMAINING_AIR = KeyFactory.fake("REMAINING_AIR");
 
-    public static final Key<MutableBoundedValue<Integer>> REMAINING_BREW_TIME = KeyFactory.fake("REMAINING_BREW_TIME");
+    public static final Key<MutableBoundedIntValue> REMAINING_BREW_TIME = KeyFactory.fake("REMAINING_BREW_TIME");
 
     /**
      * Represents the {@link Key} for representing the {@link BlockState}
@@ -846,7 +846,7 @@ public final class Keys {
      */
     public static final Key<Value<SandType>> SAND_TYPE = KeyFactory.fake("SAND_TYPE");
 
-    public static final Key<MutableBoundedValue<Double>> SATURATION = KeyFactory.fake("SATURATION");
+    public static final Key<MutableBoundedDoubleValue> SATURATION = KeyFactory.fake("SATURATION");
 
     public static final Key<MutableBoundedValue<Float>> SCALE = KeyFactory.fake("SCALE");
 
@@ -897,7 +897,7 @@ public final class Keys {
      */
     public static final Key<Value<SlabType>> SLAB_TYPE = KeyFactory.fake("SLAB_TYPE");
 
-    public static final Key<MutableBoundedValue<Integer>> SLIME_SIZE = KeyFactory.fake("SLIME_SIZE");
+    public static final Key<MutableBoundedIntValue> SLIME_SIZE = KeyFactory.fake("SLIME_SIZE");
 
     /**
      * Represents the {@link Key} for representing the "snowed" state
@@ -1023,7 +1023,7 @@ public final class Keys {
      *
      * @see StuckArrowsData#stuckArrows()
      */
-    public static final Key<MutableBoundedValue<Integer>> STUCK_ARROWS = KeyFactory.fake("STUCK_ARROWS");
+    public static final Key<MutableBoundedIntValue> STUCK_ARROWS = KeyFactory.fake("STUCK_ARROWS");
 
     /**
      * Reprsents a key for the amount of successful executions of a command
@@ -1031,7 +1031,7 @@ public final class Keys {
      *
      * @see CommandData#successCount()
      */
-    public static final Key<MutableBoundedValue<Integer>> SUCCESS_COUNT = KeyFactory.fake("SUCCESS_COUNT");
+    public static final Key<MutableBoundedIntValue> SUCCESS_COUNT = KeyFactory.fake("SUCCESS_COUNT");
 
     /**
      * Represents the {@link Key} for representing the "suspended" state
@@ -1045,7 +1045,7 @@ public final class Keys {
 
     public static final Key<Value<Integer>> TICKS_REMAINING = KeyFactory.fake("TICKS_REMAINING");
 
-    public static final Key<MutableBoundedValue<Integer>> TOTAL_EXPERIENCE = KeyFactory.fake("TOTAL_EXPERIENCE");
+    public static final Key<MutableBoundedIntValue> TOTAL_EXPERIENCE = KeyFactory.fake("TOTAL_EXPERIENCE");
 
     public static final Key<Value<Boolean>> TRACKS_OUTPUT = KeyFactory.fake("TRACKS_OUTPUT");
 
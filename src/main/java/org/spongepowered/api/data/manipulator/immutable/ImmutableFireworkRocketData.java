@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.FireworkRocketData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.entity.projectile.Firework;
 import org.spongepowered.api.item.ItemTypes;
@@ -47,6 +48,6 @@ public interface ImmutableFireworkRocketData extends ImmutableDataManipulator<Im
      *
      * @return The flight modifier
      */
-    ImmutableBoundedValue<Integer> flightModifier();
+    ImmutableBoundedIntValue flightModifier();
 
 }
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.block.DelayableData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 
 /**
@@ -38,6 +39,6 @@ public interface ImmutableDelayableData extends ImmutableDataManipulator<Immutab
      *
      * @return The Immutable bounded value delay.
      */
-    ImmutableBoundedValue<Integer> delay();
+    ImmutableBoundedIntValue delay();
 
 }
@@ -27,6 +27,7 @@
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.block.FluidLevelData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 
 /**
@@ -43,6 +44,6 @@ public interface ImmutableFluidLevelData extends ImmutableDataManipulator<Immuta
      *
      * @return The immutable bounded value for the fluid level state
      */
-    ImmutableBoundedValue<Integer> level();
+    ImmutableBoundedIntValue level();
 
 }
@@ -27,6 +27,7 @@
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.block.GrowthData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 
 /**
@@ -42,6 +43,6 @@ public interface ImmutableGrowthData extends ImmutableDataManipulator<ImmutableG
      *
      * @return The immutable bounded value growth stage
      */
-    ImmutableBoundedValue<Integer> growthStage();
+    ImmutableBoundedIntValue growthStage();
 
 }
@@ -28,6 +28,7 @@
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.block.LayeredData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 
 /**
@@ -43,6 +44,6 @@ public interface ImmutableLayeredData extends ImmutableDataManipulator<Immutable
      *
      * @return The immutable bounded value for the "layer" state
      */
-    ImmutableBoundedValue<Integer> layer();
+    ImmutableBoundedIntValue layer();
 
 }
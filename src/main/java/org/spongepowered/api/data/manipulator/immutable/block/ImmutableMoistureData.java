@@ -28,6 +28,7 @@
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.block.MoistureData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 
 /**
@@ -42,6 +43,6 @@ public interface ImmutableMoistureData extends ImmutableDataManipulator<Immutabl
      *
      * @return The immutable bounded value for the "moisture" state
      */
-    ImmutableBoundedValue<Integer> moisture();
+    ImmutableBoundedIntValue moisture();
 
 }
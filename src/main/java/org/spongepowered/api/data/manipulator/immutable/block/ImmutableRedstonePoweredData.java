@@ -28,6 +28,7 @@
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.block.RedstonePoweredData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 
 /**
@@ -48,6 +49,6 @@ public interface ImmutableRedstonePoweredData extends ImmutableDataManipulator<I
      *
      * @return The immutable bounded value for "redstone power"
      */
-    ImmutableBoundedValue<Integer> power();
+    ImmutableBoundedIntValue power();
 
 }
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.entity.AgeableData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.entity.Entity;
@@ -41,7 +42,7 @@ public interface ImmutableAgeableData extends ImmutableDataManipulator<Immutable
      *
      * @return The immutable bounded value for the "age"
      */
-    ImmutableBoundedValue<Integer> age();
+    ImmutableBoundedIntValue age();
 
     /**
      * Gets the {@link ImmutableValue} for whether the {@link #age()} is
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.entity.AngerableData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.entity.Entity;
 
@@ -41,6 +42,6 @@ public interface ImmutableAngerableData extends ImmutableDataManipulator<Immutab
      *
      * @return The immutable bounded value for the anger level
      */
-    ImmutableBoundedValue<Integer> angerLevel();
+    ImmutableBoundedIntValue angerLevel();
 
 }
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.entity.BreathingData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.entity.Entity;
 
@@ -41,7 +42,7 @@ public interface ImmutableBreathingData extends ImmutableDataManipulator<Immutab
      *
      * @return The immutable value of remaining air
      */
-    ImmutableBoundedValue<Integer> remainingAir();
+    ImmutableBoundedIntValue remainingAir();
 
     /**
      * Gets the {@link ImmutableBoundedValue} for the maximum air capacity.
@@ -50,6 +51,6 @@ public interface ImmutableBreathingData extends ImmutableDataManipulator<Immutab
      *
      * @return The immutable bounded value of maximum air capacity
      */
-    ImmutableBoundedValue<Integer> maxAir();
+    ImmutableBoundedIntValue maxAir();
 
 }
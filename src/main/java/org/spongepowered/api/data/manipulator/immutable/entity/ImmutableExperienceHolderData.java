@@ -28,6 +28,7 @@
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.entity.ExperienceHolderData;
 import org.spongepowered.api.data.meta.ItemEnchantment;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.entity.living.Humanoid;
 import org.spongepowered.api.item.inventory.ItemStack;
@@ -49,7 +50,7 @@ public interface ImmutableExperienceHolderData extends ImmutableDataManipulator<
      * @return The bounded value of experience since the beginning of the
      *     current level
      */
-    ImmutableBoundedValue<Integer> experienceSinceLevel();
+    ImmutableBoundedIntValue experienceSinceLevel();
 
     /**
      * Gets the {@link ImmutableBoundedValue} for the amount of experience
@@ -59,7 +60,7 @@ public interface ImmutableExperienceHolderData extends ImmutableDataManipulator<
      *
      * @return The immutable bounded required experience between levels
      */
-    ImmutableBoundedValue<Integer> experienceBetweenLevels();
+    ImmutableBoundedIntValue experienceBetweenLevels();
 
     /**
      * Gets the {@link ImmutableBoundedValue} for the current "level" of
@@ -69,13 +70,13 @@ public interface ImmutableExperienceHolderData extends ImmutableDataManipulator<
      *
      * @return The current level according to the amount of total experience
      */
-    ImmutableBoundedValue<Integer> level();
+    ImmutableBoundedIntValue level();
 
     /**
      * Gets the total amount of experience stored.
      *
      * @return The immutable value of total amount of experience
      */
-    ImmutableBoundedValue<Integer> totalExperience();
+    ImmutableBoundedIntValue totalExperience();
 
 }
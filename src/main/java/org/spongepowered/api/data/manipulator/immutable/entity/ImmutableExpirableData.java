@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.entity.ExpirableData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.explosive.PrimedTNT;
@@ -44,6 +45,6 @@ public interface ImmutableExpirableData extends ImmutableDataManipulator<Immutab
      *
      * @return The immutable bounded value for the amount of ticks remaining
      */
-    ImmutableBoundedValue<Integer> expireTicks();
+    ImmutableBoundedIntValue expireTicks();
 
 }
@@ -26,6 +26,8 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.entity.FoodData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedDoubleValue;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.entity.living.Humanoid;
 
@@ -45,7 +47,7 @@ public interface ImmutableFoodData extends ImmutableDataManipulator<ImmutableFoo
      * @return The current food level
 
      */
-    ImmutableBoundedValue<Integer> foodLevel();
+    ImmutableBoundedIntValue foodLevel();
 
     /**
      * Gets the {@link ImmutableBoundedValue} for the "exhaustion" level.
@@ -57,7 +59,7 @@ public interface ImmutableFoodData extends ImmutableDataManipulator<ImmutableFoo
      *
      * @return The immutable bounded value of exhaustion
      */
-    ImmutableBoundedValue<Double> exhaustion();
+    ImmutableBoundedDoubleValue exhaustion();
 
     /**
      * Gets the {@link ImmutableBoundedValue} for the "exhaustion" level.
@@ -70,6 +72,6 @@ public interface ImmutableFoodData extends ImmutableDataManipulator<ImmutableFoo
      *
      * @return The immutable bounded value of saturation
      */
-    ImmutableBoundedValue<Double> saturation();
+    ImmutableBoundedDoubleValue saturation();
 
 }
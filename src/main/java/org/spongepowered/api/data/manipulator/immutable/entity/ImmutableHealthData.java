@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.entity.HealthData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedDoubleValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.Living;
@@ -49,7 +50,7 @@ public interface ImmutableHealthData extends ImmutableDataManipulator<ImmutableH
      *
      * @return Health value
      */
-    ImmutableBoundedValue<Double> health();
+    ImmutableBoundedDoubleValue health();
 
     /**
      * Gets an {@link ImmutableBoundedValue} for the maximum health.
@@ -60,6 +61,6 @@ public interface ImmutableHealthData extends ImmutableDataManipulator<ImmutableH
      *
      * @return This entities maximum health
      */
-    ImmutableBoundedValue<Double> maxHealth();
+    ImmutableBoundedDoubleValue maxHealth();
 
 }
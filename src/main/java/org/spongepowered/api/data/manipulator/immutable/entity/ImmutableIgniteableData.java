@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.entity.IgniteableData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.entity.Entity;
 
@@ -41,7 +42,7 @@ public interface ImmutableIgniteableData extends ImmutableDataManipulator<Immuta
      *
      * @return The immutable value of "fire ticks"
      */
-    ImmutableBoundedValue<Integer> fireTicks();
+    ImmutableBoundedIntValue fireTicks();
 
     /**
      * Gets the {@link ImmutableBoundedValue} for the remaining amount of
@@ -49,6 +50,6 @@ public interface ImmutableIgniteableData extends ImmutableDataManipulator<Immuta
      *
      * @return The immutable value
      */
-    ImmutableBoundedValue<Integer> fireDelay();
+    ImmutableBoundedIntValue fireDelay();
 
 }
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.entity.InvulnerabilityData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.entity.Entity;
 
@@ -43,6 +44,6 @@ public interface ImmutableInvulnerabilityData extends ImmutableDataManipulator<I
      *
      * @return The immutable value for the amount of ticks of invulnerability
      */
-    ImmutableBoundedValue<Integer> invulnerableTicks();
+    ImmutableBoundedIntValue invulnerableTicks();
 
 }
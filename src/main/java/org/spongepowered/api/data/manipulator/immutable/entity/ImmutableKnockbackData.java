@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.entity.KnockbackData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.projectile.arrow.Arrow;
@@ -43,6 +44,6 @@ public interface ImmutableKnockbackData extends ImmutableDataManipulator<Immutab
      *
      * @return The immutable value for the knockback strength
      */
-    ImmutableBoundedValue<Integer> knockbackStrength();
+    ImmutableBoundedIntValue knockbackStrength();
 
 }
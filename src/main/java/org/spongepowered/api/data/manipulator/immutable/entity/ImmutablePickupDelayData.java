@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.entity.PickupDelayData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.entity.Item;
@@ -41,7 +42,7 @@ public interface ImmutablePickupDelayData extends ImmutableDataManipulator<Immut
      *
      * @return The immutable bounded value for the "pickup delay"
      */
-    ImmutableBoundedValue<Integer> delay();
+    ImmutableBoundedIntValue delay();
 
     /**
      * Gets the {@link ImmutableValue} for the "is infinite" state of
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.entity.StuckArrowsData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.entity.living.Living;
 
@@ -40,6 +41,6 @@ public interface ImmutableStuckArrowsData extends ImmutableDataManipulator<Immut
      *
      * @return The immutable value of stuck arrows
      */
-    ImmutableBoundedValue<Integer> stuckArrows();
+    ImmutableBoundedIntValue stuckArrows();
 
 }
@@ -27,6 +27,7 @@
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.item.DurabilityData;
 import org.spongepowered.api.data.property.item.UseLimitProperty;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.item.inventory.ItemStack;
@@ -49,7 +50,7 @@ public interface ImmutableDurabilityData extends ImmutableDataManipulator<Immuta
      *
      * @return The immutable bounded value of durability remaining
      */
-    ImmutableBoundedValue<Integer> durability();
+    ImmutableBoundedIntValue durability();
 
     /**
      * Gets the {@link ImmutableValue} for the "unbreakable" state of the
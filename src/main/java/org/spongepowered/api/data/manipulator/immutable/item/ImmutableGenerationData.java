@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.item.GenerationData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.item.ItemTypes;
 import org.spongepowered.api.item.inventory.ItemStack;
@@ -43,6 +44,6 @@ public interface ImmutableGenerationData extends ImmutableDataManipulator<Immuta
      *
      * @return The immutable bounded value for the generation state
      */
-    ImmutableBoundedValue<Integer> generation();
+    ImmutableBoundedIntValue generation();
 
 }
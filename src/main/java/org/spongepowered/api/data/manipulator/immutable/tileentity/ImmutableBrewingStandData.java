@@ -27,6 +27,7 @@
 import org.spongepowered.api.block.tileentity.carrier.BrewingStand;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.tileentity.BrewingStandData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 
 /**
@@ -42,6 +43,6 @@ public interface ImmutableBrewingStandData extends ImmutableDataManipulator<Immu
      *
      * @return The immutable value for the remaining brew time
      */
-    ImmutableBoundedValue<Integer> remainingBrewTime();
+    ImmutableBoundedIntValue remainingBrewTime();
 
 }
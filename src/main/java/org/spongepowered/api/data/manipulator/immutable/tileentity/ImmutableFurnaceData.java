@@ -27,6 +27,7 @@
 import org.spongepowered.api.block.tileentity.carrier.Furnace;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.mutable.tileentity.FurnaceData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
 import org.spongepowered.api.item.inventory.ItemStack;
 
@@ -42,7 +43,7 @@ public interface ImmutableFurnaceData extends ImmutableDataManipulator<Immutable
      *
      * @return The immutable value for the already passed burn time
      */
-    ImmutableBoundedValue<Integer> passedBurnTime();
+    ImmutableBoundedIntValue passedBurnTime();
 
     /**
      * Gets the {@link ImmutableBoundedValue} for the maximum amount of fuel
@@ -55,7 +56,7 @@ public interface ImmutableFurnaceData extends ImmutableDataManipulator<Immutable
      * @return The immutable value for the maximum amount of fuel that can be
      *      supplied with the used fuel item
      */
-    ImmutableBoundedValue<Integer> maxBurnTime();
+    ImmutableBoundedIntValue maxBurnTime();
 
     /**
      * Gets the {@link ImmutableBoundedValue} for the already passed cook time
@@ -64,7 +65,7 @@ public interface ImmutableFurnaceData extends ImmutableDataManipulator<Immutable
      *
      * @return The immutable value for the already passed cook time
      */
-    ImmutableBoundedValue<Integer> passedCookTime();
+    ImmutableBoundedIntValue passedCookTime();
 
     /**
      * Gets the {@link ImmutableBoundedValue} for the total time the
@@ -72,5 +73,5 @@ public interface ImmutableFurnaceData extends ImmutableDataManipulator<Immutable
      *
      * @return The immutable value for the time the item has to cook
      */
-    ImmutableBoundedValue<Integer> maxCookTime();
+    ImmutableBoundedIntValue maxCookTime();
 }
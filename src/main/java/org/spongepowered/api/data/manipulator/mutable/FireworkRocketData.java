@@ -26,7 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.ImmutableFireworkRocketData;
-import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.entity.projectile.Firework;
 import org.spongepowered.api.item.ItemTypes;
 
@@ -47,5 +47,5 @@ public interface FireworkRocketData extends DataManipulator<FireworkRocketData,
      *
      * @return The flight modifier
      */
-    MutableBoundedValue<Integer> flightModifier();
+    MutableBoundedIntValue flightModifier();
 }
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.block.ImmutableDelayableData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 
 /**
@@ -38,6 +39,6 @@ public interface DelayableData extends DataManipulator<DelayableData, ImmutableD
      *
      * @return The mutable bounded value delay.
      */
-    MutableBoundedValue<Integer> delay();
+    MutableBoundedIntValue delay();
 
 }
@@ -27,6 +27,7 @@
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.block.ImmutableFluidLevelData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 
 /**
@@ -43,6 +44,6 @@ public interface FluidLevelData extends DataManipulator<FluidLevelData, Immutabl
      *
      * @return The bounded value for the fluid level state
      */
-    MutableBoundedValue<Integer> level();
+    MutableBoundedIntValue level();
 
 }
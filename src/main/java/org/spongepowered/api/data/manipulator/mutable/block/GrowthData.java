@@ -27,6 +27,7 @@
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.block.ImmutableGrowthData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 
 /**
@@ -42,6 +43,6 @@ public interface GrowthData extends DataManipulator<GrowthData, ImmutableGrowthD
      *
      * @return The immutable bounded value growth stage
      */
-    MutableBoundedValue<Integer> growthStage();
+    MutableBoundedIntValue growthStage();
 
 }
@@ -28,6 +28,7 @@
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.block.ImmutableLayeredData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 
 /**
@@ -43,6 +44,6 @@ public interface LayeredData extends DataManipulator<LayeredData, ImmutableLayer
      *
      * @return The bounded value for the "layer" state
      */
-    MutableBoundedValue<Integer> layer();
+    MutableBoundedIntValue layer();
 
 }
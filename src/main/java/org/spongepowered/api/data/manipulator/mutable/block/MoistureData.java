@@ -28,6 +28,7 @@
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.block.ImmutableMoistureData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 
 /**
@@ -42,6 +43,6 @@ public interface MoistureData extends DataManipulator<MoistureData, ImmutableMoi
      *
      * @return The bounded value for the "moisture" state
      */
-    MutableBoundedValue<Integer> moisture();
+    MutableBoundedIntValue moisture();
 
 }
@@ -28,6 +28,7 @@
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.block.ImmutableRedstonePoweredData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 
 /**
@@ -48,6 +49,6 @@ public interface RedstonePoweredData extends DataManipulator<RedstonePoweredData
      *
      * @return The bounded value for "redstone power"
      */
-    MutableBoundedValue<Integer> power();
+    MutableBoundedIntValue power();
 
 }
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableAgeableData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.data.value.mutable.Value;
 
@@ -40,7 +41,7 @@ public interface AgeableData extends DataManipulator<AgeableData, ImmutableAgeab
      *
      * @return The mutable bounded value for the "age"
      */
-    MutableBoundedValue<Integer> age();
+    MutableBoundedIntValue age();
 
     /**
      * Gets the {@link Value} for whether the {@link #age()} is
@@ -27,6 +27,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableAngerableData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.entity.Entity;
 
@@ -42,6 +43,6 @@ public interface AngerableData extends DataManipulator<AngerableData, ImmutableA
      *
      * @return The bounded value for the anger level
      */
-    MutableBoundedValue<Integer> angerLevel();
+    MutableBoundedIntValue angerLevel();
 
 }
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableBreathingData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 
 /**
@@ -40,7 +41,7 @@ public interface BreathingData extends DataManipulator<BreathingData, ImmutableB
      *
      * @return The mutable value of remaining air
      */
-    MutableBoundedValue<Integer> remainingAir();
+    MutableBoundedIntValue remainingAir();
 
     /**
      * Gets the {@link MutableBoundedValue} for the maximum air capacity.
@@ -49,6 +50,6 @@ public interface BreathingData extends DataManipulator<BreathingData, ImmutableB
      *
      * @return The mutable bounded value of maximum air capacity
      */
-    MutableBoundedValue<Integer> maxAir();
+    MutableBoundedIntValue maxAir();
 
 }
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableDespawnDelayData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.api.entity.Item;
@@ -41,7 +42,7 @@ public interface DespawnDelayData extends DataManipulator<DespawnDelayData, Immu
      *
      * @return The mutable bounded value for the "despawn delay"
      */
-    MutableBoundedValue<Integer> delay();
+    MutableBoundedIntValue delay();
 
     /**
      * Gets the {@link Value} for the "is infinite" state of
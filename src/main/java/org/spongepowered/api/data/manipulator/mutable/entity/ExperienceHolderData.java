@@ -26,7 +26,9 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableExperienceHolderData;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
 import org.spongepowered.api.data.value.immutable.ImmutableBoundedValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.entity.living.Humanoid;
 
@@ -45,7 +47,7 @@ public interface ExperienceHolderData extends DataManipulator<ExperienceHolderDa
      * @return The bounded value of experience since the beginning of the
      *     current level
      */
-    MutableBoundedValue<Integer> experienceSinceLevel();
+    MutableBoundedIntValue experienceSinceLevel();
 
     /**
      * Gets the {@link ImmutableBoundedValue} for the amount of experience
@@ -55,7 +57,7 @@ public interface ExperienceHolderData extends DataManipulator<ExperienceHolderDa
      *
      * @return The immutable bounded required experience between levels
      */
-    ImmutableBoundedValue<Integer> getExperienceBetweenLevels();
+    ImmutableBoundedIntValue getExperienceBetweenLevels();
 
     /**
      * Gets the {@link MutableBoundedValue} for the current "level" of
@@ -65,13 +67,13 @@ public interface ExperienceHolderData extends DataManipulator<ExperienceHolderDa
      *
      * @return The current level according to the amount of total experience
      */
-    MutableBoundedValue<Integer> level();
+    MutableBoundedIntValue level();
 
     /**
      * Gets the total amount of experience stored.
      *
      * @return The value of total amount of experience
      */
-    MutableBoundedValue<Integer> totalExperience();
+    MutableBoundedIntValue totalExperience();
 
 }
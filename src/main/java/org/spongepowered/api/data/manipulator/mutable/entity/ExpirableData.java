@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableExpirableData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.entity.Item;
 import org.spongepowered.api.entity.living.monster.Endermite;
@@ -44,6 +45,6 @@ public interface ExpirableData extends DataManipulator<ExpirableData, ImmutableE
      *
      * @return The immutable bounded value for the amount of ticks remaining
      */
-    MutableBoundedValue<Integer> expireTicks();
+    MutableBoundedIntValue expireTicks();
 
 }
@@ -26,6 +26,8 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableFoodData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedDoubleValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.entity.living.Humanoid;
 
@@ -44,7 +46,7 @@ public interface FoodData extends DataManipulator<FoodData, ImmutableFoodData> {
      *
      * @return The current food level
      */
-    MutableBoundedValue<Integer> foodLevel();
+    MutableBoundedIntValue foodLevel();
 
     /**
      * Gets the {@link MutableBoundedValue} for the "exhaustion" level.
@@ -56,7 +58,7 @@ public interface FoodData extends DataManipulator<FoodData, ImmutableFoodData> {
      *
      * @return The immutable bounded value of exhaustion
      */
-    MutableBoundedValue<Double> exhaustion();
+    MutableBoundedDoubleValue exhaustion();
 
     /**
      * Gets the {@link MutableBoundedValue} for the "saturation" level.
@@ -69,6 +71,6 @@ public interface FoodData extends DataManipulator<FoodData, ImmutableFoodData> {
      *
      * @return The immutable bounded value of saturation
      */
-    MutableBoundedValue<Double> saturation();
+    MutableBoundedDoubleValue saturation();
 
 }
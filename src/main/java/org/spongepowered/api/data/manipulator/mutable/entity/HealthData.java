@@ -26,7 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableHealthData;
-import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedDoubleValue;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.Living;
 
@@ -49,7 +49,7 @@ public interface HealthData extends DataManipulator<HealthData, ImmutableHealthD
      *
      * @return Health value
      */
-    MutableBoundedValue<Double> health();
+    MutableBoundedDoubleValue health();
 
     /**
      * Gets the current maximum health.
@@ -60,6 +60,6 @@ public interface HealthData extends DataManipulator<HealthData, ImmutableHealthD
      *
      * @return This entities maximum health
      */
-    MutableBoundedValue<Double> maxHealth();
+    MutableBoundedDoubleValue maxHealth();
 
 }
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableIgniteableData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.entity.Entity;
 
@@ -41,7 +42,7 @@ public interface IgniteableData extends DataManipulator<IgniteableData, Immutabl
      *
      * @return The immutable value of "fire ticks"
      */
-    MutableBoundedValue<Integer> fireTicks();
+    MutableBoundedIntValue fireTicks();
 
     /**
      * Gets the {@link MutableBoundedValue} for the remaining amount of
@@ -49,6 +50,6 @@ public interface IgniteableData extends DataManipulator<IgniteableData, Immutabl
      *
      * @return The immutable value
      */
-    MutableBoundedValue<Integer> fireDelay();
+    MutableBoundedIntValue fireDelay();
 
 }
@@ -26,7 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableInvulnerabilityData;
-import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.api.entity.Entity;
 
@@ -43,6 +43,6 @@ public interface InvulnerabilityData extends DataManipulator<InvulnerabilityData
      *
      * @return The value for the amount of ticks of invulnerability
      */
-    MutableBoundedValue<Integer> invulnerableTicks();
+    MutableBoundedIntValue invulnerableTicks();
 
 }
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableKnockbackData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.projectile.arrow.Arrow;
@@ -43,6 +44,6 @@ public interface KnockbackData extends DataManipulator<KnockbackData, ImmutableK
      *
      * @return The immutable value for the knockback strength
      */
-    MutableBoundedValue<Integer> knockbackStrength();
+    MutableBoundedIntValue knockbackStrength();
 
 }
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableSlimeData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.entity.living.monster.Slime;
 
@@ -41,6 +42,6 @@ public interface SlimeData extends DataManipulator<SlimeData, ImmutableSlimeData
      *
      * @return The value for a slime
      */
-    MutableBoundedValue<Integer> size();
+    MutableBoundedIntValue size();
 
 }
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.entity.ImmutableStuckArrowsData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.entity.living.Living;
 
@@ -40,6 +41,6 @@ public interface StuckArrowsData extends DataManipulator<StuckArrowsData, Immuta
      *
      * @return The mutable value of stuck arrows
      */
-    MutableBoundedValue<Integer> stuckArrows();
+    MutableBoundedIntValue stuckArrows();
 
 }
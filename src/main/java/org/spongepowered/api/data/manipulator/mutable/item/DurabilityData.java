@@ -27,6 +27,7 @@
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.item.ImmutableDurabilityData;
 import org.spongepowered.api.data.property.item.UseLimitProperty;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.api.item.inventory.ItemStack;
@@ -49,7 +50,7 @@ public interface DurabilityData extends DataManipulator<DurabilityData, Immutabl
      *
      * @return The immutable bounded value of durability remaining
      */
-    MutableBoundedValue<Integer> durability();
+    MutableBoundedIntValue durability();
 
     /**
      * Gets the {@link Value} for the "unbreakable" state of the
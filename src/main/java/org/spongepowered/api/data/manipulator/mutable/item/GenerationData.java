@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.item.ImmutableGenerationData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.item.ItemTypes;
 import org.spongepowered.api.item.inventory.ItemStack;
@@ -43,6 +44,6 @@ public interface GenerationData extends DataManipulator<GenerationData, Immutabl
      *
      * @return The bounded value for the generation state
      */
-    MutableBoundedValue<Integer> generation();
+    MutableBoundedIntValue generation();
 
 }
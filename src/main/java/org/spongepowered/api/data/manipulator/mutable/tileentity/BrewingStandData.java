@@ -27,6 +27,7 @@
 import org.spongepowered.api.block.tileentity.carrier.BrewingStand;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.tileentity.ImmutableBrewingStandData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 
 /**
@@ -42,6 +43,6 @@ public interface BrewingStandData extends DataManipulator<BrewingStandData, Immu
      *
      * @return The value for the remaining brew time
      */
-    MutableBoundedValue<Integer> remainingBrewTime();
+    MutableBoundedIntValue remainingBrewTime();
 
 }
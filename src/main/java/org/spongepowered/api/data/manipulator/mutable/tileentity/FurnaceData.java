@@ -27,6 +27,7 @@
 import org.spongepowered.api.block.tileentity.carrier.Furnace;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.manipulator.immutable.tileentity.ImmutableFurnaceData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.item.inventory.ItemStack;
 
@@ -42,7 +43,7 @@ public interface FurnaceData extends DataManipulator<FurnaceData, ImmutableFurna
      *
      * @return The value for the already passed burn time
      */
-    MutableBoundedValue<Integer> passedBurnTime();
+    MutableBoundedIntValue passedBurnTime();
 
     /**
      * Gets the {@link MutableBoundedValue} for the maximum amount of fuel that
@@ -55,7 +56,7 @@ public interface FurnaceData extends DataManipulator<FurnaceData, ImmutableFurna
      * @return The value for the maximum amount of fuel that can be supplied
      *     with the used fuel item
      */
-    MutableBoundedValue<Integer> maxBurnTime();
+    MutableBoundedIntValue maxBurnTime();
 
     /**
      * Gets the {@link MutableBoundedValue} for the already passed cook time of
@@ -64,7 +65,7 @@ public interface FurnaceData extends DataManipulator<FurnaceData, ImmutableFurna
      *
      * @return The value for the already passed cook time
      */
-    MutableBoundedValue<Integer> passedCookTime();
+    MutableBoundedIntValue passedCookTime();
 
     /**
      * Gets the {@link MutableBoundedValue} for the total time the
@@ -76,5 +77,5 @@ public interface FurnaceData extends DataManipulator<FurnaceData, ImmutableFurna
      *
      * @return The value for the time the item has to cook
      */
-    MutableBoundedValue<Integer> maxCookTime();
+    MutableBoundedIntValue maxCookTime();
 }
@@ -31,6 +31,7 @@
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.Queries;
 import org.spongepowered.api.data.manipulator.DataManipulatorBuilder;
+import org.spongepowered.api.util.Coerce;
 
 import java.util.Optional;
 
@@ -70,8 +71,12 @@ protected AbstractDataBuilder(Class<T> requiredClass, int supportedVersion) {
 
     @Override
     public final Optional<T> build(DataView container) throws InvalidDataException {
-        if (container.contains(Queries.CONTENT_VERSION)) {
-            final int contentVersion = container.getInt(Queries.CONTENT_VERSION).get();
+        // Content at the supported version is built directly, without
+        // resolving any updaters
+        final Optional<Object> version = container.get(Queries.CONTENT_VERSION);
+        if (version.isPresent()) {
+            final int contentVersion = Coerce.asInteger(version.get()).orElseThrow(() -> new InvalidDataException(
+                    "The content version of " + this.requiredClass.getName() + " data is not an integer: " + version.get()));
             if (contentVersion < this.supportedVersion) {
                 Optional<DataContentUpdater> updater = Sponge.getDataManager().getWrappedContentUpdater(this.requiredClass, contentVersion,
                         this.supportedVersion);
@@ -0,0 +1,117 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A {@link DataContentUpdater} applying a chain of updaters.
+ *
+ * @see DataContentUpdater#chain(List)
+ */
+final class CompositeDataContentUpdater implements DataContentUpdater {
+
+    private final DataContentUpdater[] updaters;
+    private final boolean[] inPlace;
+    private final Set<DataQuery> updatedQueries;
+
+    CompositeDataContentUpdater(List<? extends DataContentUpdater> updaters) {
+        checkArgument(!updaters.isEmpty(), "At least one updater is required!");
+        this.updaters = updaters.toArray(new DataContentUpdater[updaters.size()]);
+        this.inPlace = new boolean[this.updaters.length];
+        final ImmutableSet.Builder<DataQuery> queries = ImmutableSet.builder();
+        boolean declared = true;
+        for (int i = 0; i < this.updaters.length; i++) {
+            final DataContentUpdater updater = checkNotNull(this.updaters[i], "updater");
+            if (i > 0) {
+                final int previousVersion = this.updaters[i - 1].getOutputVersion();
+                checkArgument(previousVersion == updater.getInputVersion(), "The updater %s does not continue from version %s", updater,
+                        previousVersion);
+            }
+            final Set<DataQuery> updated = updater.getUpdatedQueries();
+            this.inPlace[i] = !updated.isEmpty();
+            declared &= this.inPlace[i];
+            queries.addAll(updated);
+        }
+        // The chain only modifies its content in place if every updater does
+        this.updatedQueries = declared ? queries.build() : ImmutableSet.of();
+    }
+
+    @Override
+    public int getInputVersion() {
+        return this.updaters[0].getInputVersion();
+    }
+
+    @Override
+    public int getOutputVersion() {
+        return this.updaters[this.updaters.length - 1].getOutputVersion();
+    }
+
+    @Override
+    public Set<DataQuery> getUpdatedQueries() {
+        return this.updatedQueries;
+    }
+
+    @Override
+    public DataView update(DataView content) {
+        // When this chain is itself declared, it has to modify the given
+        // content in place, otherwise it works on a single shared copy. How
+        // much of the content that copy duplicates is up to the view, a
+        // MemoryDataView shares its backing maps until they are modified
+        boolean copied = !this.updatedQueries.isEmpty();
+        for (int i = 0; i < this.updaters.length; i++) {
+            if (!this.inPlace[i]) {
+                content = this.updaters[i].update(content);
+            } else {
+                if (!copied) {
+                    content = content.copy();
+                    copied = true;
+                }
+                this.updaters[i].update(content);
+            }
+        }
+        return content;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("inputVersion", getInputVersion())
+                .add("outputVersion", getOutputVersion())
+                .add("updaters", ImmutableList.copyOf(this.updaters))
+                .toString();
+    }
+
+}
@@ -24,9 +24,61 @@
  */
 package org.spongepowered.api.data.persistence;
 
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.util.Updater;
 
+import java.util.List;
+import java.util.Set;
+
 public interface DataContentUpdater extends Updater<DataView> {
 
+    /**
+     * Creates a {@link DataContentUpdater} that applies the given updaters in
+     * order, updating content from the input version of the first updater to
+     * the output version of the last one.
+     *
+     * <p>The composite copies the content it is given at most once, and only
+     * before the first updater that declares its
+     * {@link #getUpdatedQueries() updated queries}. All of those updaters then
+     * modify that single copy in place, instead of each producing a new
+     * view.</p>
+     *
+     * <p>The declared queries only decide whether an updater may work on the
+     * shared copy, the copy itself is made with {@link DataView#copy()}.
+     * Subtrees that no updater touches are therefore only left uncopied if
+     * the view supports it, as a {@link DataContainer#createNew() default}
+     * container does by sharing its data with its copies until either side
+     * modifies it.</p>
+     *
+     * @param updaters The updaters, ordered by version
+     * @return The composite updater
+     * @throws IllegalArgumentException If there are no updaters, or the
+     *     output version of an updater does not match the input version of
+     *     the next one
+     */
+    static DataContentUpdater chain(List<? extends DataContentUpdater> updaters) {
+        if (updaters.size() == 1) {
+            return updaters.get(0);
+        }
+        return new CompositeDataContentUpdater(updaters);
+    }
+
+    /**
+     * Gets the queries of the values this updater may change, add or remove.
+     *
+     * <p>An updater declaring its queries promises to only modify the view it
+     * is given at or below these queries, and to return that same view,
+     * allowing a chain of updaters to share a single copy of the content.
+     * An updater that does not declare any queries, which is the default, may
+     * modify any part of the view or return a new one.</p>
+     *
+     * @return The updated queries, or an empty set if undeclared
+     */
+    default Set<DataQuery> getUpdatedQueries() {
+        return ImmutableSet.of();
+    }
+
 }
@@ -32,6 +32,7 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Optional;
 
 /**
  * Represents a parser for a particular file format allowing reading and writing
@@ -62,4 +63,14 @@ public interface DataFormat extends CatalogType {
      */
     void writeTo(OutputStream output, DataView data) throws IOException;
 
+    /**
+     * Gets this format as a {@link StreamingDataFormat}, if it supports
+     * reading and writing one element at a time.
+     *
+     * @return This format as a streaming format, if supported
+     */
+    default Optional<StreamingDataFormat> asStreaming() {
+        return this instanceof StreamingDataFormat ? Optional.of((StreamingDataFormat) this) : Optional.empty();
+    }
+
 }
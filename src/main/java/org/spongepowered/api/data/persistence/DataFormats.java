@@ -33,8 +33,19 @@ public final class DataFormats {
 
     // SORTFIELDS:ON
 
+    /**
+     * A compact binary format, similar to {@link #NBT}, that preserves the
+     * exact types of all values supported by {@link DataReader}s, including
+     * booleans and long arrays.
+     */
+    public static final StreamingDataFormat BINARY = DummyObjectProvider.createFor(StreamingDataFormat.class, "BINARY");
+
     public static final DataFormat HOCON = DummyObjectProvider.createFor(DataFormat.class, "HOCON");
 
+    /**
+     * The NBT format. Implementations that can stream it expose a
+     * {@link StreamingDataFormat} through {@link DataFormat#asStreaming()}.
+     */
     public static final DataFormat NBT = DummyObjectProvider.createFor(DataFormat.class, "NBT");
 
     // SORTFIELDS:OFF
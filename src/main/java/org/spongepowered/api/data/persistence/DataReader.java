@@ -0,0 +1,226 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads data of a {@link StreamingDataFormat} one element at a time, without
+ * building a {@link DataContainer} for it.
+ *
+ * <p>The stream is made up of the elements described by {@link DataToken}s.
+ * Values inside of a view are always preceded by their name. As an example,
+ * reading a view containing a name and a list of numbers would look like:</p>
+ *
+ * <pre>{@code
+ * reader.beginView();
+ * while (reader.hasNext()) {
+ *     String name = reader.nextName();
+ *     if (name.equals("Name")) {
+ *         this.name = reader.nextString();
+ *     } else if (name.equals("Numbers")) {
+ *         reader.beginList();
+ *         while (reader.hasNext()) {
+ *             this.numbers.add(reader.nextInt());
+ *         }
+ *         reader.endList();
+ *     } else {
+ *         reader.skipValue();
+ *     }
+ * }
+ * reader.endView();
+ * }</pre>
+ *
+ * <p>Numeric values may be read with the method of any wider numeric type,
+ * for example a {@link DataToken#BYTE} may be read with {@link #nextInt()}.
+ * Calling a method that does not match the next element results in an
+ * {@link InvalidDataFormatException}.</p>
+ *
+ * <p>See {@link DataStreams} for utilities to read whole views, or only
+ * selected paths of a view, into a {@link DataContainer}.</p>
+ */
+public interface DataReader extends Closeable {
+
+    /**
+     * Gets the kind of the next element without consuming it.
+     *
+     * @return The next token
+     * @throws IOException If there was an error reading from the stream
+     */
+    DataToken peek() throws IOException;
+
+    /**
+     * Checks whether the current view or list has another element.
+     *
+     * @return True if the current view or list has another element
+     * @throws IOException If there was an error reading from the stream
+     */
+    boolean hasNext() throws IOException;
+
+    /**
+     * Consumes the start of a view.
+     *
+     * @throws IOException If there was an error reading from the stream
+     */
+    void beginView() throws IOException;
+
+    /**
+     * Consumes the end of the current view.
+     *
+     * @throws IOException If there was an error reading from the stream
+     */
+    void endView() throws IOException;
+
+    /**
+     * Consumes the start of a list.
+     *
+     * @throws IOException If there was an error reading from the stream
+     */
+    void beginList() throws IOException;
+
+    /**
+     * Consumes the end of the current list.
+     *
+     * @throws IOException If there was an error reading from the stream
+     */
+    void endList() throws IOException;
+
+    /**
+     * Consumes the name of the next value in the current view.
+     *
+     * @return The name
+     * @throws IOException If there was an error reading from the stream
+     */
+    String nextName() throws IOException;
+
+    /**
+     * Consumes the next value as a boolean.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     */
+    boolean nextBoolean() throws IOException;
+
+    /**
+     * Consumes the next value as a byte.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     */
+    byte nextByte() throws IOException;
+
+    /**
+     * Consumes the next value as a short.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     */
+    short nextShort() throws IOException;
+
+    /**
+     * Consumes the next value as an int.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     */
+    int nextInt() throws IOException;
+
+    /**
+     * Consumes the next value as a long.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     */
+    long nextLong() throws IOException;
+
+    /**
+     * Consumes the next value as a float.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     */
+    float nextFloat() throws IOException;
+
+    /**
+     * Consumes the next value as a double.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     */
+    double nextDouble() throws IOException;
+
+    /**
+     * Consumes the next value as a string.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     */
+    String nextString() throws IOException;
+
+    /**
+     * Consumes the next value as a byte array.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     */
+    byte[] nextByteArray() throws IOException;
+
+    /**
+     * Consumes the next value as an int array.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     */
+    int[] nextIntArray() throws IOException;
+
+    /**
+     * Consumes the next value as a long array.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     */
+    long[] nextLongArray() throws IOException;
+
+    /**
+     * Consumes the next value, including all of its contents if it is a view
+     * or a list, without reading it into memory where the format allows.
+     *
+     * @throws IOException If there was an error reading from the stream
+     */
+    void skipValue() throws IOException;
+
+    /**
+     * Gets the path of the current position in the stream, relative to the
+     * outermost view.
+     *
+     * @return The current path
+     */
+    DataQuery getPath();
+
+}
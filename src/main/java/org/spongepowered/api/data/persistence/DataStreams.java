@@ -0,0 +1,256 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Utilities for working with {@link DataReader}s and {@link DataWriter}s.
+ */
+public final class DataStreams {
+
+    /**
+     * Reads the next view of the given {@link DataReader} into a new
+     * {@link DataContainer}.
+     *
+     * @param reader The reader
+     * @return The data container
+     * @throws InvalidDataFormatException If the next element is not a view
+     * @throws IOException If there was an error reading from the stream
+     */
+    public static DataContainer read(DataReader reader) throws IOException {
+        checkNotNull(reader, "reader");
+        final DataContainer container = DataContainer.createNew();
+        readView(reader, container);
+        return container;
+    }
+
+    /**
+     * Reads only the given paths of the next view of the given
+     * {@link DataReader} into a new {@link DataContainer}. All other values
+     * are skipped without being read into memory.
+     *
+     * <p>A path that points to a view reads that view as a whole.</p>
+     *
+     * @param reader The reader
+     * @param paths The paths to read
+     * @return The data container, containing only the given paths that were
+     *     present in the stream
+     * @throws InvalidDataFormatException If the next element is not a view
+     * @throws IOException If there was an error reading from the stream
+     */
+    public static DataContainer read(DataReader reader, Collection<DataQuery> paths) throws IOException {
+        checkNotNull(reader, "reader");
+        checkNotNull(paths, "paths");
+        // Queries are interned, so popping returns the existing parent and
+        // the empty query can be compared by identity
+        final Set<DataQuery> parents = new HashSet<>();
+        for (DataQuery path : paths) {
+            DataQuery parent = path.pop();
+            while (parent != DataQuery.of() && parents.add(parent)) {
+                parent = parent.pop();
+            }
+        }
+        final DataContainer container = DataContainer.createNew();
+        readSelected(reader, container, DataQuery.of(), paths, parents);
+        return container;
+    }
+
+    private static void readSelected(DataReader reader, DataView view, DataQuery path, Collection<DataQuery> paths, Set<DataQuery> parents)
+            throws IOException {
+        reader.beginView();
+        while (reader.hasNext()) {
+            final String name = reader.nextName();
+            final DataQuery child = path.then(name);
+            if (paths.contains(child)) {
+                setValue(reader, view, child);
+            } else if (parents.contains(child) && reader.peek() == DataToken.BEGIN_VIEW) {
+                readSelected(reader, view, child, paths, parents);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endView();
+    }
+
+    private static void readView(DataReader reader, DataView view) throws IOException {
+        reader.beginView();
+        while (reader.hasNext()) {
+            setValue(reader, view, DataQuery.of(reader.nextName()));
+        }
+        reader.endView();
+    }
+
+    private static void setValue(DataReader reader, DataView view, DataQuery path) throws IOException {
+        if (reader.peek() == DataToken.BEGIN_VIEW) {
+            readView(reader, view.createView(path));
+        } else {
+            view.set(path, readValue(reader));
+        }
+    }
+
+    private static Object readValue(DataReader reader) throws IOException {
+        final DataToken token = reader.peek();
+        switch (token) {
+            case BEGIN_VIEW:
+                return read(reader);
+            case BEGIN_LIST:
+                final List<Object> list = new ArrayList<>();
+                reader.beginList();
+                while (reader.hasNext()) {
+                    list.add(readValue(reader));
+                }
+                reader.endList();
+                return list;
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case BYTE:
+                return reader.nextByte();
+            case SHORT:
+                return reader.nextShort();
+            case INT:
+                return reader.nextInt();
+            case LONG:
+                return reader.nextLong();
+            case FLOAT:
+                return reader.nextFloat();
+            case DOUBLE:
+                return reader.nextDouble();
+            case STRING:
+                return reader.nextString();
+            case BYTE_ARRAY:
+                return reader.nextByteArray();
+            case INT_ARRAY:
+                return reader.nextIntArray();
+            case LONG_ARRAY:
+                return reader.nextLongArray();
+            default:
+                throw new InvalidDataFormatException("Expected a value but was " + token + " at " + reader.getPath());
+        }
+    }
+
+    /**
+     * Writes the given {@link DataView} as a view to the given
+     * {@link DataWriter}.
+     *
+     * @param writer The writer
+     * @param view The view to write
+     * @throws IOException If there was an error writing to the stream
+     */
+    public static void write(DataWriter writer, DataView view) throws IOException {
+        checkNotNull(writer, "writer");
+        checkNotNull(view, "view");
+        writer.beginView();
+        for (DataQuery key : view.getKeys(false)) {
+            writer.name(key.getParts().get(0));
+            writeValue(writer, view.get(key).get());
+        }
+        writer.endView();
+    }
+
+    private static void writeValue(DataWriter writer, Object value) throws IOException {
+        if (value instanceof DataView) {
+            write(writer, (DataView) value);
+        } else if (value instanceof DataSerializable) {
+            write(writer, ((DataSerializable) value).toContainer());
+        } else if (value instanceof Map) {
+            writer.beginView();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                writer.name(entry.getKey().toString());
+                writeValue(writer, entry.getValue());
+            }
+            writer.endView();
+        } else if (value instanceof Collection) {
+            writer.beginList();
+            for (Object element : (Collection<?>) value) {
+                writeValue(writer, element);
+            }
+            writer.endList();
+        } else if (value instanceof Boolean) {
+            writer.value((boolean) value);
+        } else if (value instanceof Byte) {
+            writer.value((byte) value);
+        } else if (value instanceof Short) {
+            writer.value((short) value);
+        } else if (value instanceof Integer) {
+            writer.value((int) value);
+        } else if (value instanceof Long) {
+            writer.value((long) value);
+        } else if (value instanceof Float) {
+            writer.value((float) value);
+        } else if (value instanceof Double) {
+            writer.value((double) value);
+        } else if (value instanceof byte[]) {
+            writer.value((byte[]) value);
+        } else if (value instanceof int[]) {
+            writer.value((int[]) value);
+        } else if (value instanceof long[]) {
+            writer.value((long[]) value);
+        } else if (value.getClass().isArray()) {
+            writer.beginList();
+            for (int i = 0, length = Array.getLength(value); i < length; i++) {
+                writeValue(writer, Array.get(value, i));
+            }
+            writer.endList();
+        } else if (value instanceof CatalogType) {
+            writer.value(((CatalogType) value).getId());
+        } else {
+            writer.value(value.toString());
+        }
+    }
+
+    /**
+     * Creates a {@link DataReader} that reads the contents of the given
+     * {@link DataView} as if it was read from a stream.
+     *
+     * <p>This allows code written against {@link DataReader}s to also consume
+     * data that is already in memory.</p>
+     *
+     * @param view The view to read
+     * @return The reader
+     */
+    public static DataReader reader(DataView view) {
+        return new DataViewReader(checkNotNull(view, "view"));
+    }
+
+    private DataStreams() {
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+/**
+ * Represents the kind of the next element of a stream read by a
+ * {@link DataReader}.
+ */
+public enum DataToken {
+
+    /**
+     * The start of a view, consumed by {@link DataReader#beginView()}.
+     */
+    BEGIN_VIEW,
+
+    /**
+     * The end of a view, consumed by {@link DataReader#endView()}.
+     */
+    END_VIEW,
+
+    /**
+     * The start of a list, consumed by {@link DataReader#beginList()}.
+     */
+    BEGIN_LIST,
+
+    /**
+     * The end of a list, consumed by {@link DataReader#endList()}.
+     */
+    END_LIST,
+
+    /**
+     * The name of the next value in a view, consumed by
+     * {@link DataReader#nextName()}.
+     */
+    NAME,
+
+    /**
+     * A boolean value, consumed by {@link DataReader#nextBoolean()}.
+     */
+    BOOLEAN,
+
+    /**
+     * A byte value, consumed by {@link DataReader#nextByte()}.
+     */
+    BYTE,
+
+    /**
+     * A short value, consumed by {@link DataReader#nextShort()}.
+     */
+    SHORT,
+
+    /**
+     * An int value, consumed by {@link DataReader#nextInt()}.
+     */
+    INT,
+
+    /**
+     * A long value, consumed by {@link DataReader#nextLong()}.
+     */
+    LONG,
+
+    /**
+     * A float value, consumed by {@link DataReader#nextFloat()}.
+     */
+    FLOAT,
+
+    /**
+     * A double value, consumed by {@link DataReader#nextDouble()}.
+     */
+    DOUBLE,
+
+    /**
+     * A string value, consumed by {@link DataReader#nextString()}.
+     */
+    STRING,
+
+    /**
+     * A byte array value, consumed by {@link DataReader#nextByteArray()}.
+     */
+    BYTE_ARRAY,
+
+    /**
+     * An int array value, consumed by {@link DataReader#nextIntArray()}.
+     */
+    INT_ARRAY,
+
+    /**
+     * A long array value, consumed by {@link DataReader#nextLongArray()}.
+     */
+    LONG_ARRAY,
+
+    /**
+     * The end of the stream.
+     */
+    END_DOCUMENT
+
+}
@@ -0,0 +1,331 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataReader} reading the contents of a {@link DataView} that is
+ * already in memory.
+ */
+final class DataViewReader implements DataReader {
+
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    @Nullable private Object root;
+
+    DataViewReader(DataView view) {
+        this.root = view;
+    }
+
+    private static DataToken tokenOf(Object value) {
+        if (value instanceof DataView || value instanceof Map || value instanceof DataSerializable) {
+            return DataToken.BEGIN_VIEW;
+        } else if (value instanceof Collection) {
+            return DataToken.BEGIN_LIST;
+        } else if (value instanceof Boolean) {
+            return DataToken.BOOLEAN;
+        } else if (value instanceof Byte) {
+            return DataToken.BYTE;
+        } else if (value instanceof Short) {
+            return DataToken.SHORT;
+        } else if (value instanceof Integer) {
+            return DataToken.INT;
+        } else if (value instanceof Long) {
+            return DataToken.LONG;
+        } else if (value instanceof Float) {
+            return DataToken.FLOAT;
+        } else if (value instanceof Double) {
+            return DataToken.DOUBLE;
+        } else if (value instanceof byte[]) {
+            return DataToken.BYTE_ARRAY;
+        } else if (value instanceof int[]) {
+            return DataToken.INT_ARRAY;
+        } else if (value instanceof long[]) {
+            return DataToken.LONG_ARRAY;
+        } else if (value.getClass().isArray()) {
+            return DataToken.BEGIN_LIST;
+        }
+        return DataToken.STRING;
+    }
+
+    @Override
+    public DataToken peek() {
+        final Frame frame = this.stack.peek();
+        if (frame == null) {
+            return this.root == null ? DataToken.END_DOCUMENT : DataToken.BEGIN_VIEW;
+        }
+        if (frame.index >= frame.values.size()) {
+            return frame.names == null ? DataToken.END_LIST : DataToken.END_VIEW;
+        }
+        if (frame.names != null && !frame.nameRead) {
+            return DataToken.NAME;
+        }
+        return tokenOf(frame.values.get(frame.index));
+    }
+
+    @Override
+    public boolean hasNext() {
+        final DataToken token = peek();
+        return token != DataToken.END_VIEW && token != DataToken.END_LIST && token != DataToken.END_DOCUMENT;
+    }
+
+    private void expect(DataToken expected, DataToken actual) {
+        if (expected != actual) {
+            throw new InvalidDataFormatException("Expected " + expected + " but was " + actual + " at " + getPath());
+        }
+    }
+
+    /**
+     * Consumes the next value, which has to be of one of the given kinds.
+     *
+     * @param expected The expected kinds
+     * @return The value
+     */
+    private Object next(DataToken... expected) {
+        final DataToken token = peek();
+        boolean matches = false;
+        for (DataToken candidate : expected) {
+            matches |= candidate == token;
+        }
+        if (!matches) {
+            throw new InvalidDataFormatException("Expected " + expected[expected.length - 1] + " but was " + token + " at " + getPath());
+        }
+        final Frame frame = this.stack.peek();
+        if (frame == null) {
+            final Object value = this.root;
+            this.root = null;
+            return value;
+        }
+        final Object value = frame.values.get(frame.index++);
+        frame.nameRead = false;
+        return value;
+    }
+
+    @Override
+    public void beginView() {
+        final Object value = next(DataToken.BEGIN_VIEW);
+        final DataQuery path = getPathOfNext();
+        final List<String> names = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+        boolean copies = false;
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                names.add(entry.getKey().toString());
+                values.add(entry.getValue());
+            }
+        } else {
+            final DataView view = value instanceof DataView ? (DataView) value : ((DataSerializable) value).toContainer();
+            for (DataQuery key : view.getKeys(false)) {
+                names.add(key.getParts().get(0));
+                values.add(view.get(key).get());
+            }
+            // Such views already clone the arrays they return
+            copies = view.getSafetyMode() == DataView.SafetyMode.ALL_DATA_CLONED;
+        }
+        this.stack.push(new Frame(path, names, values, copies));
+    }
+
+    @Override
+    public void endView() {
+        expect(DataToken.END_VIEW, peek());
+        this.stack.pop();
+    }
+
+    @Override
+    public void beginList() {
+        final Object value = next(DataToken.BEGIN_LIST);
+        final List<Object> values = new ArrayList<>();
+        if (value instanceof Collection) {
+            values.addAll((Collection<?>) value);
+        } else {
+            for (int i = 0, length = Array.getLength(value); i < length; i++) {
+                values.add(Array.get(value, i));
+            }
+        }
+        this.stack.push(new Frame(getPathOfNext(), null, values, false));
+    }
+
+    @Override
+    public void endList() {
+        expect(DataToken.END_LIST, peek());
+        this.stack.pop();
+    }
+
+    @Override
+    public String nextName() {
+        expect(DataToken.NAME, peek());
+        final Frame frame = this.stack.peek();
+        frame.nameRead = true;
+        return frame.names.get(frame.index);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return (Boolean) next(DataToken.BOOLEAN);
+    }
+
+    @Override
+    public byte nextByte() {
+        return ((Number) next(DataToken.BYTE)).byteValue();
+    }
+
+    @Override
+    public short nextShort() {
+        return ((Number) next(DataToken.BYTE, DataToken.SHORT)).shortValue();
+    }
+
+    @Override
+    public int nextInt() {
+        return ((Number) next(DataToken.BYTE, DataToken.SHORT, DataToken.INT)).intValue();
+    }
+
+    @Override
+    public long nextLong() {
+        return ((Number) next(DataToken.BYTE, DataToken.SHORT, DataToken.INT, DataToken.LONG)).longValue();
+    }
+
+    @Override
+    public float nextFloat() {
+        return ((Number) next(DataToken.BYTE, DataToken.SHORT, DataToken.INT, DataToken.LONG, DataToken.FLOAT)).floatValue();
+    }
+
+    @Override
+    public double nextDouble() {
+        return ((Number) next(DataToken.BYTE, DataToken.SHORT, DataToken.INT, DataToken.LONG, DataToken.FLOAT, DataToken.DOUBLE))
+                .doubleValue();
+    }
+
+    @Override
+    public String nextString() {
+        final Object value = next(DataToken.STRING);
+        return value instanceof CatalogType ? ((CatalogType) value).getId() : value.toString();
+    }
+
+    /**
+     * Gets whether the arrays of the current frame are already copies that
+     * may be handed out without cloning them again.
+     *
+     * @return Whether the arrays are copies
+     */
+    private boolean hasCopies() {
+        final Frame frame = this.stack.peek();
+        return frame != null && frame.copies;
+    }
+
+    @Override
+    public byte[] nextByteArray() {
+        final byte[] array = (byte[]) next(DataToken.BYTE_ARRAY);
+        return hasCopies() ? array : array.clone();
+    }
+
+    @Override
+    public int[] nextIntArray() {
+        final int[] array = (int[]) next(DataToken.INT_ARRAY);
+        return hasCopies() ? array : array.clone();
+    }
+
+    @Override
+    public long[] nextLongArray() {
+        final long[] array = (long[]) next(DataToken.LONG_ARRAY);
+        return hasCopies() ? array : array.clone();
+    }
+
+    @Override
+    public void skipValue() {
+        if (peek() == DataToken.NAME) {
+            nextName();
+        }
+        if (!hasNext()) {
+            throw new InvalidDataFormatException("Expected a value but was " + peek() + " at " + getPath());
+        }
+        next(peek());
+    }
+
+    @Override
+    public DataQuery getPath() {
+        final Frame frame = this.stack.peek();
+        if (frame == null) {
+            return DataQuery.of();
+        }
+        if (frame.names != null && frame.nameRead) {
+            return frame.path.then(frame.names.get(frame.index));
+        }
+        return frame.path;
+    }
+
+    /**
+     * Gets the path of the value that was just consumed, which is the path
+     * of the frame that is about to be pushed for it.
+     *
+     * @return The path
+     */
+    private DataQuery getPathOfNext() {
+        final Frame frame = this.stack.peek();
+        if (frame == null) {
+            return DataQuery.of();
+        }
+        if (frame.names != null) {
+            return frame.path.then(frame.names.get(frame.index - 1));
+        }
+        return frame.path;
+    }
+
+    @Override
+    public void close() {
+        this.root = null;
+        this.stack.clear();
+    }
+
+    private static final class Frame {
+
+        final DataQuery path;
+        @Nullable final List<String> names;
+        final List<Object> values;
+        final boolean copies;
+        int index;
+        boolean nameRead;
+
+        Frame(DataQuery path, @Nullable List<String> names, List<Object> values, boolean copies) {
+            this.path = path;
+            this.names = names;
+            this.values = values;
+            this.copies = copies;
+        }
+    }
+
+}
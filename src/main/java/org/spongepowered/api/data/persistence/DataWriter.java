@@ -0,0 +1,186 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataContainer;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+/**
+ * Writes data of a {@link StreamingDataFormat} one element at a time, without
+ * building a {@link DataContainer} for it.
+ *
+ * <p>This is the counterpart of a {@link DataReader}. Values inside of a
+ * view must be preceded by a call to {@link #name(String)}, values inside of
+ * a list must not.</p>
+ *
+ * <p>See {@link DataStreams#write(DataWriter, org.spongepowered.api.data.DataView)}
+ * for writing a whole view.</p>
+ */
+public interface DataWriter extends Closeable, Flushable {
+
+    /**
+     * Writes the start of a view.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter beginView() throws IOException;
+
+    /**
+     * Writes the end of the current view.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter endView() throws IOException;
+
+    /**
+     * Writes the start of a list.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter beginList() throws IOException;
+
+    /**
+     * Writes the end of the current list.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter endList() throws IOException;
+
+    /**
+     * Writes the name of the next value in the current view.
+     *
+     * @param name The name
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter name(String name) throws IOException;
+
+    /**
+     * Writes a boolean value.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter value(boolean value) throws IOException;
+
+    /**
+     * Writes a byte value.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter value(byte value) throws IOException;
+
+    /**
+     * Writes a short value.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter value(short value) throws IOException;
+
+    /**
+     * Writes an int value.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter value(int value) throws IOException;
+
+    /**
+     * Writes a long value.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter value(long value) throws IOException;
+
+    /**
+     * Writes a float value.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter value(float value) throws IOException;
+
+    /**
+     * Writes a double value.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter value(double value) throws IOException;
+
+    /**
+     * Writes a string value.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter value(String value) throws IOException;
+
+    /**
+     * Writes a byte array value.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter value(byte[] value) throws IOException;
+
+    /**
+     * Writes an int array value.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter value(int[] value) throws IOException;
+
+    /**
+     * Writes a long array value.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter value(long[] value) throws IOException;
+
+}
@@ -0,0 +1,76 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A {@link DataFormat} that can also be read and written one element at a
+ * time, allowing large payloads to be scanned or produced with bounded
+ * memory.
+ */
+public interface StreamingDataFormat extends DataFormat {
+
+    /**
+     * Creates a {@link DataReader} reading the contents of the given
+     * {@link InputStream}.
+     *
+     * <p>Closing the reader closes the input stream.</p>
+     *
+     * @param input The input stream
+     * @return The reader
+     * @throws IOException If there was an error reading from the stream
+     */
+    DataReader createReader(InputStream input) throws IOException;
+
+    /**
+     * Creates a {@link DataWriter} writing to the given {@link OutputStream}.
+     *
+     * <p>Closing the writer closes the output stream.</p>
+     *
+     * @param output The output stream
+     * @return The writer
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter createWriter(OutputStream output) throws IOException;
+
+    @Override
+    default DataContainer readFrom(InputStream input) throws InvalidDataFormatException, IOException {
+        return DataStreams.read(createReader(input));
+    }
+
+    @Override
+    default void writeTo(OutputStream output, DataView data) throws IOException {
+        final DataWriter writer = createWriter(output);
+        DataStreams.write(writer, data);
+        writer.flush();
+    }
+
+}
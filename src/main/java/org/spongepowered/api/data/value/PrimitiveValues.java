@@ -0,0 +1,790 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableBooleanValue;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedDoubleValue;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
+import org.spongepowered.api.data.value.immutable.ImmutableDoubleValue;
+import org.spongepowered.api.data.value.immutable.ImmutableIntValue;
+import org.spongepowered.api.data.value.mutable.BooleanValue;
+import org.spongepowered.api.data.value.mutable.DoubleValue;
+import org.spongepowered.api.data.value.mutable.IntValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedDoubleValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Plain implementations of the primitive values, holding the value, its
+ * default and its bounds unboxed. Used by the default methods of
+ * {@link ValueFactory} for implementations that do not provide primitive
+ * values themselves.
+ */
+final class PrimitiveValues {
+
+    static IntValue ofInt(Key<? extends BaseValue<Integer>> key, int value, int defaultValue) {
+        return new MutableInt(key, value, defaultValue);
+    }
+
+    static MutableBoundedIntValue ofBoundedInt(Key<? extends BaseValue<Integer>> key, int value, int defaultValue, int min, int max) {
+        checkArgument(min <= max, "The minimum %s is greater than the maximum %s", min, max);
+        return new MutableBoundedInt(key, value, defaultValue, min, max);
+    }
+
+    static DoubleValue ofDouble(Key<? extends BaseValue<Double>> key, double value, double defaultValue) {
+        return new MutableDouble(key, value, defaultValue);
+    }
+
+    static MutableBoundedDoubleValue ofBoundedDouble(Key<? extends BaseValue<Double>> key, double value, double defaultValue,
+            double min, double max) {
+        checkArgument(min <= max, "The minimum %s is greater than the maximum %s", min, max);
+        return new MutableBoundedDouble(key, value, defaultValue, min, max);
+    }
+
+    static BooleanValue ofBoolean(Key<? extends BaseValue<Boolean>> key, boolean value, boolean defaultValue) {
+        return new MutableBoolean(key, value, defaultValue);
+    }
+
+    private static class MutableInt implements IntValue {
+
+        final Key<? extends BaseValue<Integer>> key;
+        final int defaultValue;
+        int value;
+
+        MutableInt(Key<? extends BaseValue<Integer>> key, int value, int defaultValue) {
+            this.key = checkNotNull(key, "key");
+            this.value = value;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Integer get() {
+            return this.value;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public Integer getDefault() {
+            return this.defaultValue;
+        }
+
+        @Override
+        public Optional<Integer> getDirect() {
+            return Optional.of(this.value);
+        }
+
+        @Override
+        public Key<? extends BaseValue<Integer>> getKey() {
+            return this.key;
+        }
+
+        @Override
+        public int getInt() {
+            return this.value;
+        }
+
+        @Override
+        public IntValue setInt(int value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public IntValue set(Integer value) {
+            return setInt(checkNotNull(value, "value"));
+        }
+
+        @Override
+        public IntValue transform(Function<Integer, Integer> function) {
+            return set(function.apply(this.value));
+        }
+
+        @Override
+        public ImmutableIntValue asImmutable() {
+            return new ImmutableInt(this.key, this.value, this.defaultValue);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("key", this.key)
+                    .add("value", this.value)
+                    .toString();
+        }
+
+    }
+
+    private static class ImmutableInt implements ImmutableIntValue {
+
+        final Key<? extends BaseValue<Integer>> key;
+        final int value;
+        final int defaultValue;
+
+        ImmutableInt(Key<? extends BaseValue<Integer>> key, int value, int defaultValue) {
+            this.key = checkNotNull(key, "key");
+            this.value = value;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Integer get() {
+            return this.value;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public Integer getDefault() {
+            return this.defaultValue;
+        }
+
+        @Override
+        public Optional<Integer> getDirect() {
+            return Optional.of(this.value);
+        }
+
+        @Override
+        public Key<? extends BaseValue<Integer>> getKey() {
+            return this.key;
+        }
+
+        @Override
+        public int getInt() {
+            return this.value;
+        }
+
+        @Override
+        public ImmutableIntValue withInt(int value) {
+            return new ImmutableInt(this.key, value, this.defaultValue);
+        }
+
+        @Override
+        public ImmutableIntValue with(Integer value) {
+            return withInt(checkNotNull(value, "value"));
+        }
+
+        @Override
+        public ImmutableIntValue transform(Function<Integer, Integer> function) {
+            return with(function.apply(this.value));
+        }
+
+        @Override
+        public IntValue asMutable() {
+            return new MutableInt(this.key, this.value, this.defaultValue);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("key", this.key)
+                    .add("value", this.value)
+                    .toString();
+        }
+
+    }
+
+    private static final class MutableBoundedInt extends MutableInt implements MutableBoundedIntValue {
+
+        private final int min;
+        private final int max;
+
+        MutableBoundedInt(Key<? extends BaseValue<Integer>> key, int value, int defaultValue, int min, int max) {
+            super(key, value, defaultValue);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public Integer getMinValue() {
+            return this.min;
+        }
+
+        @Override
+        public Integer getMaxValue() {
+            return this.max;
+        }
+
+        @Override
+        public Comparator<Integer> getComparator() {
+            return Comparator.naturalOrder();
+        }
+
+        @Override
+        public int getMinInt() {
+            return this.min;
+        }
+
+        @Override
+        public int getMaxInt() {
+            return this.max;
+        }
+
+        @Override
+        public MutableBoundedIntValue setInt(int value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public MutableBoundedIntValue set(Integer value) {
+            return setInt(checkNotNull(value, "value"));
+        }
+
+        @Override
+        public MutableBoundedIntValue transform(Function<Integer, Integer> function) {
+            return set(function.apply(this.value));
+        }
+
+        @Override
+        public ImmutableBoundedIntValue asImmutable() {
+            return new ImmutableBoundedInt(this.key, this.value, this.defaultValue, this.min, this.max);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("key", this.key)
+                    .add("value", this.value)
+                    .add("min", this.min)
+                    .add("max", this.max)
+                    .toString();
+        }
+
+    }
+
+    private static final class ImmutableBoundedInt extends ImmutableInt implements ImmutableBoundedIntValue {
+
+        private final int min;
+        private final int max;
+
+        ImmutableBoundedInt(Key<? extends BaseValue<Integer>> key, int value, int defaultValue, int min, int max) {
+            super(key, value, defaultValue);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public Integer getMinValue() {
+            return this.min;
+        }
+
+        @Override
+        public Integer getMaxValue() {
+            return this.max;
+        }
+
+        @Override
+        public Comparator<Integer> getComparator() {
+            return Comparator.naturalOrder();
+        }
+
+        @Override
+        public int getMinInt() {
+            return this.min;
+        }
+
+        @Override
+        public int getMaxInt() {
+            return this.max;
+        }
+
+        @Override
+        public ImmutableBoundedIntValue withInt(int value) {
+            return new ImmutableBoundedInt(this.key, value, this.defaultValue, this.min, this.max);
+        }
+
+        @Override
+        public ImmutableBoundedIntValue with(Integer value) {
+            return withInt(checkNotNull(value, "value"));
+        }
+
+        @Override
+        public ImmutableBoundedIntValue transform(Function<Integer, Integer> function) {
+            return with(function.apply(this.value));
+        }
+
+        @Override
+        public MutableBoundedIntValue asMutable() {
+            return new MutableBoundedInt(this.key, this.value, this.defaultValue, this.min, this.max);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("key", this.key)
+                    .add("value", this.value)
+                    .add("min", this.min)
+                    .add("max", this.max)
+                    .toString();
+        }
+
+    }
+
+    private static class MutableDouble implements DoubleValue {
+
+        final Key<? extends BaseValue<Double>> key;
+        final double defaultValue;
+        double value;
+
+        MutableDouble(Key<? extends BaseValue<Double>> key, double value, double defaultValue) {
+            this.key = checkNotNull(key, "key");
+            this.value = value;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Double get() {
+            return this.value;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public Double getDefault() {
+            return this.defaultValue;
+        }
+
+        @Override
+        public Optional<Double> getDirect() {
+            return Optional.of(this.value);
+        }
+
+        @Override
+        public Key<? extends BaseValue<Double>> getKey() {
+            return this.key;
+        }
+
+        @Override
+        public double getDouble() {
+            return this.value;
+        }
+
+        @Override
+        public DoubleValue setDouble(double value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public DoubleValue set(Double value) {
+            return setDouble(checkNotNull(value, "value"));
+        }
+
+        @Override
+        public DoubleValue transform(Function<Double, Double> function) {
+            return set(function.apply(this.value));
+        }
+
+        @Override
+        public ImmutableDoubleValue asImmutable() {
+            return new ImmutableDouble(this.key, this.value, this.defaultValue);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("key", this.key)
+                    .add("value", this.value)
+                    .toString();
+        }
+
+    }
+
+    private static class ImmutableDouble implements ImmutableDoubleValue {
+
+        final Key<? extends BaseValue<Double>> key;
+        final double value;
+        final double defaultValue;
+
+        ImmutableDouble(Key<? extends BaseValue<Double>> key, double value, double defaultValue) {
+            this.key = checkNotNull(key, "key");
+            this.value = value;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Double get() {
+            return this.value;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public Double getDefault() {
+            return this.defaultValue;
+        }
+
+        @Override
+        public Optional<Double> getDirect() {
+            return Optional.of(this.value);
+        }
+
+        @Override
+        public Key<? extends BaseValue<Double>> getKey() {
+            return this.key;
+        }
+
+        @Override
+        public double getDouble() {
+            return this.value;
+        }
+
+        @Override
+        public ImmutableDoubleValue withDouble(double value) {
+            return new ImmutableDouble(this.key, value, this.defaultValue);
+        }
+
+        @Override
+        public ImmutableDoubleValue with(Double value) {
+            return withDouble(checkNotNull(value, "value"));
+        }
+
+        @Override
+        public ImmutableDoubleValue transform(Function<Double, Double> function) {
+            return with(function.apply(this.value));
+        }
+
+        @Override
+        public DoubleValue asMutable() {
+            return new MutableDouble(this.key, this.value, this.defaultValue);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("key", this.key)
+                    .add("value", this.value)
+                    .toString();
+        }
+
+    }
+
+    private static final class MutableBoundedDouble extends MutableDouble implements MutableBoundedDoubleValue {
+
+        private final double min;
+        private final double max;
+
+        MutableBoundedDouble(Key<? extends BaseValue<Double>> key, double value, double defaultValue, double min, double max) {
+            super(key, value, defaultValue);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public Double getMinValue() {
+            return this.min;
+        }
+
+        @Override
+        public Double getMaxValue() {
+            return this.max;
+        }
+
+        @Override
+        public Comparator<Double> getComparator() {
+            return Comparator.naturalOrder();
+        }
+
+        @Override
+        public double getMinDouble() {
+            return this.min;
+        }
+
+        @Override
+        public double getMaxDouble() {
+            return this.max;
+        }
+
+        @Override
+        public MutableBoundedDoubleValue setDouble(double value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public MutableBoundedDoubleValue set(Double value) {
+            return setDouble(checkNotNull(value, "value"));
+        }
+
+        @Override
+        public MutableBoundedDoubleValue transform(Function<Double, Double> function) {
+            return set(function.apply(this.value));
+        }
+
+        @Override
+        public ImmutableBoundedDoubleValue asImmutable() {
+            return new ImmutableBoundedDouble(this.key, this.value, this.defaultValue, this.min, this.max);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("key", this.key)
+                    .add("value", this.value)
+                    .add("min", this.min)
+                    .add("max", this.max)
+                    .toString();
+        }
+
+    }
+
+    private static final class ImmutableBoundedDouble extends ImmutableDouble implements ImmutableBoundedDoubleValue {
+
+        private final double min;
+        private final double max;
+
+        ImmutableBoundedDouble(Key<? extends BaseValue<Double>> key, double value, double defaultValue, double min, double max) {
+            super(key, value, defaultValue);
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public Double getMinValue() {
+            return this.min;
+        }
+
+        @Override
+        public Double getMaxValue() {
+            return this.max;
+        }
+
+        @Override
+        public Comparator<Double> getComparator() {
+            return Comparator.naturalOrder();
+        }
+
+        @Override
+        public double getMinDouble() {
+            return this.min;
+        }
+
+        @Override
+        public double getMaxDouble() {
+            return this.max;
+        }
+
+        @Override
+        public ImmutableBoundedDoubleValue withDouble(double value) {
+            return new ImmutableBoundedDouble(this.key, value, this.defaultValue, this.min, this.max);
+        }
+
+        @Override
+        public ImmutableBoundedDoubleValue with(Double value) {
+            return withDouble(checkNotNull(value, "value"));
+        }
+
+        @Override
+        public ImmutableBoundedDoubleValue transform(Function<Double, Double> function) {
+            return with(function.apply(this.value));
+        }
+
+        @Override
+        public MutableBoundedDoubleValue asMutable() {
+            return new MutableBoundedDouble(this.key, this.value, this.defaultValue, this.min, this.max);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("key", this.key)
+                    .add("value", this.value)
+                    .add("min", this.min)
+                    .add("max", this.max)
+                    .toString();
+        }
+
+    }
+
+    private static final class MutableBoolean implements BooleanValue {
+
+        final Key<? extends BaseValue<Boolean>> key;
+        final boolean defaultValue;
+        boolean value;
+
+        MutableBoolean(Key<? extends BaseValue<Boolean>> key, boolean value, boolean defaultValue) {
+            this.key = checkNotNull(key, "key");
+            this.value = value;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Boolean get() {
+            return this.value;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public Boolean getDefault() {
+            return this.defaultValue;
+        }
+
+        @Override
+        public Optional<Boolean> getDirect() {
+            return Optional.of(this.value);
+        }
+
+        @Override
+        public Key<? extends BaseValue<Boolean>> getKey() {
+            return this.key;
+        }
+
+        @Override
+        public boolean getBoolean() {
+            return this.value;
+        }
+
+        @Override
+        public BooleanValue setBoolean(boolean value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public BooleanValue set(Boolean value) {
+            return setBoolean(checkNotNull(value, "value"));
+        }
+
+        @Override
+        public BooleanValue transform(Function<Boolean, Boolean> function) {
+            return set(function.apply(this.value));
+        }
+
+        @Override
+        public ImmutableBooleanValue asImmutable() {
+            return new ImmutableBoolean(this.key, this.value, this.defaultValue);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("key", this.key)
+                    .add("value", this.value)
+                    .toString();
+        }
+
+    }
+
+    private static final class ImmutableBoolean implements ImmutableBooleanValue {
+
+        final Key<? extends BaseValue<Boolean>> key;
+        final boolean value;
+        final boolean defaultValue;
+
+        ImmutableBoolean(Key<? extends BaseValue<Boolean>> key, boolean value, boolean defaultValue) {
+            this.key = checkNotNull(key, "key");
+            this.value = value;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        public Boolean get() {
+            return this.value;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public Boolean getDefault() {
+            return this.defaultValue;
+        }
+
+        @Override
+        public Optional<Boolean> getDirect() {
+            return Optional.of(this.value);
+        }
+
+        @Override
+        public Key<? extends BaseValue<Boolean>> getKey() {
+            return this.key;
+        }
+
+        @Override
+        public boolean getBoolean() {
+            return this.value;
+        }
+
+        @Override
+        public ImmutableBooleanValue withBoolean(boolean value) {
+            return new ImmutableBoolean(this.key, value, this.defaultValue);
+        }
+
+        @Override
+        public ImmutableBooleanValue with(Boolean value) {
+            return withBoolean(checkNotNull(value, "value"));
+        }
+
+        @Override
+        public ImmutableBooleanValue transform(Function<Boolean, Boolean> function) {
+            return with(function.apply(this.value));
+        }
+
+        @Override
+        public BooleanValue asMutable() {
+            return new MutableBoolean(this.key, this.value, this.defaultValue);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("key", this.key)
+                    .add("value", this.value)
+                    .toString();
+        }
+
+    }
+
+    private PrimitiveValues() {
+    }
+
+}
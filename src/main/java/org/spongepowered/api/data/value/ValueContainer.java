@@ -104,6 +104,48 @@ default <E> E getOrElse(Key<? extends BaseValue<E>> key, E defaultValue) {
         return get(key).orElse(checkNotNull(defaultValue, "Provided a null default value for 'getOrElse(Key, null)'!"));
     }
 
+    /**
+     * Gets the underlying {@code int} value if available, otherwise the
+     * given {@code defaultValue}. Implementations storing the value as a
+     * primitive should override this to avoid boxing it.
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @param defaultValue The value to default to if not set
+     * @return The value, or default if not set
+     */
+    default int getInt(Key<? extends BaseValue<Integer>> key, int defaultValue) {
+        final Integer value = getOrElse(key, defaultValue);
+        return value;
+    }
+
+    /**
+     * Gets the underlying {@code double} value if available, otherwise the
+     * given {@code defaultValue}. Implementations storing the value as a
+     * primitive should override this to avoid boxing it.
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @param defaultValue The value to default to if not set
+     * @return The value, or default if not set
+     */
+    default double getDouble(Key<? extends BaseValue<Double>> key, double defaultValue) {
+        final Double value = getOrElse(key, defaultValue);
+        return value;
+    }
+
+    /**
+     * Gets the underlying {@code boolean} value if available, otherwise the
+     * given {@code defaultValue}. Implementations storing the value as a
+     * primitive should override this to avoid boxing it.
+     *
+     * @param key The key backing the {@link BaseValue}
+     * @param defaultValue The value to default to if not set
+     * @return The value, or default if not set
+     */
+    default boolean getBoolean(Key<? extends BaseValue<Boolean>> key, boolean defaultValue) {
+        final Boolean value = getOrElse(key, defaultValue);
+        return value;
+    }
+
     /**
      * Gets the {@link BaseValue} for the given {@link Key}.
      *
@@ -25,8 +25,13 @@
 package org.spongepowered.api.data.value;
 
 import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.mutable.BooleanValue;
+import org.spongepowered.api.data.value.mutable.DoubleValue;
+import org.spongepowered.api.data.value.mutable.IntValue;
 import org.spongepowered.api.data.value.mutable.ListValue;
 import org.spongepowered.api.data.value.mutable.MapValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedDoubleValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.data.value.mutable.OptionalValue;
 import org.spongepowered.api.data.value.mutable.SetValue;
@@ -65,6 +70,94 @@ public interface ValueFactory {
      */
     <E> Value<E> createValue(Key<Value<E>> key, E element, E defaultValue);
 
+    /**
+     * Creates a new {@link IntValue} with the provided {@link Key}, holding
+     * the {@code element} without boxing it.
+     *
+     * <p>The default implementation creates a plain value of the API,
+     * implementations may override it to create their own values.</p>
+     *
+     * @param key The key for the value
+     * @param element The element
+     * @param defaultValue The default value
+     * @return The newly created value
+     */
+    default IntValue createIntValue(Key<? extends BaseValue<Integer>> key, int element, int defaultValue) {
+        return PrimitiveValues.ofInt(key, element, defaultValue);
+    }
+
+    /**
+     * Creates a new {@link MutableBoundedIntValue} with the provided
+     * {@link Key}, holding the {@code element} and its bounds without boxing
+     * them.
+     *
+     * <p>The default implementation creates a plain value of the API,
+     * implementations may override it to create their own values.</p>
+     *
+     * @param key The key for the value
+     * @param element The element
+     * @param defaultValue The default value
+     * @param min The minimum value
+     * @param max The maximum value
+     * @return The newly created value
+     */
+    default MutableBoundedIntValue createBoundedIntValue(Key<? extends BaseValue<Integer>> key, int element, int defaultValue,
+            int min, int max) {
+        return PrimitiveValues.ofBoundedInt(key, element, defaultValue, min, max);
+    }
+
+    /**
+     * Creates a new {@link DoubleValue} with the provided {@link Key},
+     * holding the {@code element} without boxing it.
+     *
+     * <p>The default implementation creates a plain value of the API,
+     * implementations may override it to create their own values.</p>
+     *
+     * @param key The key for the value
+     * @param element The element
+     * @param defaultValue The default value
+     * @return The newly created value
+     */
+    default DoubleValue createDoubleValue(Key<? extends BaseValue<Double>> key, double element, double defaultValue) {
+        return PrimitiveValues.ofDouble(key, element, defaultValue);
+    }
+
+    /**
+     * Creates a new {@link MutableBoundedDoubleValue} with the provided
+     * {@link Key}, holding the {@code element} and its bounds without boxing
+     * them.
+     *
+     * <p>The default implementation creates a plain value of the API,
+     * implementations may override it to create their own values.</p>
+     *
+     * @param key The key for the value
+     * @param element The element
+     * @param defaultValue The default value
+     * @param min The minimum value
+     * @param max The maximum value
+     * @return The newly created value
+     */
+    default MutableBoundedDoubleValue createBoundedDoubleValue(Key<? extends BaseValue<Double>> key, double element, double defaultValue,
+            double min, double max) {
+        return PrimitiveValues.ofBoundedDouble(key, element, defaultValue, min, max);
+    }
+
+    /**
+     * Creates a new {@link BooleanValue} with the provided {@link Key},
+     * holding the {@code element} without boxing it.
+     *
+     * <p>The default implementation creates a plain value of the API,
+     * implementations may override it to create their own values.</p>
+     *
+     * @param key The key for the value
+     * @param element The element
+     * @param defaultValue The default value
+     * @return The newly created value
+     */
+    default BooleanValue createBooleanValue(Key<? extends BaseValue<Boolean>> key, boolean element, boolean defaultValue) {
+        return PrimitiveValues.ofBoolean(key, element, defaultValue);
+    }
+
     /**
      * Creates a new {@link ListValue} with the provided {@link Key} and
      * {@link List} of elements. The default value will be an empty list.
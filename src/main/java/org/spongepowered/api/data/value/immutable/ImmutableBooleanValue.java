@@ -0,0 +1,56 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.immutable;
+
+import org.spongepowered.api.data.value.mutable.BooleanValue;
+
+/**
+ * An {@link ImmutableValue} of a {@code boolean} that can be read and
+ * replaced without boxing the underlying value.
+ */
+public interface ImmutableBooleanValue extends ImmutableValue<Boolean> {
+
+    /**
+     * Gets the held value without boxing it.
+     *
+     * @return The held value
+     * @see #get()
+     */
+    boolean getBoolean();
+
+    /**
+     * Creates a new {@link ImmutableBooleanValue} with the given
+     * {@code value} without boxing it.
+     *
+     * @param value The value to replace
+     * @return The new value
+     * @see #with(Object)
+     */
+    ImmutableBooleanValue withBoolean(boolean value);
+
+    @Override
+    BooleanValue asMutable();
+
+}
@@ -0,0 +1,65 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.immutable;
+
+import org.spongepowered.api.data.value.mutable.MutableBoundedDoubleValue;
+
+import java.util.function.Function;
+
+/**
+ * An {@link ImmutableBoundedValue} of a {@code double} that can be read and
+ * replaced without boxing the underlying value or its bounds.
+ */
+public interface ImmutableBoundedDoubleValue extends ImmutableBoundedValue<Double>, ImmutableDoubleValue {
+
+    /**
+     * Gets the minimum value without boxing it.
+     *
+     * @return The minimum value
+     * @see #getMinValue()
+     */
+    double getMinDouble();
+
+    /**
+     * Gets the maximum value without boxing it.
+     *
+     * @return The maximum value
+     * @see #getMaxValue()
+     */
+    double getMaxDouble();
+
+    @Override
+    ImmutableBoundedDoubleValue withDouble(double value);
+
+    @Override
+    ImmutableBoundedDoubleValue with(Double value);
+
+    @Override
+    ImmutableBoundedDoubleValue transform(Function<Double, Double> function);
+
+    @Override
+    MutableBoundedDoubleValue asMutable();
+
+}
@@ -185,6 +185,48 @@ default <E> DataTransactionResult transform(Key<? extends BaseValue<E>> key, Fun
      */
     <E> DataTransactionResult offer(Key<? extends BaseValue<E>> key, E value);
 
+    /**
+     * Offers the given {@code int} value as defined by the provided
+     * {@link Key}, following the same contract as
+     * {@link #offer(Key, Object)}. Implementations storing the value as a
+     * primitive should override this to avoid boxing it.
+     *
+     * @param key The key to the value to set
+     * @param value The value to set
+     * @return The transaction result
+     */
+    default DataTransactionResult offer(Key<? extends BaseValue<Integer>> key, int value) {
+        return offer(key, Integer.valueOf(value));
+    }
+
+    /**
+     * Offers the given {@code double} value as defined by the provided
+     * {@link Key}, following the same contract as
+     * {@link #offer(Key, Object)}. Implementations storing the value as a
+     * primitive should override this to avoid boxing it.
+     *
+     * @param key The key to the value to set
+     * @param value The value to set
+     * @return The transaction result
+     */
+    default DataTransactionResult offer(Key<? extends BaseValue<Double>> key, double value) {
+        return offer(key, Double.valueOf(value));
+    }
+
+    /**
+     * Offers the given {@code boolean} value as defined by the provided
+     * {@link Key}, following the same contract as
+     * {@link #offer(Key, Object)}. Implementations storing the value as a
+     * primitive should override this to avoid boxing it.
+     *
+     * @param key The key to the value to set
+     * @param value The value to set
+     * @return The transaction result
+     */
+    default DataTransactionResult offer(Key<? extends BaseValue<Boolean>> key, boolean value) {
+        return offer(key, Boolean.valueOf(value));
+    }
+
     /**
      * Offers the given {@code value} as defined by the provided {@link Key}
      * such that a {@link DataTransactionResult} is returned for any
@@ -576,6 +618,88 @@ default DataTransactionResult offer(Iterable<H> valueContainers, MergeFunction f
         return builder.build();
     }
 
+    /**
+     * Offers all of the provided {@link BaseValue}s to this
+     * {@link CompositeValueStore} much like {@link #offer(BaseValue)},
+     * except all in a single batch. The values successfully offered,
+     * rejected, and replaced are aggregated into the single returned
+     * {@link DataTransactionResult}.
+     *
+     * @param values The values to set
+     * @return The aggregated transaction result
+     */
+    default DataTransactionResult offerAll(Iterable<? extends BaseValue<?>> values) {
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder().result(DataTransactionResult.Type.SUCCESS);
+        for (BaseValue<?> value : values) {
+            builder.absorbResult(offer(value));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Offers all of the provided {@link BaseValue}s to this
+     * {@link CompositeValueStore} much like {@link #offer(BaseValue, Cause)},
+     * except all in a single batch. The values successfully offered,
+     * rejected, and replaced are aggregated into the single returned
+     * {@link DataTransactionResult}.
+     *
+     * @param values The values to set
+     * @param cause The cause to use in the events, if required
+     * @return The aggregated transaction result
+     */
+    default DataTransactionResult offerAll(Iterable<? extends BaseValue<?>> values, Cause cause) {
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder().result(DataTransactionResult.Type.SUCCESS);
+        for (BaseValue<?> value : values) {
+            builder.absorbResult(offer(value, cause));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Offers the given {@code value} as defined by the provided {@link Key},
+     * following the same contract as {@link #offer(Key, Object)}, except
+     * that no {@link DataTransactionResult} is built. Implementations should
+     * override this to skip gathering the successful, replaced and rejected
+     * values when nobody is going to read them.
+     *
+     * @param key The key to the value to set
+     * @param value The value to set
+     * @param <E> The type of value
+     * @return True if the offer was successful
+     */
+    default <E> boolean offerWithoutResult(Key<? extends BaseValue<E>> key, E value) {
+        return offer(key, value).isSuccessful();
+    }
+
+    /**
+     * Offers all of the provided {@link BaseValue}s to this
+     * {@link CompositeValueStore} much like {@link #offerAll(Iterable)},
+     * except that no {@link DataTransactionResult} is built.
+     *
+     * @param values The values to set
+     * @return True if every offer was successful
+     * @see #offerWithoutResult(Key, Object)
+     */
+    default boolean offerAllWithoutResult(Iterable<? extends BaseValue<?>> values) {
+        boolean successful = true;
+        for (BaseValue<?> value : values) {
+            successful &= offerWithoutResult(value);
+        }
+        return successful;
+    }
+
+    /**
+     * Offers the given {@link BaseValue} much like
+     * {@link #offerWithoutResult(Key, Object)}.
+     *
+     * @param value The value to set
+     * @param <E> The type of the element wrapped by the value
+     * @return True if the offer was successful
+     */
+    default <E> boolean offerWithoutResult(BaseValue<E> value) {
+        return offerWithoutResult(value.getKey(), value.get());
+    }
+
     /**
      * Attempts to remove all {@link Value}s associated with the class of the
      * provided {@link ValueContainer} class. All values that were successfully
@@ -0,0 +1,71 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.mutable;
+
+import org.spongepowered.api.data.value.immutable.ImmutableIntValue;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A {@link Value} of an {@code int} that can be read and written without
+ * boxing the underlying value.
+ *
+ * <p>Bounded values of {@code int}s are {@link MutableBoundedIntValue}s.</p>
+ */
+public interface IntValue extends Value<Integer> {
+
+    /**
+     * Gets the held value without boxing it.
+     *
+     * @return The held value
+     * @see #get()
+     */
+    int getInt();
+
+    /**
+     * Sets the underlying value to the provided {@code value} without boxing
+     * it.
+     *
+     * @param value The value to set
+     * @return This value, for chaining
+     * @see #set(Object)
+     */
+    IntValue setInt(int value);
+
+    /**
+     * Transforms the underlying value with the provided
+     * {@link IntUnaryOperator} without boxing it.
+     *
+     * @param function The function to apply on the existing value
+     * @return This value, for chaining
+     */
+    default IntValue transformInt(IntUnaryOperator function) {
+        return setInt(function.applyAsInt(getInt()));
+    }
+
+    @Override
+    ImmutableIntValue asImmutable();
+
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.mutable;
+
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedDoubleValue;
+
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+/**
+ * A {@link MutableBoundedValue} of a {@code double} that can be read and
+ * written without boxing the underlying value or its bounds.
+ */
+public interface MutableBoundedDoubleValue extends MutableBoundedValue<Double>, DoubleValue {
+
+    /**
+     * Gets the minimum value without boxing it.
+     *
+     * @return The minimum value
+     * @see #getMinValue()
+     */
+    double getMinDouble();
+
+    /**
+     * Gets the maximum value without boxing it.
+     *
+     * @return The maximum value
+     * @see #getMaxValue()
+     */
+    double getMaxDouble();
+
+    @Override
+    MutableBoundedDoubleValue setDouble(double value);
+
+    @Override
+    default MutableBoundedDoubleValue transformDouble(DoubleUnaryOperator function) {
+        return setDouble(function.applyAsDouble(getDouble()));
+    }
+
+    @Override
+    MutableBoundedDoubleValue set(Double value);
+
+    @Override
+    MutableBoundedDoubleValue transform(Function<Double, Double> function);
+
+    @Override
+    ImmutableBoundedDoubleValue asImmutable();
+
+}
@@ -0,0 +1,71 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value.mutable;
+
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
+
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A {@link MutableBoundedValue} of an {@code int} that can be read and
+ * written without boxing the underlying value or its bounds.
+ */
+public interface MutableBoundedIntValue extends MutableBoundedValue<Integer>, IntValue {
+
+    /**
+     * Gets the minimum value without boxing it.
+     *
+     * @return The minimum value
+     * @see #getMinValue()
+     */
+    int getMinInt();
+
+    /**
+     * Gets the maximum value without boxing it.
+     *
+     * @return The maximum value
+     * @see #getMaxValue()
+     */
+    int getMaxInt();
+
+    @Override
+    MutableBoundedIntValue setInt(int value);
+
+    @Override
+    default MutableBoundedIntValue transformInt(IntUnaryOperator function) {
+        return setInt(function.applyAsInt(getInt()));
+    }
+
+    @Override
+    MutableBoundedIntValue set(Integer value);
+
+    @Override
+    MutableBoundedIntValue transform(Function<Integer, Integer> function);
+
+    @Override
+    ImmutableBoundedIntValue asImmutable();
+
+}
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.manipulator.mutable.entity.AgeableData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.entity.Entity;
 
@@ -56,7 +57,7 @@ default AgeableData getAgeData() {
      *
      * @return The mutable bounded value for the "age"
      */
-    default MutableBoundedValue<Integer> age() {
+    default MutableBoundedIntValue age() {
         return getValue(Keys.AGE).get();
     }
 
@@ -26,6 +26,8 @@
 
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.manipulator.mutable.entity.FoodData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedDoubleValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.entity.ArmorEquipable;
 import org.spongepowered.api.entity.Tamer;
@@ -56,7 +58,7 @@ default FoodData getFoodData() {
      *
      * @return The current food level
      */
-    default MutableBoundedValue<Integer> foodLevel() {
+    default MutableBoundedIntValue foodLevel() {
         return getValue(Keys.FOOD_LEVEL).get();
     }
 
@@ -70,7 +72,7 @@ default MutableBoundedValue<Integer> foodLevel() {
      *
      * @return The immutable bounded value of exhaustion
      */
-    default MutableBoundedValue<Double> exhaustion() {
+    default MutableBoundedDoubleValue exhaustion() {
         return getValue(Keys.EXHAUSTION).get();
     }
 
@@ -85,7 +87,7 @@ default MutableBoundedValue<Double> exhaustion() {
      *
      * @return The immutable bounded value of saturation
      */
-    default MutableBoundedValue<Double> saturation() {
+    default MutableBoundedDoubleValue saturation() {
         return getValue(Keys.SATURATION).get();
     }
 
@@ -30,7 +30,7 @@
 import org.spongepowered.api.data.manipulator.mutable.entity.DamageableData;
 import org.spongepowered.api.data.manipulator.mutable.entity.HealthData;
 import org.spongepowered.api.data.property.entity.EyeLocationProperty;
-import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedDoubleValue;
 import org.spongepowered.api.data.value.mutable.OptionalValue;
 import org.spongepowered.api.effect.potion.PotionEffect;
 import org.spongepowered.api.entity.Entity;
@@ -65,7 +65,7 @@ default HealthData getHealthData() {
      *
      * @return Health value
      */
-    default MutableBoundedValue<Double> health() {
+    default MutableBoundedDoubleValue health() {
         return getValue(Keys.HEALTH).get();
     }
 
@@ -78,7 +78,7 @@ default MutableBoundedValue<Double> health() {
      *
      * @return This entities maximum health
      */
-    default MutableBoundedValue<Double> maxHealth() {
+    default MutableBoundedDoubleValue maxHealth() {
         return getValue(Keys.MAX_HEALTH).get();
     }
 
@@ -26,7 +26,7 @@
 
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.type.LlamaVariant;
-import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.Value;
 import org.spongepowered.api.entity.projectile.source.ProjectileSource;
 
@@ -37,7 +37,7 @@
  */
 public interface Llama extends Horse, ProjectileSource {
 
-    default MutableBoundedValue<Integer> strength() {
+    default MutableBoundedIntValue strength() {
         return getValue(Keys.LLAMA_STRENGTH).get();
     }
 
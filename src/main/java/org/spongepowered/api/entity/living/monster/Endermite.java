@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.manipulator.mutable.entity.ExpirableData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 
 /**
@@ -48,7 +49,7 @@ default ExpirableData getExpirableData() {
      *
      * @return The immutable bounded value for the amount of ticks remaining
      */
-    default MutableBoundedValue<Integer> expireTicks() {
+    default MutableBoundedIntValue expireTicks() {
         return getValue(Keys.EXPIRATION_TICKS).get();
     }
 }
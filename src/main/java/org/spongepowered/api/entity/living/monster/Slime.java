@@ -26,7 +26,7 @@
 
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.manipulator.mutable.entity.SlimeData;
-import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 
 /**
  * Represents a Slime.
@@ -42,7 +42,7 @@ default SlimeData getSlimeData() {
         return get(SlimeData.class).get();
     }
 
-    default MutableBoundedValue<Integer> slimeSize() {
+    default MutableBoundedIntValue slimeSize() {
         return getValue(Keys.SLIME_SIZE).get();
     }
 
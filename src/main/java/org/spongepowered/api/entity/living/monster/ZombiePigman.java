@@ -26,7 +26,7 @@
 
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.manipulator.mutable.entity.AngerableData;
-import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 
 /**
  * Represents a Zombie Pigman.
@@ -42,7 +42,7 @@ default AngerableData getAngerData() {
         return get(AngerableData.class).get();
     }
 
-    default MutableBoundedValue<Integer> angerLevel() {
+    default MutableBoundedIntValue angerLevel() {
         return getValue(Keys.ANGER).get();
     }
 
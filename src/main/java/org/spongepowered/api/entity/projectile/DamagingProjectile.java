@@ -27,7 +27,7 @@
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.manipulator.mutable.entity.DamagingData;
 import org.spongepowered.api.data.value.mutable.MapValue;
-import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedDoubleValue;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.entity.living.Living;
@@ -55,7 +55,7 @@ default DamagingData getDamagingData() {
      *
      * @return The damage to deal
      */
-    default MutableBoundedValue<Double> damage() {
+    default MutableBoundedDoubleValue damage() {
         return getValue(Keys.ATTACK_DAMAGE).get();
     }
 
@@ -26,6 +26,7 @@
 
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.manipulator.mutable.entity.KnockbackData;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.entity.projectile.DamagingProjectile;
 
@@ -49,7 +50,7 @@ default KnockbackData getKnockbackData() {
      *
      * @return The immutable value for the knockback strength
      */
-    default MutableBoundedValue<Integer> knockbackStrength() {
+    default MutableBoundedIntValue knockbackStrength() {
         return getValue(Keys.KNOCKBACK_STRENGTH).get();
     }
 
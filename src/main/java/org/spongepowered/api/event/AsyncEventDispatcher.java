@@ -0,0 +1,266 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+/**
+ * Calls the asynchronous listeners of the events posted through
+ * {@link SimpleEventManager#postAsync(Event)} on an executor.
+ *
+ * <p>Every plugin has its own lane of pending calls, which is drained by at
+ * most one thread at a time, so that the listeners of a plugin receive the
+ * events in the order they were posted. The lanes are bounded, and posting
+ * to a full lane either waits for room or drops the call, as selected by
+ * the {@link AsyncOverflowPolicy}. Both are recorded in the
+ * {@link AsyncEventMetrics}.</p>
+ *
+ * <p>Calls are never run on the posting thread. If the executor rejects a
+ * lane, for example because it was shut down, the call is dropped.</p>
+ */
+final class AsyncEventDispatcher {
+
+    /**
+     * The number of calls a lane runs before it yields its thread to the
+     * other lanes.
+     */
+    private static final int DRAIN_BATCH = 64;
+
+    @Nullable private Executor executor;
+    @Nullable private ThreadPoolExecutor ownExecutor;
+    private final int laneCapacity;
+    private final AsyncOverflowPolicy overflowPolicy;
+    private final Map<PluginContainer, Lane> lanes = new ConcurrentHashMap<>();
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong maxPending = new AtomicLong();
+    private final AtomicLong stalls = new AtomicLong();
+    private final AtomicLong stalledNanos = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param executor The executor to call the listeners on, or null to
+     *     create a thread pool when it is first needed
+     * @param laneCapacity The maximum number of pending calls per plugin
+     * @param overflowPolicy What to do with calls to a full lane
+     */
+    AsyncEventDispatcher(@Nullable Executor executor, int laneCapacity, AsyncOverflowPolicy overflowPolicy) {
+        this.executor = executor;
+        this.laneCapacity = laneCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    private synchronized Executor getExecutor() {
+        if (this.executor == null) {
+            final int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            this.ownExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new ThreadFactoryBuilder()
+                            .setNameFormat("Sponge Async Event Thread #%d")
+                            .setDaemon(true)
+                            .build());
+            // Don't keep idle threads around for an event manager nobody shuts down
+            this.ownExecutor.allowCoreThreadTimeOut(true);
+            this.executor = this.ownExecutor;
+        }
+        return this.executor;
+    }
+
+    /**
+     * Shuts down the thread pool created by this dispatcher, if any. The
+     * calls queued afterwards are dropped.
+     */
+    synchronized void shutdown() {
+        if (this.ownExecutor != null) {
+            this.ownExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Queues a call on the lane of the given plugin.
+     *
+     * @param plugin The plugin
+     * @param call The call
+     * @return Whether the call was queued, otherwise it was dropped
+     */
+    boolean submit(PluginContainer plugin, Call call) {
+        Lane lane = this.lanes.get(plugin);
+        if (lane == null) {
+            lane = this.lanes.computeIfAbsent(plugin, Lane::new);
+        }
+        final long pending = this.submitted.incrementAndGet() - this.completed.get() - this.dropped.get();
+        this.maxPending.accumulateAndGet(pending, Math::max);
+        return lane.submit(call);
+    }
+
+    AsyncEventMetrics getMetrics() {
+        return new AsyncEventMetrics(this.submitted.get(), this.completed.get(), this.maxPending.get(), this.stalls.get(),
+                this.stalledNanos.get(), this.dropped.get());
+    }
+
+    /**
+     * A call queued on a lane, which is told when it is dropped instead of
+     * being run.
+     */
+    interface Call extends Runnable {
+
+        /**
+         * Called instead of {@link #run()} if the call is dropped.
+         */
+        void drop();
+    }
+
+    private final class Lane implements Runnable {
+
+        private final PluginContainer plugin;
+        private final Queue<Call> calls = new ArrayDeque<>();
+        private boolean scheduled;
+        private boolean dropping;
+        @Nullable private Thread worker;
+
+        Lane(PluginContainer plugin) {
+            this.plugin = plugin;
+        }
+
+        synchronized boolean submit(Call call) {
+            // The thread draining this lane must not wait for itself
+            if (this.calls.size() >= AsyncEventDispatcher.this.laneCapacity && this.worker != Thread.currentThread() && !awaitRoom()) {
+                if (!this.dropping) {
+                    this.dropping = true;
+                    this.plugin.getLogger().warn("The asynchronous listeners of {} can't keep up, dropping events", this.plugin.getId());
+                }
+                drop(call);
+                return false;
+            }
+            this.dropping = false;
+            this.calls.add(call);
+            if (this.scheduled) {
+                return true;
+            }
+            // Scheduled while holding the lock, so that no other call is
+            // queued on the idle lane before it is known to run
+            this.scheduled = true;
+            try {
+                getExecutor().execute(this);
+            } catch (RuntimeException e) {
+                this.scheduled = false;
+                this.calls.clear();
+                this.plugin.getLogger().error("Could not schedule the asynchronous listeners of {}, dropping the event",
+                        this.plugin.getId(), e);
+                drop(call);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Waits for the lane to have room for another call, if the policy is
+         * to block.
+         *
+         * @return Whether the lane has room
+         */
+        private boolean awaitRoom() {
+            if (AsyncEventDispatcher.this.overflowPolicy != AsyncOverflowPolicy.BLOCK) {
+                return false;
+            }
+            AsyncEventDispatcher.this.stalls.incrementAndGet();
+            final long start = System.nanoTime();
+            try {
+                while (this.calls.size() >= AsyncEventDispatcher.this.laneCapacity) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                AsyncEventDispatcher.this.stalledNanos.addAndGet(System.nanoTime() - start);
+            }
+            return this.calls.size() < AsyncEventDispatcher.this.laneCapacity;
+        }
+
+        private void drop(Call call) {
+            AsyncEventDispatcher.this.dropped.incrementAndGet();
+            call.drop();
+        }
+
+        @Override
+        public void run() {
+            while (drain()) {
+                try {
+                    // Still scheduled, continue after the other lanes had their turn
+                    getExecutor().execute(this);
+                    return;
+                } catch (RuntimeException e) {
+                    // Keep draining on this thread of the executor instead
+                }
+            }
+        }
+
+        /**
+         * Runs a batch of the queued calls.
+         *
+         * @return Whether calls remain and the lane is still scheduled
+         */
+        private boolean drain() {
+            for (int i = 0; i < DRAIN_BATCH; i++) {
+                final Runnable call;
+                synchronized (this) {
+                    call = this.calls.poll();
+                    if (call == null) {
+                        this.scheduled = false;
+                        this.worker = null;
+                        return false;
+                    }
+                    this.worker = Thread.currentThread();
+                    notifyAll();
+                }
+                try {
+                    call.run();
+                } finally {
+                    AsyncEventDispatcher.this.completed.incrementAndGet();
+                }
+            }
+            synchronized (this) {
+                this.worker = null;
+            }
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import com.google.common.base.Objects;
+
+/**
+ * A snapshot of the calls to asynchronous listeners made by a
+ * {@link SimpleEventManager}.
+ *
+ * @see SimpleEventManager#getAsyncMetrics()
+ */
+public final class AsyncEventMetrics {
+
+    private final long submitted;
+    private final long completed;
+    private final long maxPending;
+    private final long stalls;
+    private final long stalledNanos;
+    private final long dropped;
+
+    AsyncEventMetrics(long submitted, long completed, long maxPending, long stalls, long stalledNanos, long dropped) {
+        this.submitted = submitted;
+        this.completed = completed;
+        this.maxPending = maxPending;
+        this.stalls = stalls;
+        this.stalledNanos = stalledNanos;
+        this.dropped = dropped;
+    }
+
+    /**
+     * Gets the number of calls that were queued, one per plugin with
+     * asynchronous listeners for each posted event.
+     *
+     * @return The number of queued calls
+     */
+    public long getSubmitted() {
+        return this.submitted;
+    }
+
+    /**
+     * Gets the number of queued calls that have completed.
+     *
+     * @return The number of completed calls
+     */
+    public long getCompleted() {
+        return this.completed;
+    }
+
+    /**
+     * Gets the number of queued calls that have neither completed nor been
+     * dropped yet.
+     *
+     * @return The number of pending calls
+     */
+    public long getPending() {
+        return Math.max(0, this.submitted - this.completed - this.dropped);
+    }
+
+    /**
+     * Gets the highest number of pending calls seen at once.
+     *
+     * @return The highest number of pending calls
+     */
+    public long getMaxPending() {
+        return this.maxPending;
+    }
+
+    /**
+     * Gets the number of times posting an event had to wait because the lane
+     * of a plugin was full.
+     *
+     * @return The number of stalls
+     */
+    public long getStalls() {
+        return this.stalls;
+    }
+
+    /**
+     * Gets the total time posting threads spent waiting for full lanes, in
+     * nanoseconds.
+     *
+     * @return The time spent stalled
+     */
+    public long getStalledNanos() {
+        return this.stalledNanos;
+    }
+
+    /**
+     * Gets the number of calls that were dropped because the lane of a
+     * plugin was full or could not be scheduled.
+     *
+     * @return The number of dropped calls
+     */
+    public long getDropped() {
+        return this.dropped;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("submitted", this.submitted)
+                .add("completed", this.completed)
+                .add("pending", getPending())
+                .add("maxPending", this.maxPending)
+                .add("stalls", this.stalls)
+                .add("stalledNanos", this.stalledNanos)
+                .add("dropped", this.dropped)
+                .toString();
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.List;
+
+/**
+ * The result of posting an event with {@link EventManager#postAsync(Event)}.
+ */
+public final class AsyncPostResult {
+
+    private static final AsyncPostResult CANCELLED = new AsyncPostResult(true, ImmutableList.of());
+    private static final AsyncPostResult NOT_CANCELLED = new AsyncPostResult(false, ImmutableList.of());
+
+    /**
+     * Gets the result of an event whose asynchronous listeners were all
+     * queued.
+     *
+     * @param cancelled Whether the event was cancelled
+     * @return The result
+     */
+    public static AsyncPostResult of(boolean cancelled) {
+        return cancelled ? CANCELLED : NOT_CANCELLED;
+    }
+
+    /**
+     * Gets the result of an event whose asynchronous listeners of the given
+     * plugins were dropped.
+     *
+     * @param cancelled Whether the event was cancelled
+     * @param droppedPlugins The plugins whose listeners were dropped
+     * @return The result
+     */
+    public static AsyncPostResult of(boolean cancelled, List<PluginContainer> droppedPlugins) {
+        return droppedPlugins.isEmpty() ? of(cancelled) : new AsyncPostResult(cancelled, ImmutableList.copyOf(droppedPlugins));
+    }
+
+    private final boolean cancelled;
+    private final ImmutableList<PluginContainer> droppedPlugins;
+
+    private AsyncPostResult(boolean cancelled, ImmutableList<PluginContainer> droppedPlugins) {
+        this.cancelled = cancelled;
+        this.droppedPlugins = checkNotNull(droppedPlugins, "droppedPlugins");
+    }
+
+    /**
+     * Gets whether the event was cancelled by the listeners that were called
+     * before returning.
+     *
+     * @return True if cancelled, false if not
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Gets whether the asynchronous listeners of any plugin were dropped
+     * instead of being called.
+     *
+     * @return Whether any listeners were dropped
+     */
+    public boolean isDropped() {
+        return !this.droppedPlugins.isEmpty();
+    }
+
+    /**
+     * Gets the plugins whose asynchronous listeners were dropped instead of
+     * being called, because their lane was full or could not be run.
+     *
+     * @return The plugins whose listeners were dropped
+     */
+    public List<PluginContainer> getDroppedPlugins() {
+        return this.droppedPlugins;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("cancelled", this.cancelled)
+                .add("droppedPlugins", this.droppedPlugins)
+                .toString();
+    }
+
+}
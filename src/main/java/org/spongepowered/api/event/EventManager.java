@@ -29,6 +29,10 @@
 import org.spongepowered.api.event.Listener;
 import org.spongepowered.api.event.Order;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
 /**
  * Manages the registration of event listeners and the dispatching of events.
  */
@@ -113,6 +117,29 @@ <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Orde
      */
     void unregisterPluginListeners(Object plugin);
 
+    /**
+     * Checks whether any listener is registered that could be called for
+     * events of the given type, that is for the type itself, any of its
+     * supertypes or any of its subtypes. Checking a type whose subtypes have
+     * listeners, such as {@code ChangeBlockEvent} while only
+     * {@code ChangeBlockEvent.Break} has listeners, is therefore true as
+     * well.
+     *
+     * <p>This is cheap enough to be checked before an event is constructed,
+     * so that building the event, its cause and its transactions can be
+     * skipped altogether for events nobody listens to.</p>
+     *
+     * <p>The default implementation always returns {@code true}, so that
+     * event managers which don't track their listeners this way never cause
+     * events to be skipped.</p>
+     *
+     * @param eventClass The event type
+     * @return True if listeners could be called for events of the type
+     */
+    default boolean hasListeners(Class<? extends Event> eventClass) {
+        return true;
+    }
+
     /**
      * Calls a {@link Event} to all listeners that listen to it.
      *
@@ -121,4 +148,67 @@ <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Orde
      */
     boolean post(Event event);
 
+    /**
+     * Calls a {@link Event} to all listeners that listen to it, only waiting
+     * for the listeners which may cancel or modify it.
+     *
+     * <p>Listeners marked as {@link Listener#async() async} are called on
+     * another thread once the other listeners returned. The asynchronous
+     * listeners of a plugin still receive the events posted this way in the
+     * order they were posted.</p>
+     *
+     * <p>The default implementation calls all listeners through
+     * {@link #post(Event)}, without making any of them asynchronous.</p>
+     *
+     * @param event The event
+     * @return Whether the event was cancelled, and the plugins whose
+     *     asynchronous listeners were dropped instead of being called
+     */
+    default AsyncPostResult postAsync(Event event) {
+        return AsyncPostResult.of(post(event));
+    }
+
+    /**
+     * Creates an event of the given type and calls it to all listeners that
+     * listen to it, in the same way as {@link #postAsync(Event)}. The
+     * instance may be reused for a later event once its dispatch completed,
+     * so the event is only passed to the given consumer, once the listeners
+     * that are not asynchronous returned, and must not be used afterwards.
+     *
+     * <p>This is meant for high-rate events. An instance is only reused if
+     * all listeners of the event are {@link Listener#pooled() pooled}, so
+     * other listeners may keep it.</p>
+     *
+     * <p>The default implementation always creates a new instance.</p>
+     *
+     * @param type The event type, which must be implemented directly by
+     *     {@link org.spongepowered.api.event.impl.AbstractEvent}
+     * @param values The map of property names to values of the event,
+     *     which is emptied
+     * @param results The consumer of the event after its synchronous
+     *     listeners, to read the results from
+     * @param <T> The type of event
+     * @return Whether the event was cancelled, and the plugins whose
+     *     asynchronous listeners were dropped instead of being called
+     */
+    default <T extends Event> AsyncPostResult postPooled(Class<T> type, Map<String, Object> values, Consumer<? super T> results) {
+        final T event = SpongeEventFactoryUtils.createEventImpl(type, values);
+        final AsyncPostResult result = postAsync(event);
+        results.accept(event);
+        return result;
+    }
+
+    /**
+     * Gets the profiler recording the calls to the listeners of this event
+     * manager, if it supports profiling. The profiler is disabled until it
+     * is enabled through it.
+     *
+     * <p>The default implementation returns {@link Optional#empty()}.</p>
+     *
+     * @return The profiler, if available
+     */
+    default Optional<ListenerProfiler> getProfiler() {
+        return Optional.empty();
+    }
+
 }
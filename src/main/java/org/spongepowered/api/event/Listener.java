@@ -57,4 +57,25 @@
      */
     boolean beforeModifications() default false;
 
+    /**
+     * Whether this listener may be called off the main thread, after the
+     * other listeners of the event returned. Such a listener must neither
+     * cancel nor modify the event. It is only called asynchronously for events
+     * posted with {@link EventManager#postAsync(Event)}.
+     *
+     * @return If the listener may be called asynchronously
+     */
+    boolean async() default false;
+
+    /**
+     * Whether this listener accepts event instances which are reused for
+     * later events once their dispatch completed, as posted with
+     * {@link EventManager#postPooled(Class, java.util.Map, java.util.function.Consumer)}.
+     * Such a listener must not keep a reference to the event after it
+     * returned. An event is only reused if all of its listeners accept it.
+     *
+     * @return If the listener accepts reused events
+     */
+    boolean pooled() default false;
+
 }
@@ -0,0 +1,414 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ComparisonChain;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Records how often and for how long the listeners of a
+ * {@link SimpleEventManager} are called.
+ *
+ * <p>The profiler is disabled by default, in which case posting an event only
+ * checks a single flag. While it is enabled, every call to a listener is
+ * timed, and if {@link #setTrackAllocations(boolean) requested}, the bytes
+ * allocated by the calling thread during the call are counted as well.</p>
+ *
+ * @see EventManager#getProfiler()
+ */
+public final class ListenerProfiler {
+
+    /**
+     * The getThreadAllocatedBytes(long) and
+     * setThreadAllocatedMemoryEnabled(boolean) methods of the thread bean, if
+     * it is able to track allocations.
+     */
+    @Nullable private static final MethodHandle getAllocatedBytes;
+    @Nullable private static final MethodHandle setAllocationsEnabled;
+
+    static {
+        MethodHandle allocatedBytes = null;
+        MethodHandle allocationsEnabled = null;
+        try {
+            // Only some virtual machines provide this extension, so it must
+            // not be linked directly
+            final Class<?> beanClass = Class.forName("com.sun.management.ThreadMXBean");
+            final Object bean = ManagementFactory.getThreadMXBean();
+            if (beanClass.isInstance(bean) && (boolean) beanClass.getMethod("isThreadAllocatedMemorySupported").invoke(bean)) {
+                final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+                allocatedBytes = lookup.findVirtual(beanClass, "getThreadAllocatedBytes", MethodType.methodType(long.class, long.class))
+                        .bindTo(bean);
+                allocationsEnabled = lookup.findVirtual(beanClass, "setThreadAllocatedMemoryEnabled",
+                        MethodType.methodType(void.class, boolean.class)).bindTo(bean);
+            }
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            allocatedBytes = null;
+            allocationsEnabled = null;
+        }
+        getAllocatedBytes = allocatedBytes;
+        setAllocationsEnabled = allocationsEnabled;
+    }
+
+    private static long getAllocatedBytes(long threadId) {
+        try {
+            return (long) getAllocatedBytes.invokeExact(threadId);
+        } catch (Throwable t) {
+            throw Throwables.propagate(t);
+        }
+    }
+
+    private final Map<RegisteredListener<?>, Counter> counters = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    private volatile boolean trackAllocations;
+    private volatile long since = System.nanoTime();
+
+    ListenerProfiler() {
+    }
+
+    /**
+     * Gets whether calls to listeners are currently recorded.
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Sets whether calls to listeners should be recorded.
+     *
+     * @param enabled True to enable the profiler
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            this.since = System.nanoTime();
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets whether the virtual machine is able to count the bytes allocated
+     * by a thread.
+     *
+     * @return True if allocations can be tracked
+     */
+    public static boolean isAllocationTrackingSupported() {
+        return getAllocatedBytes != null;
+    }
+
+    /**
+     * Gets whether the bytes allocated during calls to listeners are counted.
+     *
+     * @return True if allocations are tracked
+     */
+    public boolean isTrackingAllocations() {
+        return this.trackAllocations;
+    }
+
+    /**
+     * Sets whether the bytes allocated during calls to listeners should be
+     * counted while the profiler is enabled.
+     *
+     * @param trackAllocations True to track allocations
+     * @throws UnsupportedOperationException If tracking allocations is not
+     *     {@link #isAllocationTrackingSupported() supported}
+     */
+    public void setTrackAllocations(boolean trackAllocations) {
+        if (trackAllocations) {
+            if (setAllocationsEnabled == null) {
+                throw new UnsupportedOperationException("The virtual machine cannot track allocated memory");
+            }
+            try {
+                setAllocationsEnabled.invokeExact(true);
+            } catch (Throwable t) {
+                throw Throwables.propagate(t);
+            }
+        }
+        this.trackAllocations = trackAllocations;
+    }
+
+    /**
+     * Discards what was recorded for the given listeners, which were
+     * unregistered.
+     *
+     * @param listeners The listeners
+     */
+    void remove(Collection<RegisteredListener<?>> listeners) {
+        for (RegisteredListener<?> listener : listeners) {
+            this.counters.remove(listener);
+        }
+    }
+
+    /**
+     * Discards everything recorded so far.
+     */
+    public void reset() {
+        this.counters.clear();
+        this.since = System.nanoTime();
+    }
+
+    /**
+     * Gets a snapshot of the recorded listeners, sorted by plugin, then by
+     * {@link Order}, and then by the time spent in them.
+     *
+     * @return The recorded listeners
+     */
+    public List<Entry> getEntries() {
+        final List<Entry> entries = new ArrayList<>(this.counters.size());
+        for (Map.Entry<RegisteredListener<?>, Counter> entry : this.counters.entrySet()) {
+            entries.add(new Entry(entry.getKey(), entry.getValue()));
+        }
+        entries.sort((a, b) -> ComparisonChain.start()
+                .compare(a.plugin.getId(), b.plugin.getId())
+                .compare(a.order, b.order)
+                .compare(b.totalNanos, a.totalNanos)
+                .result());
+        return entries;
+    }
+
+    /**
+     * Creates a human readable report of the recorded listeners, grouped by
+     * plugin and {@link Order}.
+     *
+     * @return The report
+     */
+    public String createReport() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(String.format("Event listener profile over %.3f s%n", (System.nanoTime() - this.since) / 1e9));
+        PluginContainer plugin = null;
+        Order order = null;
+        for (Entry entry : getEntries()) {
+            if (entry.plugin != plugin) {
+                plugin = entry.plugin;
+                order = null;
+                builder.append(plugin.getId()).append(String.format("%n"));
+            }
+            if (entry.order != order) {
+                order = entry.order;
+                builder.append("  ").append(order).append(String.format("%n"));
+            }
+            builder.append(String.format("    %s (%s): %d calls, %.3f ms total, %.3f ms average, %.3f ms max", entry.listener,
+                    entry.eventClass.getSimpleName(), entry.invocations, entry.totalNanos / 1e6, entry.getAverageNanos() / 1e6,
+                    entry.maxNanos / 1e6));
+            if (entry.allocatedBytes >= 0) {
+                builder.append(String.format(", %d bytes allocated", entry.allocatedBytes));
+            }
+            builder.append(String.format("%n"));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Calls the listener with the event, recording the call.
+     *
+     * @param listener The listener
+     * @param event The event
+     * @throws Exception If the listener throws an exception
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void handle(RegisteredListener<?> listener, Event event) throws Exception {
+        Counter counter = this.counters.get(listener);
+        if (counter == null) {
+            if (listener.unregistered) {
+                // A post racing the unregistration, which is not recorded
+                ((EventListener) listener.getHandler()).handle(event);
+                return;
+            }
+            counter = this.counters.computeIfAbsent(listener, key -> new Counter());
+            if (listener.unregistered) {
+                // Unregistered while the counter was added
+                this.counters.remove(listener, counter);
+            }
+        }
+        final boolean trackAllocations = this.trackAllocations && getAllocatedBytes != null;
+        final long threadId = Thread.currentThread().getId();
+        final long allocated = trackAllocations ? getAllocatedBytes(threadId) : 0;
+        final long start = System.nanoTime();
+        try {
+            ((EventListener) listener.getHandler()).handle(event);
+        } finally {
+            final long nanos = System.nanoTime() - start;
+            counter.invocations.increment();
+            counter.totalNanos.add(nanos);
+            counter.maxNanos.accumulateAndGet(nanos, Math::max);
+            if (trackAllocations) {
+                counter.allocatedBytes.add(getAllocatedBytes(threadId) - allocated);
+                counter.allocationsTracked = true;
+            }
+        }
+    }
+
+    private static final class Counter {
+
+        final LongAdder invocations = new LongAdder();
+        final LongAdder totalNanos = new LongAdder();
+        final AtomicLong maxNanos = new AtomicLong();
+        final LongAdder allocatedBytes = new LongAdder();
+        volatile boolean allocationsTracked;
+    }
+
+    /**
+     * The calls recorded for a single listener.
+     */
+    public static final class Entry {
+
+        final PluginContainer plugin;
+        final Class<?> eventClass;
+        final Order order;
+        final String listener;
+        final long invocations;
+        final long totalNanos;
+        final long maxNanos;
+        final long allocatedBytes;
+
+        Entry(RegisteredListener<?> listener, Counter counter) {
+            this.plugin = listener.getPlugin();
+            this.eventClass = listener.getEventClass();
+            this.order = listener.getOrder();
+            this.listener = listener.getHandler().toString();
+            this.invocations = counter.invocations.sum();
+            this.totalNanos = counter.totalNanos.sum();
+            this.maxNanos = counter.maxNanos.get();
+            this.allocatedBytes = counter.allocationsTracked ? counter.allocatedBytes.sum() : -1;
+        }
+
+        /**
+         * Gets the plugin that registered the listener.
+         *
+         * @return The plugin
+         */
+        public PluginContainer getPlugin() {
+            return this.plugin;
+        }
+
+        /**
+         * Gets the event class the listener was registered for.
+         *
+         * @return The event class
+         */
+        public Class<?> getEventClass() {
+            return this.eventClass;
+        }
+
+        /**
+         * Gets the order the listener was registered with.
+         *
+         * @return The order
+         */
+        public Order getOrder() {
+            return this.order;
+        }
+
+        /**
+         * Gets a description of the listener, which is the declaring class and
+         * name of listener methods.
+         *
+         * @return The description of the listener
+         */
+        public String getListener() {
+            return this.listener;
+        }
+
+        /**
+         * Gets the number of times the listener was called.
+         *
+         * @return The number of calls
+         */
+        public long getInvocations() {
+            return this.invocations;
+        }
+
+        /**
+         * Gets the total time spent in the listener, in nanoseconds.
+         *
+         * @return The total time
+         */
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        /**
+         * Gets the average time spent in a call to the listener, in
+         * nanoseconds.
+         *
+         * @return The average time
+         */
+        public long getAverageNanos() {
+            return this.invocations == 0 ? 0 : this.totalNanos / this.invocations;
+        }
+
+        /**
+         * Gets the longest time spent in a single call to the listener, in
+         * nanoseconds.
+         *
+         * @return The longest time
+         */
+        public long getMaxNanos() {
+            return this.maxNanos;
+        }
+
+        /**
+         * Gets the bytes allocated during calls to the listener, if
+         * allocations were tracked.
+         *
+         * @return The allocated bytes, if tracked
+         */
+        public OptionalLong getAllocatedBytes() {
+            return this.allocatedBytes < 0 ? OptionalLong.empty() : OptionalLong.of(this.allocatedBytes);
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("plugin", this.plugin.getId())
+                    .add("eventClass", this.eventClass.getName())
+                    .add("order", this.order)
+                    .add("listener", this.listener)
+                    .add("invocations", this.invocations)
+                    .add("totalNanos", this.totalNanos)
+                    .add("maxNanos", this.maxNanos)
+                    .add("allocatedBytes", this.allocatedBytes)
+                    .toString();
+        }
+    }
+
+}
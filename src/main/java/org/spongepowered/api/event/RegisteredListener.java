@@ -0,0 +1,140 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.plugin.PluginContainer;
+
+/**
+ * A listener registered to a {@link SimpleEventManager}.
+ *
+ * @param <T> The type of event
+ */
+final class RegisteredListener<T extends Event> implements Comparable<RegisteredListener<?>> {
+
+    private final PluginContainer plugin;
+    private final Class<T> eventClass;
+    private final Order order;
+    private final boolean beforeModifications;
+    private final boolean async;
+    private final boolean pooled;
+    private final EventListener<? super T> handler;
+    private final Object owner;
+    private final long sequence;
+
+    /**
+     * Whether this listener was unregistered, after which posts that are
+     * still running may call it without being profiled.
+     */
+    volatile boolean unregistered;
+
+    RegisteredListener(PluginContainer plugin, Class<T> eventClass, Order order, boolean beforeModifications, boolean async,
+            boolean pooled, EventListener<? super T> handler, Object owner, long sequence) {
+        this.plugin = plugin;
+        this.eventClass = eventClass;
+        this.order = order;
+        this.beforeModifications = beforeModifications;
+        this.async = async;
+        this.pooled = pooled;
+        this.handler = handler;
+        this.owner = owner;
+        this.sequence = sequence;
+    }
+
+    PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    Class<T> getEventClass() {
+        return this.eventClass;
+    }
+
+    Order getOrder() {
+        return this.order;
+    }
+
+    boolean isBeforeModifications() {
+        return this.beforeModifications;
+    }
+
+    /**
+     * Gets whether this listener may be called asynchronously for events
+     * posted with {@link EventManager#postAsync(Event)}.
+     *
+     * @return If the listener is asynchronous
+     */
+    boolean isAsync() {
+        return this.async;
+    }
+
+    /**
+     * Gets whether this listener accepts event instances which are reused
+     * once their dispatch completed.
+     *
+     * @return If the listener accepts reused events
+     */
+    boolean isPooled() {
+        return this.pooled;
+    }
+
+    EventListener<? super T> getHandler() {
+        return this.handler;
+    }
+
+    /**
+     * Gets the object this listener was registered for, which is either the
+     * object passed to {@link EventManager#registerListeners(Object, Object)}
+     * or the {@link EventListener} itself.
+     *
+     * @return The owner
+     */
+    Object getOwner() {
+        return this.owner;
+    }
+
+    /**
+     * Listeners are ordered by their {@link Order}, and then by the order
+     * they were registered in.
+     */
+    @Override
+    public int compareTo(RegisteredListener<?> o) {
+        final int result = this.order.compareTo(o.order);
+        return result != 0 ? result : Long.compare(this.sequence, o.sequence);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("plugin", this.plugin.getId())
+                .add("eventClass", this.eventClass.getName())
+                .add("order", this.order)
+                .add("beforeModifications", this.beforeModifications)
+                .add("async", this.async)
+                .add("pooled", this.pooled)
+                .add("handler", this.handler)
+                .toString();
+    }
+
+}
@@ -0,0 +1,646 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.SetMultimap;
+import com.google.common.reflect.TypeToken;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.api.util.generator.event.factory.ReusableEvent;
+import org.spongepowered.api.util.generator.event.listener.ClassEventListenerFactory;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+
+/**
+ * The default implementation of {@link EventManager}.
+ *
+ * <p>For every concrete event class that is posted, the listeners of the
+ * class and all of its supertypes are gathered once into a dispatch plan,
+ * sorted by their {@link Order}. Posting an event then only has to iterate
+ * over the arrays of its plan. {@link #hasListeners(Class)} uses the same
+ * plans, which also record whether any subtype has listeners, so it is a
+ * single lookup for types that were checked or posted
+ * before.</p>
+ *
+ * <p>Registered listeners are indexed by their event class, plugin and
+ * owner, so unregistering only touches the removed listeners. The
+ * listeners by event class and the plans are published together as an
+ * immutable {@link DispatchTable}, which is copied and swapped atomically
+ * whenever the listeners change, so concurrent posts keep using the
+ * previous table until the new one is complete. Plans for event classes
+ * that are posted for the first time are built from the current table and
+ * added the same way, without taking the lock of the registrations. The
+ * plans of the event classes of a plugin are dropped once all of its
+ * listeners are unregistered, so that the classes can be unloaded.</p>
+ *
+ * <p>The {@link Listener#async() asynchronous} listeners of events posted
+ * with {@link #postAsync(Event)} are called on an executor, in a bounded
+ * lane per plugin. What happens when a lane is full is selected by the
+ * {@link AsyncOverflowPolicy}.</p>
+ *
+ * <p>Events posted with {@link #postPooled(Class, Map, Consumer)} are reset
+ * and reused once the poster and all asynchronous listeners are done with
+ * them, but only if every listener of the event is
+ * {@link Listener#pooled() pooled}.</p>
+ *
+ * <p>Methods annotated with {@link Listener} are called through listener
+ * classes generated at runtime, which resolve the filtered parameters of the
+ * method without reflection.</p>
+ */
+public class SimpleEventManager implements EventManager {
+
+    private static final int DEFAULT_LANE_CAPACITY = 1024;
+
+    private final PluginManager pluginManager;
+    private final AsyncEventDispatcher asyncDispatcher;
+    private final ListenerProfiler profiler = new ListenerProfiler();
+    private final ClassEventListenerFactory listenerFactory = new ClassEventListenerFactory("org.spongepowered.api.event.listener");
+
+    /**
+     * The registered listeners by the event class they were registered for,
+     * by their plugin and by their owner. Guarded by {@link #lock}.
+     */
+    private final SetMultimap<Class<?>, RegisteredListener<?>> listenersByEvent = LinkedHashMultimap.create();
+    private final SetMultimap<PluginContainer, RegisteredListener<?>> listenersByPlugin = LinkedHashMultimap.create();
+    private final SetMultimap<Object, RegisteredListener<?>> listenersByOwner =
+            Multimaps.newSetMultimap(new IdentityHashMap<>(), LinkedHashSet::new);
+
+    /**
+     * The current listeners by event class and the dispatch plans of the
+     * event classes that have been posted. Replaced while holding
+     * {@link #lock} when the listeners change, and by posting threads when
+     * they add a plan, but may be read at any time.
+     */
+    final AtomicReference<DispatchTable> table = new AtomicReference<>(new DispatchTable(ImmutableMap.of(), ImmutableMap.of()));
+
+    private final Object lock = new Object();
+    private long sequence;
+
+    /**
+     * Construct a simple {@link EventManager}.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     */
+    @Inject
+    public SimpleEventManager(PluginManager pluginManager) {
+        this.pluginManager = checkNotNull(pluginManager, "pluginManager");
+        this.asyncDispatcher = new AsyncEventDispatcher(null, DEFAULT_LANE_CAPACITY, AsyncOverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Construct a simple {@link EventManager} calling the asynchronous
+     * listeners of events posted with {@link #postAsync(Event)} on the given
+     * executor.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     * @param asyncExecutor The executor to call asynchronous listeners on
+     * @param laneCapacity The maximum number of pending asynchronous calls
+     *            per plugin before posting waits for them
+     */
+    public SimpleEventManager(PluginManager pluginManager, Executor asyncExecutor, int laneCapacity) {
+        this(pluginManager, asyncExecutor, laneCapacity, AsyncOverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Construct a simple {@link EventManager} calling the asynchronous
+     * listeners of events posted with {@link #postAsync(Event)} on the given
+     * executor.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     * @param asyncExecutor The executor to call asynchronous listeners on
+     * @param laneCapacity The maximum number of pending asynchronous calls
+     *            per plugin
+     * @param overflowPolicy What posting does when a plugin has as many
+     *            pending asynchronous calls as the lane capacity
+     */
+    public SimpleEventManager(PluginManager pluginManager, Executor asyncExecutor, int laneCapacity, AsyncOverflowPolicy overflowPolicy) {
+        this.pluginManager = checkNotNull(pluginManager, "pluginManager");
+        checkNotNull(asyncExecutor, "asyncExecutor");
+        checkArgument(laneCapacity > 0, "laneCapacity must be positive");
+        checkNotNull(overflowPolicy, "overflowPolicy");
+        this.asyncDispatcher = new AsyncEventDispatcher(asyncExecutor, laneCapacity, overflowPolicy);
+    }
+
+    private PluginContainer getPlugin(Object plugin) {
+        checkNotNull(plugin, "plugin");
+        final Optional<PluginContainer> container = this.pluginManager.fromInstance(plugin);
+        if (!container.isPresent()) {
+            throw new IllegalArgumentException("The provided plugin object does not have an associated plugin container "
+                    + "(in other words, is 'plugin' actually your plugin object?)");
+        }
+        return container.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void registerListeners(Object plugin, Object obj) {
+        final PluginContainer container = getPlugin(plugin);
+        checkNotNull(obj, "obj");
+        final List<Method> methods = new ArrayList<>();
+        final List<EventListener<Event>> handlers = new ArrayList<>();
+        // Generate the listener classes before taking the lock
+        for (Method method : obj.getClass().getMethods()) {
+            if (!method.isAnnotationPresent(Listener.class)) {
+                continue;
+            }
+            try {
+                handlers.add(this.listenerFactory.create(obj, method));
+                methods.add(method);
+            } catch (IllegalArgumentException e) {
+                container.getLogger().warn("The method {} in {} is annotated with @Listener, but is not a valid listener method: {}",
+                        method.getName(), obj.getClass().getName(), e.getMessage());
+            }
+        }
+        final List<RegisteredListener<?>> listeners = new ArrayList<>();
+        synchronized (this.lock) {
+            for (int i = 0; i < methods.size(); i++) {
+                final Method method = methods.get(i);
+                final Listener annotation = method.getAnnotation(Listener.class);
+                listeners.add(new RegisteredListener<>(container, (Class<Event>) method.getParameterTypes()[0], annotation.order(),
+                        annotation.beforeModifications(), annotation.async(), annotation.pooled(), handlers.get(i), obj, this.sequence++));
+            }
+            register(listeners);
+        }
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, EventListener<? super T> listener) {
+        registerListener(plugin, eventClass, Order.DEFAULT, false, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, EventListener<? super T> listener) {
+        registerListener(plugin, eventClass, order, false, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, boolean beforeModifications,
+            EventListener<? super T> listener) {
+        final PluginContainer container = getPlugin(plugin);
+        checkNotNull(eventClass, "eventClass");
+        checkNotNull(order, "order");
+        checkNotNull(listener, "listener");
+        synchronized (this.lock) {
+            register(Arrays.asList(new RegisteredListener<>(container, eventClass, order, beforeModifications, false, false, listener,
+                    listener, this.sequence++)));
+        }
+    }
+
+    private void register(List<RegisteredListener<?>> listeners) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        final Set<Class<?>> changed = new HashSet<>();
+        for (RegisteredListener<?> listener : listeners) {
+            this.listenersByEvent.put(listener.getEventClass(), listener);
+            this.listenersByPlugin.put(listener.getPlugin(), listener);
+            this.listenersByOwner.put(listener.getOwner(), listener);
+            changed.add(listener.getEventClass());
+        }
+        rebake(changed);
+    }
+
+    private void unregister(Collection<RegisteredListener<?>> listeners) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        final Set<Class<?>> changed = new HashSet<>();
+        for (RegisteredListener<?> listener : listeners) {
+            this.listenersByEvent.remove(listener.getEventClass(), listener);
+            this.listenersByPlugin.remove(listener.getPlugin(), listener);
+            this.listenersByOwner.remove(listener.getOwner(), listener);
+            changed.add(listener.getEventClass());
+            listener.unregistered = true;
+        }
+        rebake(changed);
+        this.profiler.remove(listeners);
+    }
+
+    @Override
+    public void unregisterListeners(Object obj) {
+        checkNotNull(obj, "obj");
+        synchronized (this.lock) {
+            unregister(new ArrayList<>(this.listenersByOwner.get(obj)));
+        }
+    }
+
+    @Override
+    public void unregisterPluginListeners(Object plugin) {
+        final PluginContainer container = getPlugin(plugin);
+        final ClassLoader loader = plugin.getClass().getClassLoader();
+        synchronized (this.lock) {
+            unregister(new ArrayList<>(this.listenersByPlugin.get(container)));
+            // Keep no event classes of a plugin that may be unloaded now
+            if (loader != SimpleEventManager.class.getClassLoader()) {
+                DispatchTable table;
+                Map<Class<?>, DispatchPlan> plans;
+                do {
+                    table = this.table.get();
+                    plans = new HashMap<>(table.plans);
+                    plans.keySet().removeIf(eventClass -> eventClass.getClassLoader() == loader);
+                } while (!this.table.compareAndSet(table, new DispatchTable(table.listeners, plans)));
+            }
+        }
+    }
+
+    /**
+     * Publishes a new table with the current listeners of the given changed
+     * event classes, and the dispatch plans of the event classes which are
+     * subtypes or supertypes of them rebuilt.
+     *
+     * @param changed The event classes whose listeners changed
+     */
+    private void rebake(Set<Class<?>> changed) {
+        DispatchTable table;
+        DispatchTable rebaked;
+        do {
+            // Retried if a posting thread added a plan in the meantime
+            table = this.table.get();
+            final Map<Class<?>, RegisteredListener<?>[]> listeners = new HashMap<>(table.listeners);
+            for (Class<?> eventClass : changed) {
+                final Set<RegisteredListener<?>> registered = this.listenersByEvent.get(eventClass);
+                if (registered.isEmpty()) {
+                    listeners.remove(eventClass);
+                } else {
+                    listeners.put(eventClass, registered.toArray(new RegisteredListener<?>[registered.size()]));
+                }
+            }
+            final Map<Class<?>, DispatchPlan> plans = new HashMap<>(table.plans);
+            for (Map.Entry<Class<?>, DispatchPlan> entry : plans.entrySet()) {
+                for (Class<?> eventClass : changed) {
+                    // Supertypes only change whether subtypes have listeners
+                    if (eventClass.isAssignableFrom(entry.getKey()) || entry.getKey().isAssignableFrom(eventClass)) {
+                        entry.setValue(bake(listeners, entry.getKey()));
+                        break;
+                    }
+                }
+            }
+            rebaked = new DispatchTable(listeners, plans);
+        } while (!this.table.compareAndSet(table, rebaked));
+    }
+
+    /**
+     * Gets the dispatch plan of the given event class, building it from the
+     * current table if this class has not been posted before.
+     *
+     * @param eventClass The event class
+     * @return The dispatch plan
+     */
+    private DispatchPlan getPlan(Class<?> eventClass) {
+        DispatchTable table = this.table.get();
+        DispatchPlan plan = table.plans.get(eventClass);
+        while (plan == null) {
+            plan = bake(table.listeners, eventClass);
+            final Map<Class<?>, DispatchPlan> plans = new HashMap<>(table.plans);
+            plans.put(eventClass, plan);
+            if (this.table.compareAndSet(table, new DispatchTable(table.listeners, plans))) {
+                break;
+            }
+            // The listeners changed or another plan was added, start over
+            table = this.table.get();
+            plan = table.plans.get(eventClass);
+        }
+        return plan;
+    }
+
+    private static DispatchPlan bake(Map<Class<?>, RegisteredListener<?>[]> listenersByEvent, Class<?> eventClass) {
+        final List<RegisteredListener<?>> before = new ArrayList<>();
+        final List<RegisteredListener<?>> after = new ArrayList<>();
+        final ListMultimap<PluginContainer, RegisteredListener<?>> async = ArrayListMultimap.create();
+        for (Class<?> type : TypeToken.of(eventClass).getTypes().rawTypes()) {
+            final RegisteredListener<?>[] listeners = listenersByEvent.get(type);
+            if (listeners == null) {
+                continue;
+            }
+            for (RegisteredListener<?> listener : listeners) {
+                (listener.isBeforeModifications() ? before : after).add(listener);
+                if (listener.isAsync()) {
+                    async.put(listener.getPlugin(), listener);
+                }
+            }
+        }
+        final RegisteredListener<?>[] beforeArray = before.toArray(new RegisteredListener<?>[before.size()]);
+        final RegisteredListener<?>[] afterArray = after.toArray(new RegisteredListener<?>[after.size()]);
+        Arrays.sort(beforeArray);
+        Arrays.sort(afterArray);
+        final PluginContainer[] asyncPlugins = async.keySet().toArray(new PluginContainer[async.keySet().size()]);
+        final RegisteredListener<?>[][] asyncListeners = new RegisteredListener<?>[asyncPlugins.length][];
+        for (int i = 0; i < asyncPlugins.length; i++) {
+            final List<RegisteredListener<?>> listeners = async.get(asyncPlugins[i]);
+            asyncListeners[i] = listeners.toArray(new RegisteredListener<?>[listeners.size()]);
+            Arrays.sort(asyncListeners[i]);
+        }
+        boolean subtypeListeners = false;
+        for (Class<?> type : listenersByEvent.keySet()) {
+            if (eventClass.isAssignableFrom(type)) {
+                subtypeListeners = true;
+                break;
+            }
+        }
+        return new DispatchPlan(beforeArray, afterArray, asyncPlugins, asyncListeners, subtypeListeners);
+    }
+
+    @Override
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        checkNotNull(eventClass, "eventClass");
+        final DispatchPlan plan = getPlan(eventClass);
+        return plan.hasListeners || plan.hasSubtypeListeners;
+    }
+
+    @Override
+    public boolean post(Event event) {
+        checkNotNull(event, "event");
+        final DispatchPlan plan = getPlan(event.getClass());
+        dispatch(event, plan.before, false);
+        dispatch(event, plan.after, false);
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    @Override
+    public AsyncPostResult postAsync(Event event) {
+        checkNotNull(event, "event");
+        return postAsync(event, getPlan(event.getClass()), null);
+    }
+
+    @Override
+    public <T extends Event> AsyncPostResult postPooled(Class<T> type, Map<String, Object> values, Consumer<? super T> results) {
+        checkNotNull(type, "type");
+        checkNotNull(values, "values");
+        checkNotNull(results, "results");
+        final T event = SpongeEventFactoryUtils.createPooledEventImpl(type, values);
+        final DispatchPlan plan = getPlan(event.getClass());
+        // An event that any listener may keep is simply left to the garbage collector
+        final ReusableEvent pooled = plan.pooled ? (ReusableEvent) event : null;
+        try {
+            final AsyncPostResult result = postAsync(event, plan, pooled);
+            results.accept(event);
+            return result;
+        } finally {
+            if (pooled != null && pooled.release()) {
+                SpongeEventFactoryUtils.recycle(pooled);
+            }
+        }
+    }
+
+    private AsyncPostResult postAsync(Event event, DispatchPlan plan, @Nullable ReusableEvent pooled) {
+        dispatch(event, plan.before, true);
+        dispatch(event, plan.after, true);
+        final boolean cancelled = event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        List<PluginContainer> dropped = null;
+        for (int i = 0; i < plan.asyncPlugins.length; i++) {
+            if (pooled != null) {
+                // Every plugin holds the event until its listeners are done
+                pooled.retain();
+            }
+            // The asynchronous listeners of different plugins run concurrently,
+            // so they can't share the current order of the event
+            if (!this.asyncDispatcher.submit(plan.asyncPlugins[i], new AsyncCall(event, plan.asyncListeners[i], pooled))) {
+                if (dropped == null) {
+                    dropped = new ArrayList<>();
+                }
+                dropped.add(plan.asyncPlugins[i]);
+            }
+        }
+        return dropped == null ? AsyncPostResult.of(cancelled) : AsyncPostResult.of(cancelled, dropped);
+    }
+
+    /**
+     * Gets a snapshot of the calls to asynchronous listeners of events posted
+     * with {@link #postAsync(Event)}.
+     *
+     * @return The metrics of the asynchronous listeners
+     */
+    public AsyncEventMetrics getAsyncMetrics() {
+        return this.asyncDispatcher.getMetrics();
+    }
+
+    /**
+     * Shuts down the thread pool this event manager created for the
+     * asynchronous listeners of events posted with {@link #postAsync(Event)},
+     * if any. Executors passed to the constructor are left alone.
+     *
+     * <p>The asynchronous listeners of events posted afterwards are
+     * dropped.</p>
+     */
+    public void shutdown() {
+        this.asyncDispatcher.shutdown();
+    }
+
+    /**
+     * Calls an {@link Event} to only the listeners that listen to it either
+     * before or after other server modifications, as selected by
+     * {@link Listener#beforeModifications()}. This allows implementations to
+     * call the modifications in between.
+     *
+     * @param event The event
+     * @param beforeModifications Whether to call the listeners registered to
+     *     be called before other server modifications
+     * @return True if cancelled, false if not
+     */
+    public boolean post(Event event, boolean beforeModifications) {
+        checkNotNull(event, "event");
+        final DispatchPlan plan = getPlan(event.getClass());
+        dispatch(event, beforeModifications ? plan.before : plan.after, false);
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    @Override
+    public Optional<ListenerProfiler> getProfiler() {
+        return Optional.of(this.profiler);
+    }
+
+    private void dispatch(Event event, RegisteredListener<?>[] listeners, boolean skipAsync) {
+        dispatch(event, listeners, skipAsync, event instanceof AbstractEvent ? (AbstractEvent) event : null);
+    }
+
+    /**
+     * Calls the listeners, exposing the {@link Order} of the listener being
+     * called through {@link AbstractEvent#currentOrder} of the given event.
+     *
+     * @param event The event
+     * @param listeners The listeners to call
+     * @param skipAsync Whether to skip asynchronous listeners
+     * @param ordered The event to set the current order of, or null if it
+     *     should not be set
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void dispatch(Event event, RegisteredListener<?>[] listeners, boolean skipAsync, @Nullable AbstractEvent ordered) {
+        final boolean profile = this.profiler.isEnabled();
+        for (RegisteredListener<?> listener : listeners) {
+            if (skipAsync && listener.isAsync()) {
+                continue;
+            }
+            if (ordered != null) {
+                ordered.currentOrder = listener.getOrder();
+            }
+            try {
+                if (profile) {
+                    this.profiler.handle(listener, event);
+                } else {
+                    ((EventListener) listener.getHandler()).handle(event);
+                }
+            } catch (Throwable t) {
+                listener.getPlugin().getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(),
+                        listener.getPlugin().getId(), t);
+            } finally {
+                if (ordered != null) {
+                    ordered.currentOrder = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * A call to the asynchronous listeners of a plugin, which releases a
+     * pooled event once they are done or the call is dropped.
+     */
+    private final class AsyncCall implements AsyncEventDispatcher.Call {
+
+        private final Event event;
+        private final RegisteredListener<?>[] listeners;
+        @Nullable private final ReusableEvent pooled;
+
+        AsyncCall(Event event, RegisteredListener<?>[] listeners, @Nullable ReusableEvent pooled) {
+            this.event = event;
+            this.listeners = listeners;
+            this.pooled = pooled;
+        }
+
+        @Override
+        public void run() {
+            try {
+                dispatch(this.event, this.listeners, false, null);
+            } finally {
+                release();
+            }
+        }
+
+        @Override
+        public void drop() {
+            release();
+        }
+
+        private void release() {
+            if (this.pooled != null && this.pooled.release()) {
+                SpongeEventFactoryUtils.recycle(this.pooled);
+            }
+        }
+    }
+
+    /**
+     * The registered listeners by event class together with the dispatch
+     * plans built from them. Never modified once published.
+     */
+    static final class DispatchTable {
+
+        final Map<Class<?>, RegisteredListener<?>[]> listeners;
+        final Map<Class<?>, DispatchPlan> plans;
+
+        DispatchTable(Map<Class<?>, RegisteredListener<?>[]> listeners, Map<Class<?>, DispatchPlan> plans) {
+            this.listeners = listeners;
+            this.plans = plans;
+        }
+    }
+
+    /**
+     * The listeners to call for a concrete event class, sorted by their
+     * {@link Order}.
+     */
+    static final class DispatchPlan {
+
+        final RegisteredListener<?>[] before;
+        final RegisteredListener<?>[] after;
+        final boolean hasListeners;
+
+        /**
+         * Whether listeners are registered for the event class itself or any
+         * of its subtypes.
+         */
+        final boolean hasSubtypeListeners;
+
+        /**
+         * The plugins with asynchronous listeners, and their asynchronous
+         * listeners at the same index.
+         */
+        final PluginContainer[] asyncPlugins;
+        final RegisteredListener<?>[][] asyncListeners;
+
+        /**
+         * Whether all listeners accept the event to be reused once its
+         * dispatch completed.
+         */
+        final boolean pooled;
+
+        DispatchPlan(RegisteredListener<?>[] before, RegisteredListener<?>[] after, PluginContainer[] asyncPlugins,
+                RegisteredListener<?>[][] asyncListeners, boolean hasSubtypeListeners) {
+            this.before = before;
+            this.after = after;
+            this.asyncPlugins = asyncPlugins;
+            this.asyncListeners = asyncListeners;
+            this.hasListeners = before.length != 0 || after.length != 0;
+            this.hasSubtypeListeners = hasSubtypeListeners;
+            this.pooled = isPooled(before) && isPooled(after);
+        }
+
+        private static boolean isPooled(RegisteredListener<?>[] listeners) {
+            for (RegisteredListener<?> listener : listeners) {
+                if (!listener.isPooled()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+}
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.event;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -32,15 +34,20 @@
 import org.spongepowered.api.Game;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.game.state.GameStateEvent;
+import org.spongepowered.api.event.impl.AbstractEvent;
 import org.spongepowered.api.eventgencore.classwrapper.reflection.ReflectionUtils;
 import org.spongepowered.api.util.generator.event.factory.ClassGeneratorProvider;
 import org.spongepowered.api.util.generator.event.factory.EventFactory;
 import org.spongepowered.api.util.generator.event.factory.NullPolicy;
+import org.spongepowered.api.util.generator.event.factory.ReusableEvent;
 import org.spongepowered.api.util.generator.event.factory.plugin.AccessorModifierEventFactoryPlugin;
 import org.spongepowered.api.util.generator.event.factory.plugin.EventFactoryPlugin;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A class to hold the logic for {@link SpongeEventFactory}
@@ -64,8 +71,24 @@ public EventFactory<?> load(Class<?> type) {
             });
 
 
+    /**
+     * The maximum number of idle instances kept per pooled event type.
+     */
+    private static final int POOL_CAPACITY = 16;
+
+    /**
+     * The idle instances of the event types posted with
+     * {@link EventManager#postPooled}, by event type and by their generated
+     * class. Only the event manager returns instances to them, once all the
+     * listeners of an event accepted it to be reused.
+     */
+    private static final Map<Class<?>, Queue<ReusableEvent>> pools = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Queue<ReusableEvent>> poolsByClass = new ConcurrentHashMap<>();
+
     static {
         factoryProvider.setNullPolicy(NullPolicy.NON_NULL_BY_DEFAULT);
+        // The precompiled events are generated by EventImplPrecompiler with these settings
+        factoryProvider.setPrecompiledWith(NullPolicy.NON_NULL_BY_DEFAULT, plugins);
     }
 
     /**
@@ -81,6 +104,47 @@ public static <T> T createEventImpl(Class<T> type, Map<String, Object> values) {
         return (T) factories.getUnchecked(type).apply(values);
     }
 
+    /**
+     * Creates an event of the given type, reusing an idle instance of the
+     * type if there is one.
+     *
+     * @param type The event type
+     * @param values The map of property names to values
+     * @param <T> The type of event to be created
+     * @return The event
+     */
+    @SuppressWarnings("unchecked")
+    static <T extends Event> T createPooledEventImpl(Class<T> type, Map<String, Object> values) {
+        Queue<ReusableEvent> pool = pools.get(type);
+        if (pool == null) {
+            checkArgument(ReflectionUtils.getBaseClass(type).getActualClass() == AbstractEvent.class,
+                    "The event type %s is not implemented directly by AbstractEvent", type.getName());
+            pool = pools.computeIfAbsent(type, key -> new ArrayBlockingQueue<>(POOL_CAPACITY));
+        }
+        final ReusableEvent pooled = pool.poll();
+        if (pooled != null) {
+            pooled.initialize(values);
+            return (T) pooled;
+        }
+        final T event = createEventImpl(type, values);
+        poolsByClass.putIfAbsent(event.getClass(), pool);
+        return event;
+    }
+
+    /**
+     * Resets an event created by {@link #createPooledEventImpl(Class, Map)}
+     * and makes it available for reuse.
+     *
+     * @param event The event, which must not be referenced anymore
+     */
+    static void recycle(ReusableEvent event) {
+        final Queue<ReusableEvent> pool = poolsByClass.get(event.getClass());
+        if (pool != null) {
+            event.reset();
+            pool.offer(event);
+        }
+    }
+
     /**
      * Creates a new {@link GameStateEvent} of the given type.
      *
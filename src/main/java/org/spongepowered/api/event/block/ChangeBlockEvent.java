@@ -24,9 +24,11 @@
  */
 package org.spongepowered.api.event.block;
 
+import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.Lists;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTransactionBatch;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.block.tileentity.TileEntity;
@@ -36,10 +38,12 @@
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.world.TargetWorldEvent;
+import org.spongepowered.api.eventgencore.annotation.PropertySettings;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 /**
@@ -57,6 +61,23 @@ public interface ChangeBlockEvent extends TargetWorldEvent, Cancellable {
      */
     List<Transaction<BlockSnapshot>> getTransactions();
 
+    /**
+     * Gets the {@link BlockTransactionBatch} holding the transactions of this
+     * event, if the implementation tracks them in one.
+     *
+     * <p>Large changes such as explosions may be backed by a batch, which
+     * allows their transactions to be inspected and filtered without
+     * creating a {@link BlockSnapshot} for every block. A transaction only
+     * applies post event if it is valid both in the batch and in
+     * {@link #getTransactions()}.</p>
+     *
+     * @return The transaction batch, if available
+     */
+    @PropertySettings(requiredParameter = false, generateMethods = false)
+    default Optional<BlockTransactionBatch> getTransactionBatch() {
+        return Optional.empty();
+    }
+
     /**
      * Applies the provided {@link Predicate} to the {@link List} of
      * {@link Transaction}s from {@link #getTransactions()} such that
@@ -66,10 +87,19 @@ public interface ChangeBlockEvent extends TargetWorldEvent, Cancellable {
      *
      * <p>{@link Transaction#getOriginal()} is used to get the {@link Location}</p>
      *
+     * <p>If this event has a {@link #getTransactionBatch() transaction
+     * batch}, the batch is filtered as well. The transactions of the batch
+     * are not included in the returned list.</p>
+     *
      * @param predicate The predicate to use for filtering
      * @return The transactions for which the predicate returned <code>false</code>
      */
     default List<Transaction<BlockSnapshot>> filter(Predicate<Location<World>> predicate) {
+        final Optional<BlockTransactionBatch> batch = this.getTransactionBatch();
+        if (batch.isPresent()) {
+            final World world = this.getTargetWorld();
+            batch.get().filterAll((x, y, z) -> predicate.test(new Location<>(world, x, y, z)));
+        }
         List<Transaction<BlockSnapshot>> invalidatedTransactions = Lists.newArrayList();
         for (Transaction<BlockSnapshot> transaction: this.getTransactions()) {
             if (!predicate.test(transaction.getOriginal().getLocation().get())) {
@@ -83,13 +113,44 @@ default List<Transaction<BlockSnapshot>> filter(Predicate<Location<World>> predi
     /**
      * Invalidates the list as such that all {@link Transaction}s are
      * marked as "invalid" and will not apply post event.
+     *
+     * <p>If this event has a {@link #getTransactionBatch() transaction
+     * batch}, the batch is invalidated as well.</p>
      */
     default void filterAll() {
+        this.getTransactionBatch().ifPresent(BlockTransactionBatch::invalidateAll);
         for (Transaction<BlockSnapshot> transaction: this.getTransactions()) {
             transaction.setValid(false);
         }
     }
 
+    /**
+     * Marks every {@link Transaction} whose original position lies within
+     * the given region as "invalid", such that it will not apply post event.
+     *
+     * <p>If this event has a {@link #getTransactionBatch() transaction
+     * batch}, the batch is filtered as well.</p>
+     *
+     * @param min The minimum corner of the region, inclusive
+     * @param max The maximum corner of the region, inclusive
+     * @return The number of transactions that were newly invalidated, which
+     *     are counted in the transaction batch if this event has one
+     */
+    default int invalidateAll(Vector3i min, Vector3i max) {
+        final Optional<BlockTransactionBatch> batch = this.getTransactionBatch();
+        final int batchCount = batch.isPresent() ? batch.get().invalidateAll(min, max) : 0;
+        int count = 0;
+        for (Transaction<BlockSnapshot> transaction: this.getTransactions()) {
+            final Vector3i position = transaction.getOriginal().getPosition();
+            if (transaction.isValid() && position.getX() >= min.getX() && position.getY() >= min.getY() && position.getZ() >= min.getZ()
+                    && position.getX() <= max.getX() && position.getY() <= max.getY() && position.getZ() <= max.getZ()) {
+                transaction.setValid(false);
+                count++;
+            }
+        }
+        return batch.isPresent() ? batchCount : count;
+    }
+
     /**
      * Called before running specific block logic at one or more 
      * {@link Location}'s such as {@link BlockTypes#FLOWING_WATER}.
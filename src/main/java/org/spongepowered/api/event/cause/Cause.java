@@ -36,14 +36,11 @@
 import org.spongepowered.api.event.cause.entity.spawn.SpawnCause;
 import org.spongepowered.api.util.ResettableBuilder;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.StringJoiner;
 
 import javax.annotation.Nullable;
@@ -103,6 +100,17 @@ public static Cause of(Iterable<NamedCause> iterable) {
         return builder.build();
     }
 
+    /**
+     * Causes with up to this many objects are always scanned directly, as
+     * looking up their {@link TypeIndex} would not be any cheaper.
+     */
+    private static final int SCAN_LIMIT = 3;
+
+    /**
+     * The maximum number of types remembered in {@link #typeIndex}.
+     */
+    private static final int MAX_INDEXED_TYPES = 8;
+
     final Object[] cause;
     final String[] names;
 
@@ -110,6 +118,12 @@ public static Cause of(Iterable<NamedCause> iterable) {
     @Nullable private Map<String, Object> namedObjectMap;
     @Nullable private ImmutableList<Object> immutableCauses;
 
+    // The most recently queried type first. Racy, but every index is immutable
+    // and can simply be computed again if an update is lost.
+    @Nullable private TypeIndex typeIndex;
+    // The type queried once without being indexed yet
+    @Nullable private Class<?> scannedType;
+
     Cause(NamedCause[] causes) {
         // basically, no validation, all the validation should take place calling this constructor
         final Object[] objects = new Object[causes.length];
@@ -124,6 +138,77 @@ public static Cause of(Iterable<NamedCause> iterable) {
         this.names = names;
     }
 
+    Cause(Object[] objects, String[] names) {
+        // the arrays are owned by this cause from now on
+        this.cause = objects;
+        this.names = names;
+    }
+
+    /**
+     * Gets the remembered positions of the first and last objects of the
+     * given type. The first query of a type is answered by a direct scan
+     * that stops at the first match, so the index is only built once the
+     * same type is queried again.
+     *
+     * @param target The class of the target type
+     * @return The positions of the type, or null to scan directly
+     */
+    @Nullable
+    private TypeIndex getTypeIndex(Class<?> target) {
+        if (this.cause.length <= SCAN_LIMIT) {
+            return null;
+        }
+        final TypeIndex head = this.typeIndex;
+        for (TypeIndex index = head; index != null; index = index.next) {
+            if (index.type == target) {
+                return index;
+            }
+        }
+        if (this.scannedType != target) {
+            this.scannedType = target;
+            return null;
+        }
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < this.cause.length; i++) {
+            if (target.isInstance(this.cause[i])) {
+                if (first == -1) {
+                    first = i;
+                }
+                last = i;
+            }
+        }
+        final TypeIndex index = new TypeIndex(target, first, last, head == null || head.size >= MAX_INDEXED_TYPES ? null : head);
+        this.typeIndex = index;
+        return index;
+    }
+
+    private int firstIndexOf(Class<?> target) {
+        final TypeIndex index = getTypeIndex(target);
+        if (index != null) {
+            return index.first;
+        }
+        for (int i = 0; i < this.cause.length; i++) {
+            if (target.isInstance(this.cause[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int lastIndexOf(Class<?> target) {
+        final TypeIndex index = getTypeIndex(target);
+        if (index != null) {
+            return index.last;
+        }
+        for (int i = this.cause.length - 1; i >= 0; i--) {
+            if (target.isInstance(this.cause[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Gets the root {@link Object} of this cause. The root can be anything,
      * including but not limited to: {@link DamageSource}, {@link Entity},
@@ -144,12 +229,8 @@ public Object root() {
      * @return The first element of the type, if available
      */
     public <T> Optional<T> first(Class<T> target) {
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return Optional.of((T) aCause);
-            }
-        }
-        return Optional.empty();
+        final int index = firstIndexOf(target);
+        return index == -1 ? Optional.empty() : Optional.of((T) this.cause[index]);
     }
 
     /**
@@ -161,12 +242,8 @@ public <T> Optional<T> first(Class<T> target) {
      * @return The last element of the type, if available
      */
     public <T> Optional<T> last(Class<T> target) {
-        for (int i = this.cause.length - 1; i >= 0; i--) {
-            if (target.isInstance(this.cause[i])) {
-                return Optional.of((T) this.cause[i]);
-            }
-        }
-        return Optional.empty();
+        final int index = lastIndexOf(target);
+        return index == -1 ? Optional.empty() : Optional.of((T) this.cause[index]);
     }
 
     /**
@@ -205,9 +282,15 @@ public Optional<?> before(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i > 0) {
-                return Optional.of(this.cause[i - 1]);
+        final int index = firstIndexOf(clazz);
+        if (index > 0) {
+            return Optional.of(this.cause[index - 1]);
+        } else if (index == 0) {
+            // The root has nothing before it, look for the next instance
+            for (int i = 1; i < this.cause.length; i++) {
+                if (clazz.isInstance(this.cause[i])) {
+                    return Optional.of(this.cause[i - 1]);
+                }
             }
         }
         return Optional.empty();
@@ -250,10 +333,10 @@ public Optional<?> after(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i + 1 < this.cause.length) {
-                return Optional.of(this.cause[i + 1]);
-            }
+        // Only the first instance matters, any later one has nothing after it
+        final int index = firstIndexOf(clazz);
+        if (index != -1 && index + 1 < this.cause.length) {
+            return Optional.of(this.cause[index + 1]);
         }
         return Optional.empty();
     }
@@ -289,13 +372,7 @@ public Optional<?> after(String named) {
      */
     public boolean containsType(Class<?> target) {
         checkArgument(target != null, "The provided class cannot be null!");
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return true;
-            }
-        }
-
-        return false;
+        return firstIndexOf(target) != -1;
     }
 
     /**
@@ -340,10 +417,18 @@ public boolean containsNamed(String named) {
      * @return An immutable list of the objects queried
      */
     public <T> List<T> allOf(Class<T> target) {
+        final int first = firstIndexOf(target);
+        if (first == -1) {
+            return ImmutableList.of();
+        }
+        final int last = lastIndexOf(target);
+        if (first == last) {
+            return ImmutableList.of((T) this.cause[first]);
+        }
         ImmutableList.Builder<T> builder = ImmutableList.builder();
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                builder.add((T) aCause);
+        for (int i = first; i <= last; i++) {
+            if (target.isInstance(this.cause[i])) {
+                builder.add((T) this.cause[i]);
             }
         }
         return builder.build();
@@ -388,13 +473,12 @@ public List<Object> all() {
      */
     public Cause with(NamedCause additional, NamedCause... additionals) {
         checkArgument(additional != null, "No null arguments allowed!");
-        List<NamedCause> list = new ArrayList<>();
-        list.add(additional);
+        final Builder builder = new Builder(this.cause.length + 1 + additionals.length).from(this).named(additional);
         for (NamedCause object : additionals) {
             checkArgument(object != null, "Cannot add null objects!");
-            list.add(object);
+            builder.named(object);
         }
-        return with(list);
+        return builder.build();
     }
 
     /**
@@ -405,7 +489,7 @@ public Cause with(NamedCause additional, NamedCause... additionals) {
      * @return The new cause
      */
     public Cause with(Iterable<NamedCause> iterable) {
-        Cause.Builder builder = new Builder().from(this);
+        Cause.Builder builder = new Builder(this.cause.length + 1).from(this);
         for (NamedCause o : iterable) {
             checkArgument(o != null, "Cannot add null causes");
             builder.named(o);
@@ -422,7 +506,7 @@ public Cause with(Iterable<NamedCause> iterable) {
      * @return The new merged cause
      */
     public Cause merge(Cause cause) {
-        Cause.Builder builder = builder().from(this);
+        Cause.Builder builder = new Builder(this.cause.length + cause.cause.length).from(this);
         for (int i = 0; i < cause.cause.length; i++) {
             builder.suggestNamed(cause.names[i], cause.cause[i]);
         }
@@ -472,48 +556,106 @@ public String toString() {
         return causeString + joiner.toString() + "]";
     }
 
+    /**
+     * The positions of the first and last objects of a type in a cause, or
+     * -1 if there is none.
+     */
+    private static final class TypeIndex {
+
+        final Class<?> type;
+        final int first;
+        final int last;
+        final int size;
+        @Nullable final TypeIndex next;
+
+        TypeIndex(Class<?> type, int first, int last, @Nullable TypeIndex next) {
+            this.type = type;
+            this.first = first;
+            this.last = last;
+            this.next = next;
+            this.size = next == null ? 1 : next.size + 1;
+        }
+    }
+
+    /**
+     * A builder for {@link Cause}s, which appends to growing arrays and only
+     * copies them once they are built. A builder may be {@link #reset()} and
+     * reused for further causes.
+     */
     public static final class Builder implements ResettableBuilder<Cause, Builder> {
 
-        List<NamedCause> causes = new ArrayList<>();
-        Set<String> namesUsed = new HashSet<>();
+        private static final int DEFAULT_CAPACITY = 4;
+
+        private Object[] objects;
+        private String[] names;
+        private int size;
 
         Builder() {
+            this(DEFAULT_CAPACITY);
+        }
+
+        Builder(int capacity) {
+            this.objects = new Object[capacity];
+            this.names = new String[capacity];
+        }
+
+        private boolean isNameUsed(String name) {
+            // Causes are small, a scan is cheaper than maintaining a set
+            for (int i = 0; i < this.size; i++) {
+                if (this.names[i].equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void add(String name, Object object) {
+            if (this.size == this.objects.length) {
+                final int capacity = Math.max(DEFAULT_CAPACITY, this.size * 2);
+                this.objects = Arrays.copyOf(this.objects, capacity);
+                this.names = Arrays.copyOf(this.names, capacity);
+            }
+            this.objects[this.size] = object;
+            this.names[this.size] = name;
+            this.size++;
+        }
 
+        private void addChecked(String name, Object object) {
+            checkNotNull(name, "Cannot have a null name!");
+            checkNotNull(object, "Cannot have a null object!");
+            checkArgument(!name.isEmpty(), "The name cannot be empty!");
+            checkArgument(!(object instanceof NamedCause), "Cannot nest a named cause in a named cause!");
+            add(name, object);
         }
 
         Builder source(Object object) {
-            this.causes.add(NamedCause.source(checkNotNull(object, "Source cannot be null!")));
-            this.namesUsed.add(NamedCause.SOURCE);
+            addChecked(NamedCause.SOURCE, checkNotNull(object, "Source cannot be null!"));
             return this;
         }
 
         public Builder owner(Object object) {
-            checkArgument(!this.namesUsed.contains(NamedCause.OWNER), "Already contains an owner!");
-            this.causes.add(NamedCause.owner(object));
-            this.namesUsed.add(NamedCause.OWNER);
+            checkArgument(!isNameUsed(NamedCause.OWNER), "Already contains an owner!");
+            addChecked(NamedCause.OWNER, object);
             return this;
         }
 
         public Builder notifier(Object object) {
-            checkArgument(!this.namesUsed.contains(NamedCause.NOTIFIER), "Already contains a notifier!");
-            this.causes.add(NamedCause.notifier(object));
-            this.namesUsed.add(NamedCause.NOTIFIER);
+            checkArgument(!isNameUsed(NamedCause.NOTIFIER), "Already contains a notifier!");
+            addChecked(NamedCause.NOTIFIER, object);
             return this;
         }
 
         public Builder named(NamedCause cause) {
             checkNotNull(cause, "NamedCause cannot be null!");
-            checkArgument(!this.namesUsed.contains(cause.getName()), "Already contains an entry for: {}", cause.getName());
-            this.causes.add(cause);
-            this.namesUsed.add(cause.getName());
+            checkArgument(!isNameUsed(cause.getName()), "Already contains an entry for: {}", cause.getName());
+            add(cause.getName(), cause.getCauseObject());
             return this;
         }
 
         public Builder named(String name, Object object) {
             checkNotNull(name, "Name cannot be null!");
-            checkArgument(!this.namesUsed.contains(name), "Already contains an entry for {}", name);
-            this.causes.add(NamedCause.of(name, object));
-            this.namesUsed.add(name);
+            checkArgument(!isNameUsed(name), "Already contains an entry for {}", name);
+            addChecked(name, object);
             return this;
         }
 
@@ -532,18 +674,16 @@ public Builder suggestNamed(String name, Object object) {
             checkNotNull(name, "Name cannot be null!");
             checkNotNull(object, "Object cannot be null!");
             int iteration = 1;
-            if (this.namesUsed.contains(name)) {
+            if (isNameUsed(name)) {
                 while (true) {
                     final String newName = name + iteration++;
-                    if (!this.namesUsed.contains(newName)) {
-                        this.causes.add(NamedCause.of(newName, object));
-                        this.namesUsed.add(newName);
+                    if (!isNameUsed(newName)) {
+                        addChecked(newName, object);
                         break;
                     }
                 }
             } else {
-                this.causes.add(NamedCause.of(name, object));
-                this.namesUsed.add(name);
+                addChecked(name, object);
             }
             return this;
         }
@@ -555,23 +695,23 @@ public Builder addAll(Collection<NamedCause> causes) {
         }
 
         public Cause build() {
-            checkState(!this.causes.isEmpty(), "Cannot create an empty Cause!");
-            return new Cause(this.causes.toArray(new NamedCause[this.causes.size()]));
+            checkState(this.size != 0, "Cannot create an empty Cause!");
+            return new Cause(Arrays.copyOf(this.objects, this.size), Arrays.copyOf(this.names, this.size));
         }
 
         @Override
         public Builder from(Cause value) {
             for (int i = 0; i < value.cause.length; i++) {
-                this.causes.add(NamedCause.of(value.names[i], value.cause[i]));
-                this.namesUsed.add(value.names[i]);
+                add(value.names[i], value.cause[i]);
             }
             return this;
         }
 
         @Override
         public Builder reset() {
-            this.causes.clear();
-            this.namesUsed.clear();
+            Arrays.fill(this.objects, 0, this.size, null);
+            Arrays.fill(this.names, 0, this.size, null);
+            this.size = 0;
             return this;
         }
     }
@@ -29,14 +29,21 @@
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACC_SYNCHRONIZED;
 import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ARETURN;
 import static org.objectweb.asm.Opcodes.ASTORE;
 import static org.objectweb.asm.Opcodes.ATHROW;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DCONST_0;
 import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.FCONST_0;
 import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.IADD;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
@@ -48,9 +55,11 @@
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.IRETURN;
 import static org.objectweb.asm.Opcodes.ISUB;
+import static org.objectweb.asm.Opcodes.LCONST_0;
 import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.SWAP;
 import static org.objectweb.asm.Opcodes.V1_6;
 
 import com.google.common.collect.ImmutableList;
@@ -86,6 +95,13 @@ public class ClassGenerator {
     private NullPolicy nullPolicy = NullPolicy.DISABLE_PRECONDITIONS;
     private final List<String> primitivePropertyExceptions = ImmutableList.of("cancelled");
 
+    /**
+     * The name of the generated field counting the references added by
+     * {@link ReusableEvent#retain()}, which cannot clash with the name of a
+     * property.
+     */
+    private static final String RETAINED_FIELD = "$retained";
+
     /**
      * Insert the necessary methods to box a primitive type (if the given type
      * is a primitive object).
@@ -253,8 +269,7 @@ private void contributeField(ClassWriter classWriter, Class<?> parentType, Prope
         }
     }
 
-    private void generateConstructor(ClassWriter classWriter, String internalName, Class<?> parentType,
-            ImmutableSet<? extends Property<Class<?>, Method>> properties) {
+    private void generateConstructor(ClassWriter classWriter, String internalName, Class<?> parentType) {
         MethodVisitor mv =
                 classWriter.visitMethod(ACC_PUBLIC, "<init>", "(Ljava/util/Map;)V", "(Ljava/util/Map<Ljava/lang/String;Ljava/lang/Object;>;)V", null);
         mv.visitCode();
@@ -263,6 +278,22 @@ private void generateConstructor(ClassWriter classWriter, String internalName, C
         mv.visitVarInsn(ALOAD, 0);
         mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(parentType), "<init>", "()V", false);
 
+        // this.initialize(map)
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitMethodInsn(INVOKEVIRTUAL, internalName, "initialize", "(Ljava/util/Map;)V", false);
+
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void generateInitializer(ClassWriter classWriter, String internalName, Class<?> parentType,
+            ImmutableSet<? extends Property<Class<?>, Method>> properties) {
+        MethodVisitor mv = classWriter.visitMethod(ACC_PUBLIC, "initialize", "(Ljava/util/Map;)V",
+                "(Ljava/util/Map<Ljava/lang/String;Ljava/lang/Object;>;)V", null);
+        mv.visitCode();
+
         for (Property<Class<?>, Method> property : properties) {
             if (!property.isLeastSpecificType()) {
                 continue;
@@ -356,6 +387,105 @@ private void generateConstructor(ClassWriter classWriter, String internalName, C
         mv.visitEnd();
     }
 
+    /**
+     * Generates the reset() method of {@link ReusableEvent}, which sets every
+     * field that the initializer may set back to its default value.
+     */
+    private void generateReset(ClassWriter classWriter, String internalName, Class<?> parentType,
+            ImmutableSet<? extends Property<Class<?>, Method>> properties) {
+        MethodVisitor mv = classWriter.visitMethod(ACC_PUBLIC, "reset", "()V", null, null);
+        mv.visitCode();
+
+        for (Property<Class<?>, Method> property : properties) {
+            if (!property.isLeastSpecificType()) {
+                continue;
+            }
+            final Type type = Type.getType(property.getType());
+            mv.visitVarInsn(ALOAD, 0);
+            switch (type.getSort()) {
+                case Type.LONG:
+                    mv.visitInsn(LCONST_0);
+                    break;
+                case Type.FLOAT:
+                    mv.visitInsn(FCONST_0);
+                    break;
+                case Type.DOUBLE:
+                    mv.visitInsn(DCONST_0);
+                    break;
+                case Type.OBJECT:
+                case Type.ARRAY:
+                    mv.visitInsn(ACONST_NULL);
+                    break;
+                default:
+                    mv.visitInsn(ICONST_0);
+                    break;
+            }
+            final String owner = getUseField(parentType, property.getName()) != null ? Type.getInternalName(parentType) : internalName;
+            mv.visitFieldInsn(PUTFIELD, owner, property.getName(), type.getDescriptor());
+        }
+
+        // this.currentOrder = null
+        final Field currentOrder = getField(parentType, "currentOrder");
+        if (currentOrder != null) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitInsn(ACONST_NULL);
+            mv.visitFieldInsn(PUTFIELD, Type.getInternalName(currentOrder.getDeclaringClass()), currentOrder.getName(),
+                    Type.getDescriptor(currentOrder.getType()));
+        }
+
+        // this.$retained = 0
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitInsn(ICONST_0);
+        mv.visitFieldInsn(PUTFIELD, internalName, RETAINED_FIELD, "I");
+
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * Generates the field and methods counting the references to the event,
+     * as required by {@link ReusableEvent}. The methods are synchronized, as
+     * the references may be dropped by different threads.
+     */
+    private void generateRetention(ClassWriter classWriter, String internalName) {
+        classWriter.visitField(ACC_PRIVATE, RETAINED_FIELD, "I", null, null).visitEnd();
+
+        // this.$retained++
+        MethodVisitor mv = classWriter.visitMethod(ACC_PUBLIC | ACC_SYNCHRONIZED, "retain", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitInsn(DUP);
+        mv.visitFieldInsn(GETFIELD, internalName, RETAINED_FIELD, "I");
+        mv.visitInsn(ICONST_1);
+        mv.visitInsn(IADD);
+        mv.visitFieldInsn(PUTFIELD, internalName, RETAINED_FIELD, "I");
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+
+        // return this.$retained-- == 0
+        mv = classWriter.visitMethod(ACC_PUBLIC | ACC_SYNCHRONIZED, "release", "()Z", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, internalName, RETAINED_FIELD, "I");
+        mv.visitInsn(DUP);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitInsn(SWAP);
+        mv.visitInsn(ICONST_1);
+        mv.visitInsn(ISUB);
+        mv.visitFieldInsn(PUTFIELD, internalName, RETAINED_FIELD, "I");
+        Label stillRetained = new Label();
+        mv.visitJumpInsn(IFNE, stillRetained);
+        mv.visitInsn(ICONST_1);
+        mv.visitInsn(IRETURN);
+        mv.visitLabel(stillRetained);
+        mv.visitInsn(ICONST_0);
+        mv.visitInsn(IRETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
     private void generateAccessor(ClassWriter cw, Class<?> parentType, String internalName, Property<Class<?>, Method> property) {
         Method accessor = property.getAccessor();
 
@@ -564,7 +694,8 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
         final String internalName = getInternalName(name);
 
         final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
-        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, Type.getInternalName(parentType), new String[] {Type.getInternalName(type)});
+        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, Type.getInternalName(parentType),
+                new String[] {Type.getInternalName(type), Type.getInternalName(ReusableEvent.class)});
 
         MethodVisitor toStringMv = this.initializeToString(cw, type);
 
@@ -573,8 +704,13 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
         // Create the fields
         // this.contributeFields(cw, parentType, properties, plugins);
 
-        // Create the constructor
-        this.generateConstructor(cw, internalName, parentType, properties);
+        // Create the constructor, which delegates to initialize()
+        this.generateConstructor(cw, internalName, parentType);
+        this.generateInitializer(cw, internalName, parentType, properties);
+
+        // Create the methods needed to reuse the instance
+        this.generateReset(cw, internalName, parentType, properties);
+        this.generateRetention(cw, internalName);
 
         // The return value of toString takes the form of
         // "ClassName{param1=value1, param2=value2, ...}"
@@ -618,8 +754,22 @@ private void generateWithPlugins(ClassWriter cw, Class<?> eventClass, Class<?> p
      */
     public byte[] createFactory(final Class<?> type, final String name) {
         checkNotNull(type, "type");
+        return this.createFactory(type.getName(), name);
+    }
+
+    /**
+     * Create the factory for an event class that does not need to be loaded.
+     *
+     * @param eventName The canonical name of the event class
+     * @param name The canonical name of the factory class
+     * @return The factory class' bytes
+     */
+    public byte[] createFactory(final String eventName, final String name) {
+        checkNotNull(eventName, "eventName");
+        checkNotNull(name, "name");
 
         String internalName = name.replace('.', '/');
+        Type type = Type.getObjectType(getInternalName(eventName));
 
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
         cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, "java/lang/Object", new String[] {Type.getInternalName(EventFactory.class)});
@@ -639,14 +789,14 @@ public byte[] createFactory(final Class<?> type, final String name) {
         {
             MethodVisitor mv = cw.visitMethod(ACC_PUBLIC,
                     "apply",
-                    "(Ljava/util/Map;)" + Type.getDescriptor(type),
-                    "(Ljava/util/Map<Ljava/lang/String;Ljava/lang/Object;>;)" + Type.getDescriptor(type),
+                    "(Ljava/util/Map;)" + type.getDescriptor(),
+                    "(Ljava/util/Map<Ljava/lang/String;Ljava/lang/Object;>;)" + type.getDescriptor(),
                     null);
             mv.visitCode();
-            mv.visitTypeInsn(NEW, Type.getInternalName(type));
+            mv.visitTypeInsn(NEW, type.getInternalName());
             mv.visitInsn(DUP);
             mv.visitVarInsn(ALOAD, 1);
-            mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(type), "<init>", "(Ljava/util/Map;)V", false);
+            mv.visitMethodInsn(INVOKESPECIAL, type.getInternalName(), "<init>", "(Ljava/util/Map;)V", false);
             mv.visitInsn(ARETURN);
             mv.visitMaxs(0, 0);
             mv.visitEnd();
@@ -668,7 +818,7 @@ public byte[] createFactory(final Class<?> type, final String name) {
                     INVOKEVIRTUAL,
                     internalName,
                     "apply",
-                    "(Ljava/util/Map;)" + Type.getDescriptor(type),
+                    "(Ljava/util/Map;)" + type.getDescriptor(),
                     false);
             mv.visitInsn(ARETURN);
             mv.visitMaxs(0, 0);
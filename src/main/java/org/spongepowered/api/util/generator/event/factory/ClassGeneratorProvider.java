@@ -26,20 +26,33 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.util.generator.GeneratorUtils;
 import org.spongepowered.api.util.generator.event.factory.plugin.EventFactoryPlugin;
 
 import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
 
 /**
  * Creates event implementations by generating the necessary event class
  * and event factory at runtime.
+ *
+ * <p>Event classes and factories that were generated ahead of time with
+ * {@link #generate(Class, Class, List)} and can be found by the class
+ * loader of this provider are used instead of generating them again, as
+ * long as they were generated with the null policy and plugins that are
+ * currently in use. See {@link #setPrecompiledWith(NullPolicy, List)}.</p>
  */
 public class ClassGeneratorProvider implements FactoryProvider {
 
     private final GeneratorUtils.LocalClassLoader classLoader = new GeneratorUtils.LocalClassLoader(ClassGeneratorProvider.class.getClassLoader());
     private final ClassGenerator builder = new ClassGenerator();
     private final String targetPackage;
+    @Nullable private NullPolicy precompiledNullPolicy;
+    @Nullable private List<EventFactoryPlugin> precompiledPlugins;
 
     /**
      * Create a new instance.
@@ -61,6 +74,22 @@ public void setNullPolicy(NullPolicy nullPolicy) {
         this.builder.setNullPolicy(nullPolicy);
     }
 
+    /**
+     * Sets the null policy and the plugins that the precompiled event classes
+     * were generated with. Precompiled classes are ignored unless this was
+     * called, and whenever the null policy or the plugins a class is created
+     * with differ from these.
+     *
+     * @param nullPolicy The null policy of the precompiled classes
+     * @param plugins The {@link EventFactoryPlugin}s of the precompiled classes
+     */
+    public void setPrecompiledWith(NullPolicy nullPolicy, List<? extends EventFactoryPlugin> plugins) {
+        checkNotNull(nullPolicy, "nullPolicy");
+        checkNotNull(plugins, "plugins");
+        this.precompiledNullPolicy = nullPolicy;
+        this.precompiledPlugins = ImmutableList.copyOf(plugins);
+    }
+
     /**
      * Gets the canonical name used for a generated event class.
      *
@@ -77,14 +106,38 @@ protected String getClassName(Class<?> clazz, String classifier) {
         return this.targetPackage + "." + name + "$" + classifier;
     }
 
+    /**
+     * Generates the event class and the event factory for the given type
+     * without loading them, so that they can be included ahead of time.
+     *
+     * @param type The type to generate a class for
+     * @param parentType The parent type
+     * @param plugins The {@link EventFactoryPlugin}s to use when generating the class
+     * @return The bytes of the generated classes, by their canonical names
+     */
+    public Map<String, byte[]> generate(Class<?> type, Class<?> parentType, List<? extends EventFactoryPlugin> plugins) {
+        String eventName = getClassName(type, "Impl");
+        String factoryName = getClassName(type, "Factory");
+
+        return ImmutableMap.of(
+                eventName, this.builder.createClass(type, eventName, parentType, plugins),
+                factoryName, this.builder.createFactory(eventName, factoryName));
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> EventFactory<T> create(final Class<T> type, Class<?> parentType, List<? extends EventFactoryPlugin> plugins) {
         String eventName = getClassName(type, "Impl");
         String factoryName = getClassName(type, "Factory");
 
-        Class<?> eventClass = this.classLoader.defineClass(eventName, this.builder.createClass(type, eventName, parentType, plugins));
-        Class<?> factoryClass = this.classLoader.defineClass(factoryName, this.builder.createFactory(eventClass, factoryName));
+        Class<?> factoryClass = null;
+        if (this.precompiledPlugins != null && this.precompiledNullPolicy == this.getNullPolicy() && this.precompiledPlugins.equals(plugins)) {
+            factoryClass = this.findPrecompiledFactory(type, factoryName);
+        }
+        if (factoryClass == null) {
+            Class<?> eventClass = this.classLoader.defineClass(eventName, this.builder.createClass(type, eventName, parentType, plugins));
+            factoryClass = this.classLoader.defineClass(factoryName, this.builder.createFactory(eventClass, factoryName));
+        }
 
         try {
             return (EventFactory<T>) factoryClass.newInstance();
@@ -92,4 +145,23 @@ public <T> EventFactory<T> create(final Class<T> type, Class<?> parentType, List
             throw new RuntimeException("Failed to create event factory", e);
         }
     }
+
+    @Nullable
+    private Class<?> findPrecompiledFactory(Class<?> type, String factoryName) {
+        final Class<?> factoryClass;
+        try {
+            factoryClass = Class.forName(factoryName, false, this.classLoader.getParent());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        // Event types of plugins may share their simple name with one of ours
+        try {
+            if (!type.isAssignableFrom(factoryClass.getMethod("apply", Map.class).getReturnType())) {
+                return null;
+            }
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        return factoryClass;
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event.factory;
+
+import java.util.Map;
+
+/**
+ * An event implementation generated by {@link ClassGenerator}, whose
+ * instances can be reset and reused for further events of the same type.
+ */
+public interface ReusableEvent {
+
+    /**
+     * Sets the properties of this event from the given map of parameters, in
+     * the same way as the generated constructor.
+     *
+     * @param values The map of property names to values, which is emptied
+     */
+    void initialize(Map<String, Object> values);
+
+    /**
+     * Clears all properties of this event, so that it no longer references
+     * the objects of the event it was used for.
+     */
+    void reset();
+
+    /**
+     * Adds a reference to this event beyond its dispatch, which keeps it
+     * from being reused for another event until it is {@link #release()
+     * released} once more than it was retained.
+     */
+    void retain();
+
+    /**
+     * Drops a reference to this event. Whoever created the event holds the
+     * first reference, and every {@link #retain()} adds another one.
+     *
+     * @return True if this was the last reference, so that the event can
+     *     be reused
+     */
+    boolean release();
+
+}
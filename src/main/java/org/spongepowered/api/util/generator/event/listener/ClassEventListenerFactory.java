@@ -0,0 +1,120 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event.listener;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.util.generator.GeneratorUtils;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates the {@link EventListener}s of methods annotated with
+ * {@link Listener} by generating a listener class per method at runtime.
+ *
+ * <p>The generated classes are defined in a class loader below the one of the
+ * class declaring the listener, and are reused for every object of the same
+ * class that is registered. They are attached to that class through a
+ * {@link ClassValue}, as any map keyed by the class would keep it loaded
+ * through the loader of the generated classes, so that they can be unloaded
+ * along with the plugin.</p>
+ */
+public class ClassEventListenerFactory {
+
+    private final ListenerClassGenerator generator = new ListenerClassGenerator();
+    private final ClassValue<GeneratedClasses> generatedClasses = new ClassValue<GeneratedClasses>() {
+
+        @Override
+        protected GeneratedClasses computeValue(Class<?> type) {
+            return new GeneratedClasses(type);
+        }
+    };
+    private final String targetPackage;
+    private int id;
+
+    /**
+     * Create a new instance.
+     *
+     * @param targetPackage The target package to place generated listener
+     *     classes in
+     */
+    public ClassEventListenerFactory(String targetPackage) {
+        checkNotNull(targetPackage, "targetPackage");
+        this.targetPackage = targetPackage;
+    }
+
+    /**
+     * Creates an {@link EventListener} calling the given method on the
+     * handle.
+     *
+     * @param handle The object to call the method on
+     * @param method The method annotated with {@link Listener}
+     * @return The event listener
+     * @throws IllegalArgumentException If the method is not a valid listener
+     *     method
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized EventListener<Event> create(Object handle, Method method) {
+        checkNotNull(handle, "handle");
+        checkNotNull(method, "method");
+        final Class<?> handleClass = handle.getClass();
+        final GeneratedClasses generated = this.generatedClasses.get(handleClass);
+        Class<?> listenerClass = generated.listenerClasses.get(method);
+        if (listenerClass == null) {
+            final String name = GeneratorUtils.getClassName(this.targetPackage, handleClass, method.getName() + "$Listener" + this.id++);
+            listenerClass = generated.classLoader.defineClass(name, this.generator.createClass(handleClass, method, name));
+            generated.listenerClasses.put(method, listenerClass);
+        }
+
+        try {
+            return (EventListener<Event>) listenerClass.getConstructor(Object.class).newInstance(handle);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Failed to create event listener", e);
+        }
+    }
+
+    /**
+     * The listener classes generated for the methods of a class.
+     */
+    private static final class GeneratedClasses {
+
+        final GeneratorUtils.LocalClassLoader classLoader;
+        final Map<Method, Class<?>> listenerClasses = new HashMap<>();
+
+        GeneratedClasses(Class<?> handleClass) {
+            ClassLoader parent = handleClass.getClassLoader();
+            if (parent == null) {
+                parent = ClassEventListenerFactory.class.getClassLoader();
+            }
+            this.classLoader = new GeneratorUtils.LocalClassLoader(parent);
+        }
+    }
+
+}
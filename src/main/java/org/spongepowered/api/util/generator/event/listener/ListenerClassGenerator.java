@@ -0,0 +1,504 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event.listener;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ANEWARRAY;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.ISTORE;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.POP2;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.After;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.Before;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Named;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
+import org.spongepowered.api.event.filter.data.Supports;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.api.util.Tristate;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Generates the bytecode of the {@link EventListener}s needed by
+ * {@link ClassEventListenerFactory}.
+ *
+ * <p>One class is generated per method annotated with {@link Listener}. The
+ * parameters of the method are resolved from the event and its {@link Cause}
+ * with direct calls and instanceof checks, as selected by the annotations in
+ * the {@code org.spongepowered.api.event.filter} packages. Events which do
+ * not pass a filter return before the method is called.</p>
+ */
+public class ListenerClassGenerator {
+
+    private static final String EVENT = Type.getInternalName(Event.class);
+    private static final String CAUSE = Type.getInternalName(Cause.class);
+    private static final String CANCELLABLE = Type.getInternalName(Cancellable.class);
+    private static final String DATA_HOLDER = Type.getInternalName(DataHolder.class);
+    private static final String OPTIONAL = Type.getInternalName(Optional.class);
+    private static final String LIST = Type.getInternalName(List.class);
+
+    /**
+     * The local variable holding the event.
+     */
+    private static final int EVENT_LOCAL = 1;
+
+    /**
+     * The local variable holding the cause of the event, once it is needed.
+     */
+    private static final int CAUSE_LOCAL = 2;
+
+    /**
+     * Create the listener class of a listener method.
+     *
+     * @param handleClass The class of the object the method is called on
+     * @param method The method annotated with {@link Listener}
+     * @param name The canonical name of the generated class
+     * @return The class' contents, to be loaded via a {@link ClassLoader}
+     * @throws IllegalArgumentException If the method is not a valid listener
+     *     method
+     */
+    public byte[] createClass(Class<?> handleClass, Method method, String name) {
+        checkNotNull(handleClass, "handleClass");
+        checkNotNull(method, "method");
+        checkNotNull(name, "name");
+        checkArgument(Modifier.isPublic(handleClass.getModifiers()), "The class %s is not public", handleClass.getName());
+        checkArgument(Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers()),
+                "The method %s is not a public instance method", method.getName());
+        final Class<?>[] parameters = method.getParameterTypes();
+        checkArgument(parameters.length > 0 && Event.class.isAssignableFrom(parameters[0]),
+                "The first parameter of the method %s is not an event", method.getName());
+
+        final String internalName = name.replace('.', '/');
+        final String handleName = Type.getInternalName(handleClass);
+        final String handleDescriptor = Type.getDescriptor(handleClass);
+
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, internalName, null, "java/lang/Object",
+                new String[] {Type.getInternalName(EventListener.class)});
+        cw.visitField(ACC_PRIVATE + ACC_FINAL, "handle", handleDescriptor, null, null).visitEnd();
+
+        // Create the constructor
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(Ljava/lang/Object;)V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, handleName);
+            mv.visitFieldInsn(PUTFIELD, internalName, "handle", handleDescriptor);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // Create handle(Event)
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "handle", "(L" + EVENT + ";)V", null, new String[] {"java/lang/Exception"});
+            mv.visitCode();
+            final HandleContext context = new HandleContext(mv, method);
+
+            generateTypeFilter(context);
+            generateCancellationFilter(context);
+
+            final Annotation[][] annotations = method.getParameterAnnotations();
+            final int[] locals = new int[parameters.length];
+            for (int i = 1; i < parameters.length; i++) {
+                locals[i] = generateParameter(context, i, parameters[i], annotations[i]);
+            }
+
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, "handle", handleDescriptor);
+            mv.visitVarInsn(ALOAD, EVENT_LOCAL);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameters[0]));
+            for (int i = 1; i < parameters.length; i++) {
+                mv.visitVarInsn(Type.getType(parameters[i]).getOpcode(ILOAD), locals[i]);
+            }
+            mv.visitMethodInsn(INVOKEVIRTUAL, handleName, method.getName(), Type.getMethodDescriptor(method), false);
+            final Type returnType = Type.getReturnType(method);
+            if (returnType.getSize() != 0) {
+                mv.visitInsn(returnType.getSize() == 2 ? POP2 : POP);
+            }
+            mv.visitInsn(RETURN);
+
+            mv.visitLabel(context.skip);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // Create toString()
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "toString", "()Ljava/lang/String;", null, null);
+            mv.visitCode();
+            mv.visitLdcInsn(handleClass.getName() + "#" + method.getName());
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    private static void generateTypeFilter(HandleContext context) {
+        final Include include = context.method.getAnnotation(Include.class);
+        final Exclude exclude = context.method.getAnnotation(Exclude.class);
+        checkArgument(include == null || exclude == null, "The method %s cannot have both @Include and @Exclude", context.method.getName());
+        if (include != null) {
+            generateInstanceFilter(context, EVENT_LOCAL, include.value(), false);
+        } else if (exclude != null) {
+            generateInstanceFilter(context, EVENT_LOCAL, exclude.value(), true);
+        }
+    }
+
+    private static void generateCancellationFilter(HandleContext context) {
+        final IsCancelled isCancelled = context.method.getAnnotation(IsCancelled.class);
+        if (!Cancellable.class.isAssignableFrom(context.eventType)) {
+            checkArgument(isCancelled == null, "The method %s has @IsCancelled, but its event is not cancellable", context.method.getName());
+            return;
+        }
+        // Cancelled events are skipped unless asked for otherwise
+        final Tristate state = isCancelled == null ? Tristate.FALSE : isCancelled.value();
+        if (state == Tristate.UNDEFINED) {
+            return;
+        }
+        final MethodVisitor mv = context.mv;
+        mv.visitVarInsn(ALOAD, EVENT_LOCAL);
+        mv.visitTypeInsn(CHECKCAST, CANCELLABLE);
+        mv.visitMethodInsn(INVOKEINTERFACE, CANCELLABLE, "isCancelled", "()Z", true);
+        mv.visitJumpInsn(state == Tristate.TRUE ? IFEQ : IFNE, context.skip);
+    }
+
+    /**
+     * Generates the code storing the value of a parameter after the event in
+     * a new local variable.
+     *
+     * @return The local variable
+     */
+    private static int generateParameter(HandleContext context, int index, Class<?> type, Annotation[] annotations) {
+        Annotation source = null;
+        final List<Annotation> dataFilters = new ArrayList<>();
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof Has || annotation instanceof Supports) {
+                dataFilters.add(annotation);
+            } else if (annotation instanceof Getter || annotation instanceof All || annotation instanceof First
+                    || annotation instanceof Last || annotation instanceof Root || annotation instanceof Named
+                    || annotation instanceof Before || annotation instanceof After) {
+                checkArgument(source == null, "Parameter %s of the method %s has more than one source", index, context.method.getName());
+                source = annotation;
+            }
+        }
+        checkArgument(source != null, "Parameter %s of the method %s has no source annotation", index, context.method.getName());
+        checkArgument(source instanceof Getter || !type.isPrimitive(), "Parameter %s of the method %s cannot be a primitive",
+                index, context.method.getName());
+
+        final int local;
+        if (source instanceof Getter) {
+            local = generateGetter(context, (Getter) source, type);
+        } else if (source instanceof All) {
+            local = generateAll(context, (All) source, type);
+        } else {
+            local = generateCauseObject(context, source, type);
+        }
+
+        for (Annotation filter : dataFilters) {
+            checkArgument(DataHolder.class.isAssignableFrom(type), "Parameter %s of the method %s is not a data holder",
+                    index, context.method.getName());
+            generateDataFilter(context, local, filter);
+        }
+        return local;
+    }
+
+    private static int generateGetter(HandleContext context, Getter getter, Class<?> type) {
+        final Class<?> eventType = context.eventType;
+        final Method method;
+        try {
+            method = eventType.getMethod(getter.value());
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("The event " + eventType.getName() + " has no method " + getter.value() + "()", e);
+        }
+        final Class<?> returnType = method.getReturnType();
+        final MethodVisitor mv = context.mv;
+        mv.visitVarInsn(ALOAD, EVENT_LOCAL);
+        mv.visitTypeInsn(CHECKCAST, Type.getInternalName(eventType));
+        mv.visitMethodInsn(eventType.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL, Type.getInternalName(eventType), method.getName(),
+                Type.getMethodDescriptor(method), eventType.isInterface());
+
+        if (type.isAssignableFrom(returnType)) {
+            final Type localType = Type.getType(type);
+            final int local = context.newLocal(localType);
+            mv.visitVarInsn(localType.getOpcode(ISTORE), local);
+            return local;
+        }
+        if (returnType == Optional.class) {
+            checkArgument(!type.isPrimitive(), "The value of the optional %s() cannot be a primitive", getter.value());
+            generateUnwrap(context);
+        } else {
+            checkArgument(returnType.isAssignableFrom(type), "The type of %s() does not match the parameter", getter.value());
+        }
+        return generateStore(context, type, true);
+    }
+
+    private static int generateAll(HandleContext context, All all, Class<?> type) {
+        checkArgument(type.isArray() && !type.getComponentType().isPrimitive(), "@All requires an object array parameter in the method %s",
+                context.method.getName());
+        final MethodVisitor mv = context.mv;
+        final int list = context.newLocal();
+        context.loadCause();
+        mv.visitLdcInsn(Type.getType(type.getComponentType()));
+        mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "allOf", "(Ljava/lang/Class;)L" + LIST + ";", false);
+        mv.visitVarInsn(ASTORE, list);
+        if (all.ignoreEmpty()) {
+            mv.visitVarInsn(ALOAD, list);
+            mv.visitMethodInsn(INVOKEINTERFACE, LIST, "isEmpty", "()Z", true);
+            mv.visitJumpInsn(IFNE, context.skip);
+        }
+        mv.visitVarInsn(ALOAD, list);
+        mv.visitVarInsn(ALOAD, list);
+        mv.visitMethodInsn(INVOKEINTERFACE, LIST, "size", "()I", true);
+        mv.visitTypeInsn(ANEWARRAY, Type.getInternalName(type.getComponentType()));
+        mv.visitMethodInsn(INVOKEINTERFACE, LIST, "toArray", "([Ljava/lang/Object;)[Ljava/lang/Object;", true);
+        return generateStore(context, type, false);
+    }
+
+    private static int generateCauseObject(HandleContext context, Annotation source, Class<?> type) {
+        final MethodVisitor mv = context.mv;
+        final Class<?>[] typeFilter;
+        final boolean inverse;
+        // Only root, before and after may return objects of other types
+        boolean checked = false;
+        context.loadCause();
+        if (source instanceof First) {
+            mv.visitLdcInsn(Type.getType(type));
+            mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "first", "(Ljava/lang/Class;)L" + OPTIONAL + ";", false);
+            typeFilter = ((First) source).typeFilter();
+            inverse = ((First) source).inverse();
+        } else if (source instanceof Last) {
+            mv.visitLdcInsn(Type.getType(type));
+            mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "last", "(Ljava/lang/Class;)L" + OPTIONAL + ";", false);
+            typeFilter = ((Last) source).typeFilter();
+            inverse = ((Last) source).inverse();
+        } else if (source instanceof Named) {
+            mv.visitLdcInsn(((Named) source).value());
+            mv.visitLdcInsn(Type.getType(type));
+            mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "get", "(Ljava/lang/String;Ljava/lang/Class;)L" + OPTIONAL + ";", false);
+            typeFilter = ((Named) source).typeFilter();
+            inverse = ((Named) source).inverse();
+        } else if (source instanceof Before) {
+            mv.visitLdcInsn(Type.getType(((Before) source).value()));
+            mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "before", "(Ljava/lang/Class;)L" + OPTIONAL + ";", false);
+            typeFilter = ((Before) source).typeFilter();
+            inverse = ((Before) source).inverse();
+            checked = true;
+        } else if (source instanceof After) {
+            mv.visitLdcInsn(Type.getType(((After) source).value()));
+            mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "after", "(Ljava/lang/Class;)L" + OPTIONAL + ";", false);
+            typeFilter = ((After) source).typeFilter();
+            inverse = ((After) source).inverse();
+            checked = true;
+        } else {
+            mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "root", "()Ljava/lang/Object;", false);
+            typeFilter = ((Root) source).typeFilter();
+            inverse = ((Root) source).inverse();
+            checked = true;
+        }
+        if (!(source instanceof Root)) {
+            generateUnwrap(context);
+        }
+        final int local = generateStore(context, type, checked);
+        generateInstanceFilter(context, local, typeFilter, inverse);
+        return local;
+    }
+
+    private static void generateDataFilter(HandleContext context, int local, Annotation filter) {
+        final MethodVisitor mv = context.mv;
+        mv.visitVarInsn(ALOAD, local);
+        mv.visitTypeInsn(CHECKCAST, DATA_HOLDER);
+        final boolean inverse;
+        if (filter instanceof Has) {
+            mv.visitLdcInsn(Type.getType(((Has) filter).value()));
+            mv.visitMethodInsn(INVOKEINTERFACE, DATA_HOLDER, "get", "(Ljava/lang/Class;)L" + OPTIONAL + ";", true);
+            mv.visitMethodInsn(INVOKEVIRTUAL, OPTIONAL, "isPresent", "()Z", false);
+            inverse = ((Has) filter).inverse();
+        } else {
+            mv.visitLdcInsn(Type.getType(((Supports) filter).value()));
+            mv.visitMethodInsn(INVOKEINTERFACE, DATA_HOLDER, "supports", "(Ljava/lang/Class;)Z", true);
+            inverse = ((Supports) filter).inverse();
+        }
+        mv.visitJumpInsn(inverse ? IFNE : IFEQ, context.skip);
+    }
+
+    /**
+     * Generates the code skipping the listener if the object in the given
+     * local variable is not an instance of any of the types, or if it is an
+     * instance of any of them when inverted.
+     */
+    private static void generateInstanceFilter(HandleContext context, int local, Class<?>[] types, boolean inverse) {
+        if (types.length == 0) {
+            return;
+        }
+        final MethodVisitor mv = context.mv;
+        final Label pass = new Label();
+        for (Class<?> type : types) {
+            mv.visitVarInsn(ALOAD, local);
+            mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(type));
+            mv.visitJumpInsn(IFNE, inverse ? context.skip : pass);
+        }
+        if (!inverse) {
+            mv.visitJumpInsn(GOTO, context.skip);
+            mv.visitLabel(pass);
+        }
+    }
+
+    /**
+     * Generates the code replacing the {@link Optional} on the stack by its
+     * value, skipping the listener if it is absent.
+     */
+    private static void generateUnwrap(HandleContext context) {
+        final MethodVisitor mv = context.mv;
+        final int optional = context.newLocal();
+        mv.visitVarInsn(ASTORE, optional);
+        mv.visitVarInsn(ALOAD, optional);
+        mv.visitMethodInsn(INVOKEVIRTUAL, OPTIONAL, "isPresent", "()Z", false);
+        mv.visitJumpInsn(IFEQ, context.skip);
+        mv.visitVarInsn(ALOAD, optional);
+        mv.visitMethodInsn(INVOKEVIRTUAL, OPTIONAL, "get", "()Ljava/lang/Object;", false);
+    }
+
+    /**
+     * Generates the code storing the object on the stack in a new local
+     * variable of the given type, skipping the listener if the object is not
+     * an instance of the type when checked.
+     */
+    private static int generateStore(HandleContext context, Class<?> type, boolean checked) {
+        final MethodVisitor mv = context.mv;
+        final String internalName = Type.getInternalName(type);
+        if (checked && type != Object.class) {
+            final int value = context.newLocal();
+            mv.visitVarInsn(ASTORE, value);
+            mv.visitVarInsn(ALOAD, value);
+            mv.visitTypeInsn(INSTANCEOF, internalName);
+            mv.visitJumpInsn(IFEQ, context.skip);
+            mv.visitVarInsn(ALOAD, value);
+        }
+        mv.visitTypeInsn(CHECKCAST, internalName);
+        final int local = context.newLocal();
+        mv.visitVarInsn(ASTORE, local);
+        return local;
+    }
+
+    /**
+     * The state of the handle method while it is generated. Every local
+     * variable is only assigned once, so that the frames at the skip label
+     * never have to merge different types.
+     */
+    private static final class HandleContext {
+
+        final MethodVisitor mv;
+        final Method method;
+        final Class<?> eventType;
+        final Label skip = new Label();
+        private int nextLocal = CAUSE_LOCAL + 1;
+        private boolean causeStored;
+
+        HandleContext(MethodVisitor mv, Method method) {
+            this.mv = mv;
+            this.method = method;
+            this.eventType = method.getParameterTypes()[0];
+        }
+
+        int newLocal() {
+            return this.nextLocal++;
+        }
+
+        int newLocal(Type type) {
+            final int local = this.nextLocal;
+            this.nextLocal += type.getSize();
+            return local;
+        }
+
+        /**
+         * Loads the cause of the event, looking it up the first time. The
+         * handle method never branches back, so the local is assigned on
+         * every path reaching a later use.
+         */
+        void loadCause() {
+            if (!this.causeStored) {
+                this.mv.visitVarInsn(ALOAD, EVENT_LOCAL);
+                this.mv.visitMethodInsn(INVOKEINTERFACE, EVENT, "getCause", "()L" + CAUSE + ";", true);
+                this.mv.visitVarInsn(ASTORE, CAUSE_LOCAL);
+                this.causeStored = true;
+            }
+            this.mv.visitVarInsn(ALOAD, CAUSE_LOCAL);
+        }
+    }
+
+}
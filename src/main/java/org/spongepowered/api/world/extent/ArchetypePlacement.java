@@ -0,0 +1,334 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.base.Objects;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.block.tileentity.TileEntityArchetype;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * The placement of an {@link ArchetypeVolume} into a world that is spread
+ * over several ticks. Each tick places blocks until the budget of the tick
+ * is used up, and continues in the next tick where it stopped.
+ *
+ * <p>The blocks are placed one chunk column at a time, so every chunk is
+ * loaded and relit as few times as possible. The tile entity archetypes of
+ * a chunk are applied once all blocks of that chunk have been placed.</p>
+ *
+ * @see ArchetypeVolume#applyIncrementally(Location, BlockChangeFlag, Cause,
+ *     Object, int)
+ */
+public final class ArchetypePlacement implements Consumer<Task> {
+
+    private static final int CHUNK_SHIFT = 4;
+    // How many blocks are placed between two checks of the time budget
+    private static final int TIME_CHECK_INTERVAL = 64;
+
+    private final ArchetypeVolume volume;
+    private final World world;
+    private final Vector3i offset;
+    private final BlockChangeFlag changeFlag;
+    private final Cause cause;
+    private final int blocksPerTick;
+    private final long nanosPerTick;
+
+    // The bounds of the placement, in world coordinates
+    private final Vector3i min;
+    private final Vector3i max;
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int columnsX;
+    private final int columns;
+    private final Map<Long, List<Map.Entry<Vector3i, TileEntityArchetype>>> tileEntities = new HashMap<>();
+    private final long totalBlocks;
+    private final CompletableFuture<ArchetypePlacement> completion = new CompletableFuture<>();
+
+    // The position of the next block to place
+    private int column;
+    private int x;
+    private int y;
+    private int z;
+    private volatile long placedBlocks;
+    private volatile boolean cancelled;
+    private volatile Task task;
+
+    ArchetypePlacement(ArchetypeVolume volume, Location<World> location, BlockChangeFlag changeFlag, Cause cause, int blocksPerTick,
+            long nanosPerTick) {
+        checkArgument(blocksPerTick > 0, "blocksPerTick must be positive");
+        checkArgument(nanosPerTick > 0, "nanosPerTick must be positive");
+        this.volume = checkNotNull(volume, "volume");
+        this.world = checkNotNull(location, "location").getExtent();
+        this.offset = location.getBlockPosition();
+        this.changeFlag = checkNotNull(changeFlag, "changeFlag");
+        this.cause = checkNotNull(cause, "cause");
+        this.blocksPerTick = blocksPerTick;
+        this.nanosPerTick = nanosPerTick;
+        this.min = volume.getBlockMin().add(this.offset);
+        this.max = volume.getBlockMax().add(this.offset);
+        this.minChunkX = this.min.getX() >> CHUNK_SHIFT;
+        this.minChunkZ = this.min.getZ() >> CHUNK_SHIFT;
+        this.columnsX = (this.max.getX() >> CHUNK_SHIFT) - this.minChunkX + 1;
+        this.columns = this.columnsX * ((this.max.getZ() >> CHUNK_SHIFT) - this.minChunkZ + 1);
+        final Vector3i size = volume.getBlockSize();
+        this.totalBlocks = (long) size.getX() * size.getY() * size.getZ();
+        for (Map.Entry<Vector3i, TileEntityArchetype> entry : volume.getTileEntityArchetypes().entrySet()) {
+            final Vector3i position = entry.getKey().add(this.offset);
+            this.tileEntities.computeIfAbsent(chunkKey(position.getX() >> CHUNK_SHIFT, position.getZ() >> CHUNK_SHIFT),
+                    key -> new ArrayList<>()).add(Maps.immutableEntry(position, entry.getValue()));
+        }
+        startColumn();
+    }
+
+    /**
+     * Schedules this placement to run every tick on behalf of the given
+     * plugin.
+     *
+     * @param plugin The plugin instance
+     * @return This placement, for chaining
+     */
+    ArchetypePlacement start(Object plugin) {
+        this.task = Task.builder()
+                .execute(this)
+                .intervalTicks(1)
+                .name("ArchetypePlacement-" + this.world.getName() + "-" + this.offset)
+                .submit(plugin);
+        return this;
+    }
+
+    /**
+     * Gets the {@link ArchetypeVolume} being placed.
+     *
+     * @return The volume
+     */
+    public ArchetypeVolume getVolume() {
+        return this.volume;
+    }
+
+    /**
+     * Gets the world the volume is placed into.
+     *
+     * @return The world
+     */
+    public World getWorld() {
+        return this.world;
+    }
+
+    /**
+     * Gets the number of blocks that have been placed so far.
+     *
+     * @return The number of placed blocks
+     */
+    public long getPlacedBlocks() {
+        return this.placedBlocks;
+    }
+
+    /**
+     * Gets the number of blocks in the volume.
+     *
+     * @return The total number of blocks
+     */
+    public long getTotalBlocks() {
+        return this.totalBlocks;
+    }
+
+    /**
+     * Gets the progress of this placement, from {@code 0} when no block has
+     * been placed yet to {@code 1} when all blocks have been placed.
+     *
+     * @return The progress
+     */
+    public double getProgress() {
+        return this.totalBlocks == 0 ? 1 : (double) this.placedBlocks / this.totalBlocks;
+    }
+
+    /**
+     * Gets whether all blocks and tile entities have been placed.
+     *
+     * @return Whether the placement is done
+     */
+    public boolean isDone() {
+        return this.completion.isDone() && !this.completion.isCompletedExceptionally();
+    }
+
+    /**
+     * Gets whether this placement was cancelled.
+     *
+     * @return Whether the placement is cancelled
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Cancels this placement. Blocks that were already placed stay in the
+     * world, but no further blocks or tile entities are placed.
+     *
+     * @return False if the placement was already done or cancelled
+     */
+    public boolean cancel() {
+        if (this.completion.isDone()) {
+            return false;
+        }
+        this.cancelled = true;
+        final Task task = this.task;
+        if (task != null) {
+            task.cancel();
+        }
+        this.completion.cancel(false);
+        return true;
+    }
+
+    /**
+     * Gets a future that is completed once the placement is done, cancelled
+     * along with the placement, or completed exceptionally if placing a block
+     * or tile entity failed, which stops the placement.
+     *
+     * @return The future of the completion
+     */
+    public CompletableFuture<ArchetypePlacement> getCompletion() {
+        return this.completion;
+    }
+
+    /**
+     * Places the blocks of the next tick. This is called by the scheduler
+     * once every tick.
+     *
+     * @param task The task running the placement
+     */
+    @Override
+    public void accept(Task task) {
+        if (this.cancelled || this.completion.isDone()) {
+            task.cancel();
+            return;
+        }
+        final long deadline = System.nanoTime() + this.nanosPerTick;
+        long placed = this.placedBlocks;
+        int budget = this.blocksPerTick;
+        try {
+            while (this.column < this.columns) {
+                this.world.setBlock(this.x, this.y, this.z, this.volume.getBlock(this.x - this.offset.getX(), this.y - this.offset.getY(),
+                        this.z - this.offset.getZ()), this.changeFlag, this.cause);
+                placed++;
+                budget--;
+                if (advance()) {
+                    applyTileEntities();
+                    this.column++;
+                    if (this.column < this.columns) {
+                        startColumn();
+                    }
+                }
+                if (budget == 0 || (placed % TIME_CHECK_INTERVAL == 0 && System.nanoTime() - deadline >= 0)) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Retrying would fail at the same block every tick
+            task.cancel();
+            this.completion.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.placedBlocks = placed;
+        }
+        if (this.column >= this.columns) {
+            task.cancel();
+            this.completion.complete(this);
+        }
+    }
+
+    /**
+     * Moves to the first position of the current chunk column.
+     */
+    private void startColumn() {
+        this.x = Math.max(this.min.getX(), (this.minChunkX + this.column % this.columnsX) << CHUNK_SHIFT);
+        this.y = this.min.getY();
+        this.z = Math.max(this.min.getZ(), (this.minChunkZ + this.column / this.columnsX) << CHUNK_SHIFT);
+    }
+
+    /**
+     * Moves to the next position within the current chunk column, in the
+     * order x, z, y.
+     *
+     * @return True if the chunk column is complete
+     */
+    private boolean advance() {
+        final int maxX = Math.min(this.max.getX(), (this.minChunkX + this.column % this.columnsX + 1 << CHUNK_SHIFT) - 1);
+        if (++this.x <= maxX) {
+            return false;
+        }
+        this.x = Math.max(this.min.getX(), (this.minChunkX + this.column % this.columnsX) << CHUNK_SHIFT);
+        final int maxZ = Math.min(this.max.getZ(), (this.minChunkZ + this.column / this.columnsX + 1 << CHUNK_SHIFT) - 1);
+        if (++this.z <= maxZ) {
+            return false;
+        }
+        this.z = Math.max(this.min.getZ(), (this.minChunkZ + this.column / this.columnsX) << CHUNK_SHIFT);
+        return ++this.y > this.max.getY();
+    }
+
+    /**
+     * Applies the tile entity archetypes of the current chunk column, all of
+     * whose blocks have been placed.
+     */
+    private void applyTileEntities() {
+        final List<Map.Entry<Vector3i, TileEntityArchetype>> entries = this.tileEntities.remove(
+                chunkKey(this.minChunkX + this.column % this.columnsX, this.minChunkZ + this.column / this.columnsX));
+        if (entries != null) {
+            for (Map.Entry<Vector3i, TileEntityArchetype> entry : entries) {
+                entry.getValue().apply(new Location<>(this.world, entry.getKey()), this.cause);
+            }
+        }
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return (long) chunkX << 32 | chunkZ & 0xFFFFFFFFL;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("world", this.world.getName())
+                .add("position", this.offset)
+                .add("placedBlocks", this.placedBlocks)
+                .add("totalBlocks", this.totalBlocks)
+                .add("cancelled", this.cancelled)
+                .toString();
+    }
+
+}
@@ -34,6 +34,7 @@
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * A copy of a region taken from another extent.
@@ -50,6 +51,53 @@ public interface ArchetypeVolume extends MutableBlockVolume {
      */
     void apply(Location<World> location, BlockChangeFlag changeFlag, Cause cause);
 
+    /**
+     * Applies this archetype at the given location, spread over several
+     * ticks so that large volumes do not stall the server. At most the given
+     * number of blocks is placed every tick.
+     *
+     * <p>The blocks are placed chunk by chunk, and the tile entities of a
+     * chunk are applied once all of its blocks have been placed. The
+     * returned {@link ArchetypePlacement} reports the progress and can be
+     * used to cancel the placement.</p>
+     *
+     * @param location The location to apply at
+     * @param changeFlag The flag to use for toggling various operations on
+     *     block placement
+     * @param cause The cause of the changes
+     * @param plugin The plugin instance scheduling the placement
+     * @param blocksPerTick The maximum number of blocks to place per tick
+     * @return The running placement
+     */
+    default ArchetypePlacement applyIncrementally(Location<World> location, BlockChangeFlag changeFlag, Cause cause, Object plugin,
+            int blocksPerTick) {
+        return new ArchetypePlacement(this, location, changeFlag, cause, blocksPerTick, Long.MAX_VALUE).start(plugin);
+    }
+
+    /**
+     * Applies this archetype at the given location, spread over several
+     * ticks so that large volumes do not stall the server. Every tick places
+     * blocks until the given time has passed.
+     *
+     * <p>The blocks are placed chunk by chunk, and the tile entities of a
+     * chunk are applied once all of its blocks have been placed. The
+     * returned {@link ArchetypePlacement} reports the progress and can be
+     * used to cancel the placement.</p>
+     *
+     * @param location The location to apply at
+     * @param changeFlag The flag to use for toggling various operations on
+     *     block placement
+     * @param cause The cause of the changes
+     * @param plugin The plugin instance scheduling the placement
+     * @param timePerTick The time to spend placing blocks per tick
+     * @param unit The unit of the time
+     * @return The running placement
+     */
+    default ArchetypePlacement applyIncrementally(Location<World> location, BlockChangeFlag changeFlag, Cause cause, Object plugin,
+            long timePerTick, TimeUnit unit) {
+        return new ArchetypePlacement(this, location, changeFlag, cause, Integer.MAX_VALUE, unit.toNanos(timePerTick)).start(plugin);
+    }
+
     /**
      * Gets the {@link TileEntityArchetype} for the tile entity carrying block
      * at the given coordinates.
@@ -195,6 +195,10 @@ default MutableBlockVolume getBlockCopy() {
      * Returns a mutable copy of the blocks stored in this volume. This uses the
      * provided storage type.
      *
+     * <p>A {@link StorageType#COPY_ON_WRITE} copy shares the storage of this
+     * volume, and only duplicates the parts that either volume modifies
+     * afterwards.</p>
+     *
      * @param type The type of storage used by the new blocks
      * @return A copy of the blocks
      */
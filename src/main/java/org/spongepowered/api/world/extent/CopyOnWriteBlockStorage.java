@@ -0,0 +1,228 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.block.BlockState;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stores {@link BlockState}s in sections of {@value #SECTION_SIZE} blocks
+ * along every axis, which are shared between a storage and its copies, as
+ * used by the {@link StorageType#COPY_ON_WRITE} storage type.
+ *
+ * <p>{@link #copy()} only shares the sections, so it takes time and memory
+ * in proportion to the number of sections rather than blocks. A shared
+ * section is duplicated by whichever storage writes to it first, so the
+ * others keep seeing the blocks as they were at the time of the copy.
+ * Sections that were never written hold no array at all.</p>
+ *
+ * <p>A single storage is not thread safe, but a storage and its copies may
+ * be used from different threads.</p>
+ *
+ * <p>The positions are relative to the minimum of the volume.</p>
+ */
+public final class CopyOnWriteBlockStorage {
+
+    /**
+     * The number of blocks of a section along every axis.
+     */
+    public static final int SECTION_SIZE = 16;
+
+    private static final int SECTION_SHIFT = 4;
+    private static final int SECTION_MASK = SECTION_SIZE - 1;
+
+    /**
+     * Creates a new storage filled with the given block.
+     *
+     * @param xSize The size along the X axis
+     * @param ySize The size along the Y axis
+     * @param zSize The size along the Z axis
+     * @param block The block to fill the storage with
+     * @return The new storage
+     */
+    public static CopyOnWriteBlockStorage create(int xSize, int ySize, int zSize, BlockState block) {
+        return new CopyOnWriteBlockStorage(xSize, ySize, zSize, block);
+    }
+
+    private final int xSize;
+    private final int ySize;
+    private final int zSize;
+    private final int sectionsX;
+    private final int sectionsZ;
+    private final BlockState fill;
+
+    /**
+     * The sections of this storage, of which unwritten ones are null and
+     * hold only the fill block.
+     */
+    private final Section[] sections;
+
+    private CopyOnWriteBlockStorage(int xSize, int ySize, int zSize, BlockState block) {
+        checkArgument(xSize >= 0 && ySize >= 0 && zSize >= 0, "The size cannot be negative");
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.zSize = zSize;
+        this.sectionsX = sections(xSize);
+        this.sectionsZ = sections(zSize);
+        this.fill = checkNotNull(block, "block");
+        this.sections = new Section[this.sectionsX * sections(ySize) * this.sectionsZ];
+    }
+
+    private CopyOnWriteBlockStorage(CopyOnWriteBlockStorage storage) {
+        this.xSize = storage.xSize;
+        this.ySize = storage.ySize;
+        this.zSize = storage.zSize;
+        this.sectionsX = storage.sectionsX;
+        this.sectionsZ = storage.sectionsZ;
+        this.fill = storage.fill;
+        this.sections = storage.sections.clone();
+        for (Section section : this.sections) {
+            if (section != null) {
+                section.owners.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Gets the size of this storage along the X axis.
+     *
+     * @return The size along the X axis
+     */
+    public int getXSize() {
+        return this.xSize;
+    }
+
+    /**
+     * Gets the size of this storage along the Y axis.
+     *
+     * @return The size along the Y axis
+     */
+    public int getYSize() {
+        return this.ySize;
+    }
+
+    /**
+     * Gets the size of this storage along the Z axis.
+     *
+     * @return The size along the Z axis
+     */
+    public int getZSize() {
+        return this.zSize;
+    }
+
+    /**
+     * Gets the block at the given position.
+     *
+     * @param x The X position
+     * @param y The Y position
+     * @param z The Z position
+     * @return The block
+     */
+    public BlockState get(int x, int y, int z) {
+        final Section section = this.sections[sectionIndex(x, y, z)];
+        return section == null ? this.fill : section.blocks[blockIndex(x, y, z)];
+    }
+
+    /**
+     * Sets the block at the given position, duplicating its section first
+     * if it is shared with another storage.
+     *
+     * @param x The X position
+     * @param y The Y position
+     * @param z The Z position
+     * @param block The block
+     */
+    public void set(int x, int y, int z, BlockState block) {
+        checkNotNull(block, "block");
+        final int sectionIndex = sectionIndex(x, y, z);
+        Section section = this.sections[sectionIndex];
+        if (section == null) {
+            if (block == this.fill) {
+                return;
+            }
+            section = new Section(this.fill);
+            this.sections[sectionIndex] = section;
+        } else if (section.owners.get() > 1) {
+            // Duplicate before letting go of the shared section, so the
+            // last owner only writes to it once nobody else reads it
+            final Section duplicate = new Section(section.blocks.clone());
+            section.owners.decrementAndGet();
+            section = duplicate;
+            this.sections[sectionIndex] = section;
+        }
+        section.blocks[blockIndex(x, y, z)] = block;
+    }
+
+    /**
+     * Creates a copy of this storage, which shares all sections with this
+     * storage until either of them writes to a section.
+     *
+     * @return The copy
+     */
+    public CopyOnWriteBlockStorage copy() {
+        return new CopyOnWriteBlockStorage(this);
+    }
+
+    private int sectionIndex(int x, int y, int z) {
+        checkElementIndex(x, this.xSize, "x");
+        checkElementIndex(y, this.ySize, "y");
+        checkElementIndex(z, this.zSize, "z");
+        return ((y >> SECTION_SHIFT) * this.sectionsZ + (z >> SECTION_SHIFT)) * this.sectionsX + (x >> SECTION_SHIFT);
+    }
+
+    private static int blockIndex(int x, int y, int z) {
+        return ((y & SECTION_MASK) << SECTION_SHIFT | z & SECTION_MASK) << SECTION_SHIFT | x & SECTION_MASK;
+    }
+
+    private static int sections(int size) {
+        return (size + SECTION_MASK) >> SECTION_SHIFT;
+    }
+
+    /**
+     * A section of blocks and the number of storages sharing it.
+     */
+    private static final class Section {
+
+        final BlockState[] blocks;
+        final AtomicInteger owners = new AtomicInteger(1);
+
+        Section(BlockState fill) {
+            this.blocks = new BlockState[SECTION_SIZE * SECTION_SIZE * SECTION_SIZE];
+            Arrays.fill(this.blocks, fill);
+        }
+
+        Section(BlockState[] blocks) {
+            this.blocks = blocks;
+        }
+
+    }
+
+}
@@ -113,6 +113,46 @@ default MutableBlockVolume createThreadSafeBlockBuffer(int xSize, int ySize, int
         return createThreadSafeBlockBuffer(new Vector3i(xSize, ySize, zSize));
     }
 
+    /**
+     * Returns a new block buffer of the desired size, which stores its blocks
+     * as requested by the given storage type.
+     *
+     * <p>By default, {@link StorageType#THREAD_SAFE} and
+     * {@link StorageType#PALETTED_THREAD_SAFE} create a
+     * {@link #createThreadSafeBlockBuffer(Vector3i) thread safe buffer}, and
+     * every other type a {@link #createBlockBuffer(Vector3i) standard
+     * buffer}. Implementations which can store blocks compactly, such as
+     * with a {@link PalettedBlockStorage}, override this for the paletted
+     * types.</p>
+     *
+     * @param size The size of the buffer on x, y and z
+     * @param type The type of storage used by the buffer
+     * @return A new block buffer
+     */
+    default MutableBlockVolume createBlockBuffer(Vector3i size, StorageType type) {
+        switch (type) {
+            case THREAD_SAFE:
+            case PALETTED_THREAD_SAFE:
+                return createThreadSafeBlockBuffer(size);
+            default:
+                return createBlockBuffer(size);
+        }
+    }
+
+    /**
+     * Returns a new block buffer of the desired size, which stores its blocks
+     * as requested by the given storage type.
+     *
+     * @param xSize The size of the buffer on x
+     * @param ySize The size of the buffer on y
+     * @param zSize The size of the buffer on z
+     * @param type The type of storage used by the buffer
+     * @return A new block buffer
+     */
+    default MutableBlockVolume createBlockBuffer(int xSize, int ySize, int zSize, StorageType type) {
+        return createBlockBuffer(new Vector3i(xSize, ySize, zSize), type);
+    }
+
     /**
      * Returns a new archetype volume of the desired size.
      * 
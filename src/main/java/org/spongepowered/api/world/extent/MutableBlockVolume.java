@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.world.extent;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import com.flowpowered.math.vector.Vector3i;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
@@ -65,6 +67,61 @@ default boolean setBlock(Vector3i position, BlockState block, Cause cause) {
      */
     boolean setBlock(int x, int y, int z, BlockState block, Cause cause);
 
+    /**
+     * Sets all the blocks of the source volume in this volume, moved by the
+     * given offset. The block at a position in the source volume is set at
+     * that position plus the offset in this volume.
+     *
+     * <p>This is meant for copying large volumes, such as pasting a
+     * {@link ArchetypeVolume}. The bounds are checked once for the whole
+     * source volume, and implementations copy the blocks in bulk where the
+     * storage of both volumes allows it, instead of one block at a time.</p>
+     *
+     * <p>The source may be this volume itself or a view of it, in which case
+     * the blocks are moved as if the source had been copied first.</p>
+     *
+     * @param source The volume to copy the blocks from
+     * @param offset The offset from the source positions to the positions
+     *     in this volume
+     * @param cause The cause of the changes
+     * @throws PositionOutOfBoundsException If the moved source volume is
+     *         not fully contained in this volume
+     */
+    default void setBlocks(BlockVolume source, Vector3i offset, Cause cause) {
+        checkNotNull(source, "source");
+        checkNotNull(offset, "offset");
+        checkNotNull(cause, "cause");
+        final Vector3i sourceMin = source.getBlockMin();
+        final Vector3i sourceMax = source.getBlockMax();
+        if (!containsBlock(sourceMin.add(offset))) {
+            throw new PositionOutOfBoundsException(sourceMin.add(offset), getBlockMin(), getBlockMax());
+        }
+        if (!containsBlock(sourceMax.add(offset))) {
+            throw new PositionOutOfBoundsException(sourceMax.add(offset), getBlockMin(), getBlockMax());
+        }
+        final int xOffset = offset.getX();
+        final int yOffset = offset.getY();
+        final int zOffset = offset.getZ();
+        // Walk each axis against the offset, so that a source overlapping
+        // this volume is never read at a position that was already set
+        final int yStep = yOffset > 0 ? -1 : 1;
+        final int zStep = zOffset > 0 ? -1 : 1;
+        final int xStep = xOffset > 0 ? -1 : 1;
+        final int yStart = yStep > 0 ? sourceMin.getY() : sourceMax.getY();
+        final int zStart = zStep > 0 ? sourceMin.getZ() : sourceMax.getZ();
+        final int xStart = xStep > 0 ? sourceMin.getX() : sourceMax.getX();
+        final int yEnd = yStep > 0 ? sourceMax.getY() : sourceMin.getY();
+        final int zEnd = zStep > 0 ? sourceMax.getZ() : sourceMin.getZ();
+        final int xEnd = xStep > 0 ? sourceMax.getX() : sourceMin.getX();
+        for (int y = yStart; y != yEnd + yStep; y += yStep) {
+            for (int z = zStart; z != zEnd + zStep; z += zStep) {
+                for (int x = xStart; x != xEnd + xStep; x += xStep) {
+                    setBlock(x + xOffset, y + yOffset, z + zOffset, source.getBlock(x, y, z), cause);
+                }
+            }
+        }
+    }
+
     /**
      * Replace the block at this position by a new type.
      *
@@ -0,0 +1,356 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkPositionIndexes;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.schematic.BlockPalette;
+import org.spongepowered.api.world.schematic.BlockPaletteTypes;
+
+import java.util.Arrays;
+
+/**
+ * Stores a fixed number of {@link BlockState}s as bit-packed identifiers
+ * into a {@link BlockPalette}, as used by the {@link StorageType#PALETTED}
+ * storage types.
+ *
+ * <p>Every identifier takes as many bits as the highest identifier of the
+ * palette needs, at least {@value #MIN_BITS}. The identifiers are repacked
+ * with more bits whenever a block is stored whose identifier does not fit.
+ * A {@link BlockPaletteTypes#LOCAL local} palette keeps the identifiers, and
+ * so the storage, as small as the number of distinct blocks allows.</p>
+ *
+ * <p>Positions within a volume are mapped to indices by the volume. No
+ * volume of the API is backed by this storage itself; it is meant for
+ * implementations of the paletted storage types, which otherwise fall back
+ * to the standard or thread safe storage, see
+ * {@link ExtentBufferFactory#createBlockBuffer(Vector3i, StorageType)}.</p>
+ */
+public class PalettedBlockStorage {
+
+    /**
+     * The minimum number of bits per identifier.
+     */
+    public static final int MIN_BITS = 4;
+
+    /**
+     * Creates a new storage which is not thread safe, filled with the given
+     * block.
+     *
+     * @param size The number of blocks to store
+     * @param palette The palette identifying the blocks
+     * @param block The block to fill the storage with
+     * @return The new storage
+     */
+    public static PalettedBlockStorage create(int size, BlockPalette palette, BlockState block) {
+        return new PalettedBlockStorage(size, palette, block);
+    }
+
+    /**
+     * Creates a new thread safe storage filled with the given block. Reads
+     * and writes are atomic.
+     *
+     * @param size The number of blocks to store
+     * @param palette The palette identifying the blocks, which is also the
+     *     lock of the storage and of its copies, and must only be modified
+     *     by others while holding its lock
+     * @param block The block to fill the storage with
+     * @return The new storage
+     */
+    public static PalettedBlockStorage createThreadSafe(int size, BlockPalette palette, BlockState block) {
+        return new ThreadSafe(size, palette, block);
+    }
+
+    private final BlockPalette palette;
+    private final int size;
+
+    /**
+     * The blocks of the palette by their identifier, to avoid a lookup in
+     * the palette for every read.
+     */
+    private BlockState[] states = new BlockState[1 << MIN_BITS];
+
+    private int bits;
+    private int valuesPerLong;
+    private long mask;
+    private long[] data;
+
+    PalettedBlockStorage(int size, BlockPalette palette, BlockState block) {
+        checkArgument(size >= 0, "The size cannot be negative");
+        this.palette = checkNotNull(palette, "palette");
+        this.size = size;
+        final int id = idOf(checkNotNull(block, "block"));
+        resize(Math.max(MIN_BITS, bitsFor(id)), false);
+        if (id != 0) {
+            long pattern = 0;
+            for (int i = 0; i < this.valuesPerLong; i++) {
+                pattern |= (long) id << (i * this.bits);
+            }
+            Arrays.fill(this.data, pattern);
+        }
+    }
+
+    PalettedBlockStorage(PalettedBlockStorage storage) {
+        this.palette = storage.palette;
+        this.size = storage.size;
+        this.states = storage.states.clone();
+        this.bits = storage.bits;
+        this.valuesPerLong = storage.valuesPerLong;
+        this.mask = storage.mask;
+        this.data = storage.data.clone();
+    }
+
+    /**
+     * Gets the palette identifying the blocks of this storage.
+     *
+     * @return The palette
+     */
+    public BlockPalette getPalette() {
+        return this.palette;
+    }
+
+    /**
+     * Gets the number of blocks in this storage.
+     *
+     * @return The number of blocks
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the number of bits currently used per block.
+     *
+     * @return The number of bits
+     */
+    public int getBitsPerBlock() {
+        return this.bits;
+    }
+
+    /**
+     * Gets the block at the given index.
+     *
+     * @param index The index of the block
+     * @return The block
+     */
+    public BlockState get(int index) {
+        checkElementIndex(index, this.size);
+        return this.states[(int) readId(index)];
+    }
+
+    /**
+     * Sets the block at the given index, growing the number of bits per
+     * block if its identifier does not fit.
+     *
+     * @param index The index of the block
+     * @param block The new block
+     */
+    public void set(int index, BlockState block) {
+        checkElementIndex(index, this.size);
+        final int id = idOf(checkNotNull(block, "block"));
+        if (id > this.mask) {
+            resize(bitsFor(id), true);
+        }
+        writeId(index, id);
+    }
+
+    /**
+     * Copies a run of blocks from the given storage into this storage.
+     *
+     * <p>If both storages use the same palette, the identifiers are copied
+     * without looking up the blocks, and runs with the same number of bits
+     * and alignment are copied as whole words. The source must not be
+     * modified while copying.</p>
+     *
+     * @param index The index of the first block to set in this storage
+     * @param source The storage to copy from, which may be this storage
+     * @param sourceIndex The index of the first block to copy
+     * @param length The number of blocks to copy
+     */
+    public void setAll(int index, PalettedBlockStorage source, int sourceIndex, int length) {
+        checkNotNull(source, "source");
+        checkPositionIndexes(index, index + length, this.size);
+        checkPositionIndexes(sourceIndex, sourceIndex + length, source.size);
+        if (source.palette != this.palette) {
+            for (int i = 0; i < length; i++) {
+                set(index + i, source.get(sourceIndex + i));
+            }
+            return;
+        }
+        if (source.bits > this.bits) {
+            resize(source.bits, true);
+        }
+        if (source.states.length > this.states.length) {
+            this.states = Arrays.copyOf(this.states, source.states.length);
+        }
+        for (int id = 0; id < source.states.length; id++) {
+            if (source.states[id] != null) {
+                this.states[id] = source.states[id];
+            }
+        }
+        if (source == this && index > sourceIndex) {
+            // Copy backwards, the runs may overlap
+            for (int i = length - 1; i >= 0; i--) {
+                writeId(index + i, readId(sourceIndex + i));
+            }
+            return;
+        }
+        int i = 0;
+        if (source.bits == this.bits && index % this.valuesPerLong == sourceIndex % this.valuesPerLong) {
+            for (; i < length && (index + i) % this.valuesPerLong != 0; i++) {
+                writeId(index + i, source.readId(sourceIndex + i));
+            }
+            final int words = (length - i) / this.valuesPerLong;
+            System.arraycopy(source.data, (sourceIndex + i) / this.valuesPerLong, this.data, (index + i) / this.valuesPerLong, words);
+            i += words * this.valuesPerLong;
+        }
+        for (; i < length; i++) {
+            writeId(index + i, source.readId(sourceIndex + i));
+        }
+    }
+
+    /**
+     * Creates a copy of this storage, using the same palette. The copy is
+     * thread safe if this storage is.
+     *
+     * @return The copy
+     */
+    public PalettedBlockStorage copy() {
+        return new PalettedBlockStorage(this);
+    }
+
+    private long readId(int index) {
+        return (this.data[index / this.valuesPerLong] >>> (index % this.valuesPerLong * this.bits)) & this.mask;
+    }
+
+    private void writeId(int index, long id) {
+        final int cell = index / this.valuesPerLong;
+        final int shift = index % this.valuesPerLong * this.bits;
+        this.data[cell] = (this.data[cell] & ~(this.mask << shift)) | (id << shift);
+    }
+
+    private int idOf(BlockState block) {
+        final int id = this.palette.getOrAssign(block);
+        checkArgument(id >= 0, "The palette returned a negative identifier");
+        if (id >= this.states.length) {
+            this.states = Arrays.copyOf(this.states, Math.max(id + 1, this.states.length << 1));
+        }
+        this.states[id] = block;
+        return id;
+    }
+
+    private static int bitsFor(int id) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(id);
+    }
+
+    private void resize(int bits, boolean repack) {
+        final int valuesPerLong = Long.SIZE / bits;
+        final long[] data = new long[(this.size + valuesPerLong - 1) / valuesPerLong];
+        if (repack) {
+            for (int i = 0; i < this.size; i++) {
+                data[i / valuesPerLong] |= readId(i) << (i % valuesPerLong * bits);
+            }
+        }
+        this.bits = bits;
+        this.valuesPerLong = valuesPerLong;
+        this.mask = (1L << bits) - 1;
+        this.data = data;
+    }
+
+    /**
+     * Locks the palette rather than the storage, as it is shared with the
+     * copies of the storage and modified when new blocks are stored.
+     */
+    private static final class ThreadSafe extends PalettedBlockStorage {
+
+        private final Object lock;
+
+        ThreadSafe(int size, BlockPalette palette, BlockState block) {
+            super(size, palette, block);
+            this.lock = palette;
+        }
+
+        private ThreadSafe(ThreadSafe storage) {
+            super(storage);
+            this.lock = storage.lock;
+        }
+
+        @Override
+        public int getBitsPerBlock() {
+            synchronized (this.lock) {
+                return super.getBitsPerBlock();
+            }
+        }
+
+        @Override
+        public BlockState get(int index) {
+            synchronized (this.lock) {
+                return super.get(index);
+            }
+        }
+
+        @Override
+        public void set(int index, BlockState block) {
+            synchronized (this.lock) {
+                super.set(index, block);
+            }
+        }
+
+        @Override
+        public void setAll(int index, PalettedBlockStorage source, int sourceIndex, int length) {
+            if (source.getPalette() != this.lock) {
+                checkPositionIndexes(index, index + length, size());
+                // Read the source first, so that the locks of both palettes
+                // are never held at once
+                final BlockState[] blocks = new BlockState[length];
+                for (int i = 0; i < length; i++) {
+                    blocks[i] = source.get(sourceIndex + i);
+                }
+                synchronized (this.lock) {
+                    for (int i = 0; i < length; i++) {
+                        super.set(index + i, blocks[i]);
+                    }
+                }
+                return;
+            }
+            synchronized (this.lock) {
+                super.setAll(index, source, sourceIndex, length);
+            }
+        }
+
+        @Override
+        public PalettedBlockStorage copy() {
+            synchronized (this.lock) {
+                return new ThreadSafe(this);
+            }
+        }
+    }
+
+}
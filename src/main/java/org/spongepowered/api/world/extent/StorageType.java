@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.world.extent;
 
+import org.spongepowered.api.world.schematic.BlockPalette;
+
 /**
  * Storage types that can be used for storing blocks and biomes. These are used
  * when obtaining new copies. Storage obtained from the implementation should be
@@ -42,6 +44,43 @@ public enum StorageType {
      * for multi-threaded applications, but single threaded ones might suffer
      * for extra overhead.
      */
-    THREAD_SAFE
+    THREAD_SAFE,
+
+    /**
+     * A compact storage solution for blocks, which stores bit-packed
+     * identifiers into a local {@link BlockPalette}. The number of bits grows
+     * with the palette, so volumes with few distinct blocks take a fraction
+     * of the memory of {@link #STANDARD}, at the cost of slower access. Not
+     * guaranteed to provide anything but single threaded capabilities.
+     *
+     * <p>Biome volumes use {@link #STANDARD} storage instead.</p>
+     *
+     * @see PalettedBlockStorage
+     */
+    PALETTED,
+
+    /**
+     * The thread-safe variant of {@link #PALETTED}. Reads and writes are
+     * atomic.
+     *
+     * <p>Biome volumes use {@link #THREAD_SAFE} storage instead.</p>
+     */
+    PALETTED_THREAD_SAFE,
+
+    /**
+     * A storage solution for copies that are rarely modified, such as
+     * backups or undo history. The copy shares the sections of
+     * {@value CopyOnWriteBlockStorage#SECTION_SIZE}&sup3; blocks of its source
+     * instead of copying every block, and a section is only duplicated once
+     * the source or the copy writes to it. Taking the copy is therefore
+     * close to free. Not guaranteed to provide anything but single threaded
+     * capabilities for the copy itself.
+     *
+     * <p>Biome volumes, and block volumes whose storage cannot be shared,
+     * use {@link #STANDARD} storage instead.</p>
+     *
+     * @see CopyOnWriteBlockStorage
+     */
+    COPY_ON_WRITE
 
 }
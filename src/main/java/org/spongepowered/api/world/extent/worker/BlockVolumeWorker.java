@@ -39,6 +39,9 @@
  * their minimum coordinates. The other volumes must be at least as big as the
  * backing one.
  *
+ * <p>{@link ParallelBlockVolumeWorker} performs these operations in
+ * parallel, for procedures which are safe to call concurrently.</p>
+ *
  * @param <V> The type of volume being worked on
  */
 public interface BlockVolumeWorker<V extends BlockVolume> {
@@ -0,0 +1,141 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import com.flowpowered.math.vector.Vector3i;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+
+/**
+ * Performs an operation on the boxes of a volume in parallel. The volume is
+ * split into boxes along the borders of chunk columns, so that no two tasks
+ * work on the same chunk.
+ *
+ * @param <T> The type of the result of the operation
+ */
+final class ChunkAlignedTask<T> extends RecursiveTask<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int CHUNK_SHIFT = 4;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    /**
+     * Performs the given operation on every chunk aligned box of the given
+     * volume bounds, in parallel on the given pool.
+     *
+     * @param pool The pool to run on
+     * @param min The minimum coordinates of the volume
+     * @param max The maximum coordinates of the volume
+     * @param operation The operation to perform on each box
+     */
+    static void invoke(ForkJoinPool pool, Vector3i min, Vector3i max, BoxOperation<Void> operation) {
+        invoke(pool, min, max, operation, (first, second) -> null);
+    }
+
+    /**
+     * Performs the given operation on every chunk aligned box of the given
+     * volume bounds, in parallel on the given pool, and merges the results
+     * of the boxes in the order of the boxes.
+     *
+     * @param pool The pool to run on
+     * @param min The minimum coordinates of the volume
+     * @param max The maximum coordinates of the volume
+     * @param operation The operation to perform on each box
+     * @param merge Merges the results of two boxes into one
+     * @param <T> The type of the result
+     * @return The merged result
+     */
+    static <T> T invoke(ForkJoinPool pool, Vector3i min, Vector3i max, BoxOperation<T> operation, BiFunction<T, T, T> merge) {
+        final int columnsX = (max.getX() >> CHUNK_SHIFT) - (min.getX() >> CHUNK_SHIFT) + 1;
+        final int columnsZ = (max.getZ() >> CHUNK_SHIFT) - (min.getZ() >> CHUNK_SHIFT) + 1;
+        // The number of columns exceeds the range of an int for large volumes
+        return pool.invoke(new ChunkAlignedTask<>(min, max, columnsX, operation, merge, 0, (long) columnsX * columnsZ));
+    }
+
+    private final Vector3i min;
+    private final Vector3i max;
+    private final int columnsX;
+    private final BoxOperation<T> operation;
+    private final BiFunction<T, T, T> merge;
+    private final long from;
+    private final long to;
+
+    private ChunkAlignedTask(Vector3i min, Vector3i max, int columnsX, BoxOperation<T> operation, BiFunction<T, T, T> merge,
+            long from, long to) {
+        this.min = min;
+        this.max = max;
+        this.columnsX = columnsX;
+        this.operation = operation;
+        this.merge = merge;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected T compute() {
+        if (this.to - this.from == 1) {
+            final int chunkX = (this.min.getX() >> CHUNK_SHIFT) + (int) (this.from % this.columnsX);
+            final int chunkZ = (this.min.getZ() >> CHUNK_SHIFT) + (int) (this.from / this.columnsX);
+            final int minX = Math.max(this.min.getX(), chunkX << CHUNK_SHIFT);
+            final int minZ = Math.max(this.min.getZ(), chunkZ << CHUNK_SHIFT);
+            final int maxX = Math.min(this.max.getX(), (chunkX << CHUNK_SHIFT) + CHUNK_SIZE - 1);
+            final int maxZ = Math.min(this.max.getZ(), (chunkZ << CHUNK_SHIFT) + CHUNK_SIZE - 1);
+            return this.operation.apply(minX, this.min.getY(), minZ, maxX, this.max.getY(), maxZ);
+        }
+        final long middle = (this.from + this.to) >>> 1;
+        final ChunkAlignedTask<T> first = new ChunkAlignedTask<>(this.min, this.max, this.columnsX, this.operation, this.merge,
+                this.from, middle);
+        final ChunkAlignedTask<T> second = new ChunkAlignedTask<>(this.min, this.max, this.columnsX, this.operation, this.merge,
+                middle, this.to);
+        first.fork();
+        final T secondResult = second.compute();
+        return this.merge.apply(first.join(), secondResult);
+    }
+
+    /**
+     * An operation on a box of a volume.
+     *
+     * @param <T> The type of the result of the operation
+     */
+    @FunctionalInterface
+    interface BoxOperation<T> {
+
+        /**
+         * Performs the operation on the given box.
+         *
+         * @param minX The minimum x coordinate of the box
+         * @param minY The minimum y coordinate of the box
+         * @param minZ The minimum z coordinate of the box
+         * @param maxX The maximum x coordinate of the box
+         * @param maxY The maximum y coordinate of the box
+         * @param maxZ The maximum z coordinate of the box
+         * @return The result for the box
+         */
+        T apply(int minX, int minY, int minZ, int maxX, int maxY, int maxZ);
+    }
+}
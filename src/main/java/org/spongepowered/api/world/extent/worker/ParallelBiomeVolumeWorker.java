@@ -0,0 +1,170 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.world.extent.BiomeVolume;
+import org.spongepowered.api.world.extent.MutableBiomeVolume;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.UnmodifiableBiomeVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMapper;
+import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMerger;
+import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeReducer;
+import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeVisitor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link BiomeVolumeWorker} that performs its operations in parallel on a
+ * {@link ForkJoinPool}. The volume is split into boxes along the borders of
+ * chunk columns, and every box is worked on by a single task.
+ *
+ * <p>By using this worker, the caller declares that the given procedures are
+ * pure: they may be called concurrently for different biomes, in no
+ * particular order. Destination volumes must support concurrent writes to
+ * different biomes, such as buffers created with
+ * {@link StorageType#THREAD_SAFE}. The merge function of a reduction
+ * receives the reductions of adjacent boxes in their order.</p>
+ *
+ * @param <V> The type of volume being worked on
+ */
+public class ParallelBiomeVolumeWorker<V extends BiomeVolume> implements BiomeVolumeWorker<V> {
+
+    protected final V volume;
+    protected final ForkJoinPool pool;
+
+    /**
+     * Creates a new parallel worker for the given volume running on the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param volume The volume to work on
+     */
+    public ParallelBiomeVolumeWorker(V volume) {
+        this(volume, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new parallel worker for the given volume running on the
+     * given pool.
+     *
+     * @param volume The volume to work on
+     * @param pool The pool to run on
+     */
+    public ParallelBiomeVolumeWorker(V volume, ForkJoinPool pool) {
+        this.volume = checkNotNull(volume, "volume");
+        this.pool = checkNotNull(pool, "pool");
+    }
+
+    @Override
+    public V getVolume() {
+        return this.volume;
+    }
+
+    @Override
+    public void map(BiomeVolumeMapper mapper, MutableBiomeVolume destination) {
+        checkNotNull(mapper, "mapper");
+        checkNotNull(destination, "destination");
+        final UnmodifiableBiomeVolume unmodifiableVolume = this.volume.getUnmodifiableBiomeView();
+        final Vector3i offset = destination.getBiomeMin().sub(this.volume.getBiomeMin());
+        final int xOffset = offset.getX();
+        final int yOffset = offset.getY();
+        final int zOffset = offset.getZ();
+        ChunkAlignedTask.invoke(this.pool, this.volume.getBiomeMin(), this.volume.getBiomeMax(), (minX, minY, minZ, maxX, maxY, maxZ) -> {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        destination.setBiome(x + xOffset, y + yOffset, z + zOffset, mapper.map(unmodifiableVolume, x, y, z));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void merge(BiomeVolume second, BiomeVolumeMerger merger, MutableBiomeVolume destination) {
+        checkNotNull(second, "second");
+        checkNotNull(merger, "merger");
+        checkNotNull(destination, "destination");
+        final UnmodifiableBiomeVolume firstUnmodifiableVolume = this.volume.getUnmodifiableBiomeView();
+        final UnmodifiableBiomeVolume secondUnmodifiableVolume = second.getUnmodifiableBiomeView();
+        final Vector3i secondOffset = second.getBiomeMin().sub(this.volume.getBiomeMin());
+        final Vector3i offset = destination.getBiomeMin().sub(this.volume.getBiomeMin());
+        final int xSecondOffset = secondOffset.getX();
+        final int ySecondOffset = secondOffset.getY();
+        final int zSecondOffset = secondOffset.getZ();
+        final int xOffset = offset.getX();
+        final int yOffset = offset.getY();
+        final int zOffset = offset.getZ();
+        ChunkAlignedTask.invoke(this.pool, this.volume.getBiomeMin(), this.volume.getBiomeMax(), (minX, minY, minZ, maxX, maxY, maxZ) -> {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        destination.setBiome(x + xOffset, y + yOffset, z + zOffset, merger.merge(firstUnmodifiableVolume, x, y, z,
+                                secondUnmodifiableVolume, x + xSecondOffset, y + ySecondOffset, z + zSecondOffset));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void iterate(BiomeVolumeVisitor<V> visitor) {
+        checkNotNull(visitor, "visitor");
+        ChunkAlignedTask.invoke(this.pool, this.volume.getBiomeMin(), this.volume.getBiomeMax(), (minX, minY, minZ, maxX, maxY, maxZ) -> {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        visitor.visit(this.volume, x, y, z);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public <T> T reduce(BiomeVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
+        checkNotNull(reducer, "reducer");
+        checkNotNull(merge, "merge");
+        final UnmodifiableBiomeVolume unmodifiableVolume = this.volume.getUnmodifiableBiomeView();
+        return ChunkAlignedTask.invoke(this.pool, this.volume.getBiomeMin(), this.volume.getBiomeMax(), (minX, minY, minZ, maxX, maxY, maxZ) -> {
+            T reduction = identity;
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
+                    }
+                }
+            }
+            return reduction;
+        }, merge);
+    }
+
+}
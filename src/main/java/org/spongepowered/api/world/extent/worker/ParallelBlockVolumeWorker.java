@@ -0,0 +1,175 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.extent.BlockVolume;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.StorageType;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeReducer;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeVisitor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link BlockVolumeWorker} that performs its operations in parallel on a
+ * {@link ForkJoinPool}. The volume is split into boxes along the borders of
+ * chunk columns, and every box is worked on by a single task.
+ *
+ * <p>By using this worker, the caller declares that the given procedures are
+ * pure: they may be called concurrently for different blocks, in no
+ * particular order. Destination volumes must support concurrent writes to
+ * different blocks, such as buffers created with
+ * {@link StorageType#THREAD_SAFE}. The merge function of a reduction
+ * receives the reductions of adjacent boxes in their order.</p>
+ *
+ * @param <V> The type of volume being worked on
+ */
+public class ParallelBlockVolumeWorker<V extends BlockVolume> implements BlockVolumeWorker<V> {
+
+    protected final V volume;
+    protected final Cause cause;
+    protected final ForkJoinPool pool;
+
+    /**
+     * Creates a new parallel worker for the given volume running on the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param volume The volume to work on
+     * @param cause The cause of the changes to destination volumes
+     */
+    public ParallelBlockVolumeWorker(V volume, Cause cause) {
+        this(volume, cause, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new parallel worker for the given volume running on the
+     * given pool.
+     *
+     * @param volume The volume to work on
+     * @param cause The cause of the changes to destination volumes
+     * @param pool The pool to run on
+     */
+    public ParallelBlockVolumeWorker(V volume, Cause cause, ForkJoinPool pool) {
+        this.volume = checkNotNull(volume, "volume");
+        this.cause = checkNotNull(cause, "cause");
+        this.pool = checkNotNull(pool, "pool");
+    }
+
+    @Override
+    public V getVolume() {
+        return this.volume;
+    }
+
+    @Override
+    public void map(BlockVolumeMapper mapper, MutableBlockVolume destination) {
+        checkNotNull(mapper, "mapper");
+        checkNotNull(destination, "destination");
+        final UnmodifiableBlockVolume unmodifiableVolume = this.volume.getUnmodifiableBlockView();
+        final Vector3i offset = destination.getBlockMin().sub(this.volume.getBlockMin());
+        final int xOffset = offset.getX();
+        final int yOffset = offset.getY();
+        final int zOffset = offset.getZ();
+        ChunkAlignedTask.invoke(this.pool, this.volume.getBlockMin(), this.volume.getBlockMax(), (minX, minY, minZ, maxX, maxY, maxZ) -> {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        destination.setBlock(x + xOffset, y + yOffset, z + zOffset, mapper.map(unmodifiableVolume, x, y, z), this.cause);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void merge(BlockVolume second, BlockVolumeMerger merger, MutableBlockVolume destination) {
+        checkNotNull(second, "second");
+        checkNotNull(merger, "merger");
+        checkNotNull(destination, "destination");
+        final UnmodifiableBlockVolume firstUnmodifiableVolume = this.volume.getUnmodifiableBlockView();
+        final UnmodifiableBlockVolume secondUnmodifiableVolume = second.getUnmodifiableBlockView();
+        final Vector3i secondOffset = second.getBlockMin().sub(this.volume.getBlockMin());
+        final Vector3i offset = destination.getBlockMin().sub(this.volume.getBlockMin());
+        final int xSecondOffset = secondOffset.getX();
+        final int ySecondOffset = secondOffset.getY();
+        final int zSecondOffset = secondOffset.getZ();
+        final int xOffset = offset.getX();
+        final int yOffset = offset.getY();
+        final int zOffset = offset.getZ();
+        ChunkAlignedTask.invoke(this.pool, this.volume.getBlockMin(), this.volume.getBlockMax(), (minX, minY, minZ, maxX, maxY, maxZ) -> {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        destination.setBlock(x + xOffset, y + yOffset, z + zOffset, merger.merge(firstUnmodifiableVolume, x, y, z,
+                                secondUnmodifiableVolume, x + xSecondOffset, y + ySecondOffset, z + zSecondOffset), this.cause);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void iterate(BlockVolumeVisitor<V> visitor) {
+        checkNotNull(visitor, "visitor");
+        ChunkAlignedTask.invoke(this.pool, this.volume.getBlockMin(), this.volume.getBlockMax(), (minX, minY, minZ, maxX, maxY, maxZ) -> {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        visitor.visit(this.volume, x, y, z);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public <T> T reduce(BlockVolumeReducer<T> reducer, BiFunction<T, T, T> merge, T identity) {
+        checkNotNull(reducer, "reducer");
+        checkNotNull(merge, "merge");
+        final UnmodifiableBlockVolume unmodifiableVolume = this.volume.getUnmodifiableBlockView();
+        return ChunkAlignedTask.invoke(this.pool, this.volume.getBlockMin(), this.volume.getBlockMax(), (minX, minY, minZ, maxX, maxY, maxZ) -> {
+            T reduction = identity;
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        reduction = reducer.reduce(unmodifiableVolume, x, y, z, reduction);
+                    }
+                }
+            }
+            return reduction;
+        }, merge);
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.world.extent.MutableBiomeVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeFiller;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link MutableBiomeVolumeWorker} that performs its operations in
+ * parallel, see {@link ParallelBiomeVolumeWorker}. The operating volume must
+ * support concurrent writes to different biomes when it is the destination.
+ *
+ * @param <V> The type of volume being worked on
+ */
+public class ParallelMutableBiomeVolumeWorker<V extends MutableBiomeVolume> extends ParallelBiomeVolumeWorker<V>
+        implements MutableBiomeVolumeWorker<V> {
+
+    /**
+     * Creates a new parallel worker for the given volume running on the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param volume The volume to work on
+     */
+    public ParallelMutableBiomeVolumeWorker(V volume) {
+        super(volume);
+    }
+
+    /**
+     * Creates a new parallel worker for the given volume running on the
+     * given pool.
+     *
+     * @param volume The volume to work on
+     * @param pool The pool to run on
+     */
+    public ParallelMutableBiomeVolumeWorker(V volume, ForkJoinPool pool) {
+        super(volume, pool);
+    }
+
+    @Override
+    public void fill(BiomeVolumeFiller filler) {
+        checkNotNull(filler, "filler");
+        ChunkAlignedTask.invoke(this.pool, this.volume.getBiomeMin(), this.volume.getBiomeMax(), (minX, minY, minZ, maxX, maxY, maxZ) -> {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        this.volume.setBiome(x, y, z, filler.produce(x, y, z));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeFiller;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A {@link MutableBlockVolumeWorker} that performs its operations in
+ * parallel, see {@link ParallelBlockVolumeWorker}. The operating volume must
+ * support concurrent writes to different blocks when it is the destination.
+ *
+ * @param <V> The type of volume being worked on
+ */
+public class ParallelMutableBlockVolumeWorker<V extends MutableBlockVolume> extends ParallelBlockVolumeWorker<V>
+        implements MutableBlockVolumeWorker<V> {
+
+    /**
+     * Creates a new parallel worker for the given volume running on the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param volume The volume to work on
+     * @param cause The cause of the changes to destination volumes
+     */
+    public ParallelMutableBlockVolumeWorker(V volume, Cause cause) {
+        super(volume, cause);
+    }
+
+    /**
+     * Creates a new parallel worker for the given volume running on the
+     * given pool.
+     *
+     * @param volume The volume to work on
+     * @param cause The cause of the changes to destination volumes
+     * @param pool The pool to run on
+     */
+    public ParallelMutableBlockVolumeWorker(V volume, Cause cause, ForkJoinPool pool) {
+        super(volume, cause, pool);
+    }
+
+    @Override
+    public void fill(BlockVolumeFiller filler, Cause cause) {
+        checkNotNull(filler, "filler");
+        checkNotNull(cause, "cause");
+        ChunkAlignedTask.invoke(this.pool, this.volume.getBlockMin(), this.volume.getBlockMax(), (minX, minY, minZ, maxX, maxY, maxZ) -> {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        this.volume.setBlock(x, y, z, filler.produce(x, y, z), cause);
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+}
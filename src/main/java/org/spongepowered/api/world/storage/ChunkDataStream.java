@@ -25,8 +25,12 @@
 package org.spongepowered.api.world.storage;
 
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.persistence.DataReader;
+import org.spongepowered.api.data.persistence.DataStreams;
 import org.spongepowered.api.world.Chunk;
 
+import java.util.Optional;
+
 import javax.annotation.Nullable;
 
 /**
@@ -60,6 +64,23 @@ public interface ChunkDataStream {
     @Nullable
     DataContainer next();
 
+    /**
+     * Gets the next {@link Chunk} as a {@link DataReader} over its data.
+     *
+     * <p>This allows selected parts of the chunk data to be read, for example
+     * with {@link DataStreams#read(DataReader, java.util.Collection)}, without
+     * building a {@link DataContainer} for the whole chunk. The reader must be
+     * consumed or closed before the next chunk is requested.</p>
+     *
+     * <p>This method BLOCKS the thread until the next available data has been
+     * read.</p>
+     *
+     * @return The reader over the chunk data, if available
+     */
+    default Optional<DataReader> nextReader() {
+        return Optional.ofNullable(next()).map(DataStreams::reader);
+    }
+
     /**
      * Checks if there is an available chunk to represent.
      *
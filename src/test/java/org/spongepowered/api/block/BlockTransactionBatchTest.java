@@ -0,0 +1,120 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.block;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+import org.spongepowered.api.world.schematic.BlockPalette;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BlockTransactionBatchTest {
+
+    private static BlockPalette createPalette() {
+        final List<BlockState> states = new ArrayList<>();
+        final BlockPalette palette = mock(BlockPalette.class);
+        when(palette.getOrAssign(any(BlockState.class))).thenAnswer(invocation -> {
+            final BlockState state = (BlockState) invocation.getArguments()[0];
+            if (!states.contains(state)) {
+                states.add(state);
+            }
+            return states.indexOf(state);
+        });
+        return palette;
+    }
+
+    @Test
+    public void testPackedPositions() {
+        final int[][] positions = {{0, 0, 0}, {-1, 255, -1}, {30000000, 0, -30000000}, {-12, -64, 7}};
+        for (int[] position : positions) {
+            final long packed = BlockTransactionBatch.pack(position[0], position[1], position[2]);
+            assertEquals(position[0], BlockTransactionBatch.unpackX(packed));
+            assertEquals(position[1], BlockTransactionBatch.unpackY(packed));
+            assertEquals(position[2], BlockTransactionBatch.unpackZ(packed));
+        }
+    }
+
+    @Test
+    public void testStates() {
+        final BlockState stone = mock(BlockState.class);
+        final BlockState air = mock(BlockState.class);
+        final BlockState dirt = mock(BlockState.class);
+        final BlockTransactionBatch batch = new BlockTransactionBatch(createPalette(), 0);
+        for (int i = 0; i < 100; i++) {
+            batch.add(i, 64, -i, stone, air);
+        }
+        batch.setCustom(42, dirt);
+
+        assertEquals(100, batch.size());
+        assertEquals(new Vector3i(42, 64, -42), batch.getPosition(42));
+        assertSame(stone, batch.getOriginal(42));
+        assertSame(air, batch.getDefault(42));
+        assertSame(dirt, batch.getFinal(42));
+        assertSame(air, batch.getFinal(41));
+        assertFalse(batch.getCustom(41).isPresent());
+
+        batch.setCustom(42, null);
+        assertSame(air, batch.getFinal(42));
+    }
+
+    @Test
+    public void testFilters() {
+        final BlockState stone = mock(BlockState.class);
+        final BlockState bedrock = mock(BlockState.class);
+        final BlockState air = mock(BlockState.class);
+        final BlockTransactionBatch batch = new BlockTransactionBatch(createPalette());
+        for (int x = 0; x < 10; x++) {
+            for (int z = 0; z < 10; z++) {
+                batch.add(x, z == 0 ? 0 : 10, z, z == 0 ? bedrock : stone, air);
+            }
+        }
+
+        final AtomicInteger tests = new AtomicInteger();
+        assertEquals(10, batch.filterOriginals(state -> {
+            tests.incrementAndGet();
+            return state != bedrock;
+        }));
+        assertEquals(2, tests.get());
+        assertEquals(90, batch.getValidCount());
+
+        assertEquals(36, batch.invalidateAll(new Vector3i(0, 0, 0), new Vector3i(3, 10, 9)));
+        assertFalse(batch.isValid(35));
+        assertTrue(batch.isValid(41));
+
+        assertEquals(6, batch.filterAll((x, y, z) -> z != 5));
+        assertEquals(48, batch.invalidateAll());
+        assertEquals(0, batch.getValidCount());
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.data.persistence.InvalidDataFormatException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class ChannelBufDataCodecTest {
+
+    private static final DataQuery BOOLEAN = DataQuery.of("boolean");
+    private static final DataQuery BYTE = DataQuery.of("byte");
+    private static final DataQuery SHORT = DataQuery.of("short");
+    private static final DataQuery INT = DataQuery.of("int");
+    private static final DataQuery LONG = DataQuery.of("long");
+    private static final DataQuery FLOAT = DataQuery.of("float");
+    private static final DataQuery DOUBLE = DataQuery.of("double");
+    private static final DataQuery STRING = DataQuery.of("string");
+    private static final DataQuery BYTE_ARRAY = DataQuery.of("bytes");
+    private static final DataQuery INT_ARRAY = DataQuery.of("ints");
+    private static final DataQuery LONG_ARRAY = DataQuery.of("longs");
+    private static final DataQuery LIST = DataQuery.of("list");
+    private static final DataQuery NESTED_LIST = DataQuery.of("lists");
+    private static final DataQuery VIEW_LIST = DataQuery.of("views");
+    private static final DataQuery VIEW = DataQuery.of("view");
+
+    private static DataContainer createContainer() {
+        final DataContainer container = DataContainer.createNew()
+                .set(BOOLEAN, true)
+                .set(BYTE, (byte) -3)
+                .set(SHORT, (short) 1234)
+                .set(INT, Integer.MIN_VALUE)
+                .set(LONG, Long.MAX_VALUE)
+                .set(FLOAT, 1.5F)
+                .set(DOUBLE, -0.25D)
+                .set(STRING, "héllo ☃")
+                .set(BYTE_ARRAY, new byte[] {1, -2, 3})
+                .set(INT_ARRAY, new int[] {4, -5, 6})
+                .set(LONG_ARRAY, new long[] {7L, Long.MIN_VALUE})
+                .set(LIST, ImmutableList.of(1, 2, 3))
+                .set(NESTED_LIST, ImmutableList.of(ImmutableList.of("a"), ImmutableList.of()))
+                .set(VIEW_LIST, ImmutableList.of(DataContainer.createNew().set(INT, 1), DataContainer.createNew()));
+        container.createView(VIEW)
+                .set(STRING, "nested")
+                .createView(VIEW)
+                .set(INT_ARRAY, new int[0]);
+        return container;
+    }
+
+    private static byte[] encode(DataView view) {
+        final SimpleChannelBuf buf = new SimpleChannelBuf();
+        ChannelBufDataCodec.write(buf, view);
+        return buf.array();
+    }
+
+    private static void assertValues(DataView view) {
+        assertEquals(true, view.get(BOOLEAN).get());
+        assertEquals((byte) -3, view.get(BYTE).get());
+        assertEquals((short) 1234, view.get(SHORT).get());
+        assertEquals(Integer.MIN_VALUE, view.get(INT).get());
+        assertEquals(Long.MAX_VALUE, view.get(LONG).get());
+        assertEquals(1.5F, view.get(FLOAT).get());
+        assertEquals(-0.25D, view.get(DOUBLE).get());
+        assertEquals("héllo ☃", view.get(STRING).get());
+        assertArrayEquals(new byte[] {1, -2, 3}, (byte[]) view.get(BYTE_ARRAY).get());
+        assertArrayEquals(new int[] {4, -5, 6}, (int[]) view.get(INT_ARRAY).get());
+        assertArrayEquals(new long[] {7L, Long.MIN_VALUE}, (long[]) view.get(LONG_ARRAY).get());
+        assertEquals(ImmutableList.of(1, 2, 3), view.getList(LIST).get());
+        assertEquals(ImmutableList.of(ImmutableList.of("a"), ImmutableList.of()), view.getList(NESTED_LIST).get());
+        final List<DataView> views = view.getViewList(VIEW_LIST).get();
+        assertEquals(2, views.size());
+        assertEquals(1, views.get(0).get(INT).get());
+        assertTrue(views.get(1).getKeys(false).isEmpty());
+        final DataView nested = view.getView(VIEW).get();
+        assertEquals("nested", nested.get(STRING).get());
+        assertArrayEquals(new int[0], (int[]) nested.get(VIEW.then(INT_ARRAY)).get());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final byte[] bytes = encode(createContainer());
+        final SimpleChannelBuf buf = SimpleChannelBuf.of(bytes);
+        final DataContainer container = ChannelBufDataCodec.read(buf);
+        assertEquals(bytes.length, buf.readerIndex());
+        assertValues(container);
+        // Encoding the decoded container gives the same bytes
+        assertArrayEquals(bytes, encode(container));
+    }
+
+    @Test
+    public void testRoundTripAfterModification() {
+        final DataContainer container = ChannelBufDataCodec.read(SimpleChannelBuf.of(encode(createContainer())));
+        container.set(VIEW.then(INT), 5);
+        container.remove(LONG);
+        assertEquals(5, container.get(VIEW.then(INT)).get());
+        assertFalse(container.contains(LONG));
+        final DataContainer copy = ChannelBufDataCodec.read(SimpleChannelBuf.of(encode(container)));
+        assertEquals(5, copy.get(VIEW.then(INT)).get());
+        assertFalse(copy.contains(LONG));
+        assertEquals("nested", copy.get(VIEW.then(STRING)).get());
+    }
+
+    @Test
+    public void testCopyDoesNotShareListedViews() {
+        final DataContainer container = ChannelBufDataCodec.read(SimpleChannelBuf.of(encode(createContainer())));
+        final DataView listed = container.getViewList(VIEW_LIST).get().get(0);
+        final DataContainer copy = container.copy();
+        listed.set(INT, 2);
+        assertEquals(2, container.getViewList(VIEW_LIST).get().get(0).get(INT).get());
+        assertEquals(1, copy.getViewList(VIEW_LIST).get().get(0).get(INT).get());
+    }
+
+    @Test
+    public void testConsecutiveViews() {
+        final SimpleChannelBuf buf = new SimpleChannelBuf();
+        ChannelBufDataCodec.write(buf, DataContainer.createNew().set(INT, 1));
+        ChannelBufDataCodec.write(buf, DataContainer.createNew().set(INT, 2));
+        assertEquals(1, ChannelBufDataCodec.read(buf).get(INT).get());
+        assertEquals(2, ChannelBufDataCodec.read(buf).get(INT).get());
+        assertEquals(0, buf.available());
+    }
+
+    @Test
+    public void testKeysDoNotDecodeValues() {
+        final byte[] bytes = encode(DataContainer.createNew().set(INT, 1).set(LIST, ImmutableList.of(2, 3)));
+        // Corrupt the type of the first element of the list, which is only
+        // checked once the list is decoded
+        final int element = bytes.length - 2 * 5;
+        assertEquals(4, bytes[element]);
+        bytes[element] = 99;
+        final ChannelBufDataMap map = new ChannelBufDataMap(SimpleChannelBuf.of(bytes), 0, DataView.SafetyMode.NO_DATA_CLONED);
+        assertEquals(ImmutableSet.of("int", "list"), map.keySet());
+        assertTrue(map.containsKey("list"));
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            assertTrue(map.containsKey(entry.getKey()));
+        }
+        assertEquals(1, map.get("int"));
+        try {
+            map.get("list");
+            fail("Decoded a corrupt list");
+        } catch (InvalidDataFormatException expected) {
+        }
+    }
+
+    @Test
+    public void testTruncated() {
+        final byte[] bytes = encode(createContainer());
+        for (int length = 0; length < bytes.length; length++) {
+            assertInvalid(Arrays.copyOf(bytes, length));
+        }
+        // Truncated contents with a length matching the truncation
+        for (int length = 8; length < bytes.length; length++) {
+            final SimpleChannelBuf buf = SimpleChannelBuf.of(Arrays.copyOf(bytes, length));
+            buf.setInteger(0, length - 4);
+            assertInvalid(buf.array());
+        }
+    }
+
+    @Test
+    public void testDuplicateNames() {
+        // Views small enough to be scanned linearly and views that are indexed
+        for (int count : new int[] {2, 12}) {
+            final DataContainer container = DataContainer.createNew();
+            for (int i = 0; i < count; i++) {
+                container.set(DataQuery.of("key" + (char) ('A' + i)), i);
+            }
+            final byte[] bytes = encode(container);
+            // Rename the last key to the first one
+            final byte[] last = ("key" + (char) ('A' + count - 1)).getBytes(StandardCharsets.UTF_8);
+            for (int i = bytes.length - last.length; i >= 0; i--) {
+                if (Arrays.equals(last, Arrays.copyOfRange(bytes, i, i + last.length))) {
+                    bytes[i + 3] = 'A';
+                    break;
+                }
+            }
+            assertInvalid(bytes);
+        }
+    }
+
+    @Test
+    public void testCorrupt() {
+        final byte[] bytes = encode(createContainer());
+        for (int i = 0; i < bytes.length; i++) {
+            for (byte corrupt : new byte[] {0, 1, 13, 99, 0x7F, (byte) 0x80, (byte) 0xFF}) {
+                final byte[] copy = bytes.clone();
+                copy[i] = corrupt;
+                try {
+                    decodeAll(copy);
+                } catch (InvalidDataFormatException expected) {
+                    // Corrupt data may only be reported like this
+                }
+            }
+        }
+    }
+
+    private static void assertInvalid(byte[] bytes) {
+        try {
+            decodeAll(bytes);
+        } catch (InvalidDataFormatException expected) {
+            return;
+        }
+        fail("Decoded invalid data of length " + bytes.length);
+    }
+
+    private static void decodeAll(byte[] bytes) {
+        final DataContainer container = ChannelBufDataCodec.read(SimpleChannelBuf.of(bytes));
+        // Copying decodes all values, including views in lists
+        container.copy().getValues(true);
+    }
+
+}
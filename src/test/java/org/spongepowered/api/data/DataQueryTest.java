@@ -154,4 +154,17 @@ public void testEquals() {
         assertThat(query1.equals(nonEqual), is(false));
     }
 
+    /**
+     * Method: of(String... parts)
+     */
+    @Test
+    public void testInterned() {
+        final DataQuery query = DataQuery.of("this", "is", "interned");
+        assertThat(query == DataQuery.of('.', "this.is.interned"), is(true));
+        assertThat(query == DataQuery.of("this").then("is").then(DataQuery.of("interned")), is(true));
+        assertThat(query.pop() == DataQuery.of("this", "is"), is(true));
+        assertThat(query.popFirst() == DataQuery.of("is", "interned"), is(true));
+        assertThat(query.hashCode() == query.getParts().hashCode(), is(true));
+    }
+
 }
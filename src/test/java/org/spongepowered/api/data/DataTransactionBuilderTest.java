@@ -26,9 +26,14 @@
 
 
 import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 
+import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 import org.spongepowered.api.data.DataTransactionResult.Type;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
 
 public class DataTransactionBuilderTest {
 
@@ -41,6 +46,54 @@ public void testCorrectTypeWhenAbsorbingResult() {
         assertEquals(Type.CANCELLED, absorbedType(Type.FAILURE, Type.CANCELLED));
     }
     
+    @Test
+    public void testResetBuilderIsReusable() {
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder();
+        assertEquals(Type.FAILURE, builder.result(Type.FAILURE).absorbResult(DataTransactionResult.successNoData()).build().getType());
+        assertEquals(Type.SUCCESS, builder.reset().result(Type.SUCCESS).build().getType());
+        assertEquals(0, builder.reset().absorbResult(DataTransactionResult.successNoData()).build().getSuccessfulData().size());
+    }
+
+    @Test
+    public void testAbsorbMergesByKey() {
+        final Key<?> first = mock(Key.class);
+        final Key<?> second = mock(Key.class);
+        final Key<?> third = mock(Key.class);
+        final ImmutableValue<?> firstOld = value(first);
+        final ImmutableValue<?> firstNew = value(first);
+        final ImmutableValue<?> secondOld = value(second);
+        final ImmutableValue<?> secondRejected = value(second);
+        final ImmutableValue<?> thirdNew = value(third);
+
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder().result(Type.SUCCESS);
+        // Distinct keys are appended in order
+        builder.absorbResult(DataTransactionResult.successResult(firstOld));
+        builder.absorbResult(DataTransactionResult.successResult(secondOld));
+        assertEquals(ImmutableList.of(firstOld, secondOld), builder.build().getSuccessfulData());
+
+        // A new success of a present key takes its place, a rejection moves it
+        builder.absorbResult(DataTransactionResult.successResult(firstNew));
+        builder.absorbResult(DataTransactionResult.builder().result(Type.FAILURE).reject(secondRejected).build());
+        builder.absorbResult(DataTransactionResult.successResult(thirdNew));
+        final DataTransactionResult result = builder.build();
+        assertEquals(Type.FAILURE, result.getType());
+        assertEquals(ImmutableList.of(firstNew, thirdNew), result.getSuccessfulData());
+        assertEquals(ImmutableList.of(secondRejected), result.getRejectedData());
+        assertEquals(ImmutableList.of(), result.getReplacedData());
+
+        // Values added directly after absorbing are still merged by key
+        builder.replace(value(third));
+        builder.absorbResult(DataTransactionResult.builder().result(Type.SUCCESS).replace(value(third)).build());
+        assertEquals(ImmutableList.of(firstNew), builder.build().getSuccessfulData());
+        assertEquals(2, builder.build().getReplacedData().size());
+    }
+
+    private static ImmutableValue<?> value(Key<?> key) {
+        final ImmutableValue<?> value = mock(ImmutableValue.class);
+        doReturn(key).when(value).getKey();
+        return value;
+    }
+
     private Type absorbedType(Type builderType, Type resultType) {
         DataTransactionResult result = DataTransactionResult.builder().result(resultType).build();
         DataTransactionResult absorbed = DataTransactionResult.builder().result(builderType).absorbResult(result).build();
@@ -129,6 +129,112 @@ public void testNumbers() {
         assertTrue(doubleOptional.get() == 1.0D);
     }
 
+    @Test
+    public void testCompactContainer() {
+        DataContainer container = DataContainer.createNew();
+        DataContainer compact = DataContainer.createCompact();
+        for (DataContainer data : Arrays.asList(container, compact)) {
+            data.set(of("foo", "int"), 1);
+            data.set(of("foo", "long"), 2L);
+            data.set(of("foo", "double"), 3.0D);
+            data.set(of("bar"), "baz");
+            data.set(of("bytes"), new byte[] {1, 2, 3});
+        }
+        assertTrue(compact.getInt(of("foo", "int")).get() == 1);
+        assertTrue(compact.getLong(of("foo", "long")).get() == 2L);
+        assertTrue(compact.getDouble(of("foo", "double")).get() == 3.0D);
+        assertTrue(compact.getString(of("bar")).get().equals("baz"));
+        assertTrue(compact.getKeys(true).equals(container.getKeys(true)));
+        assertTrue(compact.copy().getKeys(true).equals(container.getKeys(true)));
+        assertTrue(Lists.newArrayList(compact.getKeys(true)).equals(Lists.newArrayList(container.getKeys(true))));
+        compact.remove(of("foo", "long"));
+        assertTrue(!compact.contains(of("foo", "long")));
+        assertTrue(compact.contains(of("foo", "double")));
+        // Values moved by the removal keep their primitive slot
+        assertTrue(compact.get(of("foo", "double")).get().equals(3.0D));
+        compact.set(of("foo", "int"), "one");
+        compact.set(of("bar"), -5L);
+        assertTrue(compact.getString(of("foo", "int")).get().equals("one"));
+        assertTrue(compact.get(of("bar")).get().equals(-5L));
+        assertTrue(compact.getDouble(of("foo", "double")).get() == 3.0D);
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("foo", "bar"), 1);
+        container.set(of("foo", "baz"), 2);
+        container.set(of("qux"), 3);
+        DataView view = container.getView(of("foo")).get();
+        DataContainer copy = container.copy();
+        assertTrue(copy.equals(container));
+
+        copy.set(of("foo", "bar"), 4);
+        view.set(of("baz"), 5);
+        container.remove(of("qux"));
+        assertTrue(container.getInt(of("foo", "bar")).get() == 1);
+        assertTrue(container.getInt(of("foo", "baz")).get() == 5);
+        assertTrue(!container.contains(of("qux")));
+        assertTrue(copy.getInt(of("foo", "bar")).get() == 4);
+        assertTrue(copy.getInt(of("foo", "baz")).get() == 2);
+        assertTrue(copy.getInt(of("qux")).get() == 3);
+    }
+
+    @Test
+    public void testCopyOnWriteViewList() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("views"), ImmutableList.of(new MemoryDataContainer().set(of("foo"), 1)));
+        container.set(of("nested", "views"), ImmutableList.of(new MemoryDataContainer().set(of("foo"), 1)));
+        DataContainer copy = container.copy();
+
+        DataView listed = copy.getViewList(of("views")).get().get(0);
+        listed.set(of("foo"), 2);
+        copy.getViewList(of("nested", "views")).get().get(0).set(of("foo"), 3);
+        assertTrue(container.getViewList(of("views")).get().get(0).getInt(of("foo")).get() == 1);
+        assertTrue(container.getViewList(of("nested", "views")).get().get(0).getInt(of("foo")).get() == 1);
+        // The copy keeps the views it handed out
+        assertTrue(copy.getViewList(of("views")).get().get(0) == listed);
+        assertTrue(copy.getViewList(of("views")).get().get(0).getInt(of("foo")).get() == 2);
+        assertTrue(copy.getViewList(of("nested", "views")).get().get(0).getInt(of("foo")).get() == 3);
+    }
+
+    @Test
+    public void testCopyOfHandedOutViewList() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("nested", "views"), ImmutableList.of(new MemoryDataContainer().set(of("foo"), 1)));
+        DataView listed = container.getViewList(of("nested", "views")).get().get(0);
+        DataContainer copy = container.copy();
+
+        listed.set(of("foo"), 99);
+        assertTrue(copy.getViewList(of("nested", "views")).get().get(0).getInt(of("foo")).get() == 1);
+        assertTrue(container.getViewList(of("nested", "views")).get().get(0).getInt(of("foo")).get() == 99);
+    }
+
+    @Test
+    public void testProtectedMap() {
+        ExposedContainer container = new ExposedContainer();
+        container.set(of("foo", "bar"), 1);
+        container.set(of("baz"), 2);
+        assertTrue(container.getMap().get("foo") instanceof DataView);
+        assertTrue(container.getMap().get("baz").equals(2));
+
+        DataContainer copy = container.copy();
+        container.getMap().put("baz", 3);
+        container.getMap().remove("foo");
+        assertTrue(container.getInt(of("baz")).get() == 3);
+        assertTrue(!container.contains(of("foo")));
+        assertTrue(copy.getInt(of("baz")).get() == 2);
+        assertTrue(copy.getInt(of("foo", "bar")).get() == 1);
+    }
+
+    private static final class ExposedContainer extends MemoryDataContainer {
+
+        Map<String, Object> getMap() {
+            return this.map;
+        }
+
+    }
+
     @Test
     public void testBoolean() {
         DataContainer container = new MemoryDataContainer();
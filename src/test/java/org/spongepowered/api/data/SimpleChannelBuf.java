@@ -0,0 +1,565 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import org.spongepowered.api.network.ChannelBuf;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * A big endian {@link ChannelBuf} backed by a byte array, growing as it is
+ * written to unless it is a slice.
+ */
+final class SimpleChannelBuf implements ChannelBuf {
+
+    private ByteBuffer data;
+    private final int base;
+    private int capacity;
+    private final boolean fixed;
+    private int readerIndex;
+    private int writerIndex;
+    private int markedReaderIndex;
+    private int markedWriterIndex;
+
+    SimpleChannelBuf() {
+        this(ByteBuffer.allocate(16), 0, 16, false);
+    }
+
+    /**
+     * Creates a buffer of fixed capacity that can be read from completely.
+     *
+     * @param bytes The content of the buffer
+     * @return The buffer
+     */
+    static SimpleChannelBuf of(byte[] bytes) {
+        final SimpleChannelBuf buf = new SimpleChannelBuf(ByteBuffer.wrap(bytes), 0, bytes.length, true);
+        buf.writerIndex = bytes.length;
+        return buf;
+    }
+
+    private SimpleChannelBuf(ByteBuffer data, int base, int capacity, boolean fixed) {
+        this.data = data;
+        this.base = base;
+        this.capacity = capacity;
+        this.fixed = fixed;
+    }
+
+    private int check(int index, int length) {
+        if (index < 0 || length < 0 || index > this.capacity - length) {
+            throw new IndexOutOfBoundsException("index " + index + ", length " + length + ", capacity " + this.capacity);
+        }
+        return this.base + index;
+    }
+
+    private int write(int length) {
+        if (this.writerIndex > this.capacity - length && !this.fixed) {
+            int capacity = this.capacity;
+            while (this.writerIndex > capacity - length) {
+                capacity *= 2;
+            }
+            final ByteBuffer data = ByteBuffer.allocate(capacity);
+            data.put(this.data.array(), 0, this.capacity);
+            this.data = data;
+            this.capacity = capacity;
+        }
+        final int index = this.writerIndex;
+        check(index, length);
+        this.writerIndex += length;
+        return index;
+    }
+
+    private int read(int length) {
+        if (length > available()) {
+            throw new IndexOutOfBoundsException("Only " + available() + " bytes available");
+        }
+        final int index = this.readerIndex;
+        this.readerIndex += length;
+        return index;
+    }
+
+    @Override
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    @Override
+    public int available() {
+        return this.writerIndex - this.readerIndex;
+    }
+
+    @Override
+    public ChannelBuf order(ByteOrder order) {
+        if (order != ByteOrder.BIG_ENDIAN) {
+            throw new UnsupportedOperationException();
+        }
+        return this;
+    }
+
+    @Override
+    public ByteOrder getByteOrder() {
+        return ByteOrder.BIG_ENDIAN;
+    }
+
+    @Override
+    public int readerIndex() {
+        return this.readerIndex;
+    }
+
+    @Override
+    public ChannelBuf setReadIndex(int index) {
+        return setIndex(index, this.writerIndex);
+    }
+
+    @Override
+    public int writerIndex() {
+        return this.writerIndex;
+    }
+
+    @Override
+    public ChannelBuf setWriteIndex(int index) {
+        return setIndex(this.readerIndex, index);
+    }
+
+    @Override
+    public ChannelBuf setIndex(int readIndex, int writeIndex) {
+        if (readIndex < 0 || readIndex > writeIndex || writeIndex > this.capacity) {
+            throw new IndexOutOfBoundsException();
+        }
+        this.readerIndex = readIndex;
+        this.writerIndex = writeIndex;
+        return this;
+    }
+
+    @Override
+    public ChannelBuf clear() {
+        return setIndex(0, 0);
+    }
+
+    @Override
+    public ChannelBuf markRead() {
+        this.markedReaderIndex = this.readerIndex;
+        return this;
+    }
+
+    @Override
+    public ChannelBuf markWrite() {
+        this.markedWriterIndex = this.writerIndex;
+        return this;
+    }
+
+    @Override
+    public ChannelBuf resetRead() {
+        return setReadIndex(this.markedReaderIndex);
+    }
+
+    @Override
+    public ChannelBuf resetWrite() {
+        return setWriteIndex(this.markedWriterIndex);
+    }
+
+    @Override
+    public ChannelBuf slice() {
+        return slice(this.readerIndex, available());
+    }
+
+    @Override
+    public ChannelBuf slice(int index, int length) {
+        final SimpleChannelBuf slice = new SimpleChannelBuf(this.data, check(index, length), length, true);
+        slice.writerIndex = length;
+        return slice;
+    }
+
+    @Override
+    public byte[] array() {
+        return Arrays.copyOfRange(this.data.array(), this.base, this.base + this.writerIndex);
+    }
+
+    @Override
+    public ChannelBuf writeBoolean(boolean data) {
+        return setBoolean(write(1), data);
+    }
+
+    @Override
+    public ChannelBuf setBoolean(int index, boolean data) {
+        return setByte(index, (byte) (data ? 1 : 0));
+    }
+
+    @Override
+    public boolean readBoolean() {
+        return getBoolean(read(1));
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        return getByte(index) != 0;
+    }
+
+    @Override
+    public ChannelBuf writeByte(byte data) {
+        return setByte(write(1), data);
+    }
+
+    @Override
+    public ChannelBuf setByte(int index, byte data) {
+        this.data.put(check(index, 1), data);
+        return this;
+    }
+
+    @Override
+    public byte readByte() {
+        return getByte(read(1));
+    }
+
+    @Override
+    public byte getByte(int index) {
+        return this.data.get(check(index, 1));
+    }
+
+    @Override
+    public ChannelBuf writeByteArray(byte[] data) {
+        return writeByteArray(data, 0, data.length);
+    }
+
+    @Override
+    public ChannelBuf writeByteArray(byte[] data, int start, int length) {
+        writeVarInt(length);
+        return writeBytes(data, start, length);
+    }
+
+    @Override
+    public ChannelBuf setByteArray(int index, byte[] data) {
+        return setByteArray(index, data, 0, data.length);
+    }
+
+    @Override
+    public ChannelBuf setByteArray(int index, byte[] data, int start, int length) {
+        setVarInt(index, length);
+        return setBytes(index + varIntSize(length), data, start, length);
+    }
+
+    @Override
+    public byte[] readByteArray() {
+        return readBytes(readVarInt());
+    }
+
+    @Override
+    public byte[] readByteArray(int index) {
+        final int length = getVarInt(index);
+        return readBytes(index + varIntSize(length), length);
+    }
+
+    @Override
+    public ChannelBuf writeBytes(byte[] data) {
+        return writeBytes(data, 0, data.length);
+    }
+
+    @Override
+    public ChannelBuf writeBytes(byte[] data, int start, int length) {
+        return setBytes(write(length), data, start, length);
+    }
+
+    @Override
+    public ChannelBuf setBytes(int index, byte[] data) {
+        return setBytes(index, data, 0, data.length);
+    }
+
+    @Override
+    public ChannelBuf setBytes(int index, byte[] data, int start, int length) {
+        System.arraycopy(data, start, this.data.array(), check(index, length), length);
+        return this;
+    }
+
+    @Override
+    public byte[] readBytes(int length) {
+        return readBytes(read(length), length);
+    }
+
+    @Override
+    public byte[] readBytes(int index, int length) {
+        final int start = check(index, length);
+        return Arrays.copyOfRange(this.data.array(), start, start + length);
+    }
+
+    @Override
+    public ChannelBuf writeShort(short data) {
+        return setShort(write(2), data);
+    }
+
+    @Override
+    public ChannelBuf setShort(int index, short data) {
+        this.data.putShort(check(index, 2), data);
+        return this;
+    }
+
+    @Override
+    public short readShort() {
+        return getShort(read(2));
+    }
+
+    @Override
+    public short getShort(int index) {
+        return this.data.getShort(check(index, 2));
+    }
+
+    @Override
+    public ChannelBuf writeChar(char data) {
+        return setChar(write(2), data);
+    }
+
+    @Override
+    public ChannelBuf setChar(int index, char data) {
+        this.data.putChar(check(index, 2), data);
+        return this;
+    }
+
+    @Override
+    public char readChar() {
+        return getChar(read(2));
+    }
+
+    @Override
+    public char getChar(int index) {
+        return this.data.getChar(check(index, 2));
+    }
+
+    @Override
+    public ChannelBuf writeInteger(int data) {
+        return setInteger(write(4), data);
+    }
+
+    @Override
+    public ChannelBuf setInteger(int index, int data) {
+        this.data.putInt(check(index, 4), data);
+        return this;
+    }
+
+    @Override
+    public int readInteger() {
+        return getInteger(read(4));
+    }
+
+    @Override
+    public int getInteger(int index) {
+        return this.data.getInt(check(index, 4));
+    }
+
+    @Override
+    public ChannelBuf writeLong(long data) {
+        return setLong(write(8), data);
+    }
+
+    @Override
+    public ChannelBuf setLong(int index, long data) {
+        this.data.putLong(check(index, 8), data);
+        return this;
+    }
+
+    @Override
+    public long readLong() {
+        return getLong(read(8));
+    }
+
+    @Override
+    public long getLong(int index) {
+        return this.data.getLong(check(index, 8));
+    }
+
+    @Override
+    public ChannelBuf writeFloat(float data) {
+        return setFloat(write(4), data);
+    }
+
+    @Override
+    public ChannelBuf setFloat(int index, float data) {
+        this.data.putFloat(check(index, 4), data);
+        return this;
+    }
+
+    @Override
+    public float readFloat() {
+        return getFloat(read(4));
+    }
+
+    @Override
+    public float getFloat(int index) {
+        return this.data.getFloat(check(index, 4));
+    }
+
+    @Override
+    public ChannelBuf writeDouble(double data) {
+        return setDouble(write(8), data);
+    }
+
+    @Override
+    public ChannelBuf setDouble(int index, double data) {
+        this.data.putDouble(check(index, 8), data);
+        return this;
+    }
+
+    @Override
+    public double readDouble() {
+        return getDouble(read(8));
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return this.data.getDouble(check(index, 8));
+    }
+
+    private static int varIntSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    @Override
+    public ChannelBuf writeVarInt(int data) {
+        return setVarInt(write(varIntSize(data)), data);
+    }
+
+    @Override
+    public ChannelBuf setVarInt(int index, int data) {
+        while ((data & ~0x7F) != 0) {
+            setByte(index++, (byte) (data & 0x7F | 0x80));
+            data >>>= 7;
+        }
+        return setByte(index, (byte) data);
+    }
+
+    @Override
+    public int readVarInt() {
+        final int value = getVarInt(this.readerIndex);
+        read(varIntSize(value));
+        return value;
+    }
+
+    @Override
+    public int getVarInt(int index) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = getByte(index++);
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public ChannelBuf writeString(String data) {
+        return writeByteArray(data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ChannelBuf setString(int index, String data) {
+        return setByteArray(index, data.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String readString() {
+        return new String(readByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getString(int index) {
+        return new String(readByteArray(index), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public ChannelBuf writeUTF(String data) {
+        final byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        writeShort((short) bytes.length);
+        return writeBytes(bytes);
+    }
+
+    @Override
+    public ChannelBuf setUTF(int index, String data) {
+        final byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        setShort(index, (short) bytes.length);
+        return setBytes(index + 2, bytes);
+    }
+
+    @Override
+    public String readUTF() {
+        return new String(readBytes(readShort() & 0xFFFF), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getUTF(int index) {
+        return new String(readBytes(index + 2, getShort(index) & 0xFFFF), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public ChannelBuf writeUniqueId(UUID data) {
+        writeLong(data.getMostSignificantBits());
+        return writeLong(data.getLeastSignificantBits());
+    }
+
+    @Override
+    public ChannelBuf setUniqueId(int index, UUID data) {
+        setLong(index, data.getMostSignificantBits());
+        return setLong(index + 8, data.getLeastSignificantBits());
+    }
+
+    @Override
+    public UUID readUniqueId() {
+        return new UUID(readLong(), readLong());
+    }
+
+    @Override
+    public UUID getUniqueId(int index) {
+        return new UUID(getLong(index), getLong(index + 8));
+    }
+
+    @Override
+    public ChannelBuf writeDataView(DataView data) {
+        ChannelBufDataCodec.write(this, data);
+        return this;
+    }
+
+    @Override
+    public ChannelBuf setDataView(int index, DataView data) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public DataView readDataView() {
+        return ChannelBufDataCodec.read(this);
+    }
+
+    @Override
+    public DataView getDataView(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+}
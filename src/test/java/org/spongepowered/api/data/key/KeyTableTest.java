@@ -0,0 +1,100 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.key;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.reflect.TypeToken;
+import org.junit.Test;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.value.mutable.Value;
+
+public class KeyTableTest {
+
+    private static Key<Value<Integer>> makeKey(String name) {
+        return KeyFactory.makeSingleKey(TypeToken.of(Integer.class), new TypeToken<Value<Integer>>() {}, DataQuery.of(name), "test:" + name,
+                name);
+    }
+
+    @Test
+    public void testOrdinals() {
+        final Key<Value<Integer>> first = makeKey("first");
+        final Key<Value<Integer>> second = makeKey("second");
+        assertThat(second.getOrdinal(), is(first.getOrdinal() + 1));
+        assertThat(KeyFactory.getKeyCount(), is(second.getOrdinal() + 1));
+    }
+
+    @Test
+    public void testTable() {
+        final Key<Value<Integer>> first = makeKey("one");
+        final KeyTable table = new KeyTable();
+        // Keys created after the table must still be accepted
+        final Key<Value<Integer>> second = makeKey("two");
+        assertThat(table.put(first, 1), is(nullValue()));
+        assertThat(table.put(second, 2), is(nullValue()));
+        assertThat(table.put(second, 3), is(2));
+        assertThat(table.size(), is(2));
+        assertThat(table.get(first), is(1));
+        assertThat(table.get(second), is(3));
+
+        final KeyTable copy = table.copy();
+        assertThat(table.remove(first), is(1));
+        assertThat(table.contains(first), is(false));
+        assertThat(table.size(), is(1));
+        assertThat(copy.get(first), is(1));
+        assertThat(copy.size(), is(2));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testKeyWithoutOrdinal() {
+        final Key<Value<Integer>> ordered = makeKey("ordered");
+        final Key<Value<Integer>> unordered = mock(Key.class);
+        when(unordered.getOrdinal()).thenReturn(-1);
+        when(unordered.getId()).thenReturn("test:unordered");
+        final KeyTable table = new KeyTable();
+        assertThat(table.contains(unordered), is(false));
+        assertThat(table.put(unordered, 1), is(nullValue()));
+        assertThat(table.put(ordered, 2), is(nullValue()));
+        assertThat(table.put(unordered, 3), is(1));
+        assertThat(table.get(unordered), is(3));
+        assertThat(table.size(), is(2));
+        assertThat(table.getKeys(), is(ImmutableSet.of(ordered, unordered)));
+
+        final KeyTable copy = table.copy();
+        assertThat(table.remove(unordered), is(3));
+        assertThat(table.contains(unordered), is(false));
+        assertThat(table.size(), is(1));
+        assertThat(copy.get(unordered), is(3));
+        table.clear();
+        assertThat(table.isEmpty(), is(true));
+    }
+
+}
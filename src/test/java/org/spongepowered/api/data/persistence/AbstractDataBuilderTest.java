@@ -0,0 +1,174 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.powermock.api.mockito.PowerMockito.mockStatic;
+import static org.powermock.api.mockito.PowerMockito.when;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataManager;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.Queries;
+
+import java.util.List;
+import java.util.Optional;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest(Sponge.class)
+public class AbstractDataBuilderTest {
+
+    private static DataManager mockDataManager() {
+        final DataManager manager = Mockito.mock(DataManager.class);
+        mockStatic(Sponge.class);
+        when(Sponge.getDataManager()).thenReturn(manager);
+        Mockito.stub(manager.getTranslator(Mockito.any())).toReturn(Optional.empty());
+        return manager;
+    }
+
+    @Test
+    public void testBuildCurrentVersion() {
+        final DataManager manager = mockDataManager();
+        final DataContainer container = DataContainer.createNew()
+                .set(Queries.CONTENT_VERSION, 2)
+                .set(of("value"), "foo");
+        assertEquals("foo", new TestDataBuilder().build(container).get().value);
+        Mockito.verify(manager, Mockito.never()).getWrappedContentUpdater(Mockito.any(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    public void testBuildUnversioned() {
+        mockDataManager();
+        assertEquals("foo", new TestDataBuilder().build(DataContainer.createNew().set(of("value"), "foo")).get().value);
+    }
+
+    @Test
+    public void testBuildOldVersion() {
+        final DataManager manager = mockDataManager();
+        final DataContentUpdater updater = new DataContentUpdater() {
+
+            @Override
+            public int getInputVersion() {
+                return 1;
+            }
+
+            @Override
+            public int getOutputVersion() {
+                return 2;
+            }
+
+            @Override
+            public DataView update(DataView content) {
+                return content.copy().set(of("value"), content.getString(of("oldValue")).get());
+            }
+        };
+        Mockito.stub(manager.getWrappedContentUpdater(TestData.class, 1, 2)).toReturn(Optional.of(updater));
+        final DataContainer container = DataContainer.createNew()
+                .set(Queries.CONTENT_VERSION, 1)
+                .set(of("oldValue"), "foo");
+        assertEquals("foo", new TestDataBuilder().build(container).get().value);
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testBuildOldVersionWithoutUpdater() {
+        final DataManager manager = mockDataManager();
+        Mockito.stub(manager.getWrappedContentUpdater(TestData.class, 1, 2)).toReturn(Optional.empty());
+        new TestDataBuilder().build(DataContainer.createNew().set(Queries.CONTENT_VERSION, 1).set(of("value"), "foo"));
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testBuildMalformedVersion() {
+        mockDataManager();
+        new TestDataBuilder().build(DataContainer.createNew().set(Queries.CONTENT_VERSION, "two").set(of("value"), "foo"));
+    }
+
+    @Test
+    public void testDeserializeAll() {
+        final DataManager manager = Mockito.mock(DefaultsDataManager.class, Mockito.CALLS_REAL_METHODS);
+        Mockito.doReturn(Optional.of(new TestDataBuilder())).when(manager).getBuilder(TestData.class);
+        final List<DataView> views = ImmutableList.of(
+                DataContainer.createNew().set(of("value"), "foo"),
+                DataContainer.createNew(),
+                DataContainer.createNew().set(of("value"), "bar"));
+        final List<TestData> data = manager.deserializeAll(TestData.class, views).get();
+        assertEquals(2, data.size());
+        assertEquals("foo", data.get(0).value);
+        assertEquals("bar", data.get(1).value);
+        Mockito.verify(manager, Mockito.times(1)).getBuilder(TestData.class);
+
+        Mockito.doReturn(Optional.empty()).when(manager).getBuilder(TestData.class);
+        assertFalse(manager.deserializeAll(TestData.class, views).isPresent());
+    }
+
+    /**
+     * Exposes the default methods of {@link DataManager} to partial mocks.
+     */
+    abstract static class DefaultsDataManager implements DataManager {
+    }
+
+    private static final class TestData implements DataSerializable {
+
+        final String value;
+
+        TestData(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public int getContentVersion() {
+            return 2;
+        }
+
+        @Override
+        public DataContainer toContainer() {
+            return DataContainer.createNew()
+                    .set(Queries.CONTENT_VERSION, getContentVersion())
+                    .set(of("value"), this.value);
+        }
+    }
+
+    private static final class TestDataBuilder extends AbstractDataBuilder<TestData> {
+
+        TestDataBuilder() {
+            super(TestData.class, 2);
+        }
+
+        @Override
+        protected Optional<TestData> buildContent(DataView container) throws InvalidDataException {
+            return container.getString(of("value")).map(TestData::new);
+        }
+    }
+
+}
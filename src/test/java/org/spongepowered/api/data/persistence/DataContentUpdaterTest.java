@@ -0,0 +1,161 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+public class DataContentUpdaterTest {
+
+    @Test
+    public void testChain() {
+        final DataContentUpdater chain = DataContentUpdater.chain(ImmutableList.of(
+                new TestUpdater(1, 2, of("a")),
+                new TestUpdater(2, 3, null),
+                new TestUpdater(3, 4, of("b"))));
+        assertEquals(1, chain.getInputVersion());
+        assertEquals(4, chain.getOutputVersion());
+        // Not every updater is declared, so neither is the chain
+        assertTrue(chain.getUpdatedQueries().isEmpty());
+
+        final DataContainer content = DataContainer.createNew().set(of("value"), 0);
+        final DataView updated = chain.update(content);
+        assertEquals(2, (int) updated.getInt(of("a")).get());
+        assertEquals(3, (int) updated.getInt(of("copied")).get());
+        assertEquals(4, (int) updated.getInt(of("b")).get());
+        assertEquals(0, (int) updated.getInt(of("value")).get());
+        assertFalse(content.contains(of("a")));
+        assertFalse(content.contains(of("copied")));
+    }
+
+    @Test
+    public void testSingleUpdaterIsNotWrapped() {
+        final DataContentUpdater updater = new TestUpdater(1, 2, null);
+        assertSame(updater, DataContentUpdater.chain(ImmutableList.of(updater)));
+    }
+
+    @Test
+    public void testDeclaredChainUpdatesInPlace() {
+        final TestUpdater first = new TestUpdater(1, 2, of("a"));
+        final TestUpdater second = new TestUpdater(2, 3, of("b"));
+        final DataContentUpdater chain = DataContentUpdater.chain(ImmutableList.of(first, second));
+        assertEquals(ImmutableSet.of(of("a"), of("b")), chain.getUpdatedQueries());
+
+        final DataContainer content = DataContainer.createNew().set(of("value"), 0);
+        final DataView updated = chain.update(content);
+        assertSame(content, first.seen.get(0));
+        assertSame(updated, first.seen.get(0));
+        assertSame(updated, second.seen.get(0));
+        assertEquals(3, (int) updated.getInt(of("b")).get());
+    }
+
+    @Test
+    public void testMixedChainCopiesBeforeDeclaredUpdaters() {
+        final TestUpdater first = new TestUpdater(1, 2, of("a"));
+        final TestUpdater copying = new TestUpdater(2, 3, null);
+        final TestUpdater second = new TestUpdater(3, 4, of("b"));
+        final DataContentUpdater chain = DataContentUpdater.chain(ImmutableList.of(first, copying, second));
+        final DataContainer content = DataContainer.createNew().set(of("value"), 0);
+        final DataView updated = chain.update(content);
+        // The declared updater before the copying one works on a copy
+        assertNotSame(content, first.seen.get(0));
+        assertFalse(content.contains(of("a")));
+        // The copying updater produced a new view, which is modified in place
+        assertSame(updated, second.seen.get(0));
+        assertNotSame(copying.seen.get(0), updated);
+        assertEquals(2, (int) updated.getInt(of("a")).get());
+        assertEquals(4, (int) updated.getInt(of("b")).get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testVersionMismatch() {
+        DataContentUpdater.chain(ImmutableList.of(new TestUpdater(1, 2, of("a")), new TestUpdater(3, 4, of("b"))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyChain() {
+        DataContentUpdater.chain(ImmutableList.of());
+    }
+
+    /**
+     * Sets the output version at its query in place if it has one, otherwise
+     * sets it at "copied" in a copy of the content.
+     */
+    private static final class TestUpdater implements DataContentUpdater {
+
+        private final int inputVersion;
+        private final int outputVersion;
+        @Nullable private final DataQuery query;
+        final List<DataView> seen = new ArrayList<>();
+
+        TestUpdater(int inputVersion, int outputVersion, @Nullable DataQuery query) {
+            this.inputVersion = inputVersion;
+            this.outputVersion = outputVersion;
+            this.query = query;
+        }
+
+        @Override
+        public int getInputVersion() {
+            return this.inputVersion;
+        }
+
+        @Override
+        public int getOutputVersion() {
+            return this.outputVersion;
+        }
+
+        @Override
+        public Set<DataQuery> getUpdatedQueries() {
+            return this.query == null ? ImmutableSet.of() : ImmutableSet.of(this.query);
+        }
+
+        @Override
+        public DataView update(DataView content) {
+            this.seen.add(content);
+            if (this.query != null) {
+                return content.set(this.query, this.outputVersion);
+            }
+            return content.copy().set(of("copied"), this.outputVersion);
+        }
+    }
+
+}
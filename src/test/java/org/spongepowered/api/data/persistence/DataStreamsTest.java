@@ -0,0 +1,76 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+
+public class DataStreamsTest {
+
+    private static DataContainer createContainer() {
+        return DataContainer.createNew()
+                .set(of("foo", "bar"), 1)
+                .set(of("foo", "baz"), "qux")
+                .set(of("list"), ImmutableList.of(1, 2, 3))
+                .set(of("deep", "deeper", "deepest"), 4L);
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        final DataContainer container = createContainer();
+        assertEquals(container, DataStreams.read(DataStreams.reader(container)));
+    }
+
+    @Test
+    public void testReadSelectedPaths() throws Exception {
+        final DataContainer read = DataStreams.read(DataStreams.reader(createContainer()), ImmutableList.of(of("foo", "baz"), of("deep")));
+        assertEquals("qux", read.getString(of("foo", "baz")).get());
+        assertEquals(4L, (long) read.getLong(of("deep", "deeper", "deepest")).get());
+        assertFalse(read.contains(of("foo", "bar")));
+        assertFalse(read.contains(of("list")));
+    }
+
+    @Test
+    public void testSkipValue() throws Exception {
+        final DataReader reader = DataStreams.reader(createContainer());
+        reader.beginView();
+        int count = 0;
+        while (reader.hasNext()) {
+            assertEquals(DataToken.NAME, reader.peek());
+            reader.skipValue();
+            count++;
+        }
+        reader.endView();
+        assertEquals(3, count);
+        assertTrue(reader.peek() == DataToken.END_DOCUMENT);
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.Test;
+import org.spongepowered.api.data.DataTransactionResult;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.immutable.ImmutableBoundedIntValue;
+import org.spongepowered.api.data.value.immutable.ImmutableIntValue;
+import org.spongepowered.api.data.value.mutable.BooleanValue;
+import org.spongepowered.api.data.value.mutable.CompositeValueStore;
+import org.spongepowered.api.data.value.mutable.DoubleValue;
+import org.spongepowered.api.data.value.mutable.IntValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedDoubleValue;
+import org.spongepowered.api.data.value.mutable.MutableBoundedIntValue;
+import org.spongepowered.api.data.value.mutable.Value;
+
+import java.util.Optional;
+
+@SuppressWarnings("unchecked")
+public class PrimitiveValueTest {
+
+    private final Key<Value<Integer>> intKey = mock(Key.class);
+    private final Key<Value<Double>> doubleKey = mock(Key.class);
+    private final Key<Value<Boolean>> booleanKey = mock(Key.class);
+
+    @Test
+    public void testPrimitiveGetters() {
+        final TestContainer container = mock(TestContainer.class, CALLS_REAL_METHODS);
+        doReturn(Optional.of(3)).when(container).get(this.intKey);
+        doReturn(Optional.of(1.5D)).when(container).get(this.doubleKey);
+        doReturn(Optional.empty()).when(container).get(this.booleanKey);
+        assertEquals(3, container.getInt(this.intKey, 0));
+        assertEquals(1.5D, container.getDouble(this.doubleKey, 0D), 0D);
+        assertEquals(true, container.getBoolean(this.booleanKey, true));
+    }
+
+    @Test
+    public void testPrimitiveOfferOverloads() {
+        final TestStore store = mock(TestStore.class, CALLS_REAL_METHODS);
+        final DataTransactionResult result = DataTransactionResult.successNoData();
+        doReturn(result).when(store).offer(this.intKey, Integer.valueOf(5));
+        doReturn(result).when(store).offer(this.doubleKey, Double.valueOf(5D));
+        doReturn(result).when(store).offer(this.booleanKey, Boolean.TRUE);
+
+        // Primitive arguments resolve to the primitive overloads, which box
+        // into the generic offer
+        assertSame(result, store.offer(this.intKey, 5));
+        verify(store).offer(this.intKey, 5);
+        // An int literal widens to the double overload of a double key
+        assertSame(result, store.offer(this.doubleKey, 5));
+        verify(store).offer(this.doubleKey, 5D);
+        assertSame(result, store.offer(this.booleanKey, true));
+        verify(store).offer(this.booleanKey, true);
+        verify(store).offer(this.intKey, Integer.valueOf(5));
+        verify(store).offer(this.doubleKey, Double.valueOf(5D));
+        verify(store).offer(this.booleanKey, Boolean.TRUE);
+    }
+
+    @Test
+    public void testBoxedOfferSkipsPrimitiveOverload() {
+        final TestStore store = mock(TestStore.class, CALLS_REAL_METHODS);
+        doReturn(DataTransactionResult.successNoData()).when(store).offer(this.intKey, Integer.valueOf(5));
+        store.offer(this.intKey, Integer.valueOf(5));
+        verify(store, never()).offer(this.intKey, 5);
+    }
+
+    @Test
+    public void testFactoryDefaults() {
+        final TestFactory factory = mock(TestFactory.class, CALLS_REAL_METHODS);
+        final IntValue value = factory.createIntValue(this.intKey, 3, 0);
+        assertEquals(3, value.getInt());
+        assertEquals(Integer.valueOf(0), value.getDefault());
+        assertSame(value, value.setInt(7));
+        assertEquals(7, value.getInt());
+        final ImmutableIntValue immutableValue = value.asImmutable();
+        assertEquals(7, immutableValue.getInt());
+        assertEquals(8, immutableValue.withInt(8).getInt());
+        assertEquals(7, immutableValue.getInt());
+
+        final DoubleValue doubles = factory.createDoubleValue(this.doubleKey, 1.5D, 0D);
+        assertEquals(3D, doubles.transformDouble(d -> d * 2).getDouble(), 0D);
+
+        final BooleanValue booleans = factory.createBooleanValue(this.booleanKey, false, true);
+        assertFalse(booleans.getBoolean());
+        assertTrue(booleans.setBoolean(true).get());
+        verify(factory, never()).createValue(any(), any(), any());
+    }
+
+    @Test
+    public void testBoundedFactoryDefaults() {
+        final TestFactory factory = mock(TestFactory.class, CALLS_REAL_METHODS);
+        final MutableBoundedIntValue value = factory.createBoundedIntValue(this.intKey, 3, 0, -5, 20);
+        assertEquals(-5, value.getMinInt());
+        assertEquals(20, value.getMaxInt());
+        assertEquals(Integer.valueOf(20), value.getMaxValue());
+        assertSame(value, value.setInt(10));
+        assertEquals(11, value.transformInt(i -> i + 1).getInt());
+        final ImmutableBoundedIntValue immutable = value.asImmutable().withInt(12);
+        assertEquals(12, immutable.getInt());
+        assertEquals(-5, immutable.getMinInt());
+        assertEquals(20, immutable.asMutable().getMaxInt());
+        assertTrue(value.getComparator().compare(value.getMinValue(), value.get()) < 0);
+
+        final MutableBoundedDoubleValue health = factory.createBoundedDoubleValue(this.doubleKey, 20D, 20D, 0D, 1024D);
+        assertEquals(0D, health.setDouble(0D).getDouble(), 0D);
+        assertEquals(1024D, health.asImmutable().getMaxDouble(), 0D);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBoundedFactoryRejectsInvertedBounds() {
+        mock(TestFactory.class, CALLS_REAL_METHODS).createBoundedIntValue(this.intKey, 0, 0, 1, -1);
+    }
+
+    abstract static class TestContainer implements ValueContainer<TestContainer> {
+    }
+
+    abstract static class TestStore implements CompositeValueStore<TestStore, TestContainer> {
+    }
+
+    abstract static class TestFactory implements ValueFactory {
+    }
+
+}
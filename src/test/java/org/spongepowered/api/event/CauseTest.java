@@ -218,5 +218,27 @@ public void testListedArray() {
         assertThat(stringList.equals(fooList), is(true));
     }
 
+    @Test
+    public void testTypeQueriesOnLargeCause() {
+        final Cause cause = Cause.builder().named("foo", "foo").named("one", 1L).named("bar", "bar").named("two", 2).named("baz", "baz").build();
+        for (int i = 0; i < 2; i++) {
+            assertThat(cause.first(Number.class).get(), is(1L));
+            assertThat(cause.last(Number.class).get(), is(2));
+            assertThat(cause.allOf(String.class), equalTo(ImmutableList.of("foo", "bar", "baz")));
+            assertThat(cause.before(String.class).get(), is(1L));
+            assertThat(cause.after(Integer.class).get(), is("baz"));
+            assertThat(cause.containsType(Double.class), is(false));
+        }
+    }
+
+    @Test
+    public void testReusedBuilder() {
+        final Cause.Builder builder = Cause.builder().named("foo", "foo").named("bar", "bar");
+        final Cause first = builder.build();
+        builder.reset().named("foo", "baz");
+        assertThat(first.all(), equalTo(ImmutableList.of("foo", "bar")));
+        assertThat(builder.build().all(), equalTo(ImmutableList.of("baz")));
+    }
+
 
 }
@@ -0,0 +1,519 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntitySnapshot;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.entity.AffectEntityEvent;
+import org.spongepowered.api.event.impl.AbstractAffectEntityEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.api.world.World;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+
+public class SimpleEventManagerTest {
+
+    private final PluginManager pluginManager = Mockito.mock(PluginManager.class);
+    private final Object plugin = new Object();
+    private final PluginContainer container = Mockito.mock(PluginContainer.class);
+
+    {
+        Mockito.when(this.container.getId()).thenReturn("test");
+        Mockito.when(this.container.getLogger()).thenReturn(Mockito.mock(Logger.class));
+        Mockito.when(this.pluginManager.fromInstance(this.plugin)).thenReturn(Optional.of(this.container));
+    }
+
+    @Test
+    public void testDispatchOrder() {
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager);
+        final List<String> calls = Lists.newArrayList();
+        eventManager.registerListener(this.plugin, TestEvent.class, Order.LATE, event -> calls.add("late"));
+        eventManager.registerListener(this.plugin, Event.class, Order.EARLY, event -> calls.add("early"));
+        eventManager.registerListener(this.plugin, SubEvent.class, Order.DEFAULT, event -> calls.add("default"));
+
+        eventManager.post(new TestEventImpl());
+        assertEquals(Lists.newArrayList("early", "late"), calls);
+
+        calls.clear();
+        eventManager.post(new SubEventImpl());
+        assertEquals(Lists.newArrayList("early", "default", "late"), calls);
+    }
+
+    @Test
+    public void testRegistrationInvalidatesPlan() {
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager);
+        final TestListener listener = new TestListener();
+        eventManager.post(new SubEventImpl());
+        eventManager.registerListeners(this.plugin, listener);
+
+        final SubEventImpl event = new SubEventImpl();
+        assertTrue(eventManager.post(event));
+        assertEquals(1, listener.calls);
+
+        eventManager.unregisterListeners(listener);
+        assertFalse(eventManager.post(new SubEventImpl()));
+        assertEquals(1, listener.calls);
+    }
+
+    @Test
+    public void testUnregisterPluginListeners() {
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager);
+        final Object otherPlugin = new Object();
+        final PluginContainer otherContainer = Mockito.mock(PluginContainer.class);
+        Mockito.when(this.pluginManager.fromInstance(otherPlugin)).thenReturn(Optional.of(otherContainer));
+
+        final List<String> calls = Lists.newArrayList();
+        final TestListener listener = new TestListener();
+        eventManager.registerListeners(this.plugin, listener);
+        eventManager.registerListener(this.plugin, Event.class, event -> calls.add("plugin"));
+        eventManager.registerListener(otherPlugin, TestEvent.class, event -> calls.add("other"));
+        eventManager.post(new SubEventImpl());
+        assertEquals(Lists.newArrayList("plugin", "other"), calls);
+
+        calls.clear();
+        eventManager.unregisterPluginListeners(this.plugin);
+        assertFalse(eventManager.post(new SubEventImpl()));
+        assertEquals(Lists.newArrayList("other"), calls);
+        assertEquals(1, listener.calls);
+
+        eventManager.unregisterListeners(listener);
+        eventManager.registerListeners(this.plugin, listener);
+        assertTrue(eventManager.post(new SubEventImpl()));
+        assertEquals(2, listener.calls);
+    }
+
+    @Test
+    public void testHasListeners() {
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager);
+        assertFalse(eventManager.hasListeners(SubEvent.class));
+
+        final TestListener listener = new TestListener();
+        eventManager.registerListeners(this.plugin, listener);
+        assertTrue(eventManager.hasListeners(SubEvent.class));
+        // Listeners of subtypes count for their supertypes as well
+        assertTrue(eventManager.hasListeners(TestEvent.class));
+
+        eventManager.unregisterListeners(listener);
+        assertFalse(eventManager.hasListeners(SubEvent.class));
+        assertFalse(eventManager.hasListeners(TestEvent.class));
+
+        eventManager.registerListener(this.plugin, TestEvent.class, event -> {
+        });
+        assertTrue(eventManager.hasListeners(SubEvent.class));
+    }
+
+    @Test
+    public void testPlansOfPluginClassesAreDropped() {
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager);
+        eventManager.registerListener(this.plugin, TestEvent.class, event -> {
+        });
+        eventManager.post(new SubEventImpl());
+        assertTrue(eventManager.table.get().plans.containsKey(SubEventImpl.class));
+
+        // The classes of a plugin are dropped along with its listeners
+        final ClassLoader loader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        final InvocationHandler handler = (proxy, method, args) -> method.getName().equals("equals") ? proxy == args[0]
+                : method.getName().equals("hashCode") ? System.identityHashCode(proxy) : null;
+        final Object otherPlugin = Proxy.newProxyInstance(loader, new Class<?>[] {Runnable.class}, handler);
+        final Event otherEvent = (Event) Proxy.newProxyInstance(loader, new Class<?>[] {TestEvent.class}, handler);
+        Mockito.when(this.pluginManager.fromInstance(otherPlugin)).thenReturn(Optional.of(Mockito.mock(PluginContainer.class)));
+        eventManager.registerListener(otherPlugin, TestEvent.class, event -> {
+        });
+        eventManager.post(otherEvent);
+        assertTrue(eventManager.table.get().plans.containsKey(otherEvent.getClass()));
+        eventManager.unregisterPluginListeners(otherPlugin);
+        assertFalse(eventManager.table.get().plans.containsKey(otherEvent.getClass()));
+        assertTrue(eventManager.table.get().plans.containsKey(SubEventImpl.class));
+
+        // Plans without any listeners stay cached, posting them needs no lock
+        eventManager.unregisterPluginListeners(this.plugin);
+        assertTrue(eventManager.table.get().plans.containsKey(SubEventImpl.class));
+        assertFalse(eventManager.hasListeners(SubEvent.class));
+        assertFalse(eventManager.post(new SubEventImpl()));
+    }
+
+    @Test
+    public void testPostAsync() {
+        final List<Runnable> tasks = Lists.newArrayList();
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager, tasks::add, 16);
+        final AsyncListener listener = new AsyncListener();
+        eventManager.registerListeners(this.plugin, listener);
+
+        eventManager.postAsync(new SubEventImpl());
+        eventManager.postAsync(new TestEventImpl());
+        assertEquals(Lists.newArrayList("sync"), listener.calls);
+        assertEquals(1, tasks.size());
+        assertEquals(2, eventManager.getAsyncMetrics().getPending());
+
+        tasks.get(0).run();
+        assertEquals(Lists.newArrayList("sync", "async SubEventImpl", "async TestEventImpl"), listener.calls);
+        assertEquals(0, eventManager.getAsyncMetrics().getPending());
+
+        eventManager.post(new SubEventImpl());
+        assertEquals(5, listener.calls.size());
+    }
+
+    @Test
+    public void testPostAsyncRejected() {
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager, task -> {
+            throw new RejectedExecutionException();
+        }, 16);
+        final AsyncListener listener = new AsyncListener();
+        eventManager.registerListeners(this.plugin, listener);
+
+        // The asynchronous listeners are dropped rather than run on the posting thread
+        final AsyncPostResult result = eventManager.postAsync(new SubEventImpl());
+        assertEquals(Lists.newArrayList("sync"), listener.calls);
+        assertEquals(Lists.newArrayList(this.container), result.getDroppedPlugins());
+        assertEquals(1, eventManager.getAsyncMetrics().getDropped());
+        assertEquals(0, eventManager.getAsyncMetrics().getPending());
+    }
+
+    @Test
+    public void testPostAsyncDropsOnFullLanes() {
+        final List<Runnable> tasks = Lists.newArrayList();
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager, tasks::add, 1, AsyncOverflowPolicy.DROP);
+        final AsyncListener listener = new AsyncListener();
+        eventManager.registerListeners(this.plugin, listener);
+
+        assertFalse(eventManager.postAsync(new TestEventImpl()).isDropped());
+        assertTrue(eventManager.postAsync(new TestEventImpl()).isDropped());
+        assertTrue(eventManager.postAsync(new TestEventImpl()).isDropped());
+        AsyncEventMetrics metrics = eventManager.getAsyncMetrics();
+        assertEquals(3, metrics.getSubmitted());
+        assertEquals(2, metrics.getDropped());
+        assertEquals(0, metrics.getStalls());
+        assertEquals(1, metrics.getPending());
+        Mockito.verify(this.container.getLogger()).warn(Mockito.anyString(), Mockito.eq("test"));
+
+        tasks.get(0).run();
+        assertFalse(eventManager.postAsync(new TestEventImpl()).isDropped());
+        tasks.get(1).run();
+        metrics = eventManager.getAsyncMetrics();
+        assertEquals(2, metrics.getCompleted());
+        assertEquals(0, metrics.getPending());
+        assertEquals(Lists.newArrayList("async TestEventImpl", "async TestEventImpl"), listener.calls);
+    }
+
+    @Test
+    public void testPostAsyncBlocksOnFullLanes() throws InterruptedException {
+        final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager, tasks::add, 1, AsyncOverflowPolicy.BLOCK);
+        final AsyncListener listener = new AsyncListener();
+        eventManager.registerListeners(this.plugin, listener);
+
+        assertFalse(eventManager.postAsync(new TestEventImpl()).isDropped());
+        final Thread worker = new Thread(() -> {
+            try {
+                tasks.take().run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        worker.start();
+        // Waits until the worker took the first call
+        assertFalse(eventManager.postAsync(new TestEventImpl()).isDropped());
+        worker.join();
+        // Unless the worker already ran the second call as well
+        final Runnable task = tasks.poll();
+        if (task != null) {
+            task.run();
+        }
+        final AsyncEventMetrics metrics = eventManager.getAsyncMetrics();
+        assertEquals(0, metrics.getDropped());
+        assertEquals(2, metrics.getCompleted());
+        assertEquals(Lists.newArrayList("async TestEventImpl", "async TestEventImpl"), listener.calls);
+    }
+
+    @Test
+    public void testPooledEventIsReused() {
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager, Runnable::run, 16);
+        final PooledListener listener = new PooledListener();
+        eventManager.registerListeners(this.plugin, listener);
+
+        final TestEvent event = postPooled(eventManager);
+        assertEquals(Lists.newArrayList("sync", "async"), listener.calls);
+        // Reset once the poster is done with it
+        assertNull(event.getCause());
+    }
+
+    @Test
+    public void testPooledEventIsKeptForOtherListeners() {
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager, Runnable::run, 16);
+        eventManager.registerListeners(this.plugin, new PooledListener());
+        eventManager.registerListener(this.plugin, TestEvent.class, event -> {
+        });
+
+        final TestEvent event = postPooled(eventManager);
+        assertNotNull(event.getCause());
+    }
+
+    @Test
+    public void testPooledEventWaitsForAsyncListeners() {
+        final List<Runnable> tasks = Lists.newArrayList();
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager, tasks::add, 16);
+        final PooledListener listener = new PooledListener();
+        eventManager.registerListeners(this.plugin, listener);
+
+        final TestEvent event = postPooled(eventManager);
+        // The asynchronous listener still holds the event
+        assertNotNull(event.getCause());
+
+        tasks.get(0).run();
+        assertEquals(Lists.newArrayList("sync", "async"), listener.calls);
+        assertNull(event.getCause());
+    }
+
+    @Test
+    public void testDroppedCallReleasesPooledEvent() {
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager, task -> {
+            throw new RejectedExecutionException();
+        }, 16);
+        eventManager.registerListeners(this.plugin, new PooledListener());
+
+        final TestEvent event = postPooled(eventManager);
+        assertNull(event.getCause());
+        assertEquals(1, eventManager.getAsyncMetrics().getDropped());
+    }
+
+    private static TestEvent postPooled(EventManager eventManager) {
+        final List<TestEvent> events = Lists.newArrayList();
+        eventManager.postPooled(TestEvent.class, Maps.newHashMap(ImmutableMap.<String, Object>of("cause", Cause.source("test").build())),
+                events::add);
+        return events.get(0);
+    }
+
+    @Test
+    public void testDefaults() {
+        final EventManager eventManager = Mockito.mock(DefaultsEventManager.class, Mockito.CALLS_REAL_METHODS);
+        final Event event = new TestEventImpl();
+        Mockito.doReturn(true).when(eventManager).post(event);
+        assertTrue(eventManager.hasListeners(TestEvent.class));
+        assertTrue(eventManager.postAsync(event).isCancelled());
+        Mockito.verify(eventManager).post(event);
+        assertFalse(eventManager.getProfiler().isPresent());
+    }
+
+    @Test
+    public void testProfiler() {
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager);
+        eventManager.registerListener(this.plugin, TestEvent.class, Order.LATE, event -> {
+        });
+        eventManager.post(new TestEventImpl());
+        assertTrue(eventManager.getProfiler().get().getEntries().isEmpty());
+
+        eventManager.getProfiler().get().setEnabled(true);
+        eventManager.post(new TestEventImpl());
+        eventManager.post(new SubEventImpl());
+        final List<ListenerProfiler.Entry> entries = eventManager.getProfiler().get().getEntries();
+        assertEquals(1, entries.size());
+        assertEquals(2, entries.get(0).getInvocations());
+        assertEquals(Order.LATE, entries.get(0).getOrder());
+        assertFalse(entries.get(0).getAllocatedBytes().isPresent());
+        assertTrue(eventManager.getProfiler().get().createReport().contains("test"));
+
+        eventManager.getProfiler().get().reset();
+        assertTrue(eventManager.getProfiler().get().getEntries().isEmpty());
+
+        if (ListenerProfiler.isAllocationTrackingSupported()) {
+            eventManager.getProfiler().get().setTrackAllocations(true);
+        }
+        eventManager.post(new TestEventImpl());
+        assertEquals(1, eventManager.getProfiler().get().getEntries().size());
+        assertEquals(ListenerProfiler.isAllocationTrackingSupported(),
+                eventManager.getProfiler().get().getEntries().get(0).getAllocatedBytes().isPresent());
+        eventManager.unregisterPluginListeners(this.plugin);
+        assertTrue(eventManager.getProfiler().get().getEntries().isEmpty());
+    }
+
+    @Test
+    public void testProfilerIgnoresUnregisteredListeners() {
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager);
+        final List<String> calls = Lists.newArrayList();
+        final EventListener<TestEvent> late = event -> calls.add("late");
+        // The late listener is unregistered while the event is posted to it
+        eventManager.registerListener(this.plugin, TestEvent.class, Order.EARLY, event -> eventManager.unregisterListeners(late));
+        eventManager.registerListener(this.plugin, TestEvent.class, Order.LATE, late);
+        eventManager.getProfiler().get().setEnabled(true);
+        eventManager.post(new TestEventImpl());
+        assertEquals(Lists.newArrayList("late"), calls);
+        final List<ListenerProfiler.Entry> entries = eventManager.getProfiler().get().getEntries();
+        assertEquals(1, entries.size());
+        assertEquals(Order.EARLY, entries.get(0).getOrder());
+    }
+
+    @Test
+    public void testCurrentOrder() {
+        final SimpleEventManager eventManager = new SimpleEventManager(this.pluginManager);
+        final List<Object> calls = Lists.newArrayList();
+        eventManager.registerListener(this.plugin, AffectEntityEvent.class, Order.POST, event -> {
+            calls.add(((AbstractAffectEntityEvent) event).currentOrder);
+            calls.add(event.getEntitySnapshots());
+        });
+        eventManager.registerListener(this.plugin, AffectEntityEvent.class, Order.PRE, event -> {
+            calls.add(((AbstractAffectEntityEvent) event).currentOrder);
+            calls.add(event.getEntitySnapshots());
+        });
+
+        final Entity entity = Mockito.mock(Entity.class);
+        final EntitySnapshot snapshot = Mockito.mock(EntitySnapshot.class);
+        Mockito.when(entity.createSnapshot()).thenReturn(snapshot);
+        final TestAffectEntityEvent event = new TestAffectEntityEvent(entity);
+        eventManager.post(event);
+        // The snapshots can only be created by the PRE listener
+        assertEquals(Lists.newArrayList(Order.PRE, Lists.newArrayList(snapshot), Order.POST, Lists.newArrayList(snapshot)), calls);
+        assertNull(event.currentOrder);
+    }
+
+    abstract static class DefaultsEventManager implements EventManager {
+    }
+
+    public interface TestEvent extends Event {
+    }
+
+    public interface SubEvent extends TestEvent, Cancellable {
+    }
+
+    public static class TestListener {
+
+        int calls;
+
+        @Listener
+        public void onSubEvent(SubEvent event) {
+            this.calls++;
+            event.setCancelled(true);
+        }
+    }
+
+    public static class AsyncListener {
+
+        final List<String> calls = Lists.newArrayList();
+
+        @Listener
+        public void onSubEvent(SubEvent event) {
+            this.calls.add("sync");
+        }
+
+        @Listener(async = true)
+        public void onTestEvent(TestEvent event) {
+            this.calls.add("async " + event.getClass().getSimpleName());
+        }
+    }
+
+    public static class PooledListener {
+
+        final List<String> calls = Lists.newArrayList();
+
+        @Listener(pooled = true)
+        public void onTestEvent(TestEvent event) {
+            this.calls.add("sync");
+        }
+
+        @Listener(async = true, pooled = true)
+        public void onTestEventAsync(TestEvent event) {
+            this.calls.add(event.getCause() != null ? "async" : "reset");
+        }
+    }
+
+    private static class TestEventImpl implements TestEvent {
+
+        @Override
+        public Cause getCause() {
+            return null;
+        }
+    }
+
+    private static class SubEventImpl extends TestEventImpl implements SubEvent {
+
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+    private static class TestAffectEntityEvent extends AbstractAffectEntityEvent {
+
+        private boolean cancelled;
+
+        TestAffectEntityEvent(Entity entity) {
+            this.entities = Lists.newArrayList(entity);
+        }
+
+        @Override
+        public List<Entity> getEntities() {
+            return this.entities;
+        }
+
+        @Override
+        public World getTargetWorld() {
+            return null;
+        }
+
+        @Override
+        public Cause getCause() {
+            return null;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+}
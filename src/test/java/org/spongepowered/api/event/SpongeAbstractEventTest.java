@@ -27,12 +27,18 @@
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.stub;
 
 import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.Lists;
 import org.junit.Test;
+import org.mockito.Mockito;
 import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTransactionBatch;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.Transaction;
@@ -41,7 +47,9 @@
 import org.spongepowered.api.event.data.ChangeDataHolderEvent;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.schematic.BlockPalette;
 
+import java.util.Collections;
 import java.util.Optional;
 
 public class SpongeAbstractEventTest {
@@ -62,6 +70,35 @@ public void testChangeBlockEvent_filter() {
         assertThat(transaction.isValid(), is(false));
     }
 
+    @Test
+    public void testChangeBlockEvent_invalidateAll() {
+        final BlockTransactionBatch batch = new BlockTransactionBatch(mock(BlockPalette.class));
+        batch.add(0, 0, 0, mock(BlockState.class), mock(BlockState.class));
+        batch.add(5, 0, 0, mock(BlockState.class), mock(BlockState.class));
+        final BlockSnapshot original = mock(BlockSnapshot.class);
+        stub(original.getPosition()).toReturn(Vector3i.ZERO);
+        stub(original.getLocation()).toReturn(Optional.of(new Location<>(mockParam(World.class), Vector3i.ZERO)));
+        final Transaction<BlockSnapshot> transaction = new Transaction<>(original, mock(BlockSnapshot.class));
+
+        final ChangeBlockEvent event = mock(BatchedChangeBlockEvent.class, Mockito.CALLS_REAL_METHODS);
+        doReturn(Optional.of(batch)).when(event).getTransactionBatch();
+        doReturn(Collections.singletonList(transaction)).when(event).getTransactions();
+
+        // The batch and the transactions are both filtered
+        assertThat(event.invalidateAll(new Vector3i(-1, -1, -1), Vector3i.ONE), is(1));
+        assertThat(transaction.isValid(), is(false));
+        assertThat(batch.isValid(0), is(false));
+        assertThat(batch.isValid(1), is(true));
+
+        // Filtering by location applies to the batch as well
+        doReturn(mockParam(World.class)).when(event).getTargetWorld();
+        assertThat(event.filter(location -> location.getBlockX() != 5).isEmpty(), is(true));
+        assertThat(batch.isValid(1), is(false));
+
+        event.filterAll();
+        assertThat(batch.getValidCount(), is(0));
+    }
+
     @Test
     public void testValueChangeEvent() {
         DataTransactionResult original = DataTransactionResult.failNoData();
@@ -80,4 +117,7 @@ public void testValueChangeEvent() {
     private <T> T mockParam(Class<T> clazz) {
         return (T) SpongeEventFactoryTest.mockParam(clazz);
     }
+
+    public abstract static class BatchedChangeBlockEvent implements ChangeBlockEvent {
+    }
 }
@@ -0,0 +1,230 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event.listener;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.Lists;
+import com.google.common.io.ByteStreams;
+import org.junit.Test;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Named;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.util.Tristate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+public class ClassEventListenerFactoryTest {
+
+    private final ClassEventListenerFactory factory = new ClassEventListenerFactory("org.spongepowered.api.event.listener");
+
+    private EventListener<Event> create(Object handle, String name) throws Exception {
+        for (Method method : handle.getClass().getMethods()) {
+            if (method.getName().equals(name)) {
+                return this.factory.create(handle, method);
+            }
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    @Test
+    public void testCauseFilters() throws Exception {
+        final TestListener listener = new TestListener();
+        final EventListener<Event> handler = create(listener, "onCause");
+        handler.handle(new TestEventImpl(Cause.source("root").named("number", 3).named("other", 5).build(), null));
+        handler.handle(new TestEventImpl(Cause.source(1).named("number", 2).build(), null));
+        handler.handle(new TestEventImpl(Cause.source("root").named("count", 4).build(), null));
+        assertEquals(Lists.<Object>newArrayList("root", 3, 3, 5), listener.calls);
+    }
+
+    @Test
+    public void testGetterAndEventFilters() throws Exception {
+        final TestListener listener = new TestListener();
+        final EventListener<Event> handler = create(listener, "onGetter");
+        final TestEventImpl event = new TestEventImpl(Cause.source("root").build(), "value");
+        handler.handle(event);
+        handler.handle(new TestEventImpl(Cause.source("root").build(), null));
+        event.setCancelled(true);
+        handler.handle(event);
+        handler.handle(new ExcludedEventImpl(Cause.source("root").build(), "excluded"));
+        assertEquals(Lists.<Object>newArrayList("value"), listener.calls);
+
+        create(listener, "onCancelled").handle(event);
+        assertEquals(Lists.<Object>newArrayList("value", true), listener.calls);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingSource() throws Exception {
+        create(new TestListener(), "onInvalid");
+    }
+
+    @Test
+    public void testToString() throws Exception {
+        assertTrue(create(new TestListener(), "onCause").toString().endsWith("TestListener#onCause"));
+    }
+
+    @Test
+    public void testListenerClassesCanBeUnloaded() throws Exception {
+        ClassLoader loader = new IsolatingClassLoader(IsolatedListener.class);
+        final WeakReference<ClassLoader> reference = new WeakReference<>(loader);
+        Object handle = loader.loadClass(IsolatedListener.class.getName()).newInstance();
+        assertNotEquals(IsolatedListener.class, handle.getClass());
+        EventListener<Event> handler = create(handle, "onEvent");
+        handler.handle(new TestEventImpl(Cause.source("root").build(), null));
+
+        // Neither the listener class nor its generated classes may be kept
+        // loaded by the factory
+        loader = null;
+        handle = null;
+        handler = null;
+        for (int i = 0; i < 20 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+    }
+
+    /**
+     * Loads its own copy of a class, like the class loader of a plugin.
+     */
+    private static final class IsolatingClassLoader extends ClassLoader {
+
+        private final String name;
+
+        IsolatingClassLoader(Class<?> type) {
+            super(type.getClassLoader());
+            this.name = type.getName();
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(this.name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                final Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    final byte[] bytes = ByteStreams.toByteArray(in);
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+
+    public interface TestEvent extends Event, Cancellable {
+
+        Optional<String> getValue();
+    }
+
+    public static class TestEventImpl implements TestEvent {
+
+        private final Cause cause;
+        private final Optional<String> value;
+        private boolean cancelled;
+
+        TestEventImpl(Cause cause, String value) {
+            this.cause = cause;
+            this.value = Optional.ofNullable(value);
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+        @Override
+        public Optional<String> getValue() {
+            return this.value;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+    }
+
+    public static class ExcludedEventImpl extends TestEventImpl {
+
+        ExcludedEventImpl(Cause cause, String value) {
+            super(cause, value);
+        }
+    }
+
+    public static class TestListener {
+
+        final List<Object> calls = Lists.newArrayList();
+
+        @Listener
+        public void onCause(TestEvent event, @Root String root, @Named("number") Integer number, @All Integer[] all) {
+            this.calls.add(root);
+            this.calls.add(number);
+            this.calls.addAll(Lists.newArrayList(all));
+        }
+
+        @Listener
+        @Exclude(ExcludedEventImpl.class)
+        public void onGetter(TestEvent event, @Getter("getValue") String value) {
+            this.calls.add(value);
+        }
+
+        @Listener
+        @IsCancelled(Tristate.TRUE)
+        public void onCancelled(TestEvent event) {
+            this.calls.add(event.isCancelled());
+        }
+
+        @Listener
+        public void onInvalid(TestEvent event, @First Integer first, Integer number) {
+        }
+    }
+
+}
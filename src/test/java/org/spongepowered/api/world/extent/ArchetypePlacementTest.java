@@ -0,0 +1,146 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.tileentity.TileEntityArchetype;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ArchetypePlacementTest {
+
+    private final List<Vector3i> placed = new ArrayList<>();
+    private final List<Integer> tileEntitiesApplied = new ArrayList<>();
+    private ArchetypeVolume volume;
+    private World world;
+    private Task task;
+
+    @Before
+    public void setUp() {
+        final BlockState state = mock(BlockState.class);
+        final TileEntityArchetype archetype = mock(TileEntityArchetype.class);
+        when(archetype.apply(any(), any(Cause.class))).thenAnswer(invocation -> this.tileEntitiesApplied.add(this.placed.size()));
+        this.volume = mock(ArchetypeVolume.class);
+        when(this.volume.getBlockMin()).thenReturn(Vector3i.ZERO);
+        when(this.volume.getBlockMax()).thenReturn(new Vector3i(19, 1, 19));
+        when(this.volume.getBlockSize()).thenReturn(new Vector3i(20, 2, 20));
+        when(this.volume.getBlock(anyInt(), anyInt(), anyInt())).thenReturn(state);
+        when(this.volume.getTileEntityArchetypes()).thenReturn(ImmutableMap.of(Vector3i.ZERO, archetype));
+        this.world = mock(World.class);
+        when(this.world.setBlock(anyInt(), anyInt(), anyInt(), any(BlockState.class), any(BlockChangeFlag.class), any(Cause.class)))
+                .thenAnswer(invocation -> {
+                    final Object[] args = invocation.getArguments();
+                    return this.placed.add(new Vector3i((Integer) args[0], (Integer) args[1], (Integer) args[2]));
+                });
+        this.task = mock(Task.class);
+    }
+
+    private ArchetypePlacement createPlacement(int blocksPerTick) {
+        return new ArchetypePlacement(this.volume, new Location<>(this.world, 8, 64, 8), BlockChangeFlag.NONE,
+                Cause.source("test").build(), blocksPerTick, Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testChunkOrder() {
+        final ArchetypePlacement placement = createPlacement(100);
+        placement.accept(this.task);
+        assertEquals(100, placement.getPlacedBlocks());
+        assertTrue(this.tileEntitiesApplied.isEmpty());
+        placement.accept(this.task);
+        // The first chunk holds 8 * 2 * 8 blocks of the volume
+        assertEquals(1, this.tileEntitiesApplied.size());
+        assertEquals(128, (int) this.tileEntitiesApplied.get(0));
+        for (int i = 0; i < this.placed.size(); i++) {
+            final Vector3i position = this.placed.get(i);
+            final int chunk = (position.getX() >> 4) + 2 * (position.getZ() >> 4);
+            assertEquals(i < 128 ? 0 : 1, chunk);
+        }
+        while (!placement.isDone()) {
+            placement.accept(this.task);
+        }
+        assertEquals(800, this.placed.size());
+        assertEquals(800, this.placed.stream().distinct().count());
+        assertEquals(1, placement.getProgress(), 0);
+        assertTrue(placement.getCompletion().isDone());
+        verify(this.task).cancel();
+    }
+
+    @Test
+    public void testFailure() {
+        final RuntimeException failure = new IllegalStateException();
+        when(this.volume.getBlock(5, 0, 1)).thenThrow(failure);
+        final ArchetypePlacement placement = createPlacement(100);
+        try {
+            placement.accept(this.task);
+            fail();
+        } catch (IllegalStateException e) {
+            assertSame(failure, e);
+        }
+        // The first row of the chunk and 5 blocks of the second are placed
+        assertEquals(13, placement.getPlacedBlocks());
+        assertFalse(placement.isDone());
+        assertTrue(placement.getCompletion().isCompletedExceptionally());
+        verify(this.task).cancel();
+
+        placement.accept(this.task);
+        assertEquals(13, this.placed.size());
+    }
+
+    @Test
+    public void testCancel() {
+        final ArchetypePlacement placement = createPlacement(100);
+        placement.accept(this.task);
+        assertTrue(placement.cancel());
+        assertFalse(placement.cancel());
+        placement.accept(this.task);
+        assertEquals(100, this.placed.size());
+        assertTrue(placement.isCancelled());
+        assertFalse(placement.isDone());
+        assertTrue(placement.getCompletion().isCancelled());
+        verify(this.task).cancel();
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+
+public class CopyOnWriteBlockStorageTest {
+
+    @Test
+    public void testCopyIsIndependent() {
+        final BlockState air = mock(BlockState.class);
+        final BlockState stone = mock(BlockState.class);
+        final BlockState dirt = mock(BlockState.class);
+        final CopyOnWriteBlockStorage storage = CopyOnWriteBlockStorage.create(20, 20, 20, air);
+        storage.set(1, 2, 3, stone);
+        storage.set(18, 19, 17, stone);
+        final CopyOnWriteBlockStorage copy = storage.copy();
+        assertSame(stone, copy.get(1, 2, 3));
+        assertSame(stone, copy.get(18, 19, 17));
+        assertSame(air, copy.get(0, 0, 0));
+
+        copy.set(1, 2, 3, dirt);
+        storage.set(18, 19, 17, dirt);
+        copy.set(10, 17, 5, dirt);
+        assertSame(stone, storage.get(1, 2, 3));
+        assertSame(dirt, copy.get(1, 2, 3));
+        assertSame(dirt, storage.get(18, 19, 17));
+        assertSame(stone, copy.get(18, 19, 17));
+        assertSame(air, storage.get(10, 17, 5));
+        assertSame(dirt, copy.get(10, 17, 5));
+
+        // Both sections are no longer shared and are written in place
+        storage.set(1, 2, 4, dirt);
+        copy.set(18, 19, 16, dirt);
+        assertSame(air, copy.get(1, 2, 4));
+        assertSame(air, storage.get(18, 19, 16));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() {
+        CopyOnWriteBlockStorage.create(20, 20, 20, mock(BlockState.class)).get(0, 20, 0);
+    }
+
+}
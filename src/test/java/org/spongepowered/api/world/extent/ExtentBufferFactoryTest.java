@@ -0,0 +1,56 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class ExtentBufferFactoryTest {
+
+    @Test
+    public void testCreateBlockBufferForStorageType() {
+        final Vector3i size = new Vector3i(16, 32, 16);
+        final MutableBlockVolume standard = mock(MutableBlockVolume.class);
+        final MutableBlockVolume threadSafe = mock(MutableBlockVolume.class);
+        final ExtentBufferFactory factory = mock(DefaultsExtentBufferFactory.class, Mockito.CALLS_REAL_METHODS);
+        doReturn(standard).when(factory).createBlockBuffer(size);
+        doReturn(threadSafe).when(factory).createThreadSafeBlockBuffer(size);
+
+        assertSame(standard, factory.createBlockBuffer(size, StorageType.STANDARD));
+        assertSame(threadSafe, factory.createBlockBuffer(size, StorageType.THREAD_SAFE));
+        assertSame(standard, factory.createBlockBuffer(size, StorageType.PALETTED));
+        assertSame(threadSafe, factory.createBlockBuffer(size, StorageType.PALETTED_THREAD_SAFE));
+        assertSame(standard, factory.createBlockBuffer(size, StorageType.COPY_ON_WRITE));
+        assertSame(threadSafe, factory.createBlockBuffer(16, 32, 16, StorageType.THREAD_SAFE));
+    }
+
+    public abstract static class DefaultsExtentBufferFactory implements ExtentBufferFactory {
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.flowpowered.math.vector.Vector3i;
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.event.cause.Cause;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class MutableBlockVolumeTest {
+
+    private static final Vector3i SIZE = new Vector3i(6, 6, 6);
+
+    @Test
+    public void testOverlappingPositiveOffset() {
+        testOverlappingCopy(new Vector3i(1, 1, 1));
+    }
+
+    @Test
+    public void testOverlappingNegativeOffset() {
+        testOverlappingCopy(new Vector3i(-1, 0, -1));
+    }
+
+    @Test
+    public void testOverlappingMixedOffset() {
+        testOverlappingCopy(new Vector3i(1, -1, 0));
+    }
+
+    private void testOverlappingCopy(Vector3i offset) {
+        final Map<Vector3i, BlockState> blocks = new HashMap<>();
+        final Map<Vector3i, BlockState> expected = new HashMap<>();
+        for (int y = 0; y < SIZE.getY(); y++) {
+            for (int z = 0; z < SIZE.getZ(); z++) {
+                for (int x = 0; x < SIZE.getX(); x++) {
+                    final Vector3i position = new Vector3i(x, y, z);
+                    blocks.put(position, mock(BlockState.class));
+                }
+            }
+        }
+        final Vector3i min = Vector3i.ONE.max(Vector3i.ONE.sub(offset));
+        final Vector3i max = SIZE.sub(2, 2, 2).min(SIZE.sub(2, 2, 2).sub(offset));
+        expected.putAll(blocks);
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    expected.put(new Vector3i(x, y, z).add(offset), blocks.get(new Vector3i(x, y, z)));
+                }
+            }
+        }
+
+        final MutableBlockVolume volume = mock(Volume.class, CALLS_REAL_METHODS);
+        doReturn(true).when(volume).containsBlock(anyInt(), anyInt(), anyInt());
+        doAnswer(invocation -> {
+            final Object[] args = invocation.getArguments();
+            return blocks.get(new Vector3i((Integer) args[0], (Integer) args[1], (Integer) args[2]));
+        }).when(volume).getBlock(anyInt(), anyInt(), anyInt());
+        doAnswer(invocation -> {
+            final Object[] args = invocation.getArguments();
+            blocks.put(new Vector3i((Integer) args[0], (Integer) args[1], (Integer) args[2]), (BlockState) args[3]);
+            return true;
+        }).when(volume).setBlock(anyInt(), anyInt(), anyInt(), any(BlockState.class), any(Cause.class));
+        final MutableBlockVolume source = mock(Volume.class, CALLS_REAL_METHODS);
+        doReturn(min).when(source).getBlockMin();
+        doReturn(max).when(source).getBlockMax();
+        doAnswer(invocation -> volume.getBlock((Integer) invocation.getArguments()[0], (Integer) invocation.getArguments()[1],
+                (Integer) invocation.getArguments()[2])).when(source).getBlock(anyInt(), anyInt(), anyInt());
+
+        volume.setBlocks(source, offset, Cause.source(this).build());
+        for (Map.Entry<Vector3i, BlockState> entry : expected.entrySet()) {
+            assertSame(entry.getKey().toString(), entry.getValue(), blocks.get(entry.getKey()));
+        }
+    }
+
+    private abstract static class Volume implements MutableBlockVolume {
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.world.schematic.BlockPalette;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PalettedBlockStorageTest {
+
+    private static BlockPalette createPalette() {
+        final List<BlockState> states = new ArrayList<>();
+        final BlockPalette palette = mock(BlockPalette.class);
+        when(palette.getOrAssign(any(BlockState.class))).thenAnswer(invocation -> {
+            final BlockState state = (BlockState) invocation.getArguments()[0];
+            if (!states.contains(state)) {
+                states.add(state);
+            }
+            return states.indexOf(state);
+        });
+        return palette;
+    }
+
+    @Test
+    public void testFill() {
+        final BlockPalette palette = createPalette();
+        final BlockState stone = mock(BlockState.class);
+        palette.getOrAssign(mock(BlockState.class));
+        final PalettedBlockStorage storage = PalettedBlockStorage.create(1000, palette, stone);
+        for (int i = 0; i < storage.size(); i++) {
+            assertSame(stone, storage.get(i));
+        }
+        assertEquals(PalettedBlockStorage.MIN_BITS, storage.getBitsPerBlock());
+    }
+
+    @Test
+    public void testGrowth() {
+        final BlockState[] states = new BlockState[100];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = mock(BlockState.class);
+        }
+        final PalettedBlockStorage storage = PalettedBlockStorage.createThreadSafe(4096, createPalette(), states[0]);
+        for (int i = 0; i < storage.size(); i++) {
+            storage.set(i, states[i % 10]);
+        }
+        assertEquals(PalettedBlockStorage.MIN_BITS, storage.getBitsPerBlock());
+
+        final PalettedBlockStorage copy = storage.copy();
+        for (int i = 0; i < storage.size(); i++) {
+            storage.set(i, states[i % states.length]);
+        }
+        assertEquals(7, storage.getBitsPerBlock());
+        for (int i = 0; i < storage.size(); i++) {
+            assertSame(states[i % states.length], storage.get(i));
+            assertSame(states[i % 10], copy.get(i));
+        }
+    }
+
+    @Test
+    public void testSetAll() {
+        final BlockPalette palette = createPalette();
+        final BlockState[] states = new BlockState[20];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = mock(BlockState.class);
+        }
+        final PalettedBlockStorage source = PalettedBlockStorage.create(1000, palette, states[0]);
+        for (int i = 0; i < source.size(); i++) {
+            source.set(i, states[i % states.length]);
+        }
+
+        final PalettedBlockStorage aligned = PalettedBlockStorage.create(1000, palette, states[0]);
+        aligned.setAll(13, source, 13, 900);
+        final PalettedBlockStorage unaligned = PalettedBlockStorage.create(1000, createPalette(), states[1]);
+        unaligned.setAll(7, source, 100, 800);
+        for (int i = 0; i < 1000; i++) {
+            assertSame(i >= 13 && i < 913 ? states[i % states.length] : states[0], aligned.get(i));
+            assertSame(i >= 7 && i < 807 ? states[(i + 93) % states.length] : states[1], unaligned.get(i));
+        }
+
+        source.setAll(10, source, 0, 500);
+        for (int i = 10; i < 510; i++) {
+            assertSame(states[(i - 10) % states.length], source.get(i));
+        }
+    }
+
+    @Test
+    public void testCopiesShareThePalette() throws InterruptedException {
+        final BlockState[] states = new BlockState[200];
+        for (int i = 0; i < states.length; i++) {
+            states[i] = mock(BlockState.class);
+        }
+        final PalettedBlockStorage storage = PalettedBlockStorage.createThreadSafe(states.length, createPalette(), states[0]);
+        final PalettedBlockStorage copy = storage.copy();
+        final Thread thread = new Thread(() -> {
+            for (int i = 0; i < states.length; i++) {
+                copy.set(i, states[states.length - 1 - i]);
+            }
+        });
+        thread.start();
+        for (int i = 0; i < states.length; i++) {
+            storage.set(i, states[i]);
+        }
+        thread.join();
+        for (int i = 0; i < states.length; i++) {
+            assertSame(states[i], storage.get(i));
+            assertSame(states[states.length - 1 - i], copy.get(i));
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableList;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.spongepowered.api.world.biome.BiomeType;
+import org.spongepowered.api.world.extent.MutableBiomeVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBiomeVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMapper;
+import org.spongepowered.api.world.extent.worker.procedure.BiomeVolumeMerger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelBiomeVolumeWorkerTest {
+
+    // Negative and not aligned to the borders of chunks
+    private static final Vector3i MIN = new Vector3i(-21, -3, -9);
+    private static final Vector3i MAX = new Vector3i(18, 2, 35);
+    private static final Vector3i OFFSET = new Vector3i(103, 10, -50);
+
+    private final List<BiomeType> biomeTypes = new ArrayList<>();
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    {
+        for (int i = 0; i < 7; i++) {
+            this.biomeTypes.add(mock(BiomeType.class));
+        }
+    }
+
+    @After
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    private BiomeType biomeAt(int x, int y, int z) {
+        return this.biomeTypes.get(Math.floorMod(x * 3 + y * 5 + z * 11, this.biomeTypes.size()));
+    }
+
+    private Map<Vector3i, BiomeType> createBiomes(Vector3i min, Vector3i max) {
+        final Map<Vector3i, BiomeType> biomes = new ConcurrentHashMap<>();
+        for (Vector3i position : positions(min, max)) {
+            biomes.put(position, biomeAt(position.getX(), position.getY(), position.getZ()));
+        }
+        return biomes;
+    }
+
+    /**
+     * Gets the positions of the given bounds in the order a sequential worker
+     * visits them.
+     */
+    private static List<Vector3i> positions(Vector3i min, Vector3i max) {
+        final List<Vector3i> positions = new ArrayList<>();
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    positions.add(new Vector3i(x, y, z));
+                }
+            }
+        }
+        return positions;
+    }
+
+    private static Vector3i position(InvocationOnMock invocation) {
+        final Object[] args = invocation.getArguments();
+        return new Vector3i((Integer) args[0], (Integer) args[1], (Integer) args[2]);
+    }
+
+    private static MutableBiomeVolume createVolume(Vector3i min, Vector3i max, Map<Vector3i, BiomeType> biomes) {
+        final UnmodifiableBiomeVolume view = mock(UnmodifiableBiomeVolume.class, withSettings().stubOnly());
+        when(view.getBiomeMin()).thenReturn(min);
+        when(view.getBiomeMax()).thenReturn(max);
+        when(view.getBiome(anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> biomes.get(position(invocation)));
+        final MutableBiomeVolume volume = mock(MutableBiomeVolume.class, withSettings().stubOnly());
+        when(volume.getBiomeMin()).thenReturn(min);
+        when(volume.getBiomeMax()).thenReturn(max);
+        when(volume.getBiome(anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> biomes.get(position(invocation)));
+        when(volume.getUnmodifiableBiomeView()).thenReturn(view);
+        doAnswer(invocation -> biomes.put(position(invocation), (BiomeType) invocation.getArguments()[3])).when(volume)
+                .setBiome(anyInt(), anyInt(), anyInt(), any(BiomeType.class));
+        return volume;
+    }
+
+    @Test
+    public void testMap() {
+        final MutableBiomeVolume volume = createVolume(MIN, MAX, createBiomes(MIN, MAX));
+        final Map<Vector3i, BiomeType> destinationBiomes = new ConcurrentHashMap<>();
+        final MutableBiomeVolume destination = createVolume(MIN.add(OFFSET), MAX.add(OFFSET), destinationBiomes);
+        final BiomeVolumeMapper mapper = (source, x, y, z) -> biomeAt(x + 1, y, z * 2)
+                == source.getBiome(x, y, z) ? source.getBiome(x, y, z) : biomeAt(x, z, y);
+
+        new ParallelBiomeVolumeWorker<>(volume, this.pool).map(mapper, destination);
+
+        final Map<Vector3i, BiomeType> expected = new HashMap<>();
+        for (Vector3i position : positions(MIN, MAX)) {
+            expected.put(position.add(OFFSET), mapper.map(volume.getUnmodifiableBiomeView(), position.getX(), position.getY(), position.getZ()));
+        }
+        assertEquals(expected, destinationBiomes);
+    }
+
+    @Test
+    public void testMerge() {
+        final MutableBiomeVolume volume = createVolume(MIN, MAX, createBiomes(MIN, MAX));
+        final Vector3i secondMin = MIN.sub(OFFSET);
+        final MutableBiomeVolume second = createVolume(secondMin, MAX.sub(OFFSET), createBiomes(secondMin, MAX.sub(OFFSET)));
+        final Map<Vector3i, BiomeType> destinationBiomes = new ConcurrentHashMap<>();
+        final MutableBiomeVolume destination = createVolume(MIN.add(OFFSET), MAX.add(OFFSET), destinationBiomes);
+        final BiomeVolumeMerger merger = (first, x1, y1, z1, other, x2, y2, z2) -> (x1 + z2) % 2 == 0 ? first.getBiome(x1, y1, z1)
+                : other.getBiome(x2, y2, z2);
+
+        new ParallelBiomeVolumeWorker<>(volume, this.pool).merge(second, merger, destination);
+
+        final Map<Vector3i, BiomeType> expected = new HashMap<>();
+        for (Vector3i position : positions(MIN, MAX)) {
+            final Vector3i other = position.sub(OFFSET);
+            expected.put(position.add(OFFSET), merger.merge(volume.getUnmodifiableBiomeView(), position.getX(), position.getY(),
+                    position.getZ(), second.getUnmodifiableBiomeView(), other.getX(), other.getY(), other.getZ()));
+        }
+        assertEquals(expected, destinationBiomes);
+    }
+
+    @Test
+    public void testIterate() {
+        final MutableBiomeVolume volume = createVolume(MIN, MAX, createBiomes(MIN, MAX));
+        final Set<Vector3i> visited = ConcurrentHashMap.newKeySet();
+        new ParallelBiomeVolumeWorker<>(volume, this.pool).iterate((v, x, y, z) -> {
+            // Every biome is visited exactly once
+            assertTrue(visited.add(new Vector3i(x, y, z)));
+        });
+        assertEquals(new HashSet<>(positions(MIN, MAX)), visited);
+    }
+
+    @Test
+    public void testReduce() {
+        final MutableBiomeVolume volume = createVolume(MIN, MAX, createBiomes(MIN, MAX));
+        final List<Vector3i> reduction = new ParallelBiomeVolumeWorker<>(volume, this.pool).reduce(
+                (v, x, y, z, list) -> ImmutableList.<Vector3i>builder().addAll(list).add(new Vector3i(x, y, z)).build(),
+                (first, second) -> ImmutableList.<Vector3i>builder().addAll(first).addAll(second).build(), ImmutableList.of());
+
+        // The boxes are merged in the order of their chunk columns, and the
+        // biomes of a box are reduced in the same order as sequentially
+        final List<Vector3i> expected = new ArrayList<>();
+        for (int chunkZ = MIN.getZ() >> 4; chunkZ <= MAX.getZ() >> 4; chunkZ++) {
+            for (int chunkX = MIN.getX() >> 4; chunkX <= MAX.getX() >> 4; chunkX++) {
+                expected.addAll(positions(
+                        new Vector3i(Math.max(MIN.getX(), chunkX << 4), MIN.getY(), Math.max(MIN.getZ(), chunkZ << 4)),
+                        new Vector3i(Math.min(MAX.getX(), (chunkX << 4) + 15), MAX.getY(), Math.min(MAX.getZ(), (chunkZ << 4) + 15))));
+            }
+        }
+        assertEquals(expected, reduction);
+        assertEquals(new HashSet<>(positions(MIN, MAX)), new HashSet<>(reduction));
+
+        final int sum = new ParallelBiomeVolumeWorker<>(volume, this.pool).reduce(
+                (v, x, y, z, count) -> count + this.biomeTypes.indexOf(v.getBiome(x, y, z)), Integer::sum, 0);
+        int expectedSum = 0;
+        for (Vector3i position : positions(MIN, MAX)) {
+            expectedSum += this.biomeTypes.indexOf(biomeAt(position.getX(), position.getY(), position.getZ()));
+        }
+        assertEquals(expectedSum, sum);
+    }
+
+    @Test
+    public void testFill() {
+        final Map<Vector3i, BiomeType> biomes = new ConcurrentHashMap<>();
+        final MutableBiomeVolume volume = createVolume(MIN, MAX, biomes);
+        new ParallelMutableBiomeVolumeWorker<>(volume, this.pool).fill((x, y, z) -> biomeAt(z, x, y));
+
+        final Map<Vector3i, BiomeType> expected = new HashMap<>();
+        for (Vector3i position : positions(MIN, MAX)) {
+            expected.put(position, biomeAt(position.getZ(), position.getX(), position.getY()));
+        }
+        assertEquals(expected, biomes);
+    }
+
+    @Test
+    public void testSingleBiome() {
+        final Vector3i position = new Vector3i(-1, 0, -17);
+        final MutableBiomeVolume volume = createVolume(position, position, createBiomes(position, position));
+        assertEquals(Arrays.asList(position), new ParallelBiomeVolumeWorker<>(volume, this.pool).reduce(
+                (v, x, y, z, list) -> ImmutableList.of(new Vector3i(x, y, z)), (first, second) -> first, ImmutableList.of()));
+    }
+
+}
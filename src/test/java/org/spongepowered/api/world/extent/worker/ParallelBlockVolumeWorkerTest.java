@@ -0,0 +1,228 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.extent.worker;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.collect.ImmutableList;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.extent.MutableBlockVolume;
+import org.spongepowered.api.world.extent.UnmodifiableBlockVolume;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMapper;
+import org.spongepowered.api.world.extent.worker.procedure.BlockVolumeMerger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelBlockVolumeWorkerTest {
+
+    // Negative and not aligned to the borders of chunks
+    private static final Vector3i MIN = new Vector3i(-21, -3, -9);
+    private static final Vector3i MAX = new Vector3i(18, 2, 35);
+    private static final Vector3i OFFSET = new Vector3i(103, 10, -50);
+
+    private final List<BlockState> states = new ArrayList<>();
+    private final Cause cause = Cause.source("test").build();
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    {
+        for (int i = 0; i < 7; i++) {
+            this.states.add(mock(BlockState.class));
+        }
+    }
+
+    @After
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    private BlockState stateAt(int x, int y, int z) {
+        return this.states.get(Math.floorMod(x * 3 + y * 5 + z * 11, this.states.size()));
+    }
+
+    private Map<Vector3i, BlockState> createBlocks(Vector3i min, Vector3i max) {
+        final Map<Vector3i, BlockState> blocks = new ConcurrentHashMap<>();
+        for (Vector3i position : positions(min, max)) {
+            blocks.put(position, stateAt(position.getX(), position.getY(), position.getZ()));
+        }
+        return blocks;
+    }
+
+    /**
+     * Gets the positions of the given bounds in the order a sequential worker
+     * visits them.
+     */
+    private static List<Vector3i> positions(Vector3i min, Vector3i max) {
+        final List<Vector3i> positions = new ArrayList<>();
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    positions.add(new Vector3i(x, y, z));
+                }
+            }
+        }
+        return positions;
+    }
+
+    private static Vector3i position(InvocationOnMock invocation) {
+        final Object[] args = invocation.getArguments();
+        return new Vector3i((Integer) args[0], (Integer) args[1], (Integer) args[2]);
+    }
+
+    private static MutableBlockVolume createVolume(Vector3i min, Vector3i max, Map<Vector3i, BlockState> blocks) {
+        final UnmodifiableBlockVolume view = mock(UnmodifiableBlockVolume.class, withSettings().stubOnly());
+        when(view.getBlockMin()).thenReturn(min);
+        when(view.getBlockMax()).thenReturn(max);
+        when(view.getBlock(anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> blocks.get(position(invocation)));
+        final MutableBlockVolume volume = mock(MutableBlockVolume.class, withSettings().stubOnly());
+        when(volume.getBlockMin()).thenReturn(min);
+        when(volume.getBlockMax()).thenReturn(max);
+        when(volume.getBlock(anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> blocks.get(position(invocation)));
+        when(volume.getUnmodifiableBlockView()).thenReturn(view);
+        when(volume.setBlock(anyInt(), anyInt(), anyInt(), any(BlockState.class), any(Cause.class))).thenAnswer(invocation -> {
+            blocks.put(position(invocation), (BlockState) invocation.getArguments()[3]);
+            return true;
+        });
+        return volume;
+    }
+
+    @Test
+    public void testMap() {
+        final MutableBlockVolume volume = createVolume(MIN, MAX, createBlocks(MIN, MAX));
+        final Map<Vector3i, BlockState> destinationBlocks = new ConcurrentHashMap<>();
+        final MutableBlockVolume destination = createVolume(MIN.add(OFFSET), MAX.add(OFFSET), destinationBlocks);
+        final BlockVolumeMapper mapper = (source, x, y, z) -> stateAt(x + 1, y, z * 2)
+                == source.getBlock(x, y, z) ? source.getBlock(x, y, z) : stateAt(x, z, y);
+
+        new ParallelBlockVolumeWorker<>(volume, this.cause, this.pool).map(mapper, destination);
+
+        final Map<Vector3i, BlockState> expected = new HashMap<>();
+        for (Vector3i position : positions(MIN, MAX)) {
+            expected.put(position.add(OFFSET), mapper.map(volume.getUnmodifiableBlockView(), position.getX(), position.getY(), position.getZ()));
+        }
+        assertEquals(expected, destinationBlocks);
+    }
+
+    @Test
+    public void testMerge() {
+        final MutableBlockVolume volume = createVolume(MIN, MAX, createBlocks(MIN, MAX));
+        final Vector3i secondMin = MIN.sub(OFFSET);
+        final MutableBlockVolume second = createVolume(secondMin, MAX.sub(OFFSET), createBlocks(secondMin, MAX.sub(OFFSET)));
+        final Map<Vector3i, BlockState> destinationBlocks = new ConcurrentHashMap<>();
+        final MutableBlockVolume destination = createVolume(MIN.add(OFFSET), MAX.add(OFFSET), destinationBlocks);
+        final BlockVolumeMerger merger = (first, x1, y1, z1, other, x2, y2, z2) -> (x1 + z2) % 2 == 0 ? first.getBlock(x1, y1, z1)
+                : other.getBlock(x2, y2, z2);
+
+        new ParallelBlockVolumeWorker<>(volume, this.cause, this.pool).merge(second, merger, destination);
+
+        final Map<Vector3i, BlockState> expected = new HashMap<>();
+        for (Vector3i position : positions(MIN, MAX)) {
+            final Vector3i other = position.sub(OFFSET);
+            expected.put(position.add(OFFSET), merger.merge(volume.getUnmodifiableBlockView(), position.getX(), position.getY(),
+                    position.getZ(), second.getUnmodifiableBlockView(), other.getX(), other.getY(), other.getZ()));
+        }
+        assertEquals(expected, destinationBlocks);
+    }
+
+    @Test
+    public void testIterate() {
+        final MutableBlockVolume volume = createVolume(MIN, MAX, createBlocks(MIN, MAX));
+        final Set<Vector3i> visited = ConcurrentHashMap.newKeySet();
+        new ParallelBlockVolumeWorker<>(volume, this.cause, this.pool).iterate((v, x, y, z) -> {
+            // Every block is visited exactly once
+            assertTrue(visited.add(new Vector3i(x, y, z)));
+        });
+        assertEquals(new HashSet<>(positions(MIN, MAX)), visited);
+    }
+
+    @Test
+    public void testReduce() {
+        final MutableBlockVolume volume = createVolume(MIN, MAX, createBlocks(MIN, MAX));
+        final List<Vector3i> reduction = new ParallelBlockVolumeWorker<>(volume, this.cause, this.pool).reduce(
+                (v, x, y, z, list) -> ImmutableList.<Vector3i>builder().addAll(list).add(new Vector3i(x, y, z)).build(),
+                (first, second) -> ImmutableList.<Vector3i>builder().addAll(first).addAll(second).build(), ImmutableList.of());
+
+        // The boxes are merged in the order of their chunk columns, and the
+        // blocks of a box are reduced in the same order as sequentially
+        final List<Vector3i> expected = new ArrayList<>();
+        for (int chunkZ = MIN.getZ() >> 4; chunkZ <= MAX.getZ() >> 4; chunkZ++) {
+            for (int chunkX = MIN.getX() >> 4; chunkX <= MAX.getX() >> 4; chunkX++) {
+                expected.addAll(positions(
+                        new Vector3i(Math.max(MIN.getX(), chunkX << 4), MIN.getY(), Math.max(MIN.getZ(), chunkZ << 4)),
+                        new Vector3i(Math.min(MAX.getX(), (chunkX << 4) + 15), MAX.getY(), Math.min(MAX.getZ(), (chunkZ << 4) + 15))));
+            }
+        }
+        assertEquals(expected, reduction);
+        assertEquals(new HashSet<>(positions(MIN, MAX)), new HashSet<>(reduction));
+
+        final int sum = new ParallelBlockVolumeWorker<>(volume, this.cause, this.pool).reduce(
+                (v, x, y, z, count) -> count + this.states.indexOf(v.getBlock(x, y, z)), Integer::sum, 0);
+        int expectedSum = 0;
+        for (Vector3i position : positions(MIN, MAX)) {
+            expectedSum += this.states.indexOf(stateAt(position.getX(), position.getY(), position.getZ()));
+        }
+        assertEquals(expectedSum, sum);
+    }
+
+    @Test
+    public void testFill() {
+        final Map<Vector3i, BlockState> blocks = new ConcurrentHashMap<>();
+        final MutableBlockVolume volume = createVolume(MIN, MAX, blocks);
+        new ParallelMutableBlockVolumeWorker<>(volume, this.cause, this.pool).fill((x, y, z) -> stateAt(z, x, y), this.cause);
+
+        final Map<Vector3i, BlockState> expected = new HashMap<>();
+        for (Vector3i position : positions(MIN, MAX)) {
+            expected.put(position, stateAt(position.getZ(), position.getX(), position.getY()));
+        }
+        assertEquals(expected, blocks);
+    }
+
+    @Test
+    public void testSingleBlock() {
+        final Vector3i position = new Vector3i(-1, 0, -17);
+        final MutableBlockVolume volume = createVolume(position, position, createBlocks(position, position));
+        assertEquals(Arrays.asList(position), new ParallelBlockVolumeWorker<>(volume, this.cause, this.pool).reduce(
+                (v, x, y, z, list) -> ImmutableList.of(new Vector3i(x, y, z)), (first, second) -> first, ImmutableList.of()));
+    }
+
+}